@@ -84,6 +84,22 @@ public interface DatabaseProvider {
    */
   @NonNull Collection<String> databaseNames();
 
+  /**
+   * Declares a secondary index on the given top-level field of the documents in the database with the given name. The
+   * index is built from the existing documents and maintained by all following write operations. Find operations of
+   * the database which are filtering on the field are using the index automatically rather than scanning all stored
+   * documents. Declaring an index which already exists has no effect.
+   * <p>
+   * Providers which are not able to index fields are still required to return the correct results in find operations,
+   * they are just not faster.
+   *
+   * @param name      the name of the database to create the index in.
+   * @param fieldName the name of the field to index.
+   * @return true if the index exists after the call, false if it could not be built.
+   * @throws NullPointerException if either the given database name or field name is null.
+   */
+  boolean createIndex(@NonNull String name, @NonNull String fieldName);
+
   /**
    * Checks whether the database with the given name already exists. When a call to {@link #database(String)} is made
    * there is no requirement for the database to get created.
@@ -126,4 +142,22 @@ public interface DatabaseProvider {
   default @NonNull Task<Collection<String>> databaseNamesAsync() {
     return Task.supply(this::databaseNames);
   }
+
+  /**
+   * Declares a secondary index on the given top-level field of the documents in the database with the given name. The
+   * index is built from the existing documents and maintained by all following write operations. Find operations of
+   * the database which are filtering on the field are using the index automatically rather than scanning all stored
+   * documents. Declaring an index which already exists has no effect.
+   * <p>
+   * The returned future, if completed successfully, completes with true if the index exists after the call and with
+   * false if the index could not be built.
+   *
+   * @param name      the name of the database to create the index in.
+   * @param fieldName the name of the field to index.
+   * @return a future completed with the creation result of the index.
+   * @throws NullPointerException if either the given database name or field name is null.
+   */
+  default @NonNull Task<Boolean> createIndexAsync(@NonNull String name, @NonNull String fieldName) {
+    return Task.supply(() -> this.createIndex(name, fieldName));
+  }
 }
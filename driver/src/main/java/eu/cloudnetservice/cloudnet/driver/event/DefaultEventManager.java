@@ -17,22 +17,36 @@
 package eu.cloudnetservice.cloudnet.driver.event;
 
 import eu.cloudnetservice.cloudnet.driver.event.invoker.ListenerInvokerGenerator;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import lombok.NonNull;
+import org.jetbrains.annotations.UnmodifiableView;
 
 public class DefaultEventManager implements EventManager {
 
-  protected final Lock bakeLock = new ReentrantLock(true);
+  protected static final int ASYNC_THREADS = Integer.getInteger(
+    "cloudnet.event.async-threads",
+    Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+  protected final Lock bakeLock = new ReentrantLock();
+  protected final Executor asyncListenerExecutor = newAsyncListenerExecutor();
   protected final Map<Class<?>, List<RegisteredEventListener>> listeners = new HashMap<>();
 
+  // the sorted listeners per event class and channel, replaced as a whole when the registered listeners change
+  protected volatile Map<Class<?>, Map<String, RegisteredEventListener[]>> dispatchTable = Map.of();
+
   @Override
   public @NonNull EventManager unregisterListeners(@NonNull ClassLoader classLoader) {
     this.safeRemove(value -> value.instance().getClass().getClassLoader().equals(classLoader));
@@ -48,25 +62,32 @@ public class DefaultEventManager implements EventManager {
     return this;
   }
 
+  @Override
+  public @NonNull @UnmodifiableView Collection<RegisteredEventListener> registeredListeners() {
+    this.bakeLock.lock();
+    try {
+      return this.listeners.values().stream().flatMap(List::stream).toList();
+    } finally {
+      this.bakeLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean hasListeners(@NonNull String channel, @NonNull Class<? extends Event> eventClass) {
+    var listenersByChannel = this.dispatchTable.get(eventClass);
+    return listenersByChannel != null && listenersByChannel.containsKey(channel);
+  }
+
   @Override
   public <T extends Event> @NonNull T callEvent(@NonNull String channel, @NonNull T event) {
-    // get all registered listeners of the event
-    var listeners = this.listeners.get(event.getClass());
-    if (listeners != null && !listeners.isEmpty()) {
-      // check if there is only one listener
-      if (listeners.size() == 1) {
-        var listener = listeners.get(0);
-        // check if the event gets called on the same channel as the listener is listening to
-        if (listener.channel().equals(channel)) {
-          listener.fireEvent(event);
-        }
-      } else {
-        // post the event to the listeners
+    // get all registered listeners of the event which are listening to the channel
+    var listenersByChannel = this.dispatchTable.get(event.getClass());
+    if (listenersByChannel != null) {
+      var listeners = listenersByChannel.get(channel);
+      if (listeners != null) {
+        // post the event to the listeners, they are already sorted
         for (var listener : listeners) {
-          // check if the event gets called on the same channel as the listener is listening to
-          if (listener.channel().equals(channel)) {
-            listener.fireEvent(event);
-          }
+          listener.fireEvent(event);
         }
       }
     }
@@ -76,6 +97,7 @@ public class DefaultEventManager implements EventManager {
 
   @Override
   public @NonNull EventManager registerListener(@NonNull Object listener) {
+    List<RegisteredEventListener> eventListeners = new ArrayList<>();
     // get all methods of the listener
     for (var method : listener.getClass().getDeclaredMethods()) {
       // check if the method can be used
@@ -91,23 +113,29 @@ public class DefaultEventManager implements EventManager {
             listener.getClass().getName()));
         }
         // bring the information together
-        var eventListener = new DefaultRegisteredEventListener(
+        eventListeners.add(new DefaultRegisteredEventListener(
           listener,
           method.getName(),
           eventClass,
           annotation,
-          ListenerInvokerGenerator.generate(listener, method, eventClass));
+          ListenerInvokerGenerator.generate(listener, method, eventClass),
+          this.asyncListenerExecutor));
+      }
+    }
 
-        this.bakeLock.lock();
-        try {
-          // bake an event listener from the information
-          var listeners = this.listeners.computeIfAbsent(eventClass, $ -> new CopyOnWriteArrayList<>());
+    // register all listeners at once to only bake the dispatch table once
+    if (!eventListeners.isEmpty()) {
+      this.bakeLock.lock();
+      try {
+        for (var eventListener : eventListeners) {
+          // sort now - we don't need to sort later then
+          var listeners = this.listeners.computeIfAbsent(eventListener.eventClass(), $ -> new ArrayList<>());
           listeners.add(eventListener);
-          // sort now - we don't need to sort lather then
-          Collections.sort(listeners);
-        } finally {
-          this.bakeLock.unlock();
+          listeners.sort(null);
         }
+        this.bakeDispatchTable();
+      } finally {
+        this.bakeLock.unlock();
       }
     }
     // for chaining
@@ -127,8 +155,46 @@ protected void safeRemove(@NonNull Predicate<RegisteredEventListener> predicate)
           iterator.remove();
         }
       }
+      this.bakeDispatchTable();
     } finally {
       this.bakeLock.unlock();
     }
   }
+
+  protected static @NonNull Executor newAsyncListenerExecutor() {
+    var threadCounter = new AtomicInteger();
+    var executor = new ThreadPoolExecutor(
+      ASYNC_THREADS,
+      ASYNC_THREADS,
+      30L,
+      TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(),
+      runnable -> {
+        var thread = new Thread(runnable, "CloudNet-Async-Event-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    // no need to keep threads alive if there are no async listeners
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  protected void bakeDispatchTable() {
+    Map<Class<?>, Map<String, RegisteredEventListener[]>> dispatchTable = new HashMap<>();
+    for (var entry : this.listeners.entrySet()) {
+      // group the listeners by their channel, keeping the order of the listeners
+      Map<String, List<RegisteredEventListener>> listenersByChannel = new HashMap<>();
+      for (var listener : entry.getValue()) {
+        listenersByChannel.computeIfAbsent(listener.channel(), $ -> new ArrayList<>()).add(listener);
+      }
+
+      Map<String, RegisteredEventListener[]> bakedListeners = new HashMap<>();
+      listenersByChannel.forEach((channel, list) -> bakedListeners.put(
+        channel,
+        list.toArray(RegisteredEventListener[]::new)));
+      dispatchTable.put(entry.getKey(), Map.copyOf(bakedListeners));
+    }
+    // publish the new dispatch table
+    this.dispatchTable = Map.copyOf(dispatchTable);
+  }
 }
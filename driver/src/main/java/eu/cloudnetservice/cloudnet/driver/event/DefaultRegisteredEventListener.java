@@ -19,26 +19,122 @@
 import eu.cloudnetservice.cloudnet.common.log.LogManager;
 import eu.cloudnetservice.cloudnet.common.log.Logger;
 import eu.cloudnetservice.cloudnet.driver.event.invoker.ListenerInvoker;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.NonNull;
 
-record DefaultRegisteredEventListener(
-  @NonNull Object instance,
-  @NonNull String methodName,
-  @NonNull Class<?> eventClass,
-  @NonNull EventListener eventListener,
-  @NonNull ListenerInvoker listenerInvoker
-) implements RegisteredEventListener {
+final class DefaultRegisteredEventListener implements RegisteredEventListener {
 
   private static final Logger LOGGER = LogManager.logger(DefaultRegisteredEventListener.class);
+  private static final int ASYNC_BATCH_SIZE = 32;
+
+  private final Object instance;
+  private final String methodName;
+  private final Class<?> eventClass;
+  private final EventListener eventListener;
+  private final ListenerInvoker listenerInvoker;
+  private final Executor asyncExecutor;
+
+  // invocation statistics
+  private final LongAdder invocationCount = new LongAdder();
+  private final LongAdder totalInvocationNanos = new LongAdder();
+  private volatile long maxInvocationNanos;
+
+  // the events waiting for an async listener
+  private final Queue<Event> pendingEvents = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingEventCount = new AtomicInteger();
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  public DefaultRegisteredEventListener(
+    @NonNull Object instance,
+    @NonNull String methodName,
+    @NonNull Class<?> eventClass,
+    @NonNull EventListener eventListener,
+    @NonNull ListenerInvoker listenerInvoker,
+    @NonNull Executor asyncExecutor
+  ) {
+    this.instance = instance;
+    this.methodName = methodName;
+    this.eventClass = eventClass;
+    this.eventListener = eventListener;
+    this.listenerInvoker = listenerInvoker;
+    this.asyncExecutor = asyncExecutor;
+  }
 
   @Override
   public void fireEvent(@NonNull Event event) {
+    if (this.eventListener.async()) {
+      // queue the event and ensure that the queue gets drained
+      this.pendingEvents.offer(event);
+      this.pendingEventCount.incrementAndGet();
+      this.scheduleDrain();
+    } else {
+      this.invoke(event);
+    }
+  }
+
+  @Override
+  public @NonNull EventListener eventListener() {
+    return this.eventListener;
+  }
+
+  @Override
+  public @NonNull String channel() {
+    return this.eventListener.channel();
+  }
+
+  @Override
+  public @NonNull EventPriority priority() {
+    return this.eventListener.priority();
+  }
+
+  @Override
+  public @NonNull Object instance() {
+    return this.instance;
+  }
+
+  @Override
+  public @NonNull Class<?> eventClass() {
+    return this.eventClass;
+  }
+
+  @Override
+  public long invocationCount() {
+    return this.invocationCount.sum();
+  }
+
+  @Override
+  public long totalInvocationNanos() {
+    return this.totalInvocationNanos.sum();
+  }
+
+  @Override
+  public long maxInvocationNanos() {
+    return this.maxInvocationNanos;
+  }
+
+  @Override
+  public int pendingEvents() {
+    return this.pendingEventCount.get();
+  }
+
+  @Override
+  public @NonNull String methodName() {
+    return this.methodName;
+  }
+
+  private void invoke(@NonNull Event event) {
     LOGGER.fine(
       "Calling event %s on listener %s",
       null,
       event.getClass().getName(),
-      this.instance().getClass().getName());
+      this.instance.getClass().getName());
 
+    var startTime = System.nanoTime();
     try {
       this.listenerInvoker.invoke(this.instance, event);
     } catch (Exception exception) {
@@ -46,16 +142,46 @@ public void fireEvent(@NonNull Event event) {
         "Error while invoking event listener %s in class %s",
         this.methodName,
         this.instance.getClass().getName()), exception);
+    } finally {
+      // update the statistics of this listener
+      var invocationTime = System.nanoTime() - startTime;
+      if (invocationTime > this.maxInvocationNanos) {
+        this.maxInvocationNanos = invocationTime;
+      }
+      this.totalInvocationNanos.add(invocationTime);
+      this.invocationCount.increment();
     }
   }
 
-  @Override
-  public @NonNull String channel() {
-    return this.eventListener.channel();
+  private void scheduleDrain() {
+    // only one drain task at a time to keep the order of the events
+    if (this.draining.compareAndSet(false, true)) {
+      this.asyncExecutor.execute(this::drain);
+    }
   }
 
-  @Override
-  public @NonNull EventPriority priority() {
-    return this.eventListener.priority();
+  private void drain() {
+    try {
+      // only handle a batch of events to give other listeners a chance to run
+      for (var i = 0; i < ASYNC_BATCH_SIZE; i++) {
+        var event = this.pendingEvents.poll();
+        if (event == null) {
+          break;
+        }
+
+        this.pendingEventCount.decrementAndGet();
+        try {
+          this.invoke(event);
+        } catch (EventListenerException exception) {
+          LOGGER.severe("Exception while calling async event listener", exception);
+        }
+      }
+    } finally {
+      this.draining.set(false);
+      // re-schedule if there are more events waiting
+      if (!this.pendingEvents.isEmpty()) {
+        this.scheduleDrain();
+      }
+    }
   }
 }
@@ -64,4 +64,18 @@
    * @return the priority of the listener.
    */
   EventPriority priority() default EventPriority.NORMAL;
+
+  /**
+   * Defines if this listener should be called asynchronously. An async listener is not called on the thread which
+   * called the event, instead the event is queued and the listener is called on a shared, bounded thread pool. Events
+   * are still passed to each async listener one after another in the order they were called. Defaults to false.
+   * <p>
+   * Async listeners are useful for listeners doing slow operations (for example database writes) which should not
+   * block the calling thread, which might be a network thread. Note that an async listener cannot influence the result
+   * of an event (for example cancelling it), as the caller might already have processed the event when the listener is
+   * called. Exceptions thrown by an async listener are logged and not passed to the caller.
+   *
+   * @return true if the listener should be called asynchronously, false otherwise.
+   */
+  boolean async() default false;
 }
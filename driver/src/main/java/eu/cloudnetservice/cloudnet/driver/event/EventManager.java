@@ -16,7 +16,9 @@
 
 package eu.cloudnetservice.cloudnet.driver.event;
 
+import java.util.Collection;
 import lombok.NonNull;
+import org.jetbrains.annotations.UnmodifiableView;
 
 /**
  * Dispatches events to listeners, and provides ways for listeners to register themselves.
@@ -31,10 +33,10 @@
  *   <li>Pass the listener class instance to {@link #registerListener(Object)}.
  * </ol>
  * <p>
- * Note: event execution is always a blocking operation, <strong>NEVER</strong> should an event listener receive event
- * notifications simultaneously. By default, no event listener will be called when any event publish is ongoing. Other
- * implementations are free to change this behaviour as long as there are no calls to the same event listener
- * simultaneously.
+ * Note: event execution is always a blocking operation unless a listener is marked as async, <strong>NEVER</strong>
+ * should an event listener receive event notifications simultaneously. By default, no event listener will be called
+ * when any event publish is ongoing. Other implementations are free to change this behaviour as long as there are no
+ * calls to the same event listener simultaneously.
  *
  * @see EventListener
  * @see RegisteredEventListener
@@ -60,6 +62,41 @@ public interface EventManager {
    */
   @NonNull EventManager unregisterListener(Object @NonNull ... listeners);
 
+  /**
+   * Get all listeners which are currently registered to this event manager, for example to get the invocation
+   * statistics of each listener.
+   *
+   * @return all listeners registered to this event manager.
+   */
+  @NonNull
+  @UnmodifiableView Collection<RegisteredEventListener> registeredListeners();
+
+  /**
+   * Checks if at least one listener is registered for the given event class on the * channel. This method can be used
+   * to skip the construction of an event when nobody is listening to it.
+   * <p>
+   * This method call is equivalent to {@code hasListeners("*", eventClass)}.
+   *
+   * @param eventClass the class of the event to check for.
+   * @return true if at least one listener is listening to the given event on the * channel, false otherwise.
+   * @throws NullPointerException if the given event class is null.
+   */
+  default boolean hasListeners(@NonNull Class<? extends Event> eventClass) {
+    return this.hasListeners("*", eventClass);
+  }
+
+  /**
+   * Checks if at least one listener is registered for the given event class on the given channel. Listeners which are
+   * registered for a super class of the given event class are not taken into account, as they would not be called
+   * either.
+   *
+   * @param channel    the channel to check for listeners on.
+   * @param eventClass the class of the event to check for.
+   * @return true if at least one listener is listening to the given event on the given channel, false otherwise.
+   * @throws NullPointerException if the given channel or event class is null.
+   */
+  boolean hasListeners(@NonNull String channel, @NonNull Class<? extends Event> eventClass);
+
   /**
    * Calls the given event to the * channel, triggering all event listeners which are listening to it.
    * <p>
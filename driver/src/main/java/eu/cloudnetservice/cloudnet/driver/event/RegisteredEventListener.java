@@ -20,7 +20,8 @@
 
 /**
  * Represents a listener which is registered in an event manager and is ready to accept an event. Event execution is not
- * concurrent as per the event manager contract, therefore there is no need for locking before event execution.
+ * concurrent as per the event manager contract, therefore there is no need for locking before event execution. This
+ * applies to async listeners as well, as they are called one event after another.
  *
  * @see EventManager
  * @since 4.0
@@ -30,7 +31,8 @@ public interface RegisteredEventListener extends Comparable<RegisteredEventListe
   /**
    * Fires the event by invoking the underlying method with the given event. The event type is ensured to only be the
    * same type the listener defined in the method. Event execution is not concurrent as per the event manager contract,
-   * therefore there is no need for locking before event execution.
+   * therefore there is no need for locking before event execution. If the listener is async, the event is only queued
+   * and the listener is called later on another thread.
    *
    * @param event the event to fire.
    * @throws NullPointerException   if the given event is null.
@@ -66,6 +68,13 @@ public interface RegisteredEventListener extends Comparable<RegisteredEventListe
    */
   @NonNull Object instance();
 
+  /**
+   * Get the name of the underlying listener method.
+   *
+   * @return the name of the underlying listener method.
+   */
+  @NonNull String methodName();
+
   /**
    * Get the class type of the event the underlying listener is listening to.
    *
@@ -73,6 +82,45 @@ public interface RegisteredEventListener extends Comparable<RegisteredEventListe
    */
   @NonNull Class<?> eventClass();
 
+  /**
+   * Get if this listener is called asynchronously, as defined in the @EventListener annotation on the original listener
+   * method.
+   *
+   * @return true if this listener is called asynchronously, false otherwise.
+   */
+  default boolean async() {
+    return this.eventListener().async();
+  }
+
+  /**
+   * Get the amount of times the underlying listener method was invoked.
+   *
+   * @return the amount of invocations of this listener.
+   */
+  long invocationCount();
+
+  /**
+   * Get the total time in nanoseconds spent in the underlying listener method over all invocations.
+   *
+   * @return the total invocation time of this listener.
+   */
+  long totalInvocationNanos();
+
+  /**
+   * Get the longest time in nanoseconds a single invocation of the underlying listener method took.
+   *
+   * @return the longest invocation time of this listener.
+   */
+  long maxInvocationNanos();
+
+  /**
+   * Get the amount of events which are waiting to be passed to this listener. This is always 0 for listeners which are
+   * not called asynchronously.
+   *
+   * @return the amount of events waiting to be passed to this listener.
+   */
+  int pendingEvents();
+
   /**
    * {@inheritDoc}
    */
@@ -21,7 +21,8 @@
 import eu.cloudnetservice.cloudnet.driver.network.protocol.PacketListenerRegistry;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.QueryPacketManager;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.defaults.DefaultPacketListenerRegistry;
-import eu.cloudnetservice.cloudnet.driver.network.protocol.defaults.DefaultQueryPacketManager;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.defaults.TimerWheelQueryPacketManager;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCIdentifierTable;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 
@@ -37,6 +38,7 @@ public abstract class DefaultNetworkChannel implements NetworkChannel {
   private final long channelId = CHANNEL_ID_COUNTER.incrementAndGet();
 
   private final QueryPacketManager queryPacketManager;
+  private final RPCIdentifierTable rpcIdentifierTable;
   private final PacketListenerRegistry packetRegistry;
 
   private final HostAndPort serverAddress;
@@ -62,12 +64,14 @@ public DefaultNetworkChannel(
     boolean clientProvidedChannel,
     @NonNull NetworkChannelHandler handler
   ) {
-    this.queryPacketManager = new DefaultQueryPacketManager(this);
+    this.rpcIdentifierTable = new RPCIdentifierTable(true);
     this.packetRegistry = new DefaultPacketListenerRegistry(packetRegistry);
     this.serverAddress = serverAddress;
     this.clientAddress = clientAddress;
     this.clientProvidedChannel = clientProvidedChannel;
     this.handler = handler;
+    // the query manager selects the query ids based on the side of the connection, construct it last
+    this.queryPacketManager = new TimerWheelQueryPacketManager(this);
   }
 
   /**
@@ -110,6 +114,14 @@ public long channelId() {
     return this.queryPacketManager;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCIdentifierTable rpcIdentifierTable() {
+    return this.rpcIdentifierTable;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.cloudnet.driver.network.protocol.PacketListenerRegistry;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.PacketSender;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.QueryPacketManager;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCIdentifierTable;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -73,6 +74,17 @@ public interface NetworkChannel extends PacketSender {
    */
   @NonNull QueryPacketManager queryPacketManager();
 
+  /**
+   * Get the table of interned rpc method identifiers used for rpc requests sent and received through this channel. The
+   * default implementation returns a table with interning disabled, all rpc requests sent through the channel carry
+   * the full method names.
+   *
+   * @return the rpc identifier table of this channel.
+   */
+  default @NonNull RPCIdentifierTable rpcIdentifierTable() {
+    return RPCIdentifierTable.DISABLED;
+  }
+
   /**
    * Get if this client is opened by a client rather than a server.
    *
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.BitSet;
 import lombok.NonNull;
 
 /**
@@ -51,9 +52,39 @@ public interface ChunkedPacketHandler extends ChunkedPacketProvider {
    * @param chunkPosition the position of the chunk, starting from 0.
    * @param dataBuf       the data in the chunk.
    * @return true, if the chunk was the last chunk and the callback was called, false otherwise or in case of a failure.
+   * @throws NullPointerException if the given buffer is null.
    */
   boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf);
 
+  /**
+   * Get a bitmap of the indices of all chunks which were received and verified by this handler. Chunks whose content
+   * did not match the checksum sent with the chunk are not marked as completed and need to be sent again, for example
+   * by resuming the transfer. The returned bitmap is a copy and not backed by this handler.
+   *
+   * @return a bitmap of the indices of all completed chunks.
+   */
+  @NonNull BitSet completedChunks();
+
+  /**
+   * Checks if the chunk with the given index was received and verified by this handler. The default implementation
+   * checks the bitmap returned by {@link #completedChunks()}, implementations should override this method if there is a
+   * way to check a single chunk without copying the bitmap.
+   *
+   * @param chunkIndex the index of the chunk to check.
+   * @return true if the chunk with the given index was completed, false otherwise.
+   */
+  default boolean chunkCompleted(int chunkIndex) {
+    return this.completedChunks().get(chunkIndex);
+  }
+
+  /**
+   * Get the checksum of the completed chunk with the given index, as sent by the sender of the chunk.
+   *
+   * @param chunkIndex the index of the chunk to get the checksum of.
+   * @return the checksum of the chunk, 0 if the chunk was not completed.
+   */
+  int chunkChecksum(int chunkIndex);
+
   /**
    * A callback called once the full data of the chunk session was received successfully.
    *
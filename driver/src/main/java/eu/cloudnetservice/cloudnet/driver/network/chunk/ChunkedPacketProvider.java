@@ -39,4 +39,11 @@ public interface ChunkedPacketProvider {
    * @return the session information.
    */
   @NonNull ChunkSessionInformation sessionInformation();
+
+  /**
+   * Get a snapshot of the current statistics of the transfer, either while sending or receiving.
+   *
+   * @return a snapshot of the current statistics of the transfer.
+   */
+  @NonNull TransferStatistics transferStatistics();
 }
@@ -89,6 +89,28 @@ interface Builder {
      */
     @NonNull Builder chunkSize(int chunkSize);
 
+    /**
+     * Sets the amount of chunks the sender is allowed to be ahead of the slowest receiver. Each receiver confirms each
+     * handled chunk, which grants the sender the credit to send the next chunk. This flow control is only applied when
+     * sending to channels directly, custom packet splitters are sending all chunks without waiting. This defaults to
+     * 32 chunks, a window size of 0 disables the flow control.
+     *
+     * @param windowSize the amount of chunks the sender is allowed to be ahead of the slowest receiver.
+     * @return the same builder as used to call the method, for chaining.
+     */
+    @NonNull Builder windowSize(int windowSize);
+
+    /**
+     * Sets if the transfer should resume a previous, incomplete transfer to the same receivers using the same session
+     * unique id. Before sending, each receiver is asked for the chunks it already received and verified. Chunks which
+     * were received by all receivers and have the same checksum as the re-read chunk are not sent again. Resuming is
+     * only possible when sending to channels directly. This defaults to false.
+     *
+     * @param resume if the transfer should resume a previous transfer of the same session.
+     * @return the same builder as used to call the method, for chaining.
+     */
+    @NonNull Builder resume(boolean resume);
+
     /**
      * Sets the unique id of the session. This defaults to a random id.
      *
@@ -180,7 +202,7 @@ interface Builder {
      *
      * @return the instance build from the information.
      * @throws NullPointerException if no source, splitter or channel were given.
-     * @throws IllegalArgumentException if the chunk size is not greater than 0.
+     * @throws IllegalArgumentException if the chunk size is not greater than 0 or the window size is negative.
      */
     @NonNull ChunkedPacketSender build();
   }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.chunk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of the statistics of a chunked transfer, either while sending or receiving. The latency of a chunk is
+ * the time the sender waited for the receiver to confirm the chunk, or the time the receiver needed to write the
+ * chunk.
+ *
+ * @param transferredChunks        the amount of chunks which were transferred.
+ * @param transferredBytes         the amount of bytes which were transferred.
+ * @param elapsedNanos             the nanoseconds elapsed since the transfer started until it completed or now.
+ * @param averageChunkLatencyNanos the average latency of a chunk in nanoseconds.
+ * @param maxChunkLatencyNanos     the maximum latency of a chunk in nanoseconds.
+ * @since 4.0
+ */
+public record TransferStatistics(
+  long transferredChunks,
+  long transferredBytes,
+  long elapsedNanos,
+  long averageChunkLatencyNanos,
+  long maxChunkLatencyNanos
+) {
+
+  /**
+   * Get the average throughput of the transfer in bytes per second.
+   *
+   * @return the average throughput of the transfer in bytes per second.
+   */
+  public double bytesPerSecond() {
+    if (this.elapsedNanos == 0) {
+      return 0;
+    }
+    return this.transferredBytes / (double) this.elapsedNanos * TimeUnit.SECONDS.toNanos(1);
+  }
+}
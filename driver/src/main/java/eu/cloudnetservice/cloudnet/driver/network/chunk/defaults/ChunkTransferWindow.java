@@ -0,0 +1,250 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.chunk.defaults;
+
+import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The credit based flow control of a chunked transfer to a known set of receivers. Each receiver confirms each chunk
+ * once it was handled, which grants the sender the credit to send another chunk. The sender is allowed to be the
+ * window size of chunks ahead of the slowest receiver, limiting the amount of chunks buffered in the network.
+ *
+ * @since 4.0
+ */
+@Internal
+public final class ChunkTransferWindow {
+
+  public static final int DEFAULT_WINDOW_SIZE = Integer.getInteger("cloudnet.network.chunk.window", 32);
+  public static final long CREDIT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(
+    Integer.getInteger("cloudnet.network.chunk.credit-timeout", 30));
+
+  private static final Map<UUID, ChunkTransferWindow> RUNNING_WINDOWS = new ConcurrentHashMap<>();
+
+  private final UUID sessionUniqueId;
+  private final int windowSize;
+  private final LongConsumer latencyRecorder;
+  private final Map<Long, AtomicInteger> confirmedChunks;
+  private final Map<Integer, Long> chunkSendTimes = new ConcurrentHashMap<>();
+
+  private final Lock lock = new ReentrantLock();
+  private final Condition creditGranted = this.lock.newCondition();
+
+  private boolean chunkRejected;
+
+  private ChunkTransferWindow(
+    @NonNull UUID sessionUniqueId,
+    @NonNull Map<Long, AtomicInteger> confirmedChunks,
+    @NonNull LongConsumer latencyRecorder,
+    int windowSize
+  ) {
+    this.sessionUniqueId = sessionUniqueId;
+    this.confirmedChunks = confirmedChunks;
+    this.latencyRecorder = latencyRecorder;
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Opens a new transfer window for the given session to the given receivers. The window must be closed once the
+   * transfer completed.
+   *
+   * @param sessionUniqueId the unique id of the transfer session.
+   * @param receivers       the channels receiving the chunks of the transfer.
+   * @param windowSize      the amount of chunks the sender is allowed to be ahead of the slowest receiver.
+   * @param latencyRecorder the recorder for the nanoseconds elapsed between sending and confirmation of a chunk.
+   * @return the opened transfer window.
+   * @throws NullPointerException     if the given session id, receiver collection or recorder is null.
+   * @throws IllegalArgumentException if the window size is not positive.
+   */
+  public static @NonNull ChunkTransferWindow open(
+    @NonNull UUID sessionUniqueId,
+    @NonNull Collection<NetworkChannel> receivers,
+    int windowSize,
+    @NonNull LongConsumer latencyRecorder
+  ) {
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("Window size must be positive, got " + windowSize);
+    }
+
+    Map<Long, AtomicInteger> confirmedChunks = new HashMap<>();
+    for (var receiver : receivers) {
+      confirmedChunks.put(receiver.channelId(), new AtomicInteger());
+    }
+
+    var window = new ChunkTransferWindow(sessionUniqueId, confirmedChunks, latencyRecorder, windowSize);
+    RUNNING_WINDOWS.put(sessionUniqueId, window);
+    return window;
+  }
+
+  /**
+   * Get the transfer window of the running transfer session with the given unique id.
+   *
+   * @param sessionUniqueId the unique id of the transfer session.
+   * @return the transfer window of the session, null if the session has no window or is not running.
+   * @throws NullPointerException if the given session id is null.
+   */
+  public static @Nullable ChunkTransferWindow window(@NonNull UUID sessionUniqueId) {
+    return RUNNING_WINDOWS.get(sessionUniqueId);
+  }
+
+  /**
+   * Waits until the receivers granted the credit to send the chunk with the given index.
+   *
+   * @param chunkIndex the index of the chunk to send.
+   * @return true if the credit was granted, false if a chunk was rejected or the receivers did not respond within the
+   * credit timeout.
+   * @throws InterruptedException if the current thread was interrupted while waiting.
+   */
+  public boolean awaitCredit(int chunkIndex) throws InterruptedException {
+    return this.awaitConfirmedChunks((long) chunkIndex - this.windowSize + 1);
+  }
+
+  /**
+   * Waits until all receivers confirmed all chunks up to and including the chunk with the given index.
+   *
+   * @param chunkIndex the index of the last chunk which must be confirmed.
+   * @return true if the chunks were confirmed, false if a chunk was rejected or the receivers did not respond within
+   * the credit timeout.
+   * @throws InterruptedException if the current thread was interrupted while waiting.
+   */
+  public boolean awaitConfirmation(int chunkIndex) throws InterruptedException {
+    return this.awaitConfirmedChunks((long) chunkIndex + 1);
+  }
+
+  /**
+   * Marks the chunk with the given index as sent, used to measure the time until the chunk was confirmed.
+   *
+   * @param chunkIndex the index of the sent chunk.
+   */
+  public void chunkSent(int chunkIndex) {
+    this.chunkSendTimes.put(chunkIndex, System.nanoTime());
+  }
+
+  /**
+   * Confirms that the chunk with the given index was handled by the receiver on the given channel, granting the credit
+   * to send another chunk.
+   *
+   * @param channelId  the id of the channel the confirmation was received from.
+   * @param chunkIndex the index of the confirmed chunk.
+   */
+  public void confirmChunk(long channelId, int chunkIndex) {
+    var confirmed = this.confirmedChunks.get(channelId);
+    if (confirmed == null) {
+      return;
+    }
+
+    this.lock.lock();
+    try {
+      confirmed.incrementAndGet();
+      this.creditGranted.signalAll();
+    } finally {
+      this.lock.unlock();
+    }
+
+    // the latency of a chunk is measured until the first receiver confirmed it
+    var sendTime = this.chunkSendTimes.remove(chunkIndex);
+    if (sendTime != null) {
+      this.latencyRecorder.accept(System.nanoTime() - sendTime);
+    }
+  }
+
+  /**
+   * Marks the chunk with the given index as rejected by the receiver on the given channel, for example because the
+   * content of the chunk did not match its checksum. The chunk is missing on the receiver side, therefore the transfer
+   * fails and all waiting calls return immediately. The missing chunk can be sent again by resuming the transfer.
+   *
+   * @param channelId  the id of the channel the rejection was received from.
+   * @param chunkIndex the index of the rejected chunk.
+   */
+  public void rejectChunk(long channelId, int chunkIndex) {
+    if (!this.confirmedChunks.containsKey(channelId)) {
+      return;
+    }
+
+    this.chunkSendTimes.remove(chunkIndex);
+    this.lock.lock();
+    try {
+      this.chunkRejected = true;
+      this.creditGranted.signalAll();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Marks the chunk with the given index as skipped because all receivers have it already, confirming it for all
+   * receivers.
+   *
+   * @param chunkIndex the index of the skipped chunk.
+   */
+  public void chunkSkipped(int chunkIndex) {
+    this.chunkSendTimes.remove(chunkIndex);
+    this.lock.lock();
+    try {
+      for (var confirmed : this.confirmedChunks.values()) {
+        confirmed.incrementAndGet();
+      }
+      this.creditGranted.signalAll();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Closes this window, confirmations received after closing are ignored.
+   */
+  public void close() {
+    RUNNING_WINDOWS.remove(this.sessionUniqueId, this);
+  }
+
+  private boolean awaitConfirmedChunks(long requiredChunks) throws InterruptedException {
+    this.lock.lock();
+    try {
+      var remainingNanos = CREDIT_TIMEOUT_NANOS;
+      while (!this.chunkRejected && this.slowestConfirmedChunks() < requiredChunks) {
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        remainingNanos = this.creditGranted.awaitNanos(remainingNanos);
+      }
+      return !this.chunkRejected;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private int slowestConfirmedChunks() {
+    var slowest = Integer.MAX_VALUE;
+    for (var confirmed : this.confirmedChunks.values()) {
+      slowest = Math.min(slowest, confirmed.get());
+    }
+    return slowest;
+  }
+}
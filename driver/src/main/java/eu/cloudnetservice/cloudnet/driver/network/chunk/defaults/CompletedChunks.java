@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.chunk.defaults;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+/**
+ * Tracks the chunks of a transfer which were received and verified by a chunked packet handler, together with the
+ * checksum sent with each chunk. This information is used to answer resume queries of a sender, so that only missing
+ * chunks are sent again.
+ *
+ * @since 4.0
+ */
+@Internal
+final class CompletedChunks {
+
+  private final BitSet completed = new BitSet();
+  private final Map<Integer, Integer> checksums = new HashMap<>();
+
+  /**
+   * Marks the chunk with the given index as completed.
+   *
+   * @param chunkIndex the index of the completed chunk.
+   * @param checksum   the checksum of the completed chunk.
+   * @return true if the chunk was not completed before, false otherwise.
+   */
+  public synchronized boolean complete(int chunkIndex, int checksum) {
+    this.checksums.put(chunkIndex, checksum);
+    if (this.completed.get(chunkIndex)) {
+      return false;
+    }
+
+    this.completed.set(chunkIndex);
+    return true;
+  }
+
+  /**
+   * Checks if all chunks up to and including the given index are completed.
+   *
+   * @param lastChunkIndex the index of the last chunk of the transfer.
+   * @return true if all chunks up to the given index are completed, false otherwise.
+   */
+  public synchronized boolean completedUpTo(int lastChunkIndex) {
+    return this.completed.nextClearBit(0) > lastChunkIndex;
+  }
+
+  /**
+   * Checks if the chunk with the given index is completed.
+   *
+   * @param chunkIndex the index of the chunk.
+   * @return true if the chunk is completed, false otherwise.
+   */
+  public synchronized boolean completed(int chunkIndex) {
+    return this.completed.get(chunkIndex);
+  }
+
+  /**
+   * Forgets all completed chunks after the given index, for example because they belong to a previous transfer of the
+   * same session whose source was longer.
+   *
+   * @param lastChunkIndex the index of the last chunk of the transfer.
+   */
+  public synchronized void clearAfter(int lastChunkIndex) {
+    this.completed.clear(lastChunkIndex + 1, Math.max(lastChunkIndex + 1, this.completed.length()));
+    this.checksums.keySet().removeIf(chunkIndex -> chunkIndex > lastChunkIndex);
+  }
+
+  /**
+   * Get a copy of the bitmap of the completed chunk indices.
+   *
+   * @return a copy of the bitmap of the completed chunk indices.
+   */
+  public synchronized @NonNull BitSet bitmap() {
+    return (BitSet) this.completed.clone();
+  }
+
+  /**
+   * Get the checksum of the completed chunk with the given index.
+   *
+   * @param chunkIndex the index of the chunk.
+   * @return the checksum of the chunk, 0 if the chunk was not completed.
+   */
+  public synchronized int checksum(int chunkIndex) {
+    return this.checksums.getOrDefault(chunkIndex, 0);
+  }
+}
@@ -17,8 +17,11 @@
 package eu.cloudnetservice.cloudnet.driver.network.chunk.defaults;
 
 import eu.cloudnetservice.cloudnet.driver.network.chunk.ChunkedPacketProvider;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.TransferStatistics;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.NonNull;
 
 /**
@@ -29,7 +32,16 @@
 public abstract class DefaultChunkedPacketProvider implements ChunkedPacketProvider {
 
   protected final ChunkSessionInformation chunkSessionInformation;
-  protected TransferStatus transferStatus;
+  protected volatile TransferStatus transferStatus;
+
+  // transfer statistics
+  protected final long startNanos = System.nanoTime();
+  protected final LongAdder transferredChunks = new LongAdder();
+  protected final LongAdder transferredBytes = new LongAdder();
+  protected final LongAdder chunkLatencyCount = new LongAdder();
+  protected final LongAdder chunkLatencyNanos = new LongAdder();
+  protected final LongAccumulator maxChunkLatencyNanos = new LongAccumulator(Math::max, 0);
+  protected volatile long endNanos;
 
   /**
    * Creates a new instance of this class.
@@ -57,4 +69,51 @@ protected DefaultChunkedPacketProvider(@NonNull ChunkSessionInformation sessionI
   public @NonNull ChunkSessionInformation sessionInformation() {
     return this.chunkSessionInformation;
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull TransferStatistics transferStatistics() {
+    var latencyCount = this.chunkLatencyCount.sum();
+    var endNanos = this.endNanos;
+    return new TransferStatistics(
+      this.transferredChunks.sum(),
+      this.transferredBytes.sum(),
+      (endNanos == 0 ? System.nanoTime() : endNanos) - this.startNanos,
+      latencyCount == 0 ? 0 : this.chunkLatencyNanos.sum() / latencyCount,
+      this.maxChunkLatencyNanos.get());
+  }
+
+  /**
+   * Records that a chunk with the given amount of bytes was transferred.
+   *
+   * @param bytes the amount of bytes in the chunk.
+   */
+  protected void recordChunk(int bytes) {
+    this.transferredChunks.increment();
+    this.transferredBytes.add(bytes);
+  }
+
+  /**
+   * Records the latency of a single chunk of the transfer.
+   *
+   * @param latencyNanos the latency of the chunk in nanoseconds.
+   */
+  protected void recordChunkLatency(long latencyNanos) {
+    this.chunkLatencyCount.increment();
+    this.chunkLatencyNanos.add(latencyNanos);
+    this.maxChunkLatencyNanos.accumulate(latencyNanos);
+  }
+
+  /**
+   * Marks the transfer as finished and sets the given status, freezing the elapsed time of the statistics.
+   *
+   * @param status the final status of the transfer.
+   * @throws NullPointerException if the given status is null.
+   */
+  protected void finishTransfer(@NonNull TransferStatus status) {
+    this.endNanos = System.nanoTime();
+    this.transferStatus = status;
+  }
 }
@@ -20,11 +20,15 @@
 import eu.cloudnetservice.cloudnet.driver.network.chunk.ChunkedPacketSender;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.splitter.NetworkChannelsPacketSplitter;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacket;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a default implementation of a chunked packet sender specifically created for chunked transferring of a
@@ -38,11 +42,13 @@ public class DefaultFileChunkPacketSender extends DefaultChunkedPacketProvider i
 
   protected static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
+  protected final int windowSize;
+  protected final boolean resume;
   protected final InputStream source;
   protected final Consumer<Packet> packetSplitter;
 
   /**
-   * Constructs a new chunked packet sender for file transfer.
+   * Constructs a new chunked packet sender for file transfer using the default window size.
    *
    * @param sessionInformation the information about the chunked session.
    * @param source             the source stream of the file, will be closed automatically.
@@ -53,10 +59,32 @@ public DefaultFileChunkPacketSender(
     @NonNull ChunkSessionInformation sessionInformation,
     @NonNull InputStream source,
     @NonNull Consumer<Packet> packetSplitter
+  ) {
+    this(sessionInformation, source, packetSplitter, ChunkTransferWindow.DEFAULT_WINDOW_SIZE, false);
+  }
+
+  /**
+   * Constructs a new chunked packet sender for file transfer.
+   *
+   * @param sessionInformation the information about the chunked session.
+   * @param source             the source stream of the file, will be closed automatically.
+   * @param packetSplitter     the splitter for each chunk part to transfer.
+   * @param windowSize         the amount of chunks to send ahead of the slowest receiver, 0 to disable.
+   * @param resume             if the chunks already received by all receivers in a previous transfer should be skipped.
+   * @throws NullPointerException if either the information, source or splitter is null.
+   */
+  public DefaultFileChunkPacketSender(
+    @NonNull ChunkSessionInformation sessionInformation,
+    @NonNull InputStream source,
+    @NonNull Consumer<Packet> packetSplitter,
+    int windowSize,
+    boolean resume
   ) {
     super(sessionInformation);
 
     this.source = source;
+    this.resume = resume;
+    this.windowSize = windowSize;
     this.packetSplitter = packetSplitter;
   }
 
@@ -84,27 +112,121 @@ public DefaultFileChunkPacketSender(
     return Task.supply(() -> {
       var readCalls = 0;
       var backingArray = new byte[this.chunkSessionInformation.chunkSize()];
+      // the chunks which were received by all receivers in a previous transfer of the session
+      var resumedChunks = this.queryResumedChunks();
+      // flow control is only possible if we know the receivers of the chunks which will confirm them
+      var window = this.openTransferWindow();
+
+      try {
+        while (true) {
+          // wait until the receivers are ready for the next chunk
+          if (window != null && !window.awaitCredit(readCalls)) {
+            this.source.close();
+            this.chunkSessionInformation.transferInformation().enableReleasing().release();
+            this.finishTransfer(TransferStatus.FAILURE);
+            return TransferStatus.FAILURE;
+          }
+
+          // read a full chunk, a short read is only allowed for the last chunk
+          var bytesRead = this.source.readNBytes(backingArray, 0, backingArray.length);
+          if (window != null) {
+            window.chunkSent(readCalls);
+          }
 
-      while (true) {
-        var bytesRead = this.source.read(backingArray);
-        if (bytesRead != -1 && bytesRead == backingArray.length) {
-          this.packetSplitter.accept(
-            ChunkedPacket.createChunk(this.chunkSessionInformation, readCalls++, backingArray));
-        } else {
-          this.packetSplitter.accept(ChunkedPacket.createChunk(
-            this.chunkSessionInformation,
-            readCalls,
-            readCalls,
-            bytesRead == -1 ? 0 : bytesRead,
-            bytesRead == -1 ? EMPTY_BYTE_ARRAY : backingArray));
-          // close the stream after reading the final chunk
-          this.source.close();
-          // release the extra content now
-          this.chunkSessionInformation.transferInformation().enableReleasing().release();
-          // successful transfer
-          return TransferStatus.SUCCESS;
+          if (bytesRead == backingArray.length) {
+            // skip the chunk if all receivers already have the same chunk content
+            var resumedChecksum = resumedChunks.get(readCalls);
+            if (resumedChecksum != null && resumedChecksum == ChunkedPacket.checksum(backingArray, bytesRead)) {
+              if (window != null) {
+                window.chunkSkipped(readCalls);
+              }
+              readCalls++;
+              continue;
+            }
+
+            this.recordChunk(bytesRead);
+            this.packetSplitter.accept(
+              ChunkedPacket.createChunk(this.chunkSessionInformation, readCalls++, backingArray));
+          } else {
+            this.packetSplitter.accept(ChunkedPacket.createChunk(
+              this.chunkSessionInformation,
+              readCalls,
+              readCalls,
+              bytesRead,
+              bytesRead == 0 ? EMPTY_BYTE_ARRAY : backingArray));
+            this.recordChunk(bytesRead);
+            // close the stream after reading the final chunk
+            this.source.close();
+            // release the extra content now
+            this.chunkSessionInformation.transferInformation().enableReleasing().release();
+            // the transfer is only successful if the receivers confirmed all chunks, a rejected chunk is missing
+            if (window != null && !window.awaitConfirmation(readCalls)) {
+              this.finishTransfer(TransferStatus.FAILURE);
+              return TransferStatus.FAILURE;
+            }
+            // successful transfer
+            this.finishTransfer(TransferStatus.SUCCESS);
+            return TransferStatus.SUCCESS;
+          }
+        }
+      } finally {
+        if (window != null) {
+          window.close();
         }
       }
     });
   }
+
+  /**
+   * Queries the chunks which were already received and verified by all receivers of the chunks in a previous transfer
+   * of the same session. The chunks are only queried if resuming is enabled and the receivers of the transfer are
+   * known.
+   *
+   * @return the checksums of the chunks received by all receivers in a previous transfer, keyed by chunk index.
+   */
+  protected @NonNull Map<Integer, Integer> queryResumedChunks() {
+    if (!this.resume || !(this.packetSplitter instanceof NetworkChannelsPacketSplitter splitter)) {
+      return Map.of();
+    }
+
+    Map<Integer, Integer> resumedChunks = null;
+    for (var channel : splitter.channels()) {
+      var response = channel.sendQuery(
+        ChunkedPacket.createResumeQuery(this.chunkSessionInformation.sessionUniqueId()));
+      // no response means that we can't skip any chunk
+      if (response == null) {
+        return Map.of();
+      }
+      // read the chunks received by the receiver
+      Map<Integer, Integer> receivedChunks = new HashMap<>();
+      var content = response.content();
+      for (int i = 0, chunks = content.readInt(); i < chunks; i++) {
+        receivedChunks.put(content.readInt(), content.readInt());
+      }
+      // only keep the chunks which are known to all receivers with the same content
+      if (resumedChunks == null) {
+        resumedChunks = receivedChunks;
+      } else {
+        resumedChunks.entrySet().removeIf(entry -> !entry.getValue().equals(receivedChunks.get(entry.getKey())));
+      }
+    }
+    return resumedChunks == null ? Map.of() : resumedChunks;
+  }
+
+  /**
+   * Opens the transfer window of this transfer if the flow control is enabled and the receivers of the transfer are
+   * known.
+   *
+   * @return the opened transfer window, null if the transfer has no flow control.
+   */
+  protected @Nullable ChunkTransferWindow openTransferWindow() {
+    if (this.windowSize > 0 && this.packetSplitter instanceof NetworkChannelsPacketSplitter splitter) {
+      return ChunkTransferWindow.open(
+        this.chunkSessionInformation.sessionUniqueId(),
+        splitter.channels(),
+        this.windowSize,
+        this::recordChunkLatency);
+    }
+    return null;
+  }
 }
@@ -22,12 +22,14 @@
 import eu.cloudnetservice.cloudnet.driver.network.chunk.ChunkedPacketHandler;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacket;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.BitSet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import lombok.NonNull;
@@ -41,12 +43,13 @@
 public class DefaultFileChunkedPacketHandler extends DefaultChunkedPacketProvider implements ChunkedPacketHandler {
 
   protected final Path tempFilePath;
-  protected final RandomAccessFile targetFile;
+  protected final FileChannel targetFile;
   protected final Callback writeCompleteHandler;
   protected final Lock lock = new ReentrantLock(true);
-  protected final AtomicInteger writtenFileParts = new AtomicInteger(-1);
+  protected final CompletedChunks completedChunks = new CompletedChunks();
 
   protected Integer expectedFileParts;
+  protected long expectedFileSize;
 
   /**
    * Creates the session handler initially. Sessions should be manged by some sort of handler which is responsible for
@@ -82,16 +85,12 @@ public DefaultFileChunkedPacketHandler(
     // general information
     this.tempFilePath = tempFilePath;
     this.writeCompleteHandler = completeHandler;
-    // open the temp file raf access
+    // open the temp file channel, the content is synced to the disk once when the transfer completes rather than on
+    // each write as it is not needed to be persisted before that
     try {
-      // create the file
-      if (Files.notExists(tempFilePath)) {
-        Files.createFile(tempFilePath);
-      }
-      // open the file
-      this.targetFile = new RandomAccessFile(this.tempFilePath.toFile(), "rwd");
+      this.targetFile = FileChannel.open(this.tempFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
     } catch (IOException exception) {
-      throw new AssertionError("Unable to open raf to temp file, this should not happen", exception);
+      throw new AssertionError("Unable to open channel to temp file, this should not happen", exception);
     }
   }
 
@@ -106,22 +105,26 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
     }
     // validate that this is still in the running state when receiving the packet
     Preconditions.checkState(this.transferStatus == TransferStatus.RUNNING, "Received transfer part after success");
-    // extract some information from the body
-    var isFinalPacket = dataBuf.readBoolean();
-    if (isFinalPacket) {
-      this.expectedFileParts = dataBuf.readInt();
-    }
     // execute the write operation with the content of the packet
     try {
       // we can only perform one write operation at a time
       this.lock.lock();
-      // execute
-      this.writePacketContent(chunkPosition, dataBuf);
+      // extract some information from the body
+      var isFinalPacket = dataBuf.readBoolean();
+      if (isFinalPacket) {
+        this.updateFinalChunk(dataBuf.readInt());
+      }
+      // execute, a chunk which failed verification is skipped
+      if (!this.writePacketContent(chunkPosition, dataBuf)) {
+        return false;
+      }
       // update the data transfer status
       this.updateStatus();
       // check if the expected ending is reached
       if (this.transferStatus == TransferStatus.SUCCESS) {
-        // the file was written completely
+        // the file was written completely, cut off content left from a previous transfer and flush it to the disk once
+        this.targetFile.truncate(this.expectedFileSize);
+        this.targetFile.force(true);
         this.targetFile.close();
         // post the result to the complete handler
         if (this.writeCompleteHandler == null) {
@@ -137,7 +140,7 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
       // not completed yet
       return false;
     } catch (IOException exception) {
-      this.transferStatus = TransferStatus.FAILURE;
+      this.finishTransfer(TransferStatus.FAILURE);
       throw new IllegalStateException("Unexpected exception handling chunk part", exception);
     } finally {
       this.lock.unlock();
@@ -153,22 +156,77 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
   }
 
   /**
-   * Writes the content of a chunk part to the backing file, increasing the amount of written bytes by one.
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull BitSet completedChunks() {
+    return this.completedChunks.bitmap();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean chunkCompleted(int chunkIndex) {
+    return this.completedChunks.completed(chunkIndex);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int chunkChecksum(int chunkIndex) {
+    return this.completedChunks.checksum(chunkIndex);
+  }
+
+  /**
+   * Writes the content of a chunk part to the backing file and marks the chunk as completed. The chunk is not written
+   * if its content does not match the checksum sent with it.
    *
    * @param chunkPosition the index of the chunk to write.
    * @param dataBuf       the buf transferred to this handler, the next content should be the actual chunk data.
+   * @return true if the chunk was verified and written, false otherwise.
    * @throws IOException          if an i/o error occurs during the chunk write.
    * @throws NullPointerException if the given buffer is null.
    */
-  protected void writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) throws IOException {
-    // calculate the index of to which we need to sink in order to write
-    var targetIndex = chunkPosition * this.chunkSessionInformation.chunkSize();
-    // sink to the index of the chunk position we need to write to
-    this.targetFile.seek(targetIndex);
-    // write the content into the file at the current offset we sunk to
-    this.targetFile.write(dataBuf.readByteArray());
+  protected boolean writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) throws IOException {
+    var startNanos = System.nanoTime();
+    // verify the content of the chunk before writing it, a corrupted chunk stays missing until it is sent again
+    var content = dataBuf.readByteArray();
+    var checksum = dataBuf.readInt();
+    if (ChunkedPacket.checksum(content, content.length) != checksum) {
+      return false;
+    }
+    // calculate the index of to which we need to write, as long to support files larger than 2 GB
+    var targetIndex = (long) chunkPosition * this.chunkSessionInformation.chunkSize();
+    // write the content into the file at the calculated position, a write call might not write all bytes
+    var buffer = ByteBuffer.wrap(content);
+    while (buffer.hasRemaining()) {
+      targetIndex += this.targetFile.write(buffer, targetIndex);
+    }
+    // remember the size of the file if this was the final chunk
+    if (this.expectedFileParts != null && chunkPosition == this.expectedFileParts) {
+      this.expectedFileSize = targetIndex;
+    }
     // notify our index about the write operation
-    this.writtenFileParts.incrementAndGet();
+    this.completedChunks.complete(chunkPosition, checksum);
+    this.recordChunk(buffer.capacity());
+    this.recordChunkLatency(System.nanoTime() - startNanos);
+    return true;
+  }
+
+  /**
+   * Sets the index of the final chunk of the transfer. The session might have been used by a previous transfer whose
+   * source was longer, the chunks after the final chunk belong to that transfer and are forgotten, their content is
+   * cut off the file once the transfer completes.
+   *
+   * @param finalChunkIndex the index of the final chunk of the transfer.
+   */
+  protected void updateFinalChunk(int finalChunkIndex) {
+    if (this.expectedFileParts == null || this.expectedFileParts != finalChunkIndex) {
+      this.expectedFileParts = finalChunkIndex;
+      this.completedChunks.clearAfter(finalChunkIndex);
+    }
   }
 
   /**
@@ -176,16 +234,16 @@ protected void writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) t
    * <ol>
    *   <li>The current status is {@code RUNNING}.
    *   <li>The amount of chunk parts of the transfer is known.
-   *   <li>The amount of written chunk parts matches the amount of expected chunk parts.
+   *   <li>All chunk parts up to the last chunk part were written.
    * </ol>
    */
   protected void updateStatus() {
     // we only need to update the status when the transfer is running but the whole content was written
     if (this.transferStatus == TransferStatus.RUNNING
       && this.expectedFileParts != null
-      && this.expectedFileParts == this.writtenFileParts.get()
+      && this.completedChunks.completedUpTo(this.expectedFileParts)
     ) {
-      this.transferStatus = TransferStatus.SUCCESS;
+      this.finishTransfer(TransferStatus.SUCCESS);
     }
   }
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.chunk.defaults;
+
+import com.google.common.base.Preconditions;
+import eu.cloudnetservice.cloudnet.common.concurrent.Task;
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.ChunkedPacketHandler;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.TransferStatus;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacket;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+
+/**
+ * Represents a handler for a chunked packet transfer which streams the received chunks directly into the callback
+ * instead of writing them to a temporary file first. The callback is called asynchronously as soon as the first chunk
+ * of the transfer arrives, and reads the chunks in order while they are received. Only a bounded amount of chunks is
+ * buffered in memory, if the callback reads slower than the chunks arrive the receiving of further chunks is delayed,
+ * which (as the chunk is confirmed to the sender only after handling it) slows down the sender as well.
+ * <p>
+ * This handler is only a good fit for callbacks which are able to consume the stream while it is still being written,
+ * for example to copy it into a file. Callbacks which need the full data to be present before processing it should use
+ * the {@link DefaultFileChunkedPacketHandler} instead.
+ *
+ * @since 4.0
+ */
+public class DefaultStreamingChunkedPacketHandler extends DefaultChunkedPacketProvider implements ChunkedPacketHandler {
+
+  public static final int DEFAULT_BUFFERED_CHUNKS = Integer.getInteger("cloudnet.network.chunk.stream-buffer", 8);
+
+  private static final byte[] END_OF_STREAM = new byte[0];
+  private static final long OFFER_TIMEOUT_MILLIS = 1000;
+
+  protected final Callback callback;
+  protected final BlockingQueue<byte[]> chunkQueue;
+  protected final Lock lock = new ReentrantLock(true);
+  protected final Map<Integer, byte[]> outOfOrderChunks = new HashMap<>();
+  protected final CompletedChunks completedChunks = new CompletedChunks();
+
+  protected int nextChunkIndex;
+  protected Integer finalChunkIndex;
+  protected Task<Void> callbackTask;
+  protected volatile boolean consumerClosed;
+
+  /**
+   * Creates the session handler initially, buffering the default amount of chunks.
+   *
+   * @param sessionInformation the information transferred by the sender initially.
+   * @param callback           the callback to stream the received data to.
+   * @throws NullPointerException if the given session information or callback is null.
+   */
+  public DefaultStreamingChunkedPacketHandler(
+    @NonNull ChunkSessionInformation sessionInformation,
+    @NonNull Callback callback
+  ) {
+    this(sessionInformation, callback, DEFAULT_BUFFERED_CHUNKS);
+  }
+
+  /**
+   * Creates the session handler initially.
+   *
+   * @param sessionInformation the information transferred by the sender initially.
+   * @param callback           the callback to stream the received data to.
+   * @param bufferedChunks     the amount of chunks which can be buffered until the callback reads them.
+   * @throws NullPointerException     if the given session information or callback is null.
+   * @throws IllegalArgumentException if the given buffered chunk amount is not positive.
+   */
+  public DefaultStreamingChunkedPacketHandler(
+    @NonNull ChunkSessionInformation sessionInformation,
+    @NonNull Callback callback,
+    int bufferedChunks
+  ) {
+    super(sessionInformation);
+
+    this.callback = callback;
+    this.chunkQueue = new ArrayBlockingQueue<>(bufferedChunks);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
+    // if the handling failed before we skip the handling of the packet
+    if (this.transferStatus == TransferStatus.FAILURE) {
+      return false;
+    }
+    // validate that this is still in the running state when receiving the packet
+    Preconditions.checkState(this.transferStatus == TransferStatus.RUNNING, "Received transfer part after success");
+    // extract some information from the body
+    var isFinalPacket = dataBuf.readBoolean();
+    var finalIndex = isFinalPacket ? dataBuf.readInt() : null;
+    var content = dataBuf.readByteArray();
+    var checksum = dataBuf.readInt();
+    // a corrupted chunk stays missing until it is sent again
+    if (ChunkedPacket.checksum(content, content.length) != checksum) {
+      return false;
+    }
+
+    this.lock.lock();
+    try {
+      if (finalIndex != null) {
+        this.finalChunkIndex = finalIndex;
+      }
+      // start the consumer of the stream on the first chunk we receive
+      if (this.callbackTask == null) {
+        this.callbackTask = Task.supply(() -> {
+          this.runCallback();
+          return null;
+        });
+      }
+      // ignore chunks which were sent again but are already known
+      if (!this.completedChunks.complete(chunkPosition, checksum)) {
+        return false;
+      }
+      // chunks might not arrive in order, hold back the ones we can't stream yet
+      if (chunkPosition != this.nextChunkIndex) {
+        this.outOfOrderChunks.put(chunkPosition, content);
+      } else {
+        // stream the chunk and all chunks directly following it
+        var next = content;
+        do {
+          this.recordChunk(next.length);
+          this.enqueue(next);
+        } while ((next = this.outOfOrderChunks.remove(++this.nextChunkIndex)) != null);
+      }
+      // check if all chunks of the transfer were streamed
+      if (this.finalChunkIndex != null && this.nextChunkIndex > this.finalChunkIndex) {
+        this.enqueue(END_OF_STREAM);
+        this.finishTransfer(TransferStatus.SUCCESS);
+        return true;
+      }
+      // not completed yet
+      return false;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      this.finishTransfer(TransferStatus.FAILURE);
+      throw new IllegalStateException("Interrupted while streaming chunk part", exception);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Callback callback() {
+    return this.callback;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull BitSet completedChunks() {
+    return this.completedChunks.bitmap();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean chunkCompleted(int chunkIndex) {
+    return this.completedChunks.completed(chunkIndex);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int chunkChecksum(int chunkIndex) {
+    return this.completedChunks.checksum(chunkIndex);
+  }
+
+  /**
+   * Puts the given chunk content into the queue read by the callback, waiting for the callback to read if the queue is
+   * full. The chunk is dropped silently if the callback stopped reading the stream or the transfer failed.
+   *
+   * @param content the content of the chunk to stream.
+   * @throws InterruptedException if the current thread is interrupted while waiting for the callback.
+   * @throws NullPointerException if the given content is null.
+   */
+  protected void enqueue(byte[] content) throws InterruptedException {
+    while (!this.consumerClosed && this.transferStatus != TransferStatus.FAILURE) {
+      if (this.chunkQueue.offer(content, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Posts the stream of chunks to the callback of this handler. This method blocks until the callback completes.
+   *
+   * @throws IOException if the callback fails to handle the stream.
+   */
+  protected void runCallback() throws IOException {
+    try (var stream = new ChunkInputStream()) {
+      this.callback.handleSessionComplete(this.chunkSessionInformation, stream);
+    } catch (IOException | RuntimeException exception) {
+      this.finishTransfer(TransferStatus.FAILURE);
+      throw exception;
+    } finally {
+      this.consumerClosed = true;
+      this.chunkQueue.clear();
+    }
+  }
+
+  /**
+   * The stream reading the chunks in order from the queue of the handler.
+   *
+   * @since 4.0
+   */
+  protected final class ChunkInputStream extends InputStream {
+
+    private byte[] current;
+    private int position;
+    private boolean ended;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+      if (!this.ensureData()) {
+        return -1;
+      }
+      return this.current[this.position++] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!this.ensureData()) {
+        return -1;
+      }
+      // copy as much as possible from the current chunk
+      var copied = Math.min(len, this.current.length - this.position);
+      System.arraycopy(this.current, this.position, b, off, copied);
+      this.position += copied;
+      return copied;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+      DefaultStreamingChunkedPacketHandler.this.consumerClosed = true;
+    }
+
+    /**
+     * Ensures that there are unread bytes in the current chunk, waiting for the next chunk if needed.
+     *
+     * @return true if there is data to read, false if the end of the stream was reached.
+     * @throws IOException if the transfer failed or the thread was interrupted while waiting for the next chunk.
+     */
+    private boolean ensureData() throws IOException {
+      while (!this.ended && (this.current == null || this.position >= this.current.length)) {
+        try {
+          var next = DefaultStreamingChunkedPacketHandler.this.chunkQueue.poll(
+            OFFER_TIMEOUT_MILLIS,
+            TimeUnit.MILLISECONDS);
+          if (next == null) {
+            // no chunk arrived yet, check if we should keep waiting
+            if (DefaultStreamingChunkedPacketHandler.this.transferStatus == TransferStatus.FAILURE) {
+              throw new IOException("Chunked transfer failed before the stream was fully received");
+            }
+          } else if (next == END_OF_STREAM) {
+            this.ended = true;
+          } else {
+            this.current = next;
+            this.position = 0;
+          }
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting for the next chunk");
+        }
+      }
+      return !this.ended;
+    }
+  }
+}
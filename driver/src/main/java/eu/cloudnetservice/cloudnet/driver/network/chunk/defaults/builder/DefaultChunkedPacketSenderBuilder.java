@@ -20,6 +20,7 @@
 import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
 import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.ChunkedPacketSender;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.ChunkTransferWindow;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.splitter.NetworkChannelsPacketSplitter;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
 import java.io.InputStream;
@@ -45,7 +46,9 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
   protected String transferChannel;
   protected Consumer<Packet> packetSplitter;
 
+  protected boolean resume;
   protected int chunkSize = DEFAULT_CHUNK_SIZE;
+  protected int windowSize = ChunkTransferWindow.DEFAULT_WINDOW_SIZE;
   protected UUID sessionUniqueId = UUID.randomUUID();
   protected DataBuf transferInformation = DataBuf.empty();
 
@@ -58,6 +61,24 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ChunkedPacketSender.Builder windowSize(int windowSize) {
+    this.windowSize = windowSize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ChunkedPacketSender.Builder resume(boolean resume) {
+    this.resume = resume;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -129,6 +150,7 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
     Preconditions.checkNotNull(this.transferChannel, "no transfer channel provided");
     Preconditions.checkNotNull(this.sessionUniqueId, "no session unique id provided");
     Preconditions.checkArgument(this.chunkSize > 0, "chunk size must be more than 0");
+    Preconditions.checkArgument(this.windowSize >= 0, "window size must not be negative");
 
     return this.doBuild();
   }
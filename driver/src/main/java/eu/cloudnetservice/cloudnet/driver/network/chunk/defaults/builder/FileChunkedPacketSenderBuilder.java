@@ -60,6 +60,6 @@ public class FileChunkedPacketSenderBuilder extends DefaultChunkedPacketSenderBu
       this.sessionUniqueId,
       this.transferChannel,
       this.transferInformation
-    ), this.source, this.packetSplitter);
+    ), this.source, this.packetSplitter, this.windowSize, this.resume);
   }
 }
@@ -20,6 +20,9 @@
 import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
+import java.util.UUID;
+import java.util.zip.CRC32C;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -95,7 +98,66 @@ public ChunkedPacket(@NonNull DataBuf dataBuf) {
     if (chunkAmount != null) {
       dataBuf.writeInt(chunkAmount);
     }
-    // write the actual content of the chunk
-    return new ChunkedPacket(dataBuf.writeByteArray(data, dataLength));
+    // write the actual content of the chunk followed by its checksum
+    return new ChunkedPacket(dataBuf.writeByteArray(data, dataLength).writeInt(checksum(data, dataLength)));
+  }
+
+  /**
+   * Calculates the checksum of the given chunk data which is sent along with each chunk, allowing the receiver to
+   * verify the received chunk content.
+   *
+   * @param data   the data of the chunk.
+   * @param length the amount of bytes in the chunk, starting from the first byte of the given array.
+   * @return the checksum of the chunk data.
+   */
+  public static int checksum(byte[] data, int length) {
+    var checksum = new CRC32C();
+    checksum.update(data, 0, length);
+    return (int) checksum.getValue();
+  }
+
+  /**
+   * Creates the query asking the receiver of a chunked transfer for the chunks of the session it already received and
+   * verified. The response contains the amount of received chunks followed by the index and checksum of each chunk.
+   *
+   * @param sessionUniqueId the unique id of the transfer session to resume.
+   * @return the created resume query packet.
+   * @throws NullPointerException if the given session id is null.
+   */
+  public static @NonNull Packet createResumeQuery(@NonNull UUID sessionUniqueId) {
+    return new BasePacket(
+      NetworkConstants.CHUNKED_PACKET_RESUME_CHANNEL,
+      DataBuf.empty().writeUniqueId(sessionUniqueId));
+  }
+
+  /**
+   * Creates the packet confirming that a chunk of a transfer was handled by the receiver, granting the sender the
+   * credit to send another chunk.
+   *
+   * @param sessionUniqueId the unique id of the transfer session the chunk belongs to.
+   * @param chunkIndex      the index of the handled chunk.
+   * @return the created credit packet.
+   * @throws NullPointerException if the given session id is null.
+   */
+  public static @NonNull Packet createCredit(@NonNull UUID sessionUniqueId, int chunkIndex) {
+    return new BasePacket(
+      NetworkConstants.CHUNKED_PACKET_CREDIT_CHANNEL,
+      DataBuf.empty().writeUniqueId(sessionUniqueId).writeInt(chunkIndex).writeBoolean(true));
+  }
+
+  /**
+   * Creates the packet telling the sender of a transfer that a chunk was rejected by the receiver, for example because
+   * its content did not match the checksum sent with it. The sender fails the transfer, the missing chunk can be sent
+   * again by resuming the transfer.
+   *
+   * @param sessionUniqueId the unique id of the transfer session the chunk belongs to.
+   * @param chunkIndex      the index of the rejected chunk.
+   * @return the created rejection packet.
+   * @throws NullPointerException if the given session id is null.
+   */
+  public static @NonNull Packet createRejection(@NonNull UUID sessionUniqueId, int chunkIndex) {
+    return new BasePacket(
+      NetworkConstants.CHUNKED_PACKET_CREDIT_CHANNEL,
+      DataBuf.empty().writeUniqueId(sessionUniqueId).writeInt(chunkIndex).writeBoolean(false));
   }
 }
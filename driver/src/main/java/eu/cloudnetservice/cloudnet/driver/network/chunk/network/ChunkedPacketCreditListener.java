@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.chunk.network;
+
+import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.ChunkTransferWindow;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.PacketListener;
+import lombok.NonNull;
+
+/**
+ * A listener for the credits granted by the receivers of chunked transfers, opening the transfer windows of the
+ * senders, or failing them if a receiver rejected a chunk.
+ *
+ * @since 4.0
+ */
+public class ChunkedPacketCreditListener implements PacketListener {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
+    var sessionUniqueId = packet.content().readUniqueId();
+    var chunkIndex = packet.content().readInt();
+    var accepted = packet.content().readBoolean();
+    // credits of transfers without flow control or which are already completed are ignored
+    var window = ChunkTransferWindow.window(sessionUniqueId);
+    if (window != null) {
+      if (accepted) {
+        window.confirmChunk(channel.channelId(), chunkIndex);
+      } else {
+        window.rejectChunk(channel.channelId(), chunkIndex);
+      }
+    }
+  }
+}
@@ -17,17 +17,21 @@
 package eu.cloudnetservice.cloudnet.driver.network.chunk.network;
 
 import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.ChunkedPacketHandler;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.PacketListener;
+import java.util.BitSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import lombok.NonNull;
 
 /**
- * A listener for chunked packets, opening the chunked pocket sessions.
+ * A listener for chunked packets, opening the chunked pocket sessions. This listener must be registered to the chunked
+ * packet resume channel as well to answer the resume queries of senders.
  *
  * @since 4.0
  */
@@ -51,6 +55,11 @@ public ChunkedPacketListener(@NonNull Function<ChunkSessionInformation, ChunkedP
    */
   @Override
   public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) throws Exception {
+    // check if the sender wants to resume a transfer
+    if (packet.channel() == NetworkConstants.CHUNKED_PACKET_RESUME_CHANNEL) {
+      this.handleResumeQuery(channel, packet);
+      return;
+    }
     // read the chunk information from the buffer
     var information = packet.content().readObject(ChunkSessionInformation.class);
     // read the chunk index
@@ -58,9 +67,41 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
     // get or create the session associated with the packet
     var handler = this.runningSessions.computeIfAbsent(information, this.handlerFactory);
     // post the packet and check if the session is done
-    if (handler.handleChunkPart(chunkIndex, packet.content())) {
+    var completed = handler.handleChunkPart(chunkIndex, packet.content());
+    // grant the sender the credit to send the next chunk, or tell it that the chunk is missing
+    if (completed || handler.chunkCompleted(chunkIndex)) {
+      channel.sendPacket(ChunkedPacket.createCredit(information.sessionUniqueId(), chunkIndex));
+    } else {
+      channel.sendPacket(ChunkedPacket.createRejection(information.sessionUniqueId(), chunkIndex));
+    }
+    if (completed) {
       // done, remove the session
       this.runningSessions.remove(information);
     }
   }
+
+  /**
+   * Responds to the query of a sender which wants to resume the transfer of a session, sending the indices and
+   * checksums of all chunks of the session which were received and verified already.
+   *
+   * @param channel the channel from which the query came.
+   * @param packet  the resume query packet.
+   * @throws NullPointerException if the given channel or packet is null.
+   */
+  protected void handleResumeQuery(@NonNull NetworkChannel channel, @NonNull Packet packet) {
+    var sessionUniqueId = packet.content().readUniqueId();
+    // find the running session with the given id, the info equals only based on the session id
+    var handler = this.runningSessions.entrySet().stream()
+      .filter(entry -> entry.getKey().sessionUniqueId().equals(sessionUniqueId))
+      .map(Map.Entry::getValue)
+      .findFirst()
+      .orElse(null);
+    // write the completed chunks of the session, if there is one
+    var completedChunks = handler == null ? new BitSet() : handler.completedChunks();
+    var response = DataBuf.empty().writeInt(completedChunks.cardinality());
+    completedChunks.stream().forEach(chunkIndex -> response
+      .writeInt(chunkIndex)
+      .writeInt(handler.chunkChecksum(chunkIndex)));
+    channel.sendPacket(packet.constructResponse(response));
+  }
 }
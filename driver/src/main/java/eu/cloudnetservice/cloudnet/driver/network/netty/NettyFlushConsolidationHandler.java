@@ -0,0 +1,225 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.netty;
+
+import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+/**
+ * A channel handler which consolidates flush requests of written packets. Flushes caused by prioritized packets are
+ * passed through directly, all other flushes are delayed until either the amount of pending packets, the amount of
+ * pending bytes or the maximum flush delay is exceeded. All methods of this handler are only called from the event loop
+ * of the associated channel, only the statistic getters are safe to call from other threads.
+ *
+ * @since 4.0
+ */
+@Internal
+public final class NettyFlushConsolidationHandler extends ChannelDuplexHandler {
+
+  private static final long DEFAULT_MAX_FLUSH_DELAY_NANOS = TimeUnit.MICROSECONDS.toNanos(
+    Long.getLong("cloudnet.network.max-flush-delay-micros", 500));
+  private static final int MAX_PENDING_PACKETS = Integer.getInteger("cloudnet.network.max-pending-packets", 64);
+  private static final int MAX_PENDING_BYTES = Integer.getInteger("cloudnet.network.max-pending-bytes", 64 * 1024);
+
+  private final Runnable flushTask;
+  private final long maxFlushDelayNanos;
+
+  private ChannelHandlerContext ctx;
+  private Future<?> scheduledFlush;
+
+  private int pendingPackets;
+  private long pendingBytes;
+  private boolean prioritizedPending;
+
+  private volatile long flushRequests;
+  private volatile long flushes;
+
+  /**
+   * Constructs a new flush consolidation handler instance using the configured maximum flush delay.
+   */
+  public NettyFlushConsolidationHandler() {
+    this(DEFAULT_MAX_FLUSH_DELAY_NANOS);
+  }
+
+  /**
+   * Constructs a new flush consolidation handler instance.
+   *
+   * @param maxFlushDelayNanos the nanoseconds a flush is delayed at most, 0 or less to disable the delay.
+   */
+  public NettyFlushConsolidationHandler(long maxFlushDelayNanos) {
+    this.maxFlushDelayNanos = maxFlushDelayNanos;
+    this.flushTask = () -> {
+      this.scheduledFlush = null;
+      this.flushNow();
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handlerAdded(@NonNull ChannelHandlerContext ctx) {
+    this.ctx = ctx;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handlerRemoved(@NonNull ChannelHandlerContext ctx) {
+    this.flushIfPending();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void write(@NonNull ChannelHandlerContext ctx, @NonNull Object msg, @NonNull ChannelPromise promise) {
+    if (msg instanceof Packet packet) {
+      this.pendingPackets++;
+      this.pendingBytes += packet.content().readableBytes();
+      this.prioritizedPending |= packet.prioritized();
+    }
+
+    ctx.write(msg, promise);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flush(@NonNull ChannelHandlerContext ctx) {
+    // nothing was written by us since the last flush, pass it through
+    if (this.pendingPackets == 0) {
+      ctx.flush();
+      return;
+    }
+
+    this.flushRequests++;
+    if (this.prioritizedPending
+      || this.maxFlushDelayNanos <= 0
+      || this.pendingPackets >= MAX_PENDING_PACKETS
+      || this.pendingBytes >= MAX_PENDING_BYTES
+      || !ctx.channel().isWritable()) {
+      // one of the thresholds was reached, flush directly
+      this.flushNow();
+    } else if (this.scheduledFlush == null) {
+      // delay the flush until the maximum delay was reached or another write triggers the flush
+      this.scheduledFlush = ctx.executor().schedule(this.flushTask, this.maxFlushDelayNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void channelWritabilityChanged(@NonNull ChannelHandlerContext ctx) {
+    // flush everything when the channel is no longer writable to drain the outbound buffer
+    if (!ctx.channel().isWritable()) {
+      this.flushIfPending();
+    }
+
+    ctx.fireChannelWritabilityChanged();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void channelInactive(@NonNull ChannelHandlerContext ctx) {
+    this.flushIfPending();
+    ctx.fireChannelInactive();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void disconnect(@NonNull ChannelHandlerContext ctx, @NonNull ChannelPromise promise) {
+    this.flushIfPending();
+    ctx.disconnect(promise);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close(@NonNull ChannelHandlerContext ctx, @NonNull ChannelPromise promise) {
+    this.flushIfPending();
+    ctx.close(promise);
+  }
+
+  /**
+   * Get the amount of flushes which were requested for written packets.
+   *
+   * @return the amount of requested flushes.
+   */
+  public long flushRequests() {
+    return this.flushRequests;
+  }
+
+  /**
+   * Get the amount of flushes which were actually passed to the underlying channel.
+   *
+   * @return the amount of executed flushes.
+   */
+  public long flushes() {
+    return this.flushes;
+  }
+
+  /**
+   * Get the amount of flushes which were saved by consolidating them.
+   *
+   * @return the amount of saved flushes.
+   */
+  public long savedFlushes() {
+    return Math.max(0, this.flushRequests - this.flushes);
+  }
+
+  /**
+   * Flushes the channel if there are pending packets which were not flushed yet.
+   */
+  private void flushIfPending() {
+    if (this.pendingPackets > 0) {
+      this.flushNow();
+    }
+  }
+
+  /**
+   * Flushes the channel directly, cancelling the scheduled flush if there is one.
+   */
+  private void flushNow() {
+    if (this.scheduledFlush != null) {
+      this.scheduledFlush.cancel(false);
+      this.scheduledFlush = null;
+    }
+
+    // reset the pending state
+    this.pendingPackets = 0;
+    this.pendingBytes = 0;
+    this.prioritizedPending = false;
+
+    this.flushes++;
+    this.ctx.flush();
+  }
+}
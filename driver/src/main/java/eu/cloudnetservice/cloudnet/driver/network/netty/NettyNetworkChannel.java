@@ -135,21 +135,44 @@ public void close() {
     this.channel.close();
   }
 
+  /**
+   * Get the flush consolidation handler of this channel which is responsible to batch flushes of non-prioritized
+   * packets, for example to get the statistics about the flushes saved on this channel.
+   *
+   * @return the flush consolidation handler of this channel, null if the channel has no such handler.
+   */
+  public @Nullable NettyFlushConsolidationHandler flushConsolidationHandler() {
+    return this.channel.pipeline().get(NettyFlushConsolidationHandler.class);
+  }
+
+  /**
+   * Get the dispatcher of this channel which is responsible to queue the received non-prioritized packets per packet
+   * channel, for example to get the queue depth and wait time statistics of each packet channel.
+   *
+   * @return the packet dispatcher of this channel, null if the channel has no network handler.
+   */
+  public @Nullable NettyPacketDispatcher packetDispatcher() {
+    var handler = this.channel.pipeline().get(NettyNetworkHandler.class);
+    return handler == null ? null : handler.dispatcher();
+  }
+
   /**
    * Writes the given packet into the channel, calling the packet send event beforehand and not writing when the event
    * gets cancelled by a module/plugin.
    *
    * @param packet     the packet to write if the send operation is not cancelled.
-   * @param flushAfter if the send queue should be flushed directly after the write process.
+   * @param flushAfter if the send queue should be flushed after the write process. The flush of non-prioritized packets
+   *                   might get delayed by the flush consolidation handler of the channel.
    * @return the future completed once the write operation (and flush) of the channel succeeded, null if cancelled.
    * @throws NullPointerException if the given packet is null.
    */
   private @Nullable ChannelFuture writePacket(@NonNull Packet packet, boolean flushAfter) {
-    var event = CloudNetDriver.instance().eventManager().callEvent(new NetworkChannelPacketSendEvent(this, packet));
-    if (!event.cancelled()) {
-      return flushAfter ? this.channel.writeAndFlush(packet) : this.channel.write(packet);
-    } else {
+    // only construct and call the event if someone is listening to it, this method is called for every packet
+    var eventManager = CloudNetDriver.instance().eventManager();
+    if (eventManager.hasListeners(NetworkChannelPacketSendEvent.class)
+      && eventManager.callEvent(new NetworkChannelPacketSendEvent(this, packet)).cancelled()) {
       return null;
     }
+    return flushAfter ? this.channel.writeAndFlush(packet) : this.channel.write(packet);
   }
 }
@@ -39,6 +39,15 @@ public abstract class NettyNetworkHandler extends SimpleChannelInboundHandler<Ba
   private static final Logger LOGGER = LogManager.logger(NettyNetworkHandler.class);
 
   protected volatile NettyNetworkChannel channel;
+  protected volatile NettyPacketDispatcher dispatcher;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handlerAdded(@NonNull ChannelHandlerContext ctx) {
+    this.dispatcher = new NettyPacketDispatcher(ctx.channel(), this.packetDispatcher(), this::doHandlePacket);
+  }
 
   /**
    * {@inheritDoc}
@@ -80,7 +89,7 @@ protected void channelRead0(@NonNull ChannelHandlerContext ctx, @NonNull BasePac
     if (msg.prioritized()) {
       this.doHandlePacket(msg);
     } else {
-      this.packetDispatcher().execute(() -> this.doHandlePacket(msg));
+      this.dispatcher.dispatch(msg);
     }
   }
 
@@ -112,6 +121,16 @@ protected void doHandlePacket(@NonNull BasePacket packet) {
     }
   }
 
+  /**
+   * Get the dispatcher which queues the non-prioritized packets received by this handler per packet channel before
+   * posting them into the packet dispatcher of the network component.
+   *
+   * @return the packet dispatcher of this handler.
+   */
+  public @NonNull NettyPacketDispatcher dispatcher() {
+    return this.dispatcher;
+  }
+
   /**
    * Get all channels which are connected to the underlying network component.
    *
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.netty;
+
+import eu.cloudnetservice.cloudnet.driver.network.protocol.BasePacket;
+import io.netty.channel.Channel;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * Dispatches the non-prioritized packets received on a channel into a shared executor. Each packet channel id gets its
+ * own dispatch lane with a queue and a worker budget, limiting the amount of tasks a lane can have in the executor at
+ * the same time. A lane only handles a small batch of packets per task before re-submitting itself, which prevents a
+ * flood of packets on one packet channel from starving the packets of other packet channels.
+ * <p>
+ * Once the queue of a lane reaches its capacity, auto read of the netty channel is disabled until the queue was drained
+ * to half of its capacity. The capacity is therefore a soft limit, packets which were already read from the network are
+ * still queued.
+ * <p>
+ * The capacity and worker budget of a lane can be configured using the system properties
+ * {@code cloudnet.network.dispatch.<channel id>.capacity} and {@code cloudnet.network.dispatch.<channel id>.workers},
+ * falling back to {@code cloudnet.network.dispatch-capacity} and {@code cloudnet.network.dispatch-workers}.
+ *
+ * @since 4.0
+ */
+@Internal
+public final class NettyPacketDispatcher {
+
+  private static final int DEFAULT_CAPACITY = Integer.getInteger("cloudnet.network.dispatch-capacity", 1024);
+  private static final int DEFAULT_WORKERS = Integer.getInteger("cloudnet.network.dispatch-workers", 1);
+  private static final int DRAIN_BATCH_SIZE = Integer.getInteger("cloudnet.network.dispatch-batch-size", 16);
+
+  private final Channel channel;
+  private final Executor executor;
+  private final Consumer<BasePacket> packetHandler;
+
+  private final AtomicInteger saturatedLanes = new AtomicInteger();
+  private final Map<Integer, DispatchLane> lanes = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new packet dispatcher instance.
+   *
+   * @param channel       the netty channel from which the packets are read.
+   * @param executor      the executor to run the packet handling in.
+   * @param packetHandler the handler to post the dispatched packets to.
+   * @throws NullPointerException if one of the given arguments is null.
+   */
+  public NettyPacketDispatcher(
+    @NonNull Channel channel,
+    @NonNull Executor executor,
+    @NonNull Consumer<BasePacket> packetHandler
+  ) {
+    this.channel = channel;
+    this.executor = executor;
+    this.packetHandler = packetHandler;
+  }
+
+  /**
+   * Queues the given packet into the lane of its packet channel and schedules the lane for execution if needed.
+   *
+   * @param packet the packet to dispatch.
+   * @throws NullPointerException if the given packet is null.
+   */
+  public void dispatch(@NonNull BasePacket packet) {
+    this.lanes.computeIfAbsent(packet.channel(), DispatchLane::new).offer(packet);
+  }
+
+  /**
+   * Get all lanes which were created by this dispatcher, for example to get the statistics of each lane.
+   *
+   * @return all lanes of this dispatcher.
+   */
+  public @NonNull @UnmodifiableView Collection<DispatchLane> lanes() {
+    return Collections.unmodifiableCollection(this.lanes.values());
+  }
+
+  /**
+   * Get the lane of the given packet channel id, null if no packet on the given channel was dispatched yet.
+   *
+   * @param packetChannel the id of the packet channel to get the lane of.
+   * @return the lane of the given packet channel id, null if there is no such lane.
+   */
+  public @Nullable DispatchLane lane(int packetChannel) {
+    return this.lanes.get(packetChannel);
+  }
+
+  /**
+   * Get if reading from the channel is currently suspended because at least one lane reached its capacity.
+   *
+   * @return true if reading from the channel is suspended, false otherwise.
+   */
+  public boolean readSuspended() {
+    return this.saturatedLanes.get() > 0;
+  }
+
+  /**
+   * Updates the auto read setting of the channel based on the current amount of saturated lanes. The update is always
+   * executed in the event loop of the channel to ensure that concurrent updates are not overriding each other with an
+   * outdated state.
+   */
+  private void updateAutoRead() {
+    if (this.channel.eventLoop().inEventLoop()) {
+      this.channel.config().setAutoRead(this.saturatedLanes.get() == 0);
+    } else {
+      this.channel.eventLoop().execute(this::updateAutoRead);
+    }
+  }
+
+  /**
+   * Reads an int system property in the lane specific namespace of the given packet channel.
+   *
+   * @param packetChannel the id of the packet channel to read the property for.
+   * @param key           the key of the property in the lane namespace.
+   * @param def           the value to use if the property is not set.
+   * @return the value of the property, or the given default value if not set.
+   * @throws NullPointerException if the given key is null.
+   */
+  private static int laneProperty(int packetChannel, @NonNull String key, int def) {
+    return Math.max(1, Integer.getInteger("cloudnet.network.dispatch." + packetChannel + '.' + key, def));
+  }
+
+  /**
+   * A packet which is waiting in the queue of a lane.
+   *
+   * @param packet        the queued packet.
+   * @param enqueuedNanos the nano time at which the packet was queued.
+   * @since 4.0
+   */
+  private record QueuedPacket(@NonNull BasePacket packet, long enqueuedNanos) {
+
+  }
+
+  /**
+   * The dispatch lane of a single packet channel id.
+   *
+   * @since 4.0
+   */
+  public final class DispatchLane {
+
+    private final int packetChannel;
+    private final int capacity;
+    private final int workers;
+
+    private final Queue<QueuedPacket> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicBoolean saturated = new AtomicBoolean();
+
+    private final LongAdder dispatchedPackets = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private volatile int maxQueueDepth;
+    private volatile long maxWaitNanos;
+
+    /**
+     * Constructs a new dispatch lane for the given packet channel id.
+     *
+     * @param packetChannel the id of the packet channel handled by the lane.
+     */
+    private DispatchLane(int packetChannel) {
+      this.packetChannel = packetChannel;
+      this.capacity = laneProperty(packetChannel, "capacity", DEFAULT_CAPACITY);
+      this.workers = laneProperty(packetChannel, "workers", DEFAULT_WORKERS);
+    }
+
+    /**
+     * Get the id of the packet channel handled by this lane.
+     *
+     * @return the id of the packet channel handled by this lane.
+     */
+    public int packetChannel() {
+      return this.packetChannel;
+    }
+
+    /**
+     * Get the amount of queued packets at which reading from the channel gets suspended.
+     *
+     * @return the capacity of this lane.
+     */
+    public int capacity() {
+      return this.capacity;
+    }
+
+    /**
+     * Get the maximum amount of packets of this lane which are handled at the same time.
+     *
+     * @return the worker budget of this lane.
+     */
+    public int workers() {
+      return this.workers;
+    }
+
+    /**
+     * Get the amount of packets currently waiting in this lane.
+     *
+     * @return the current queue depth of this lane.
+     */
+    public int queueDepth() {
+      return this.queueDepth.get();
+    }
+
+    /**
+     * Get the highest amount of packets which were waiting in this lane at the same time.
+     *
+     * @return the highest queue depth of this lane.
+     */
+    public int maxQueueDepth() {
+      return this.maxQueueDepth;
+    }
+
+    /**
+     * Get the amount of packets which were dispatched by this lane.
+     *
+     * @return the amount of dispatched packets.
+     */
+    public long dispatchedPackets() {
+      return this.dispatchedPackets.sum();
+    }
+
+    /**
+     * Get the average time in nanoseconds a packet waited in this lane before being handled.
+     *
+     * @return the average wait time of a packet in this lane.
+     */
+    public long averageWaitNanos() {
+      var dispatched = this.dispatchedPackets.sum();
+      return dispatched == 0 ? 0 : this.totalWaitNanos.sum() / dispatched;
+    }
+
+    /**
+     * Get the longest time in nanoseconds a packet waited in this lane before being handled.
+     *
+     * @return the longest wait time of a packet in this lane.
+     */
+    public long maxWaitNanos() {
+      return this.maxWaitNanos;
+    }
+
+    /**
+     * Queues the given packet and schedules this lane for execution.
+     *
+     * @param packet the packet to queue.
+     * @throws NullPointerException if the given packet is null.
+     */
+    private void offer(@NonNull BasePacket packet) {
+      this.queue.offer(new QueuedPacket(packet, System.nanoTime()));
+      // update the statistics and check if the lane is saturated now
+      var depth = this.queueDepth.incrementAndGet();
+      if (depth > this.maxQueueDepth) {
+        this.maxQueueDepth = depth;
+      }
+      if (depth >= this.capacity && this.saturated.compareAndSet(false, true)) {
+        NettyPacketDispatcher.this.saturatedLanes.incrementAndGet();
+        NettyPacketDispatcher.this.updateAutoRead();
+        // a drain might have emptied the queue before the lane was marked as saturated, in that case no drain will
+        // ever see the saturation and the lane would stay saturated forever
+        this.tryReleaseSaturation();
+      }
+      // schedule the lane
+      this.trySchedule();
+    }
+
+    /**
+     * Marks this lane as no longer saturated if it is saturated and at most half of its capacity is used.
+     */
+    private void tryReleaseSaturation() {
+      if (this.queueDepth.get() <= this.capacity / 2 && this.saturated.compareAndSet(true, false)) {
+        NettyPacketDispatcher.this.saturatedLanes.decrementAndGet();
+        NettyPacketDispatcher.this.updateAutoRead();
+      }
+    }
+
+    /**
+     * Submits a drain task of this lane into the executor if the worker budget of this lane allows it.
+     */
+    private void trySchedule() {
+      while (true) {
+        var active = this.activeWorkers.get();
+        if (active >= this.workers) {
+          return;
+        }
+        if (this.activeWorkers.compareAndSet(active, active + 1)) {
+          NettyPacketDispatcher.this.executor.execute(this::drain);
+          return;
+        }
+      }
+    }
+
+    /**
+     * Handles a batch of the packets queued in this lane, re-scheduling the lane afterwards if there are still packets
+     * waiting in the queue.
+     */
+    private void drain() {
+      try {
+        for (var i = 0; i < DRAIN_BATCH_SIZE; i++) {
+          var queued = this.queue.poll();
+          if (queued == null) {
+            break;
+          }
+          // update the statistics and check if the lane is no longer saturated
+          this.queueDepth.decrementAndGet();
+          this.tryReleaseSaturation();
+          var waitNanos = System.nanoTime() - queued.enqueuedNanos();
+          if (waitNanos > this.maxWaitNanos) {
+            this.maxWaitNanos = waitNanos;
+          }
+          this.totalWaitNanos.add(waitNanos);
+          this.dispatchedPackets.increment();
+          // handle the packet
+          NettyPacketDispatcher.this.packetHandler.accept(queued.packet());
+        }
+      } finally {
+        this.activeWorkers.decrementAndGet();
+        // re-schedule this lane at the end of the executor queue to give other lanes a chance to run
+        if (!this.queue.isEmpty()) {
+          this.trySchedule();
+        }
+      }
+    }
+  }
+}
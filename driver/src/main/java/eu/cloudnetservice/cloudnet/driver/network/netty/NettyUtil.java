@@ -47,8 +47,9 @@ public final class NettyUtil {
   // transport
   private static final boolean NO_NATIVE_TRANSPORT = Boolean.getBoolean("cloudnet.no-native");
   private static final NettyTransport CURR_NETTY_TRANSPORT = NettyTransport.availableTransport(NO_NATIVE_TRANSPORT);
-  // var int codec
+  // var int & var long codec
   private static final SilentDecoderException INVALID_VAR_INT = new SilentDecoderException("Invalid var int");
+  private static final SilentDecoderException INVALID_VAR_LONG = new SilentDecoderException("Invalid var long");
   // packet thread handling
   private static final RejectedExecutionHandler DEFAULT_REJECT_HANDLER = new ThreadPoolExecutor.CallerRunsPolicy();
 
@@ -161,6 +162,78 @@ public static int readVarInt(@NonNull ByteBuf byteBuf) {
     throw INVALID_VAR_INT;
   }
 
+  /**
+   * Writes the given long value as a var long into the buffer.
+   *
+   * @param byteBuf the buffer to write to.
+   * @param value   the value to write into the buffer.
+   * @return the buffer used to call the method, for chaining.
+   * @throws NullPointerException if the given byte buf is null.
+   */
+  public static @NonNull ByteBuf writeVarLong(@NonNull ByteBuf byteBuf, long value) {
+    while (true) {
+      if ((value & ~0x7FL) == 0) {
+        byteBuf.writeByte((int) value);
+        return byteBuf;
+      } else {
+        byteBuf.writeByte((int) (value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+    }
+  }
+
+  /**
+   * Reads a var long from the given buffer.
+   *
+   * @param byteBuf the buffer to read from.
+   * @return the var long read from the buffer.
+   * @throws SilentDecoderException if the buf current position has no var long.
+   * @throws NullPointerException   if the given buffer to read from is null.
+   */
+  public static long readVarLong(@NonNull ByteBuf byteBuf) {
+    var i = 0L;
+    var maxRead = Math.min(10, byteBuf.readableBytes());
+    for (var j = 0; j < maxRead; j++) {
+      int nextByte = byteBuf.readByte();
+      i |= (long) (nextByte & 0x7F) << j * 7;
+      if ((nextByte & 0x80) != 128) {
+        return i;
+      }
+    }
+    throw INVALID_VAR_LONG;
+  }
+
+  /**
+   * Get the amount of bytes the given value will take when written as a var long.
+   *
+   * @param value the value to get the var long size of.
+   * @return the amount of bytes needed to write the given value as a var long.
+   */
+  public static @Range(from = 1, to = 10) int varLongBytes(long value) {
+    // each byte holds 7 bits of the value, a zero value still takes one byte
+    return Math.max(1, (70 - Long.numberOfLeadingZeros(value)) / 7);
+  }
+
+  /**
+   * Get the amount of bytes the given value will take when written as a var int.
+   *
+   * @param value the value to get the var int size of.
+   * @return the amount of bytes needed to write the given value as a var int.
+   */
+  public static @Range(from = 1, to = 5) int varIntBytes(int value) {
+    if ((value & 0xFFFFFF80) == 0) {
+      return 1;
+    } else if ((value & 0xFFFFC000) == 0) {
+      return 2;
+    } else if ((value & 0xFFE00000) == 0) {
+      return 3;
+    } else if ((value & 0xF0000000) == 0) {
+      return 4;
+    } else {
+      return 5;
+    }
+  }
+
   /**
    * Get the thread amount used by the packet dispatcher to dispatch incoming packets. This method returns always 4 when
    * running in as a wrapper and the amount of processors cores multiplied by 2 when running either embedded or as a
@@ -17,12 +17,11 @@
 package eu.cloudnetservice.cloudnet.driver.network.netty.client;
 
 import eu.cloudnetservice.cloudnet.driver.network.HostAndPort;
+import eu.cloudnetservice.cloudnet.driver.network.netty.NettyFlushConsolidationHandler;
 import eu.cloudnetservice.cloudnet.driver.network.netty.codec.NettyPacketDecoder;
 import eu.cloudnetservice.cloudnet.driver.network.netty.codec.NettyPacketEncoder;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
-import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
-import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
 import lombok.NonNull;
 
 /**
@@ -60,10 +59,9 @@ protected void initChannel(@NonNull Channel channel) {
     }
 
     channel.pipeline()
-      .addLast("packet-length-deserializer", new ProtobufVarint32FrameDecoder())
       .addLast("packet-decoder", new NettyPacketDecoder())
-      .addLast("packet-length-serializer", new ProtobufVarint32LengthFieldPrepender())
       .addLast("packet-encoder", new NettyPacketEncoder())
+      .addLast("flush-consolidation", new NettyFlushConsolidationHandler())
       .addLast("network-client-handler", new NettyNetworkClientHandler(this.nettyNetworkClient, this.hostAndPort));
   }
 }
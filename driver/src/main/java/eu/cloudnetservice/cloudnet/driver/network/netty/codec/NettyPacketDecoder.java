@@ -24,6 +24,7 @@
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
 import java.util.List;
 import java.util.UUID;
 import lombok.NonNull;
@@ -34,12 +35,16 @@
  * encoding steps done in {@link NettyPacketEncoder} while ensuring that the channel is open and data was transferred to
  * the component before starting the decoding process.
  * <p>
- * A packet always contains the following data:
+ * Every packet is prefixed with the length of the full packet frame as a var int. A packet always contains the
+ * following data:
  * <ol>
  *   <li>The numeric id of the channel being sent to, by default a var int.
  *   <li>An optional query unique id if the packet is a query.
  *   <li>The data transferred to this component, might be empty.
  * </ol>
+ * <p>
+ * The body of a packet is not copied out of the received buffer, instead a retained slice of the received frame is
+ * wrapped into the packet content. The slice is released once the content of the packet was released.
  *
  * @since 4.0
  */
@@ -60,14 +65,34 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull ByteBuf buf,
       return;
     }
 
+    // wait until the full packet frame was received
+    buf.markReaderIndex();
+    var frameLength = this.readFrameLength(buf);
+    if (frameLength == -1 || buf.readableBytes() < frameLength) {
+      buf.resetReaderIndex();
+      return;
+    }
+
+    var frameEnd = buf.readerIndex() + frameLength;
     try {
       // read the required base data from the buffer
       var channel = NettyUtil.readVarInt(buf);
       var prioritized = buf.readBoolean();
-      var queryUniqueId = buf.readBoolean() ? new UUID(buf.readLong(), buf.readLong()) : null;
-      var body = new NettyImmutableDataBuf(buf.readBytes(NettyUtil.readVarInt(buf)));
+      var queryUniqueId = switch (buf.readByte()) {
+        case NettyPacketEncoder.NO_QUERY_ID -> null;
+        case NettyPacketEncoder.COMPACT_QUERY_ID -> new UUID(0, NettyUtil.readVarLong(buf));
+        case NettyPacketEncoder.FULL_QUERY_ID -> new UUID(buf.readLong(), buf.readLong());
+        default -> throw new CorruptedFrameException("Unknown query id type");
+      };
+
+      // ensure that the body is not exceeding the packet frame
+      var bodyLength = NettyUtil.readVarInt(buf);
+      if (bodyLength < 0 || bodyLength > frameEnd - buf.readerIndex()) {
+        throw new CorruptedFrameException("Packet body length " + bodyLength + " exceeds the packet frame");
+      }
 
-      // construct the packet
+      // construct the packet, sharing the memory of the received frame
+      var body = new NettyImmutableDataBuf(buf.readRetainedSlice(bodyLength));
       var packet = new BasePacket(channel, prioritized, body);
       packet.uniqueId(queryUniqueId);
 
@@ -75,6 +100,36 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull ByteBuf buf,
       out.add(packet);
     } catch (Exception exception) {
       LOGGER.severe("Exception while decoding packet", exception);
+    } finally {
+      // always skip to the end of the frame to stay in sync with the sender
+      buf.readerIndex(frameEnd);
+    }
+  }
+
+  /**
+   * Reads the length of the next packet frame from the given buffer.
+   *
+   * @param buf the buffer to read the frame length from.
+   * @return the length of the next frame, -1 if the length was not fully received yet.
+   * @throws CorruptedFrameException if the frame length is malformed.
+   * @throws NullPointerException    if the given buffer is null.
+   */
+  private int readFrameLength(@NonNull ByteBuf buf) {
+    var result = 0;
+    for (var shift = 0; shift < 35; shift += 7) {
+      if (!buf.isReadable()) {
+        return -1;
+      }
+
+      int nextByte = buf.readByte();
+      result |= (nextByte & 0x7F) << shift;
+      if ((nextByte & 0x80) == 0) {
+        if (result < 0) {
+          throw new CorruptedFrameException("Negative packet frame length: " + result);
+        }
+        return result;
+      }
     }
+    throw new CorruptedFrameException("Packet frame length wider than 32-bit");
   }
 }
@@ -19,53 +19,105 @@
 import eu.cloudnetservice.cloudnet.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.cloudnet.driver.network.netty.buffer.NettyImmutableDataBuf;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
-import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import java.util.List;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus.Internal;
 
 /**
  * An internal implementation of the packet encoder used for client to server communication.
  * <p>
- * A packet always contains the following data:
+ * Every packet is prefixed with the length of the full packet frame as a var int. A packet always contains the
+ * following data:
  * <ol>
  *   <li>The numeric id of the channel being sent to, by default a var int.
- *   <li>An optional query unique id if the packet is a query.
+ *   <li>An optional query unique id if the packet is a query, written as a var long if the id was generated by a
+ *   counter.
  *   <li>The data transferred to this component, might be empty.
  * </ol>
+ * <p>
+ * The body of a packet is not copied into the outbound buffer when it exceeds a small threshold. Instead, the header
+ * and a retained slice of the body are emitted as a composite buffer.
  *
  * @since 4.0
  */
 @Internal
-public final class NettyPacketEncoder extends MessageToByteEncoder<Packet> {
+public final class NettyPacketEncoder extends MessageToMessageEncoder<Packet> {
+
+  // the types of query ids which can be written into the packet header
+  static final byte NO_QUERY_ID = 0;
+  static final byte COMPACT_QUERY_ID = 1;
+  static final byte FULL_QUERY_ID = 2;
+
+  // copying small bodies into the header buffer is cheaper than maintaining a composite buffer for them
+  private static final int COPY_THRESHOLD = Integer.getInteger("cloudnet.network.body-copy-threshold", 256);
 
   /**
    * {@inheritDoc}
    */
   @Override
-  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet packet, @NonNull ByteBuf buf) {
-    // channel
-    NettyUtil.writeVarInt(buf, packet.channel());
-    // packet priority
-    buf.writeBoolean(packet.prioritized());
-    // query id (if present)
-    var queryUniqueId = packet.uniqueId();
-    buf.writeBoolean(queryUniqueId != null);
-    if (queryUniqueId != null) {
-      buf
-        .writeLong(queryUniqueId.getMostSignificantBits())
-        .writeLong(queryUniqueId.getLeastSignificantBits());
-    }
-    // body
+  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet packet, @NonNull List<Object> out) {
     // we only support netty buf
     var content = ((NettyImmutableDataBuf) packet.content()).byteBuf();
-    // write information to buffer
-    var length = content.readableBytes();
-    NettyUtil.writeVarInt(buf, length);
-    buf.writeBytes(content, 0, length);
-    // release the content of the packet now, don't use the local field to respect if releasing was disabled in the
-    // original buffer.
-    packet.content().release();
+    var queryUniqueId = packet.uniqueId();
+    // ids generated by a counter only use the least significant bits, these can be written as a var long
+    var queryIdType = queryUniqueId == null
+      ? NO_QUERY_ID
+      : queryUniqueId.getMostSignificantBits() == 0 ? COMPACT_QUERY_ID : FULL_QUERY_ID;
+    var queryIdLength = switch (queryIdType) {
+      case COMPACT_QUERY_ID -> NettyUtil.varLongBytes(queryUniqueId.getLeastSignificantBits());
+      case FULL_QUERY_ID -> 16;
+      default -> 0;
+    };
+
+    // compute the frame length, consisting of the header and the body length
+    var bodyLength = content.readableBytes();
+    var headerLength = NettyUtil.varIntBytes(packet.channel())
+      + 2 // packet priority & query id type
+      + queryIdLength
+      + NettyUtil.varIntBytes(bodyLength);
+    var frameLength = headerLength + bodyLength;
+
+    // only reserve space for the body if we are going to copy it
+    var copyBody = bodyLength <= COPY_THRESHOLD;
+    var header = ctx.alloc().buffer(NettyUtil.varIntBytes(frameLength) + (copyBody ? frameLength : headerLength));
+
+    try {
+      // frame length
+      NettyUtil.writeVarInt(header, frameLength);
+      // channel
+      NettyUtil.writeVarInt(header, packet.channel());
+      // packet priority
+      header.writeBoolean(packet.prioritized());
+      // query id (if present)
+      header.writeByte(queryIdType);
+      if (queryIdType == COMPACT_QUERY_ID) {
+        NettyUtil.writeVarLong(header, queryUniqueId.getLeastSignificantBits());
+      } else if (queryIdType == FULL_QUERY_ID) {
+        header
+          .writeLong(queryUniqueId.getMostSignificantBits())
+          .writeLong(queryUniqueId.getLeastSignificantBits());
+      }
+      // body length
+      NettyUtil.writeVarInt(header, bodyLength);
+
+      // body
+      if (copyBody) {
+        header.writeBytes(content, 0, bodyLength);
+        out.add(header);
+      } else {
+        // the slice keeps the body alive until it was written, the release of the packet content below only drops
+        // the reference held by the packet
+        out.add(ctx.alloc().compositeBuffer(2).addComponents(true, header, content.retainedSlice(0, bodyLength)));
+      }
+    } catch (Exception exception) {
+      header.release();
+      throw exception;
+    } finally {
+      // release the content of the packet now, don't use the local field to respect if releasing was disabled in the
+      // original buffer.
+      packet.content().release();
+    }
   }
 }
@@ -86,8 +86,8 @@ public interface QueryPacketManager {
 
   /**
    * Sends a query packet to the associated network channel, automatically selecting a query id for the packet and
-   * setting it. Equivalent to {@code manager.sendQueryPacket(packet, UUID.randomUUID()}. An existing query unique id in
-   * the packet will get overridden.
+   * setting it. The way the query id is selected depends on the implementation, ids are only guaranteed to be unique
+   * per network channel. An existing query unique id in the packet will get overridden.
    *
    * @param packet the packet to convert to a query packet and send to the channel.
    * @return a future completed with either the response to the packet or an empty packet if the waiting time expires.
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.protocol.defaults;
+
+import eu.cloudnetservice.cloudnet.common.concurrent.Task;
+import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.QueryPacketManager;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * A query manager using ids from a per-channel counter instead of random unique ids. Pending queries are stored in a
+ * lock-free slot array indexed by their id, falling back to a concurrent map if the slot of a query is still taken by
+ * an older, unanswered query. Timeouts of queries are scheduled on a shared hashed wheel timer.
+ * <p>
+ * The ids generated by this manager are unique ids with zeroed most significant bits, which allows the packet codec to
+ * encode them as a var long instead of the full 16 bytes. To prevent collisions between the ids generated on both sides
+ * of a connection, the side which opened the connection only uses odd ids, while the other side only uses even ids.
+ *
+ * @since 4.0
+ */
+public class TimerWheelQueryPacketManager implements QueryPacketManager {
+
+  private static final Duration DEFAULT_TIMEOUT_DURATION = Duration.ofSeconds(30);
+  private static final int SLOT_COUNT = Integer.getInteger("cloudnet.network.query-slots", 256);
+  private static final Timer TIMEOUT_TIMER = new HashedWheelTimer(
+    new DefaultThreadFactory("cloudnet-query-timeout", true),
+    100,
+    TimeUnit.MILLISECONDS,
+    512);
+
+  private final Duration queryTimeout;
+  private final NetworkChannel networkChannel;
+
+  private final AtomicLong idCounter;
+  private final AtomicReferenceArray<PendingQuery> slots;
+  private final Map<UUID, PendingQuery> overflow = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new query manager for the given network channel and a timeout of 30 seconds for each query.
+   *
+   * @param networkChannel the network channel associated with this manager.
+   * @throws NullPointerException if the given network channel is null.
+   */
+  public TimerWheelQueryPacketManager(@NonNull NetworkChannel networkChannel) {
+    this(networkChannel, DEFAULT_TIMEOUT_DURATION);
+  }
+
+  /**
+   * Constructs a new query manager for the given network with the provided query timeout.
+   *
+   * @param networkChannel the network channel associated with this manager.
+   * @param queryTimeout   the time to wait for a response to each query before being completed with an empty packet.
+   * @throws NullPointerException if either the given network channel or query timeout is null.
+   */
+  public TimerWheelQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNull Duration queryTimeout) {
+    this.networkChannel = networkChannel;
+    this.queryTimeout = queryTimeout;
+    // the first id is either 1 or 2, every id after that is incremented by 2
+    this.idCounter = new AtomicLong(networkChannel.clientProvidedChannel() ? -1 : 0);
+    // round the slot count to the next power of two to allow cheap index calculation
+    this.slots = new AtomicReferenceArray<>(Integer.highestOneBit(Math.max(1, SLOT_COUNT - 1) << 1));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Duration queryTimeout() {
+    return this.queryTimeout;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull NetworkChannel networkChannel() {
+    return this.networkChannel;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull @UnmodifiableView Map<UUID, Task<Packet>> waitingHandlers() {
+    Map<UUID, Task<Packet>> handlers = new HashMap<>();
+    // collect all queries stored in the slots
+    for (var i = 0; i < this.slots.length(); i++) {
+      var query = this.slots.get(i);
+      if (query != null) {
+        handlers.put(query.uniqueId, query.task);
+      }
+    }
+    // collect all queries which are stored in the overflow map
+    this.overflow.forEach((uniqueId, query) -> handlers.put(uniqueId, query.task));
+    return Collections.unmodifiableMap(handlers);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
+    return this.find(queryUniqueId) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
+    var query = this.remove(queryUniqueId);
+    if (query != null) {
+      query.timeout.cancel();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable Task<Packet> waitingHandler(@NonNull UUID queryUniqueId) {
+    var query = this.remove(queryUniqueId);
+    if (query != null) {
+      query.timeout.cancel();
+      return query.task;
+    }
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Packet> sendQueryPacket(@NonNull Packet packet) {
+    return this.sendQueryPacket(packet, new UUID(0, this.idCounter.addAndGet(2)));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Packet> sendQueryPacket(@NonNull Packet packet, @NonNull UUID queryUniqueId) {
+    // create the query and schedule the timeout before registering to ensure that the timeout can always be cancelled
+    var query = new PendingQuery(queryUniqueId);
+    query.timeout = TIMEOUT_TIMER.newTimeout(query, this.queryTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    this.register(query);
+    // set the unique id of the packet and send
+    packet.uniqueId(queryUniqueId);
+    this.networkChannel.sendPacketSync(packet);
+    // return the created handler
+    return query.task;
+  }
+
+  /**
+   * Get the index of the slot in which a query with the given unique id is stored, or -1 if the query can only be
+   * stored in the overflow map as the unique id was not generated by a counter.
+   *
+   * @param uniqueId the unique id of the query.
+   * @return the index of the slot associated with the given unique id, -1 if there is no associated slot.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  protected int slotIndex(@NonNull UUID uniqueId) {
+    if (uniqueId.getMostSignificantBits() != 0) {
+      return -1;
+    }
+    // ids of one side of the connection are either all even or all odd, ignore the last bit
+    return (int) (uniqueId.getLeastSignificantBits() >>> 1) & (this.slots.length() - 1);
+  }
+
+  /**
+   * Registers the given query, either into its slot or into the overflow map if the slot is already taken.
+   *
+   * @param query the query to register.
+   * @throws NullPointerException if the given query is null.
+   */
+  protected void register(@NonNull PendingQuery query) {
+    var index = this.slotIndex(query.uniqueId);
+    if (index == -1 || !this.slots.compareAndSet(index, null, query)) {
+      this.overflow.put(query.uniqueId, query);
+    }
+  }
+
+  /**
+   * Finds the query with the given unique id without removing it.
+   *
+   * @param uniqueId the unique id of the query to find.
+   * @return the query with the given unique id, null if no such query is waiting.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  protected @Nullable PendingQuery find(@NonNull UUID uniqueId) {
+    var index = this.slotIndex(uniqueId);
+    if (index != -1) {
+      var query = this.slots.get(index);
+      if (query != null && query.uniqueId.equals(uniqueId)) {
+        return query;
+      }
+    }
+    return this.overflow.get(uniqueId);
+  }
+
+  /**
+   * Removes the query with the given unique id. A query never moves between its slot and the overflow map, therefore
+   * a query is either removed from its slot or from the overflow map.
+   *
+   * @param uniqueId the unique id of the query to remove.
+   * @return the removed query, null if no query with the given unique id was waiting.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  protected @Nullable PendingQuery remove(@NonNull UUID uniqueId) {
+    var index = this.slotIndex(uniqueId);
+    if (index != -1) {
+      var query = this.slots.get(index);
+      if (query != null && query.uniqueId.equals(uniqueId)) {
+        // only the caller which is able to clear the slot owns the query
+        return this.slots.compareAndSet(index, query, null) ? query : null;
+      }
+    }
+    return this.overflow.remove(uniqueId);
+  }
+
+  /**
+   * A query which is waiting for a response, completing its task with a timeout exception when the timeout expires.
+   *
+   * @since 4.0
+   */
+  protected final class PendingQuery implements TimerTask {
+
+    private final UUID uniqueId;
+    private final Task<Packet> task = new Task<>();
+
+    private volatile Timeout timeout;
+
+    /**
+     * Constructs a new pending query.
+     *
+     * @param uniqueId the unique id of the query.
+     * @throws NullPointerException if the given unique id is null.
+     */
+    private PendingQuery(@NonNull UUID uniqueId) {
+      this.uniqueId = uniqueId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run(@NonNull Timeout timeout) {
+      // only complete the task if this query is still waiting and was not removed by a response
+      var query = TimerWheelQueryPacketManager.this.remove(this.uniqueId);
+      if (query == this) {
+        this.task.completeExceptionally(new TimeoutException());
+      }
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.rpc;
+
+import eu.cloudnetservice.cloudnet.common.concurrent.Task;
+import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.exception.RPCException;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.exception.RPCExecutionException;
+import java.util.List;
+import lombok.NonNull;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * A batch of independent rpc calls which are sent to the remote component in one request. The remote component executes
+ * all calls, either one after another in the order they were added to the batch or in parallel, and responds with the
+ * results of all calls at once. Unlike a rpc chain, the calls in a batch don't depend on each other and a failure of
+ * one call doesn't prevent the execution of the other calls.
+ * <p>
+ * A batch always waits for the results of the calls in it, even if the result expectation of a call is disabled.
+ *
+ * @since 4.0
+ */
+public interface RPCBatch {
+
+  /**
+   * Adds the given rpc to this batch. The result of the call is available at the index the rpc was added at.
+   *
+   * @param rpc the rpc to add to this batch.
+   * @return the same batch as used to call the method, for chaining.
+   * @throws NullPointerException if the given rpc is null.
+   */
+  @NonNull RPCBatch add(@NonNull RPC rpc);
+
+  /**
+   * Sets if the calls of this batch are allowed to be executed in parallel on the remote component. Calls are executed
+   * in the order they were added to this batch by default.
+   *
+   * @param parallel if the calls of this batch are allowed to be executed in parallel.
+   * @return the same batch as used to call the method, for chaining.
+   */
+  @NonNull RPCBatch parallel(boolean parallel);
+
+  /**
+   * Get if the calls of this batch are allowed to be executed in parallel on the remote component.
+   *
+   * @return true if the calls of this batch are executed in parallel, false otherwise.
+   */
+  boolean parallel();
+
+  /**
+   * Get all calls of this batch in the order they were added to the batch.
+   *
+   * @return all calls of this batch.
+   */
+  @NonNull
+  @UnmodifiableView List<RPC> calls();
+
+  /**
+   * Fires this batch into the first channel of the network component associated with the first call of this batch and
+   * waits for the results to become available, or times out after 30 seconds. This method will suspend the calling
+   * thread.
+   *
+   * @return the results of the calls in this batch.
+   * @throws NullPointerException if the associated network component has no channels available.
+   * @throws RPCException         if any exception occurs during the processing of the batch.
+   */
+  @Blocking
+  @NonNull Result fireSync();
+
+  /**
+   * Fires this batch into the first channel of the network component associated with the first call of this batch and
+   * returns a future which will be completed with the results of the calls when they are available or completed with a
+   * timeout exception when the query packet future times out.
+   *
+   * @return a task completed with the results of the calls in this batch.
+   * @throws NullPointerException if the associated network component has no channels available.
+   */
+  @NonNull Task<Result> fire();
+
+  /**
+   * Fires this batch into the given network channel and waits for the results to become available, or times out after
+   * 30 seconds. This method will suspend the calling thread.
+   *
+   * @param channel the network channel to which the batch should be sent.
+   * @return the results of the calls in this batch.
+   * @throws NullPointerException if the given network channel is null.
+   * @throws RPCException         if any exception occurs during the processing of the batch.
+   */
+  @Blocking
+  @NonNull Result fireSync(@NonNull NetworkChannel channel);
+
+  /**
+   * Fires this batch into the given network channel and returns a future which will be completed with the results of
+   * the calls when they are available or completed with a timeout exception when the query packet future times out.
+   *
+   * @param channel the network channel to which the batch should be sent.
+   * @return a task completed with the results of the calls in this batch.
+   * @throws NullPointerException if the given network channel is null.
+   */
+  @NonNull Task<Result> fire(@NonNull NetworkChannel channel);
+
+  /**
+   * The results of all calls in a rpc batch. The results are available at the index the associated call was added to
+   * the batch.
+   *
+   * @since 4.0
+   */
+  interface Result {
+
+    /**
+     * Get the amount of call results in this batch result.
+     *
+     * @return the amount of call results.
+     */
+    int size();
+
+    /**
+     * Get if the call at the given index was executed successfully.
+     *
+     * @param index the index of the call.
+     * @return true if the call was executed successfully, false otherwise.
+     * @throws IndexOutOfBoundsException if the given index is out of bounds.
+     */
+    boolean successful(int index);
+
+    /**
+     * Get the exception which was thrown when executing the call at the given index. An exception thrown by the remote
+     * component is represented as a {@link RPCExecutionException}, other exceptions were thrown while reading the
+     * result of the call.
+     *
+     * @param index the index of the call.
+     * @return the exception thrown when executing the call, null if the call was executed successfully.
+     * @throws IndexOutOfBoundsException if the given index is out of bounds.
+     */
+    @Nullable RuntimeException exception(int index);
+
+    /**
+     * Get the result of the call at the given index.
+     *
+     * @param index the index of the call.
+     * @param <T>   the expected return type.
+     * @return the result of the call, might be null if the remote method returned null.
+     * @throws IndexOutOfBoundsException if the given index is out of bounds.
+     * @throws RPCExecutionException     if the remote component threw an exception when executing the call.
+     * @throws RuntimeException          if any other exception occurred while reading the result of the call.
+     */
+    @UnknownNullability <T> T result(int index);
+  }
+}
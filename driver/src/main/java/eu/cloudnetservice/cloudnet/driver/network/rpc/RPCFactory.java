@@ -72,6 +72,14 @@ public interface RPCFactory {
     @NonNull ObjectMapper objectMapper,
     @NonNull DataBufFactory dataBufFactory);
 
+  /**
+   * Creates a new, empty rpc batch which allocates the request buffer using the default data buf factory of this
+   * factory.
+   *
+   * @return a new, empty rpc batch.
+   */
+  @NonNull RPCBatch newBatch();
+
   /**
    * Generates an api implementation for the given base class, invoking all of its method using rpc. This method only
    * overrides methods which are abstract in the given class tree. In other words, if you're passing an implementation
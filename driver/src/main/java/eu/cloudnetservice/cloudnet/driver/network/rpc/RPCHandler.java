@@ -58,6 +58,26 @@ public interface RPCHandler extends RPCProvider {
    */
   @NonNull HandlingResult handle(@NonNull RPCInvocationContext context);
 
+  /**
+   * Handles the given rpc context using the given, already resolved, information about the target method. This method
+   * behaves exactly like {@link #handle(RPCInvocationContext)} but skips the lookup of the target method. The given
+   * information must be obtained from a previous handling result of this handler for a context without a working
+   * instance, as the method invoker of the information is bound to the instance of this handler.
+   * <p>
+   * The default implementation ignores the given information and looks up the target method again.
+   *
+   * @param context     the context of the handler invocation.
+   * @param information the resolved information of the method to invoke.
+   * @return the result of the handler execution.
+   * @throws NullPointerException if the given context or method information is null.
+   */
+  default @NonNull HandlingResult handle(
+    @NonNull RPCInvocationContext context,
+    @NonNull MethodInformation information
+  ) {
+    return this.handle(context);
+  }
+
   /**
    * Represents the result of a method invocation with rpc.
    *
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.rpc;
+
+import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.MethodInformation;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A per-connection table of interned rpc method identifiers. Instead of writing the full class and method name into
+ * each rpc request, a sender assigns a numeric id to each target method and defines it once by sending the id together
+ * with the names. As soon as the other side answered a defining request, the id is known to be registered and the
+ * sender only writes the id for further requests to the method. Requests which cannot be acknowledged (for example
+ * because they expect no result) fall back to the full names.
+ * <p>
+ * A table is split into two parts: the outbound ids assigned by the local side, and the inbound ids defined by the
+ * remote side of the connection.
+ *
+ * @since 4.0
+ */
+@Internal
+public final class RPCIdentifierTable {
+
+  /**
+   * A table with interning disabled which is shared by all channels that do not provide a table of their own.
+   */
+  public static final RPCIdentifierTable DISABLED = new RPCIdentifierTable(false);
+
+  // the maximum id a remote is allowed to define, protects from memory exhaustion by the remote
+  // the local side stops assigning ids at the same limit as the remote would reject them
+  private static final int MAX_IDENTIFIER_ID = 0xFFFF;
+
+  private final boolean enabled;
+
+  private final AtomicInteger outboundIdCounter = new AtomicInteger();
+  private final Map<MethodKey, OutboundIdentifier> outboundIdentifiers = new ConcurrentHashMap<>();
+
+  private final Object inboundLock = new Object();
+  private volatile InboundIdentifier[] inboundIdentifiers = new InboundIdentifier[32];
+
+  /**
+   * Constructs a new identifier table.
+   *
+   * @param enabled if interning of method identifiers is enabled for the connection.
+   */
+  public RPCIdentifierTable(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Get the outbound identifier of the given method, assigning a new one if the method had no id assigned yet.
+   *
+   * @param className     the name of the class in which the target method is located.
+   * @param methodName    the name of the target method.
+   * @param argumentCount the amount of arguments the target method takes.
+   * @return the outbound identifier of the method, null if interning is disabled for the connection or all ids were
+   * assigned already.
+   * @throws NullPointerException if the given class or method name is null.
+   */
+  public @Nullable OutboundIdentifier outboundIdentifier(
+    @NonNull String className,
+    @NonNull String methodName,
+    int argumentCount
+  ) {
+    if (!this.enabled) {
+      return null;
+    }
+
+    var key = new MethodKey(className, methodName, argumentCount);
+    var identifier = this.outboundIdentifiers.get(key);
+    if (identifier != null) {
+      return identifier;
+    }
+
+    // the counter stops one above the maximum id, methods without an id are sent using their names
+    return this.outboundIdentifiers.computeIfAbsent(key, $ -> {
+      var id = this.outboundIdCounter.getAndUpdate(current -> Math.min(current + 1, MAX_IDENTIFIER_ID + 1));
+      return id > MAX_IDENTIFIER_ID ? null : new OutboundIdentifier(id);
+    });
+  }
+
+  /**
+   * Registers an identifier which was defined by the remote side of the connection. Redefining an id with the same
+   * method information has no effect. A table with interning disabled does not register the identifier.
+   *
+   * @param id            the id assigned to the method by the remote.
+   * @param className     the name of the class in which the target method is located.
+   * @param methodName    the name of the target method.
+   * @param argumentCount the amount of arguments the target method takes.
+   * @return the registered inbound identifier.
+   * @throws NullPointerException     if the given class or method name is null.
+   * @throws IllegalArgumentException if the given id is out of bounds.
+   */
+  public @NonNull InboundIdentifier defineInbound(
+    int id,
+    @NonNull String className,
+    @NonNull String methodName,
+    int argumentCount
+  ) {
+    if (id < 0 || id > MAX_IDENTIFIER_ID) {
+      throw new IllegalArgumentException("Inbound rpc identifier " + id + " is out of bounds");
+    }
+
+    // a disabled table might be shared by multiple channels, the identifier is only valid for the defining request
+    if (!this.enabled) {
+      return new InboundIdentifier(className, methodName, argumentCount);
+    }
+
+    synchronized (this.inboundLock) {
+      var identifiers = this.inboundIdentifiers;
+      // check if the id is already registered for the same method
+      var current = id < identifiers.length ? identifiers[id] : null;
+      if (current != null
+        && current.argumentCount == argumentCount
+        && current.className.equals(className)
+        && current.methodName.equals(methodName)) {
+        return current;
+      }
+
+      // grow the table if needed, the array is never modified after publishing it
+      var newIdentifiers = Arrays.copyOf(identifiers, Math.max(identifiers.length, Integer.highestOneBit(id) << 1));
+      newIdentifiers[id] = new InboundIdentifier(className, methodName, argumentCount);
+
+      this.inboundIdentifiers = newIdentifiers;
+      return newIdentifiers[id];
+    }
+  }
+
+  /**
+   * Get the inbound identifier which was defined by the remote side of the connection.
+   *
+   * @param id the id of the identifier to get.
+   * @return the inbound identifier with the given id, null if no identifier with the id was defined.
+   */
+  public @Nullable InboundIdentifier inboundIdentifier(int id) {
+    var identifiers = this.inboundIdentifiers;
+    return id >= 0 && id < identifiers.length ? identifiers[id] : null;
+  }
+
+  /**
+   * The key of a method in the outbound identifier table.
+   *
+   * @param className     the name of the class in which the target method is located.
+   * @param methodName    the name of the target method.
+   * @param argumentCount the amount of arguments the target method takes.
+   * @since 4.0
+   */
+  private record MethodKey(@NonNull String className, @NonNull String methodName, int argumentCount) {
+
+  }
+
+  /**
+   * An identifier assigned by the local side of a connection to a method.
+   *
+   * @since 4.0
+   */
+  public static final class OutboundIdentifier {
+
+    private final int id;
+    private volatile boolean acknowledged;
+
+    /**
+     * Constructs a new outbound identifier.
+     *
+     * @param id the id assigned to the method.
+     */
+    private OutboundIdentifier(int id) {
+      this.id = id;
+    }
+
+    /**
+     * Get the numeric id assigned to the method.
+     *
+     * @return the id assigned to the method.
+     */
+    public int id() {
+      return this.id;
+    }
+
+    /**
+     * Get if the remote side acknowledged the definition of this identifier and only the id can be sent.
+     *
+     * @return true if the remote side acknowledged this identifier, false otherwise.
+     */
+    public boolean acknowledged() {
+      return this.acknowledged;
+    }
+
+    /**
+     * Marks this identifier as acknowledged by the remote side of the connection.
+     */
+    public void acknowledge() {
+      this.acknowledged = true;
+    }
+  }
+
+  /**
+   * An identifier defined by the remote side of the connection, caching the resolved target method of the handler to
+   * which the calls are posted.
+   *
+   * @since 4.0
+   */
+  public static final class InboundIdentifier {
+
+    private final String className;
+    private final String methodName;
+    private final int argumentCount;
+
+    private volatile ResolvedMethod resolvedMethod;
+
+    /**
+     * Constructs a new inbound identifier.
+     *
+     * @param className     the name of the class in which the target method is located.
+     * @param methodName    the name of the target method.
+     * @param argumentCount the amount of arguments the target method takes.
+     * @throws NullPointerException if the given class or method name is null.
+     */
+    private InboundIdentifier(@NonNull String className, @NonNull String methodName, int argumentCount) {
+      this.className = className;
+      this.methodName = methodName;
+      this.argumentCount = argumentCount;
+    }
+
+    /**
+     * Get the name of the class in which the target method is located.
+     *
+     * @return the name of the class in which the target method is located.
+     */
+    public @NonNull String className() {
+      return this.className;
+    }
+
+    /**
+     * Get the name of the target method.
+     *
+     * @return the name of the target method.
+     */
+    public @NonNull String methodName() {
+      return this.methodName;
+    }
+
+    /**
+     * Get the amount of arguments the target method takes.
+     *
+     * @return the amount of arguments the target method takes.
+     */
+    public int argumentCount() {
+      return this.argumentCount;
+    }
+
+    /**
+     * Get the information of the target method cached for the given handler.
+     *
+     * @param handler the handler which will handle the invocation.
+     * @return the cached information of the target method, null if no information is cached for the handler.
+     * @throws NullPointerException if the given handler is null.
+     */
+    public @Nullable MethodInformation methodInformation(@NonNull RPCHandler handler) {
+      var resolved = this.resolvedMethod;
+      return resolved != null && resolved.handler() == handler ? resolved.information() : null;
+    }
+
+    /**
+     * Caches the given information of the target method resolved by the given handler.
+     *
+     * @param handler     the handler which resolved the target method.
+     * @param information the information of the target method.
+     * @throws NullPointerException if the given handler or information is null.
+     */
+    public void cacheMethodInformation(@NonNull RPCHandler handler, @NonNull MethodInformation information) {
+      this.resolvedMethod = new ResolvedMethod(handler, information);
+    }
+
+    /**
+     * A target method resolved by a rpc handler.
+     *
+     * @param handler     the handler which resolved the method.
+     * @param information the information of the resolved method.
+     * @since 4.0
+     */
+    private record ResolvedMethod(@NonNull RPCHandler handler, @NonNull MethodInformation information) {
+
+    }
+  }
+}
@@ -18,11 +18,13 @@
 
 import eu.cloudnetservice.cloudnet.driver.network.NetworkComponent;
 import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCBatch;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCHandler;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.generation.ApiImplementationGenerator;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.handler.DefaultRPCHandler;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.rpc.DefaultRPCBatch;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.sender.DefaultRPCSender;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.generation.GenerationContext;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.object.ObjectMapper;
@@ -91,6 +93,14 @@ public DefaultRPCFactory(
     return new DefaultRPCSender(this, component, clazz, objectMapper, dataBufFactory);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch newBatch() {
+    return new DefaultRPCBatch(this.defaultDataBufFactory);
+  }
+
   /**
    * {@inheritDoc}
    */
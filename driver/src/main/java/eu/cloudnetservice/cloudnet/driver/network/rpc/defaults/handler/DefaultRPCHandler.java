@@ -42,7 +42,7 @@ public class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler
   protected final Object bindingInstance;
   protected final MethodInvokerGenerator generator;
 
-  protected final Map<String, MethodInformation> methodCache = new ConcurrentHashMap<>();
+  protected final Map<MethodCacheKey, MethodInformation> methodCache = new ConcurrentHashMap<>();
 
   /**
    * Constructs a new default rpc handler instance.
@@ -93,13 +93,24 @@ public void registerTo(@NonNull RPCHandlerRegistry registry) {
       .orElse(context.strictInstanceUsage() ? null : this.bindingInstance);
     // now we try to find the associated method information to the given method name or try to read it
     var information = this.methodCache.computeIfAbsent(
-      String.format("%d@%s", instance == null ? -1 : instance.hashCode(), context.methodName()),
+      new MethodCacheKey(instance == null ? -1 : instance.hashCode(), context.methodName()),
       $ -> MethodInformation.find(
         instance,
         this.bindingClass,
         context.methodName(),
         instance == null ? null : this.generator,
         context.argumentCount()));
+    // handle the invocation based on the found information
+    return this.handle(context, information);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HandlingResult handle(@NonNull RPCInvocationContext context, @NonNull MethodInformation information) {
+    // the instance to which the method information is bound
+    var instance = information.sourceInstance();
     // now as we have the method info, try to read all arguments needed
     var arguments = new Object[information.arguments().length];
     for (var i = 0; i < arguments.length; i++) {
@@ -134,4 +145,15 @@ public void registerTo(@NonNull RPCHandlerRegistry registry) {
     // return the result
     return result;
   }
+
+  /**
+   * The key of a method information in the method cache of a handler.
+   *
+   * @param instanceHash the hash code of the instance the method is called on, -1 if there is no instance.
+   * @param methodName   the name of the method.
+   * @since 4.0
+   */
+  protected record MethodCacheKey(int instanceHash, @NonNull String methodName) {
+
+  }
 }
@@ -199,13 +199,32 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
+    // get the interned identifier of the target method, only single requests which expect a result are able to use it
+    // as the response to the request is the acknowledgement that the identifier was registered by the receiver
+    var identifier = this.resultExpectation
+      ? component.rpcIdentifierTable().outboundIdentifier(this.className, this.methodName, this.arguments.length)
+      : null;
     // write the default needed information we need
-    var dataBuf = this.dataBufFactory.createEmpty()
-      .writeBoolean(false) // not a method chain
-      .writeString(this.className)
-      .writeString(this.methodName)
-      .writeBoolean(this.resultExpectation)
-      .writeInt(this.arguments.length);
+    var dataBuf = this.dataBufFactory.createEmpty();
+    if (identifier != null && identifier.acknowledged()) {
+      // the receiver knows the identifier, no need to send the names
+      dataBuf
+        .writeByte(RPCRequestPacket.TYPE_SINGLE_IDENTIFIED)
+        .writeInt(identifier.id())
+        .writeBoolean(true); // result expected
+    } else {
+      // write the full information, defining the identifier if possible
+      if (identifier != null) {
+        dataBuf.writeByte(RPCRequestPacket.TYPE_SINGLE_DEFINE_IDENTIFIER).writeInt(identifier.id());
+      } else {
+        dataBuf.writeByte(RPCRequestPacket.TYPE_SINGLE);
+      }
+      dataBuf
+        .writeString(this.className)
+        .writeString(this.methodName)
+        .writeBoolean(this.resultExpectation)
+        .writeInt(this.arguments.length);
+    }
     // write the arguments provided
     for (var argument : this.arguments) {
       this.objectMapper.writeObject(dataBuf, argument);
@@ -215,6 +234,13 @@ public void fireAndForget(@NonNull NetworkChannel component) {
       // now send the query and read the response
       return Task.wrapFuture(component
         .sendQueryAsync(new RPCRequestPacket(dataBuf))
+        .thenApply(response -> {
+          // the receiver responded, therefore it registered the identifier
+          if (identifier != null && response.readable()) {
+            identifier.acknowledge();
+          }
+          return response;
+        })
         .thenApply(new RPCResultMapper<>(this.expectedResultType, this.objectMapper)));
     } else {
       // just send the method invocation request
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.rpc;
+
+import eu.cloudnetservice.cloudnet.common.concurrent.Task;
+import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPC;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCBatch;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.exception.RPCException;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.packet.RPCRequestPacket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import lombok.NonNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * The default implementation of a rpc batch.
+ *
+ * @since 4.0
+ */
+public class DefaultRPCBatch implements RPCBatch {
+
+  protected final DataBufFactory dataBufFactory;
+  protected final List<RPC> calls = new ArrayList<>();
+
+  protected boolean parallel;
+
+  /**
+   * Constructs a new, empty rpc batch.
+   *
+   * @param dataBufFactory the data buf factory to use for the allocation of the request buffer.
+   * @throws NullPointerException if the given data buf factory is null.
+   */
+  public DefaultRPCBatch(@NonNull DataBufFactory dataBufFactory) {
+    this.dataBufFactory = dataBufFactory;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch add(@NonNull RPC rpc) {
+    this.calls.add(rpc);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch parallel(boolean parallel) {
+    this.parallel = parallel;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean parallel() {
+    return this.parallel;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull @UnmodifiableView List<RPC> calls() {
+    return Collections.unmodifiableList(this.calls);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Result fireSync() {
+    return this.fireSync(this.firstChannel());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Result> fire() {
+    return this.fire(this.firstChannel());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Result fireSync(@NonNull NetworkChannel channel) {
+    try {
+      return this.fire(channel).get();
+    } catch (InterruptedException | ExecutionException exception) {
+      throw new RPCException(this, exception);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Result> fire(@NonNull NetworkChannel channel) {
+    // no need to send an empty batch
+    var calls = List.copyOf(this.calls);
+    if (calls.isEmpty()) {
+      return Task.completedTask(new DefaultRPCBatchResult(new Object[0], new RuntimeException[0]));
+    }
+
+    // information about the batch
+    var dataBuf = this.dataBufFactory.createEmpty()
+      .writeByte(RPCRequestPacket.TYPE_BATCH)
+      .writeBoolean(this.parallel)
+      .writeInt(calls.size());
+    // write each call into a separate buffer, allowing the receiver to execute them in parallel
+    for (var rpc : calls) {
+      var callBuf = rpc.dataBufFactory().createEmpty()
+        .writeString(rpc.className())
+        .writeString(rpc.methodName())
+        .writeBoolean(true) // a batch always expects a result
+        .writeInt(rpc.arguments().length);
+      for (var argument : rpc.arguments()) {
+        rpc.objectMapper().writeObject(callBuf, argument);
+      }
+      // write the call and release the intermediate buffer
+      dataBuf.writeDataBuf(callBuf);
+      callBuf.release();
+    }
+    // send the batch and read the results
+    return Task.wrapFuture(channel
+      .sendQueryAsync(new RPCRequestPacket(dataBuf))
+      .thenApply(new RPCBatchResultMapper(calls)));
+  }
+
+  /**
+   * Get the first channel of the network component associated with the first call in this batch.
+   *
+   * @return the first channel of the network component associated with the first call.
+   * @throws IllegalStateException if this batch has no calls.
+   * @throws NullPointerException  if the associated network component has no channels available.
+   */
+  protected @NonNull NetworkChannel firstChannel() {
+    if (this.calls.isEmpty()) {
+      throw new IllegalStateException("Unable to select a channel for an empty batch");
+    }
+    return Objects.requireNonNull(this.calls.get(0).sender().associatedComponent().firstChannel());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.rpc;
+
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCBatch;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+
+/**
+ * The default implementation of the results of a rpc batch.
+ *
+ * @param results    the results of the calls, null for calls which failed.
+ * @param exceptions the exceptions of the calls, null for calls which were successful.
+ * @since 4.0
+ */
+record DefaultRPCBatchResult(
+  @NonNull Object[] results,
+  @NonNull RuntimeException[] exceptions
+) implements RPCBatch.Result {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return this.results.length;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean successful(int index) {
+    return this.exceptions[index] == null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable RuntimeException exception(int index) {
+    return this.exceptions[index];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> @UnknownNullability T result(int index) {
+    var exception = this.exceptions[index];
+    if (exception != null) {
+      throw exception;
+    }
+    return (T) this.results[index];
+  }
+}
@@ -164,7 +164,7 @@ public void fireAndForget(@NonNull NetworkChannel component) {
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
     // information about the root invocation
     var dataBuf = this.dataBufFactory.createEmpty()
-      .writeBoolean(true) // method chain
+      .writeByte(RPCRequestPacket.TYPE_CHAIN)
       .writeInt(this.rpcChain.size() + 1); // chain length (+1 because the root chain is not included)
     // write the root rpc first
     this.writeRPCInformation(dataBuf, this.rootRPC, false); // the root rpc can never the last
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.rpc;
+
+import com.google.common.util.concurrent.UncheckedTimeoutException;
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPC;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCBatch;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
+import java.util.List;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+/**
+ * A mapper reading the results of all calls in a rpc batch from the response of the remote component.
+ *
+ * @param calls the calls of the batch, in the order they were sent.
+ * @since 4.0
+ */
+record RPCBatchResultMapper(@NonNull List<RPC> calls) implements Function<Packet, RPCBatch.Result> {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch.Result apply(@UnknownNullability Packet response) {
+    // check if the query timed out before trying to read from the buffer
+    if (!response.readable()) {
+      throw new UncheckedTimeoutException("Query future was completed before rpc batch was able to respond");
+    }
+
+    var content = response.content();
+    var results = new Object[this.calls.size()];
+    var exceptions = new RuntimeException[this.calls.size()];
+    for (var i = 0; i < results.length; i++) {
+      // the result is null if the remote has no handler for the target class
+      var callResult = content.readNullable(DataBuf::readDataBuf);
+      if (callResult != null) {
+        try {
+          var rpc = this.calls.get(i);
+          if (callResult.readBoolean()) {
+            // the execution did not throw an exception
+            results[i] = rpc.objectMapper().readObject(callResult, rpc.expectedResultType());
+          } else {
+            // read the exception which was thrown during the execution
+            ExceptionalResultUtil.rethrowException(callResult);
+          }
+        } catch (RuntimeException exception) {
+          exceptions[i] = exception;
+        } finally {
+          callResult.release();
+        }
+      }
+    }
+
+    return new DefaultRPCBatchResult(results, exceptions);
+  }
+}
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.cloudnet.driver.network.rpc.listener;
 
+import eu.cloudnetservice.cloudnet.common.concurrent.Task;
 import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
 import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBufFactory;
@@ -24,10 +25,13 @@
 import eu.cloudnetservice.cloudnet.driver.network.protocol.PacketListener;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCHandler.HandlingResult;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCHandlerRegistry;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCIdentifierTable.InboundIdentifier;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCInvocationContext;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.exception.CannotDecideException;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.object.ObjectMapper;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.packet.RPCRequestPacket;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -60,8 +64,13 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
     DataBuf result = null;
     // the input information we get
     var buf = packet.content();
-    // check if the invocation is chained
-    if (buf.readBoolean()) {
+    // check the type of the invocation
+    var requestType = buf.readByte();
+    if (requestType == RPCRequestPacket.TYPE_BATCH) {
+      // batches are responding on their own as the calls might get executed asynchronously
+      this.handleBatch(channel, packet, buf);
+      return;
+    } else if (requestType == RPCRequestPacket.TYPE_CHAIN) {
       // get the chain size
       var chainSize = buf.readInt();
       // invoke the method on the current result
@@ -98,6 +107,39 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
           buf.readString(),
           this.buildContext(channel, buf, lastResult.invocationResult(), true));
       }
+    } else if (requestType == RPCRequestPacket.TYPE_SINGLE_DEFINE_IDENTIFIER) {
+      // register the identifier before handling the request
+      var identifierId = buf.readInt();
+      var className = buf.readString();
+      var context = this.buildContext(channel, buf, null, false);
+      var identifier = channel.rpcIdentifierTable().defineInbound(
+        identifierId,
+        className,
+        context.methodName(),
+        context.argumentCount());
+      // invoke the method
+      result = this.handle(identifier, context);
+    } else if (requestType == RPCRequestPacket.TYPE_SINGLE_IDENTIFIED) {
+      // get the identifier defined by a previous request
+      var identifierId = buf.readInt();
+      var identifier = channel.rpcIdentifierTable().inboundIdentifier(identifierId);
+      if (identifier == null) {
+        // should never happen as the sender only uses acknowledged identifiers
+        result = ExceptionalResultUtil.serializeThrowable(
+          DataBufFactory.defaultFactory().createEmpty().writeBoolean(false),
+          new IllegalStateException("Received rpc request with unknown method identifier " + identifierId));
+      } else {
+        // invoke the method
+        result = this.handle(identifier, RPCInvocationContext.builder()
+          .channel(channel)
+          .methodName(identifier.methodName())
+          .expectsMethodResult(buf.readBoolean())
+          .argumentCount(identifier.argumentCount())
+          .argumentInformation(buf)
+          .normalizePrimitives(Boolean.TRUE)
+          .strictInstanceUsage(false)
+          .build());
+      }
     } else {
       // just invoke the method
       result = this.handle(buf.readString(), this.buildContext(channel, buf, null, false));
@@ -108,6 +150,87 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
     }
   }
 
+  /**
+   * Handles a batch of independent rpc requests. Each call in the batch is handled like a single rpc request, but the
+   * results of all calls are sent back in one response packet once all calls were handled. Depending on the batch
+   * settings, the calls are either executed one after another or in parallel.
+   *
+   * @param channel the network channel on which the batch was received.
+   * @param packet  the packet containing the batch.
+   * @param content the remaining content of the packet, containing the batch settings and calls.
+   * @throws NullPointerException if either the given channel, packet or content is null.
+   */
+  protected void handleBatch(@NonNull NetworkChannel channel, @NonNull Packet packet, @NonNull DataBuf content) {
+    var parallel = content.readBoolean();
+    var calls = new DataBuf[content.readInt()];
+    for (var i = 0; i < calls.length; i++) {
+      calls[i] = content.readDataBuf();
+    }
+
+    var results = new DataBuf[calls.length];
+    if (parallel) {
+      // execute all calls in parallel and respond once all calls are done
+      var tasks = new CompletableFuture<?>[calls.length];
+      for (var i = 0; i < calls.length; i++) {
+        var index = i;
+        tasks[i] = Task.supply(() -> results[index] = this.handleBatchCall(channel, calls[index]));
+      }
+      CompletableFuture.allOf(tasks).whenComplete(($, exception) -> this.sendBatchResults(channel, packet, results));
+    } else {
+      // execute all calls in order
+      for (var i = 0; i < calls.length; i++) {
+        results[i] = this.handleBatchCall(channel, calls[i]);
+      }
+      this.sendBatchResults(channel, packet, results);
+    }
+  }
+
+  /**
+   * Handles a single call of a rpc batch, catching all exceptions thrown during the handling and serializing them as
+   * the result of the call.
+   *
+   * @param channel the network channel on which the batch was received.
+   * @param call    the buffer containing the information about the call.
+   * @return the serialized result of the call, or null if no handler for the target class is registered.
+   * @throws NullPointerException if either the given channel or call buffer is null.
+   */
+  protected @Nullable DataBuf handleBatchCall(@NonNull NetworkChannel channel, @NonNull DataBuf call) {
+    try {
+      return this.handle(call.readString(), this.buildContext(channel, call, null, false));
+    } catch (Exception exception) {
+      return ExceptionalResultUtil.serializeThrowable(
+        DataBufFactory.defaultFactory().createEmpty().writeBoolean(false),
+        exception);
+    } finally {
+      call.release();
+    }
+  }
+
+  /**
+   * Sends the results of all calls in a batch back to the sender of the batch, if the sender expects a response.
+   *
+   * @param channel the network channel on which the batch was received.
+   * @param packet  the packet containing the batch.
+   * @param results the results of the calls, in the order the calls were received.
+   * @throws NullPointerException if either the given channel, packet or results are null.
+   */
+  protected void sendBatchResults(@NonNull NetworkChannel channel, @NonNull Packet packet, DataBuf @NonNull [] results) {
+    var response = packet.uniqueId() == null ? null : DataBufFactory.defaultFactory().createEmpty();
+    for (var result : results) {
+      if (response != null) {
+        response.writeNullable(result, DataBuf.Mutable::writeDataBuf);
+      }
+      // release the result, it was copied into the response
+      if (result != null) {
+        result.release();
+      }
+    }
+
+    if (response != null) {
+      channel.queryPacketManager().sendQueryPacket(new BasePacket(-1, response), packet.uniqueId());
+    }
+  }
+
   /**
    * Posts the next rpc instruction in the given context into the handler for the given class which potentially contains
    * the target method and serializes the result into a data buffer. Null is returned when no handler for the given
@@ -133,6 +256,39 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
     return null;
   }
 
+  /**
+   * Posts the rpc instruction in the given context into the handler for the class of the given identifier and
+   * serializes the result into a data buffer. The target method resolved by the handler is cached in the identifier,
+   * further invocations using the same identifier skip the method lookup. Null is returned when no handler for the
+   * class of the identifier is present.
+   *
+   * @param identifier the identifier of the method to call.
+   * @param context    the context of the method invocation passed to the handler for the method invocation.
+   * @return the serialized result of the method invocation, or null if no handler for the class is registered.
+   * @throws NullPointerException  if either the given identifier or invocation context is null.
+   * @throws CannotDecideException if none or multiple methods are matching the method to call in the given class.
+   */
+  protected @Nullable DataBuf handle(@NonNull InboundIdentifier identifier, @NonNull RPCInvocationContext context) {
+    // get the handler associated with the class of the rpc
+    var handler = this.rpcHandlerRegistry.handler(identifier.className());
+    if (handler != null) {
+      // check if the target method was already resolved by the handler
+      HandlingResult handlingResult;
+      var information = identifier.methodInformation(handler);
+      if (information == null) {
+        // resolve the method and cache it for further invocations
+        handlingResult = handler.handle(context);
+        identifier.cacheMethodInformation(handler, handlingResult.targetMethodInformation());
+      } else {
+        handlingResult = handler.handle(context, information);
+      }
+      // serialize the result
+      return this.serializeResult(handlingResult, handler.dataBufFactory(), handler.objectMapper(), context);
+    }
+    // no handler for the class - no result
+    return null;
+  }
+
   /**
    * Serializes the given handling result into a newly allocated buffer using the given data buf factory. This method
    * returns null if the caller of this handler did not expect an invocation result.
@@ -29,6 +29,27 @@
  */
 public class RPCRequestPacket extends BasePacket {
 
+  /**
+   * A single rpc request, containing the full name of the target class and method.
+   */
+  public static final byte TYPE_SINGLE = 0;
+  /**
+   * A chain of rpc requests, each containing the full name of the target class and method.
+   */
+  public static final byte TYPE_CHAIN = 1;
+  /**
+   * A single rpc request, containing the full name of the target class and method and defining an identifier for them.
+   */
+  public static final byte TYPE_SINGLE_DEFINE_IDENTIFIER = 2;
+  /**
+   * A single rpc request, only containing the identifier of the target method defined by a previous request.
+   */
+  public static final byte TYPE_SINGLE_IDENTIFIED = 3;
+  /**
+   * A batch of independent rpc requests, each containing the full name of the target class and method.
+   */
+  public static final byte TYPE_BATCH = 4;
+
   /**
    * Constructs a new rpc request packet.
    *
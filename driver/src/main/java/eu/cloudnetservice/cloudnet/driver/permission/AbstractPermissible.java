@@ -42,6 +42,10 @@ public abstract class AbstractPermissible extends JsonDocPropertyHolder implemen
   protected Set<Permission> permissions;
   protected Map<String, Set<Permission>> groupPermissions;
 
+  // the permissible is not safe for concurrent modifications, a plain volatile counter is sufficient
+  @ToString.Exclude
+  protected transient volatile long modificationCount;
+
   /**
    * Constructs a new abstract permissible instance.
    *
@@ -80,6 +84,7 @@ public AbstractPermissible(
   private void addPermission(@NonNull Set<Permission> permissions, @NonNull Permission permission) {
     permissions.removeIf(existingPermission -> existingPermission.name().equalsIgnoreCase(permission.name()));
     permissions.add(permission);
+    this.modificationCount++;
   }
 
   /**
@@ -105,8 +110,9 @@ public void addPermission(@NonNull String group, @NonNull Permission permission)
   public boolean removePermission(@NonNull String permission) {
     var exist = this.permission(permission);
 
-    if (exist != null) {
-      return this.permissions.remove(exist);
+    if (exist != null && this.permissions.remove(exist)) {
+      this.modificationCount++;
+      return true;
     } else {
       return false;
     }
@@ -119,8 +125,11 @@ public boolean removePermission(@NonNull String permission) {
   public boolean removePermission(@NonNull String group, @NonNull String permission) {
     if (this.groupPermissions.containsKey(group)) {
       var removed = this.groupPermissions.get(group).removeIf(perm -> perm.name().equalsIgnoreCase(permission));
-      if (removed && this.groupPermissions.get(group).isEmpty()) {
-        this.groupPermissions.remove(group);
+      if (removed) {
+        this.modificationCount++;
+        if (this.groupPermissions.get(group).isEmpty()) {
+          this.groupPermissions.remove(group);
+        }
       }
 
       return removed;
@@ -129,6 +138,14 @@ public boolean removePermission(@NonNull String group, @NonNull String permissio
     return false;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long modificationCount() {
+    return this.modificationCount;
+  }
+
   /**
    * {@inheritDoc}
    */
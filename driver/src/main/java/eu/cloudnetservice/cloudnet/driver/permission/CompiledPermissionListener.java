@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.permission;
+
+import eu.cloudnetservice.cloudnet.driver.event.EventListener;
+import eu.cloudnetservice.cloudnet.driver.event.events.permission.PermissionAddGroupEvent;
+import eu.cloudnetservice.cloudnet.driver.event.events.permission.PermissionDeleteGroupEvent;
+import eu.cloudnetservice.cloudnet.driver.event.events.permission.PermissionDeleteUserEvent;
+import eu.cloudnetservice.cloudnet.driver.event.events.permission.PermissionSetGroupsEvent;
+import eu.cloudnetservice.cloudnet.driver.event.events.permission.PermissionUpdateGroupEvent;
+import eu.cloudnetservice.cloudnet.driver.event.events.permission.PermissionUpdateUserEvent;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+/**
+ * A listener invalidating the compiled permissions of a permission management when a user or group gets updated.
+ *
+ * @since 4.0
+ */
+@Internal
+public final class CompiledPermissionListener {
+
+  private final DefaultPermissionManagement permissionManagement;
+
+  /**
+   * Constructs a new compiled permission listener.
+   *
+   * @param permissionManagement the permission management to invalidate the compiled permissions of.
+   * @throws NullPointerException if the given permission management is null.
+   */
+  public CompiledPermissionListener(@NonNull DefaultPermissionManagement permissionManagement) {
+    this.permissionManagement = permissionManagement;
+  }
+
+  @EventListener
+  public void handle(@NonNull PermissionUpdateUserEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions(event.permissionUser());
+  }
+
+  @EventListener
+  public void handle(@NonNull PermissionDeleteUserEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions(event.permissionUser());
+  }
+
+  @EventListener
+  public void handle(@NonNull PermissionAddGroupEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions();
+  }
+
+  @EventListener
+  public void handle(@NonNull PermissionUpdateGroupEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions();
+  }
+
+  @EventListener
+  public void handle(@NonNull PermissionDeleteGroupEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions();
+  }
+
+  @EventListener
+  public void handle(@NonNull PermissionSetGroupsEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions();
+  }
+}
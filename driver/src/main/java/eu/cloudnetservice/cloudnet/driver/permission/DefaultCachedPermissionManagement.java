@@ -19,6 +19,8 @@
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,6 +61,8 @@ public abstract class DefaultCachedPermissionManagement extends DefaultPermissio
       }
     })
     .build();
+  // holds the inheritance closure of the groups, recomputed for the groups depending on a group when it changes
+  private final GroupInheritanceGraph groupInheritanceGraph = new GroupInheritanceGraph(this::group);
 
   /**
    * {@inheritDoc}
@@ -166,6 +170,67 @@ public void unlockFully(@NonNull PermissionGroup group) {
     this.permissionGroupLocks.remove(group.name());
   }
 
+  /**
+   * Get all groups inherited by the group with the given name, including the group itself as the first group. The
+   * groups are in the order they are travelled when collecting the permissions of the group. The result is cached
+   * until one of the inherited groups changes.
+   *
+   * @param group the name of the group to get the inherited groups of.
+   * @return all groups inherited by the given group, an empty list if the group is unknown.
+   * @throws NullPointerException if the given group name is null.
+   */
+  public @NonNull List<PermissionGroup> inheritedGroups(@NonNull String group) {
+    return this.groupInheritanceGraph.closure(group);
+  }
+
+  /**
+   * Invalidates the inherited groups of all groups inheriting the group with the given name. This method must be
+   * called after a group was added to, updated in or removed from the cache.
+   *
+   * @param group the name of the changed group.
+   * @throws NullPointerException if the given group name is null.
+   */
+  public void invalidateInheritedGroups(@NonNull String group) {
+    this.groupInheritanceGraph.invalidate(group);
+    this.invalidateCompiledPermissions();
+  }
+
+  /**
+   * Invalidates the inherited groups of all groups. This method must be called after the group cache was replaced.
+   */
+  public void invalidateInheritedGroups() {
+    this.groupInheritanceGraph.invalidateAll();
+    this.invalidateCompiledPermissions();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void collectAllGroupPermissionsInto(
+    @NonNull Collection<Permission> target,
+    @NonNull Collection<PermissionGroup> groups,
+    @Nullable String[] taskGroups,
+    @NonNull Collection<String> travelledGroups
+  ) {
+    for (var permissionGroup : groups) {
+      if (permissionGroup != null) {
+        var inheritedGroups = this.inheritedGroups(permissionGroup.name());
+        // the precomputed closure can only be used if the group is the one known to this management
+        if (inheritedGroups.isEmpty() || inheritedGroups.get(0) != permissionGroup) {
+          super.collectAllGroupPermissionsInto(target, List.of(permissionGroup), taskGroups, travelledGroups);
+          continue;
+        }
+
+        for (var inheritedGroup : inheritedGroups) {
+          if (travelledGroups.add(inheritedGroup.name())) {
+            this.collectPermissionsInto(target, inheritedGroup, taskGroups);
+          }
+        }
+      }
+    }
+  }
+
   /**
    * Handles the removal of the permission user in the cache. If the user still is locked and wasn't removed because he
    * is replaced the user is added back to the cache.
@@ -194,5 +259,6 @@ protected void handleGroupRemove(@NonNull String key, @NonNull PermissionGroup g
     if (cause.wasEvicted() && this.locked(group)) {
       this.permissionGroupCache.put(key, group);
     }
+    this.invalidateInheritedGroups(key);
   }
 }
@@ -16,13 +16,18 @@
 
 package eu.cloudnetservice.cloudnet.driver.permission;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import eu.cloudnetservice.cloudnet.driver.permission.PermissionGroup.Builder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import lombok.NonNull;
@@ -38,6 +43,12 @@
  */
 public abstract class DefaultPermissionManagement implements PermissionManagement {
 
+  // the compiled permissions of each permissible (compared by identity) mapped by the requested task groups, valid as
+  // long as the modification count of the permissible did not change
+  private final Cache<Permissible, CompiledPermissions> compiledPermissions = Caffeine.newBuilder()
+    .weakKeys()
+    .build();
+
   /**
    * Gets the child permission management. The default implementation does not allow a child permission management,
    * therefore it's always null.
@@ -87,8 +98,13 @@ public boolean testPermissionUser(@Nullable PermissionUser permissionUser) {
       return false;
     }
 
-    return this.testPermissible(permissionUser) || permissionUser.groups().removeIf(
+    var result = this.testPermissible(permissionUser) || permissionUser.groups().removeIf(
       groupInfo -> groupInfo.timeOutMillis() > 0 && groupInfo.timeOutMillis() < System.currentTimeMillis());
+    if (result) {
+      this.invalidateCompiledPermissions(permissionUser);
+    }
+
+    return result;
   }
 
   /**
@@ -108,6 +124,10 @@ public boolean testPermissible(@Nullable Permissible permissible) {
       result |= entry.getValue().removeIf(tester);
     }
 
+    if (result) {
+      this.invalidateCompiledPermissions(permissible);
+    }
+
     return result;
   }
 
@@ -144,8 +164,8 @@ public boolean testPermissible(@Nullable Permissible permissible) {
     @NonNull Permissible permissible,
     @NonNull Permission permission
   ) {
-    return PermissionCheckResult.fromPermission(
-      this.findHighestPermission(this.collectAllPermissions(permissible, null), permission));
+    return PermissionCheckResult.fromPermission(this.compiledPermissions(permissible, null)
+      .findHighestPermission(permission));
   }
 
   /**
@@ -167,8 +187,8 @@ public boolean testPermissible(@Nullable Permissible permissible) {
   public @NonNull PermissionCheckResult groupsPermissionResult(@NonNull Permissible permissible,
     @NonNull String[] groups,
     @NonNull Permission permission) {
-    return PermissionCheckResult
-      .fromPermission(this.findHighestPermission(this.collectAllPermissions(permissible, groups), permission));
+    return PermissionCheckResult.fromPermission(this.compiledPermissions(permissible, groups)
+      .findHighestPermission(permission));
   }
 
   /**
@@ -202,6 +222,54 @@ public Permission findHighestPermission(@NonNull Collection<Permission> permissi
     return lastMatch;
   }
 
+  /**
+   * Invalidates all compiled permissions of all permissibles. This method must be called whenever a group changes, as
+   * the permissions of a group are inherited by all of its members.
+   */
+  public void invalidateCompiledPermissions() {
+    this.compiledPermissions.invalidateAll();
+  }
+
+  /**
+   * Invalidates the compiled permissions of the given permissible. If the given permissible is a user, the compiled
+   * permissions of all user instances with the same unique id are invalidated. If the given permissible is a group, all
+   * compiled permissions are invalidated as the group might be inherited by any other permissible.
+   *
+   * @param permissible the permissible to invalidate the compiled permissions of.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  public void invalidateCompiledPermissions(@NonNull Permissible permissible) {
+    if (permissible instanceof PermissionUser user) {
+      this.compiledPermissions.asMap().keySet().removeIf(
+        key -> key instanceof PermissionUser other && other.uniqueId().equals(user.uniqueId()));
+    } else {
+      this.compiledPermissions.invalidateAll();
+    }
+  }
+
+  /**
+   * Get the compiled permissions of the given permissible including the group permissions of the given task groups,
+   * compiling them if needed.
+   *
+   * @param permissible the permissible to get the compiled permissions of.
+   * @param groups      the task groups to include the group permissions of, null to include none.
+   * @return the compiled permissions of the permissible.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  private @NonNull PermissionTrie compiledPermissions(@NonNull Permissible permissible, @Nullable String[] groups) {
+    var key = groups == null ? List.<String>of() : Arrays.asList(groups.clone());
+    // read the count before compiling, a modification made while compiling causes a compilation on the next check
+    var modificationCount = permissible.modificationCount();
+    var compiled = this.compiledPermissions.getIfPresent(permissible);
+    if (compiled == null || compiled.modificationCount() != modificationCount) {
+      compiled = new CompiledPermissions(modificationCount, new ConcurrentHashMap<>());
+      this.compiledPermissions.put(permissible, compiled);
+    }
+
+    return compiled.tries()
+      .computeIfAbsent(key, $ -> PermissionTrie.compile(this.collectAllPermissions(permissible, groups)));
+  }
+
   protected @NonNull Collection<Permission> collectAllPermissions(
     @NonNull Permissible permissible,
     @Nullable String[] groups
@@ -357,4 +425,15 @@ protected void collectPermissionsInto(
 
     return users;
   }
+
+  /**
+   * The compiled permissions of a permissible mapped by the requested task groups.
+   *
+   * @param modificationCount the modification count of the permissible when the permissions were compiled.
+   * @param tries             the compiled permissions mapped by the requested task groups.
+   * @since 4.0
+   */
+  private record CompiledPermissions(long modificationCount, @NonNull Map<List<String>, PermissionTrie> tries) {
+
+  }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.permission;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the inheritance closure of permission groups, which is all groups inherited by a group including the group
+ * itself. Closures are computed lazily and kept until a group travelled while computing them changes, in which case
+ * only the closures depending on the changed group are recomputed.
+ *
+ * @since 4.0
+ */
+final class GroupInheritanceGraph {
+
+  private final Function<String, PermissionGroup> groupResolver;
+  // the closure of each group, in the order the groups were travelled
+  private final Map<String, List<PermissionGroup>> closures = new ConcurrentHashMap<>();
+
+  // all group names (including names of unknown groups) travelled while computing the closure of a group
+  private final Map<String, Set<String>> travelledGroups = new HashMap<>();
+  // the groups of which the closure depends on a group name, the reverse of the travelled groups
+  private final Map<String, Set<String>> dependentGroups = new HashMap<>();
+
+  // increased on every invalidation, prevents that closures computed from outdated groups are stored
+  private long modificationCount;
+
+  /**
+   * Constructs a new group inheritance graph.
+   *
+   * @param groupResolver the function resolving a group by its name, returning null if the group is unknown.
+   * @throws NullPointerException if the given resolver is null.
+   */
+  GroupInheritanceGraph(@NonNull Function<String, @Nullable PermissionGroup> groupResolver) {
+    this.groupResolver = groupResolver;
+  }
+
+  /**
+   * Get the closure of the group with the given name, computing it if needed. The closure is empty if the group is
+   * unknown, otherwise the group itself is the first group in it.
+   *
+   * @param name the name of the group to get the closure of.
+   * @return the closure of the group with the given name.
+   * @throws NullPointerException if the given name is null.
+   */
+  @NonNull List<PermissionGroup> closure(@NonNull String name) {
+    var closure = this.closures.get(name);
+    if (closure != null) {
+      return closure;
+    }
+
+    long modificationCount;
+    synchronized (this) {
+      modificationCount = this.modificationCount;
+    }
+
+    // travel the groups outside the lock, the resolver might be expensive
+    var travelled = new LinkedHashSet<String>();
+    var groups = new ArrayList<PermissionGroup>();
+    this.travel(name, travelled, groups);
+    closure = Collections.unmodifiableList(groups);
+
+    synchronized (this) {
+      // only store the closure if no group changed while computing it
+      if (this.modificationCount == modificationCount && this.closures.putIfAbsent(name, closure) == null) {
+        this.travelledGroups.put(name, travelled);
+        for (var travelledGroup : travelled) {
+          this.dependentGroups.computeIfAbsent(travelledGroup, $ -> new HashSet<>()).add(name);
+        }
+      }
+    }
+
+    return closure;
+  }
+
+  /**
+   * Invalidates all closures which depend on the group with the given name. This method must be called whenever the
+   * group was added, updated or removed.
+   *
+   * @param name the name of the changed group.
+   * @throws NullPointerException if the given name is null.
+   */
+  synchronized void invalidate(@NonNull String name) {
+    this.modificationCount++;
+
+    var dependents = this.dependentGroups.remove(name);
+    if (dependents != null) {
+      for (var dependent : dependents) {
+        this.removeClosure(dependent);
+      }
+    }
+  }
+
+  /**
+   * Invalidates all closures.
+   */
+  synchronized void invalidateAll() {
+    this.modificationCount++;
+
+    this.closures.clear();
+    this.travelledGroups.clear();
+    this.dependentGroups.clear();
+  }
+
+  private void travel(@NonNull String name, @NonNull Set<String> travelled, @NonNull List<PermissionGroup> groups) {
+    if (travelled.add(name)) {
+      var group = this.groupResolver.apply(name);
+      if (group != null) {
+        groups.add(group);
+        for (var parent : group.groupNames()) {
+          this.travel(parent, travelled, groups);
+        }
+      }
+    }
+  }
+
+  private void removeClosure(@NonNull String name) {
+    this.closures.remove(name);
+
+    var travelled = this.travelledGroups.remove(name);
+    if (travelled != null) {
+      for (var travelledGroup : travelled) {
+        var dependents = this.dependentGroups.get(travelledGroup);
+        if (dependents != null && dependents.remove(name) && dependents.isEmpty()) {
+          this.dependentGroups.remove(travelledGroup);
+        }
+      }
+    }
+  }
+}
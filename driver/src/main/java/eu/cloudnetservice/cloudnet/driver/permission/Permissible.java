@@ -112,6 +112,17 @@ default boolean isPermissionSet(@NonNull String name) {
     return this.permissions().stream().anyMatch(permission -> permission.name().equalsIgnoreCase(name));
   }
 
+  /**
+   * Gets the amount of modifications made to the permissions or groups of this permissible using its mutating methods.
+   * Permission checks may cache the effective permissions of a permissible until this count changes. The default
+   * implementation never counts any modification.
+   *
+   * @return the amount of modifications made to this permissible.
+   */
+  default long modificationCount() {
+    return 0;
+  }
+
   /**
    * Gets the creation time as unix timestamp of this permissible.
    *
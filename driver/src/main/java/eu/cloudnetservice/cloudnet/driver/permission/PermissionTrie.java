@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.permission;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The compiled form of a collection of permissions, used to find the highest permission matching a requested
+ * permission without scanning all permissions. Wildcard permissions (ending with a star) are stored in a trie of their
+ * name without the stars, all permissions are additionally mapped by their case-insensitive name.
+ * <p>
+ * The results are the same as the ones of
+ * {@link DefaultPermissionManagement#findHighestPermission(Collection, Permission)}, permissions with the same potency
+ * are resolved deterministically by preferring the more specific match.
+ *
+ * @since 4.0
+ */
+final class PermissionTrie {
+
+  private final Node wildcards = new Node();
+  private final Map<String, Permission> permissions = new HashMap<>();
+
+  private PermissionTrie() {
+  }
+
+  /**
+   * Compiles the given permissions into a new permission trie.
+   *
+   * @param permissions the permissions to compile.
+   * @return the compiled permissions.
+   * @throws NullPointerException if the given permission collection is null.
+   */
+  static @NonNull PermissionTrie compile(@NonNull Collection<Permission> permissions) {
+    var trie = new PermissionTrie();
+    for (var permission : permissions) {
+      trie.add(permission);
+    }
+    return trie;
+  }
+
+  private static @NonNull String normalize(@NonNull String name) {
+    // the same per char comparison as done by String#equalsIgnoreCase
+    var chars = new char[name.length()];
+    for (var i = 0; i < chars.length; i++) {
+      chars[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+    }
+    return new String(chars);
+  }
+
+  private static @Nullable Permission match(
+    @Nullable Permission lastMatch,
+    @Nullable Permission candidate,
+    @NonNull Permission permission
+  ) {
+    var used = lastMatch == null ? permission : lastMatch;
+    return candidate != null && candidate.compareTo(used) >= 0 ? candidate : lastMatch;
+  }
+
+  private void add(@NonNull Permission permission) {
+    // a permission can always match by its name, even if it is a wildcard permission
+    this.permissions.merge(normalize(permission.name()), permission, (current, added) -> match(current, added, added));
+    // wildcard permissions match every permission containing their name without the stars
+    if (permission.name().endsWith("*")) {
+      var node = this.wildcards;
+      for (var character : permission.name().replace("*", "").toCharArray()) {
+        node = node.children.computeIfAbsent(character, $ -> new Node());
+      }
+      node.permission = match(node.permission, permission, permission);
+    }
+  }
+
+  /**
+   * Finds the highest permission which matches the given permission. The lookup walks the wildcard trie from every
+   * offset of the permission name, its cost only depends on the length of the name and not on the amount of compiled
+   * permissions.
+   *
+   * @param permission the permission to find the highest matching permission of.
+   * @return the highest matching permission, null if no permission matches.
+   * @throws NullPointerException if the given permission is null.
+   */
+  @Nullable Permission findHighestPermission(@NonNull Permission permission) {
+    var name = permission.name();
+    // the star permission and all wildcards without a name are contained in every permission
+    var lastMatch = match(null, this.wildcards.permission, permission);
+    for (var offset = 0; offset < name.length(); offset++) {
+      var node = this.wildcards.children.get(name.charAt(offset));
+      for (var index = offset + 1; node != null; index++) {
+        lastMatch = match(lastMatch, node.permission, permission);
+        node = index < name.length() ? node.children.get(name.charAt(index)) : null;
+      }
+    }
+    // exact matches are the most specific ones
+    return match(lastMatch, this.permissions.get(normalize(name)), permission);
+  }
+
+  private static final class Node {
+
+    private final Map<Character, Node> children = new HashMap<>(4);
+    private Permission permission;
+  }
+}
@@ -218,6 +218,7 @@ public boolean checkPassword(@Nullable String password) {
       this.removeGroup(oldInfo.group());
     }
     this.groups().add(groupInfo);
+    this.modificationCount++;
     // for chaining
     return this;
   }
@@ -232,7 +233,11 @@ public boolean checkPassword(@Nullable String password) {
    * @throws NullPointerException if the given group is null.
    */
   public boolean removeGroup(@NonNull String group) {
-    return this.groups.removeIf(info -> info.group().equalsIgnoreCase(group));
+    if (this.groups.removeIf(info -> info.group().equalsIgnoreCase(group))) {
+      this.modificationCount++;
+      return true;
+    }
+    return false;
   }
 
   /**
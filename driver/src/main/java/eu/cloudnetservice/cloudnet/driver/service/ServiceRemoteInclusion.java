@@ -43,6 +43,15 @@ public class ServiceRemoteInclusion extends JsonDocPropertyHolder implements Clo
     .reader(doc -> doc.getDocument("headers"))
     .build();
 
+  /**
+   * A property which can be added to a service inclusion to pin the sha-256 hash (hex encoded) of the file to download.
+   * If the hash of the downloaded file does not match the pinned hash the file will not be included into the service.
+   */
+  public static final DocProperty<String> SHA256 = FunctionalDocProperty.<String>forNamedProperty("sha256")
+    .reader(document -> document.getString("sha256"))
+    .writer((hash, document) -> document.append("sha256", hash))
+    .build();
+
   private final String url;
   private final String destination;
 
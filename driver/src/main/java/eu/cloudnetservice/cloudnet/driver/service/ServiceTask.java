@@ -66,6 +66,7 @@ public class ServiceTask extends ServiceConfigurationBase implements Cloneable,
 
   private final int startPort;
   private final int minServiceCount;
+  private final int warmPoolSize;
 
   /**
    * Constructs a new service task instance.
@@ -84,6 +85,7 @@ public class ServiceTask extends ServiceConfigurationBase implements Cloneable,
    * @param processConfiguration  the process configuration of the task.
    * @param startPort             the start port of the task.
    * @param minServiceCount       the amount of services which should be online by default.
+   * @param warmPoolSize          the amount of services which should be kept prepared for a fast start.
    * @param templates             the templates to include on each service created based on the task.
    * @param deployments           the deployments which should be added initially to each service.
    * @param includes              the includes which should be added initially to each service.
@@ -105,6 +107,7 @@ protected ServiceTask(
     @NonNull ProcessConfiguration processConfiguration,
     int startPort,
     int minServiceCount,
+    int warmPoolSize,
     @NonNull Set<ServiceTemplate> templates,
     @NonNull Set<ServiceDeployment> deployments,
     @NonNull Set<ServiceRemoteInclusion> includes,
@@ -125,6 +128,7 @@ protected ServiceTask(
     this.processConfiguration = processConfiguration;
     this.startPort = startPort;
     this.minServiceCount = minServiceCount;
+    this.warmPoolSize = warmPoolSize;
   }
 
   /**
@@ -170,6 +174,7 @@ protected ServiceTask(
 
       .startPort(serviceTask.startPort())
       .minServiceCount(serviceTask.minServiceCount())
+      .warmPoolSize(serviceTask.warmPoolSize())
 
       .properties(serviceTask.properties().clone())
       .processConfiguration(ProcessConfiguration.builder(serviceTask.processConfiguration()));
@@ -348,6 +353,17 @@ public boolean staticServices() {
     return this.minServiceCount;
   }
 
+  /**
+   * Get the amount of services which should be kept prepared if this task is not in maintenance. The files of these
+   * services (templates, inclusions and configurations) are prepared in the background, so that a service taken from
+   * the pool can start its process right away. Consumed services are replaced automatically.
+   *
+   * @return the amount of services which CloudNet should keep prepared, 0 if no services should be kept prepared.
+   */
+  public @Range(from = 0, to = Integer.MAX_VALUE) int warmPoolSize() {
+    return this.warmPoolSize;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -385,6 +401,7 @@ public static class Builder extends ServiceConfigurationBase.Builder<ServiceTask
 
     private int startPort = -1;
     private int minServiceCount = 0;
+    private int warmPoolSize = 0;
 
     /**
      * Sets the name of the service task to use. This name must conform the naming pattern defined in the service task
@@ -634,6 +651,19 @@ public static class Builder extends ServiceConfigurationBase.Builder<ServiceTask
       return this;
     }
 
+    /**
+     * Sets the amount of services which should be kept prepared if this task is not in maintenance. The files of these
+     * services are prepared in the background, so that a service taken from the pool can start its process right away.
+     * Consumed services are replaced automatically.
+     *
+     * @param warmPoolSize the amount of services CloudNet should keep prepared, 0 to disable the pool.
+     * @return the same instance as used to call the method, for chaining.
+     */
+    public @NonNull Builder warmPoolSize(int warmPoolSize) {
+      this.warmPoolSize = warmPoolSize;
+      return this;
+    }
+
     /**
      * Sets the maximum heap memory (in MB) a service based on this configuration is allowed to allocate. The given heap
      * memory size must be at least 50 MB (less heap memory makes no sense when running a service).
@@ -697,6 +727,7 @@ public static class Builder extends ServiceConfigurationBase.Builder<ServiceTask
         this.processConfiguration.build(),
         this.startPort,
         this.minServiceCount,
+        this.warmPoolSize,
         this.templates,
         this.deployments,
         this.includes,
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.template;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.MoreFiles;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceTemplate;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A content addressed manifest of all files in a template. Each file is identified by its path relative to the template
+ * root and described by its size, last modification time and the sha-256 hash of its content. Comparing two manifests
+ * allows to only transfer the files which actually changed between two templates.
+ * <p>
+ * The size and modification time of a file are only used to decide if the hash of a file in a previous manifest can be
+ * reused when creating a new manifest, two files are considered equal if their hash is equal.
+ *
+ * @param entries the entries of all files in the template, keyed by the path relative to the template root.
+ * @since 4.0
+ */
+public record TemplateManifest(@NonNull Map<String, Entry> entries) {
+
+  /**
+   * Creates a new manifest of the files in the given directory. Directories are not included in the manifest, only the
+   * files in them. The hash of a file is reused from the given previous manifest if its size and modification time did
+   * not change.
+   *
+   * @param directory the root directory of the template to create the manifest of.
+   * @param filter    an optional filter for the files to include in the manifest.
+   * @param previous  an optional, previous manifest of the same directory to reuse the file hashes of.
+   * @return the created manifest of the given directory.
+   * @throws IOException          if an i/o error occurs while reading the files in the directory.
+   * @throws NullPointerException if the given directory is null.
+   */
+  public static @NonNull TemplateManifest fromDirectory(
+    @NonNull Path directory,
+    @Nullable Predicate<Path> filter,
+    @Nullable TemplateManifest previous
+  ) throws IOException {
+    Map<String, Entry> entries = new HashMap<>();
+    if (Files.exists(directory)) {
+      try (var stream = Files.walk(directory)) {
+        for (var file : (Iterable<Path>) stream::iterator) {
+          var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+          if (attributes.isDirectory() || (filter != null && !filter.test(file))) {
+            continue;
+          }
+
+          var path = directory.relativize(file).toString().replace(File.separatorChar, '/');
+          var size = attributes.size();
+          var lastModified = attributes.lastModifiedTime().toMillis();
+          // only re-hash the file if it changed since the last manifest was created
+          var previousEntry = previous == null ? null : previous.entries().get(path);
+          if (previousEntry != null && previousEntry.size() == size && previousEntry.lastModified() == lastModified) {
+            entries.put(path, previousEntry);
+          } else {
+            var hash = MoreFiles.asByteSource(file).hash(Hashing.sha256()).toString();
+            entries.put(path, new Entry(size, lastModified, hash));
+          }
+        }
+      }
+    }
+    return new TemplateManifest(entries);
+  }
+
+  /**
+   * Creates a new manifest of the given template in the given storage by reading all files in the template through the
+   * storage. This method should only be used by storages which have no more efficient way to create a manifest, as it
+   * needs to read the content of all files in the template.
+   *
+   * @param storage  the storage in which the template is located.
+   * @param template the template to create the manifest of.
+   * @return the created manifest, null if the template does not exist in the given storage.
+   * @throws IOException          if an i/o error occurs while reading the files of the template.
+   * @throws NullPointerException if the given storage or template is null.
+   */
+  public static @Nullable TemplateManifest fromStorage(
+    @NonNull TemplateStorage storage,
+    @NonNull ServiceTemplate template
+  ) throws IOException {
+    if (!storage.contains(template)) {
+      return null;
+    }
+
+    Map<String, Entry> entries = new HashMap<>();
+    for (var file : storage.listFiles(template, "", true)) {
+      if (file.directory()) {
+        continue;
+      }
+
+      try (InputStream in = storage.newInputStream(template, file.path())) {
+        if (in != null) {
+          var hashingStream = new HashingInputStream(Hashing.sha256(), in);
+          ByteStreams.exhaust(hashingStream);
+          entries.put(file.path(), new Entry(file.size(), file.lastModified(), hashingStream.hash().toString()));
+        }
+      }
+    }
+    return new TemplateManifest(entries);
+  }
+
+  /**
+   * Creates a filter which only accepts the files at the given paths, relative to the given root directory. This is a
+   * utility for zipping only the changed files of a template directory.
+   *
+   * @param root  the root directory the paths are relative to.
+   * @param paths the relative paths of the files to accept.
+   * @return a filter accepting only the files at the given paths.
+   * @throws NullPointerException if the given root or path collection is null.
+   */
+  public static @NonNull Predicate<Path> pathFilter(@NonNull Path root, @NonNull Collection<String> paths) {
+    return path -> paths.contains(root.relativize(path).toString().replace(File.separatorChar, '/'));
+  }
+
+  /**
+   * Get the paths of all files in this manifest which are either missing in the given manifest or have a different
+   * content. If no other manifest is given all files in this manifest are returned.
+   *
+   * @param other the manifest to compare this manifest to.
+   * @return the paths of the files which differ from the given manifest.
+   */
+  public @Unmodifiable @NonNull Set<String> changedPaths(@Nullable TemplateManifest other) {
+    return this.entries.entrySet().stream()
+      .filter(entry -> {
+        var otherEntry = other == null ? null : other.entries().get(entry.getKey());
+        return otherEntry == null || !otherEntry.hash().equals(entry.getValue().hash());
+      })
+      .map(Map.Entry::getKey)
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Get the paths of all files in the given manifest which are not present in this manifest.
+   *
+   * @param other the manifest to compare this manifest to.
+   * @return the paths of the files which are only present in the given manifest.
+   */
+  public @Unmodifiable @NonNull Set<String> removedPaths(@Nullable TemplateManifest other) {
+    if (other == null) {
+      return Set.of();
+    }
+
+    return other.entries().keySet().stream()
+      .filter(path -> !this.entries.containsKey(path))
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * A single file in a template manifest.
+   *
+   * @param size         the size of the file, in bytes.
+   * @param lastModified the unix timestamp of the last modification of the file.
+   * @param hash         the hex encoded sha-256 hash of the file content.
+   * @since 4.0
+   */
+  public record Entry(long size, long lastModified, @NonNull String hash) {
+
+  }
+}
@@ -255,6 +255,24 @@ default boolean deployDirectory(@NonNull ServiceTemplate target, @NonNull Path d
    */
   @NonNull Collection<FileInfo> listFiles(@NonNull ServiceTemplate template, @NonNull String dir, boolean deep);
 
+  /**
+   * Creates a content addressed manifest of all files in the given template in this storage. Comparing the manifest to
+   * the manifest of the same template in another storage allows to only transfer the files which changed. By default,
+   * the manifest is created by reading all files of the template through this storage, storages should override this
+   * method if they have a more efficient way to create the manifest, for example by caching the file hashes.
+   *
+   * @param template the template to create the manifest of.
+   * @return the manifest of the given template, null if the template doesn't exist or couldn't be read.
+   * @throws NullPointerException if the given template is null.
+   */
+  default @Nullable TemplateManifest manifest(@NonNull ServiceTemplate template) {
+    try {
+      return TemplateManifest.fromStorage(this, template);
+    } catch (IOException exception) {
+      return null;
+    }
+  }
+
   /**
    * Gets a list of all templates that exist in this storage. Modifications to the collection won't have any effect.
    * <p>
@@ -524,6 +542,18 @@ default boolean deployDirectory(@NonNull ServiceTemplate target, @NonNull Path d
     return Task.supply(() -> this.listFiles(template, dir, deep));
   }
 
+  /**
+   * Creates a content addressed manifest of all files in the given template in this storage. Comparing the manifest to
+   * the manifest of the same template in another storage allows to only transfer the files which changed.
+   *
+   * @param template the template to create the manifest of.
+   * @return a task completed with the manifest of the given template, null if the template doesn't exist.
+   * @throws NullPointerException if the given template is null.
+   */
+  default @NonNull Task<TemplateManifest> manifestAsync(@NonNull ServiceTemplate template) {
+    return Task.supply(() -> this.manifest(template));
+  }
+
   /**
    * Gets a list of all templates that exist in this storage. Modifications to the collection won't have any effect.
    * <p>
@@ -16,6 +16,8 @@
 
 package eu.cloudnetservice.cloudnet.driver.template.defaults;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import eu.cloudnetservice.cloudnet.common.io.FileUtil;
 import eu.cloudnetservice.cloudnet.common.io.ZipUtil;
 import eu.cloudnetservice.cloudnet.common.stream.ListeningOutputStream;
@@ -29,6 +31,7 @@
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.cloudnet.driver.service.ServiceTemplate;
 import eu.cloudnetservice.cloudnet.driver.template.FileInfo;
+import eu.cloudnetservice.cloudnet.driver.template.TemplateManifest;
 import eu.cloudnetservice.cloudnet.driver.template.TemplateStorage;
 import java.io.IOException;
 import java.io.InputStream;
@@ -53,6 +56,11 @@ public final class RemoteTemplateStorage implements TemplateStorage {
   private final String name;
   private final RPC baseRPC;
   private final RPCSender sender;
+  // the manifests of the last deployed directories, to reuse the file hashes of unchanged files
+  private final Cache<Path, TemplateManifest> directoryManifests = Caffeine.newBuilder()
+    .maximumSize(64)
+    .expireAfterAccess(30, TimeUnit.MINUTES)
+    .build();
 
   /**
    * Constructs a new remote template storage instance.
@@ -79,6 +87,9 @@ public RemoteTemplateStorage(@NonNull String name, @NonNull RPC baseRPC) {
 
   /**
    * {@inheritDoc}
+   * <p>
+   * The manifest of the given directory is compared to the manifest of the target template, only the files which
+   * changed are transferred and the files which are no longer present in the directory are deleted from the template.
    */
   @Override
   public boolean deployDirectory(
@@ -86,8 +97,30 @@ public boolean deployDirectory(
     @NonNull Path directory,
     @Nullable Predicate<Path> filter
   ) {
-    try (var inputStream = ZipUtil.zipToStream(directory, filter)) {
-      return this.deploy(target, inputStream);
+    try {
+      // create the manifest of the directory, reusing the hashes of the last deployment of the directory
+      var previousManifest = this.directoryManifests.getIfPresent(directory);
+      var localManifest = TemplateManifest.fromDirectory(directory, filter, previousManifest);
+      this.directoryManifests.put(directory, localManifest);
+      // if the template doesn't exist yet we need to deploy the full directory
+      var remoteManifest = this.manifest(target);
+      if (remoteManifest == null) {
+        try (var inputStream = ZipUtil.zipToStream(directory, filter)) {
+          return this.deploy(target, inputStream);
+        }
+      }
+      // remove all files which are no longer present in the directory
+      for (var removedPath : localManifest.removedPaths(remoteManifest)) {
+        this.deleteFile(target, removedPath);
+      }
+      // only transfer the files which were changed
+      var changedPaths = localManifest.changedPaths(remoteManifest);
+      if (changedPaths.isEmpty()) {
+        return true;
+      }
+      try (var inputStream = ZipUtil.zipToStream(directory, TemplateManifest.pathFilter(directory, changedPaths))) {
+        return this.deploy(target, inputStream, false);
+      }
     } catch (IOException exception) {
       return false;
     }
@@ -98,10 +131,24 @@ public boolean deployDirectory(
    */
   @Override
   public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inputStream) {
+    return this.deploy(target, inputStream, true);
+  }
+
+  /**
+   * Deploys all files in the given input stream to the given target template. The given input stream is expected to be
+   * backed by a zip file, each entry of that zip file will be deployed.
+   *
+   * @param target      the template to deploy the data inside the zip file to.
+   * @param inputStream the stream to the zip file which should be deployed.
+   * @param overwrite   if the target template should be deleted before deploying the files into it.
+   * @return true if the operation completed successfully, false otherwise.
+   * @throws NullPointerException if the given input stream or target template is null.
+   */
+  private boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inputStream, boolean overwrite) {
     return ChunkedPacketSender.forFileTransfer()
       .source(inputStream)
       .transferChannel("deploy_service_template")
-      .withExtraData(DataBuf.empty().writeString(this.name).writeObject(target).writeBoolean(true))
+      .withExtraData(DataBuf.empty().writeString(this.name).writeObject(target).writeBoolean(overwrite))
       .toChannels(CloudNetDriver.instance().networkClient().firstChannel())
       .build()
       .transferChunkedData()
@@ -292,6 +339,14 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
     return this.baseRPC.join(this.sender.invokeMethod("listFiles", template, dir, deep)).fireSync();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable TemplateManifest manifest(@NonNull ServiceTemplate template) {
+    return this.baseRPC.join(this.sender.invokeMethod("manifest", template)).fireSync();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -20,12 +20,16 @@
 import eu.cloudnetservice.cloudnet.driver.DriverEnvironment;
 import eu.cloudnetservice.cloudnet.driver.DriverTestUtil;
 import eu.cloudnetservice.cloudnet.driver.event.events.service.CloudServiceLifecycleChangeEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
 import org.mockito.Mockito;
 
 @TestMethodOrder(OrderAnnotation.class)
@@ -82,6 +86,47 @@ void testEventCall() {
     Assertions.assertEquals(5678, event.number);
   }
 
+  @Test
+  @Order(15)
+  void testHasListeners() {
+    var eventManager = this.newEventManagerWithListener();
+
+    Assertions.assertTrue(eventManager.hasListeners(TestEvent.class));
+    Assertions.assertFalse(eventManager.hasListeners("123", TestEvent.class));
+    Assertions.assertTrue(eventManager.hasListeners("123", CloudServiceLifecycleChangeEvent.class));
+    Assertions.assertFalse(eventManager.hasListeners(CloudServiceLifecycleChangeEvent.class));
+
+    eventManager.unregisterListener(TestListener.INSTANCE);
+    Assertions.assertFalse(eventManager.hasListeners(TestEvent.class));
+  }
+
+  @Test
+  @Order(16)
+  @Timeout(10)
+  void testAsyncListenerKeepsOrder() throws InterruptedException {
+    var listener = new AsyncTestListener();
+    var eventManager = new DefaultEventManager();
+    eventManager.registerListener(listener);
+
+    for (var i = 0; i < 100; i++) {
+      eventManager.callEvent(new TestEvent(i));
+    }
+
+    // the events should be passed to the listener in the order they were called
+    listener.latch.await();
+    for (var i = 0; i < 100; i++) {
+      Assertions.assertEquals(i, listener.numbers.get(i));
+    }
+
+    var registeredListener = Iterables.getOnlyElement(eventManager.registeredListeners());
+    Assertions.assertTrue(registeredListener.async());
+    // the statistics are updated after the listener returned
+    while (registeredListener.invocationCount() < 100) {
+      Thread.onSpinWait();
+    }
+    Assertions.assertEquals(0, registeredListener.pendingEvents());
+  }
+
   @Test
   @Order(20)
   void testUnregisterListenerByInstance() {
@@ -143,6 +188,18 @@ public boolean equals(Object obj) {
     }
   }
 
+  private static final class AsyncTestListener {
+
+    private final List<Integer> numbers = new CopyOnWriteArrayList<>();
+    private final CountDownLatch latch = new CountDownLatch(100);
+
+    @EventListener(async = true)
+    public void handle(TestEvent event) {
+      this.numbers.add(event.number);
+      this.latch.countDown();
+    }
+  }
+
   private static final class TestEvent extends Event {
 
     private int number;
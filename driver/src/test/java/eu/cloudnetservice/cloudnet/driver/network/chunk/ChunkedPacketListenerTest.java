@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.chunk;
+
+import eu.cloudnetservice.cloudnet.common.io.FileUtil;
+import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.DefaultFileChunkedPacketHandler;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacket;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacketListener;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class ChunkedPacketListenerTest {
+
+  @Test
+  void testCorruptedChunkIsRejected() throws Exception {
+    var data = new byte[1000];
+    ThreadLocalRandom.current().nextBytes(data);
+
+    // the temp file contains content of a previous, longer transfer which must be cut off
+    var tempFile = FileUtil.createTempFile();
+    Files.write(tempFile, new byte[2048]);
+
+    var received = new AtomicReference<byte[]>();
+    var information = new ChunkSessionInformation(256, UUID.randomUUID(), "hello_world", DataBuf.empty());
+    var listener = new ChunkedPacketListener(info -> new DefaultFileChunkedPacketHandler(
+      info,
+      (session, input) -> received.set(input.readAllBytes()),
+      tempFile));
+
+    List<Packet> responses = new ArrayList<>();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> responses.add(invocation.getArgument(0)))
+      .when(channel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    // send all chunks, the second chunk with a checksum not matching its content
+    for (var i = 0; i < 4; i++) {
+      var chunk = Arrays.copyOfRange(data, i * 256, Math.min(data.length, (i + 1) * 256));
+      if (i == 1) {
+        listener.handle(channel, new ChunkedPacket(DataBuf.empty()
+          .writeObject(information)
+          .writeInt(i)
+          .writeBoolean(false)
+          .writeByteArray(chunk)
+          .writeInt(ChunkedPacket.checksum(chunk, chunk.length) + 1)));
+      } else {
+        listener.handle(channel, ChunkedPacket.createChunk(information, i == 3 ? 3 : null, i, chunk.length, chunk));
+      }
+    }
+
+    Assertions.assertNull(received.get());
+    Assertions.assertEquals(List.of(true, false, true, true), responses.stream()
+      .map(packet -> {
+        Assertions.assertEquals(information.sessionUniqueId(), packet.content().readUniqueId());
+        packet.content().readInt();
+        return packet.content().readBoolean();
+      })
+      .toList());
+
+    // the chunk is accepted once it was sent again with the correct content
+    var chunk = Arrays.copyOfRange(data, 256, 512);
+    listener.handle(channel, ChunkedPacket.createChunk(information, 1, chunk));
+    Assertions.assertArrayEquals(data, received.get());
+  }
+}
@@ -16,12 +16,18 @@
 
 package eu.cloudnetservice.cloudnet.driver.network.chunk;
 
+import eu.cloudnetservice.cloudnet.common.concurrent.Task;
 import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
 import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.splitter.NetworkChannelsPacketSplitter;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacket;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacketCreditListener;
+import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.BasePacket;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
@@ -95,6 +101,124 @@ void testNetworkChannelSplitter() throws Exception {
       .get());
   }
 
+  @Test
+  @Order(20)
+  @Timeout(20)
+  void testFlowControlledTransfer() throws Exception {
+    var packetSplits = new AtomicInteger();
+    var chunkData = this.generateRandomChunkData();
+
+    var sessionId = UUID.randomUUID();
+    DataBuf dataBuf = DataBuf.empty().writeString("hello").writeInt(10).writeString("world");
+
+    // the receiver confirms each chunk from another thread, like a remote component would
+    var creditListener = new ChunkedPacketCreditListener();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.channelId()).thenReturn(1L);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        this.validatePacket(packet, sessionId, packetSplits, chunkData);
+        var chunkIndex = packetSplits.getAndIncrement();
+        Task.supply(() -> creditListener.handle(channel, ChunkedPacket.createCredit(sessionId, chunkIndex)));
+        return null;
+      })
+      .when(channel)
+      .sendPacketSync(Mockito.any(Packet.class));
+
+    var sender = ChunkedPacketSender.forFileTransfer()
+      .chunkSize(256)
+      .windowSize(2)
+      .withExtraData(dataBuf)
+      .sessionUniqueId(sessionId)
+      .transferChannel("hello_world")
+      .source(new ByteArrayInputStream(chunkData))
+      .toChannels(channel)
+      .build();
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, sender.transferChunkedData().get());
+    Assertions.assertEquals(17, sender.transferStatistics().transferredChunks());
+    Assertions.assertEquals(chunkData.length, sender.transferStatistics().transferredBytes());
+  }
+
+  @Test
+  @Order(25)
+  @Timeout(20)
+  void testRejectedChunkFailsTransfer() throws Exception {
+    var packetSplits = new AtomicInteger();
+    var sessionId = UUID.randomUUID();
+
+    // the receiver rejects the last chunk, for example because it was corrupted
+    var creditListener = new ChunkedPacketCreditListener();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.channelId()).thenReturn(1L);
+    Mockito
+      .doAnswer(invocation -> {
+        var chunkIndex = packetSplits.getAndIncrement();
+        var response = chunkIndex == 16
+          ? ChunkedPacket.createRejection(sessionId, chunkIndex)
+          : ChunkedPacket.createCredit(sessionId, chunkIndex);
+        Task.supply(() -> creditListener.handle(channel, response));
+        return null;
+      })
+      .when(channel)
+      .sendPacketSync(Mockito.any(Packet.class));
+
+    var sender = ChunkedPacketSender.forFileTransfer()
+      .chunkSize(256)
+      .windowSize(2)
+      .sessionUniqueId(sessionId)
+      .transferChannel("hello_world")
+      .source(new ByteArrayInputStream(this.generateRandomChunkData()))
+      .toChannels(channel)
+      .build();
+
+    Assertions.assertEquals(TransferStatus.FAILURE, sender.transferChunkedData().get());
+  }
+
+  @Test
+  @Order(30)
+  @Timeout(20)
+  void testResumedTransfer() throws Exception {
+    var chunkData = this.generateRandomChunkData();
+    var sessionId = UUID.randomUUID();
+
+    // the receiver already has the first 10 chunks, and a corrupted 11th chunk
+    var resumeResponse = DataBuf.empty().writeInt(11);
+    for (var i = 0; i < 11; i++) {
+      var chunk = Arrays.copyOfRange(chunkData, i * 256, (i + 1) * 256);
+      resumeResponse.writeInt(i).writeInt(i == 10 ? 0 : ChunkedPacket.checksum(chunk, chunk.length));
+    }
+
+    var sentChunks = new ArrayList<Integer>();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .when(channel.sendQuery(Mockito.any(Packet.class)))
+      .thenReturn(new BasePacket(NetworkConstants.CHUNKED_PACKET_RESUME_CHANNEL, resumeResponse));
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        packet.content().readObject(ChunkSessionInformation.class);
+        sentChunks.add(packet.content().readInt());
+        return null;
+      })
+      .when(channel)
+      .sendPacketSync(Mockito.any(Packet.class));
+
+    var sender = ChunkedPacketSender.forFileTransfer()
+      .chunkSize(256)
+      .windowSize(0)
+      .resume(true)
+      .sessionUniqueId(sessionId)
+      .transferChannel("hello_world")
+      .source(new ByteArrayInputStream(chunkData))
+      .toChannels(channel)
+      .build();
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, sender.transferChunkedData().get());
+    Assertions.assertEquals(IntStream.rangeClosed(10, 16).boxed().toList(), sentChunks);
+  }
+
   private byte[] generateRandomChunkData() {
     var data = new byte[4096];
     ThreadLocalRandom.current().nextBytes(data);
@@ -131,6 +255,9 @@ private void validatePacket(Packet packet, UUID sessionId, AtomicInteger splits,
     Assertions.assertArrayEquals(
       contentAtPosition,
       packet.content().readByteArray());
+    Assertions.assertEquals(
+      ChunkedPacket.checksum(contentAtPosition, contentAtPosition.length),
+      packet.content().readInt());
   }
 
   private NetworkChannel mockNetworkChannel(Consumer<Packet> packetSyncSendHandler) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.netty;
+
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.BasePacket;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NettyFlushConsolidationHandlerTest {
+
+  @Test
+  void testPrioritizedPacketFlushesDirectly() {
+    var handler = new NettyFlushConsolidationHandler();
+    var channel = new EmbeddedChannel(handler);
+
+    channel.writeAndFlush(new BasePacket(1, true, DataBuf.empty()));
+
+    Assertions.assertEquals(1, channel.outboundMessages().size());
+    Assertions.assertEquals(1, handler.flushes());
+    Assertions.assertEquals(0, handler.savedFlushes());
+
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void testNormalPacketFlushesAreConsolidated() throws InterruptedException {
+    var handler = new NettyFlushConsolidationHandler(TimeUnit.MILLISECONDS.toNanos(100));
+    var channel = new EmbeddedChannel(handler);
+
+    for (var i = 0; i < 10; i++) {
+      channel.writeAndFlush(new BasePacket(1, DataBuf.empty()));
+    }
+
+    // no flush should have happened yet
+    Assertions.assertTrue(channel.outboundMessages().isEmpty());
+    Assertions.assertEquals(10, handler.flushRequests());
+    Assertions.assertEquals(0, handler.flushes());
+
+    // let the flush delay pass, the embedded channel runs its scheduled tasks based on the real time
+    Thread.sleep(200);
+    channel.runScheduledPendingTasks();
+
+    Assertions.assertEquals(10, channel.outboundMessages().size());
+    Assertions.assertEquals(1, handler.flushes());
+    Assertions.assertEquals(9, handler.savedFlushes());
+
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void testPendingPacketThresholdFlushes() {
+    var handler = new NettyFlushConsolidationHandler(TimeUnit.HOURS.toNanos(1));
+    var channel = new EmbeddedChannel(handler);
+
+    for (var i = 0; i < 64; i++) {
+      channel.writeAndFlush(new BasePacket(1, DataBuf.empty()));
+    }
+
+    // the flush delay can't pass, the flush was caused by reaching the pending packet threshold
+    Assertions.assertEquals(64, channel.outboundMessages().size());
+    Assertions.assertEquals(1, handler.flushes());
+    Assertions.assertEquals(63, handler.savedFlushes());
+
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void testPrioritizedPacketFlushesPendingPackets() {
+    var handler = new NettyFlushConsolidationHandler();
+    var channel = new EmbeddedChannel(handler);
+
+    channel.writeAndFlush(new BasePacket(1, DataBuf.empty()));
+    channel.writeAndFlush(new BasePacket(1, true, DataBuf.empty()));
+
+    Assertions.assertEquals(2, channel.outboundMessages().size());
+    Assertions.assertEquals(1, handler.flushes());
+    Assertions.assertEquals(1, handler.savedFlushes());
+
+    channel.finishAndReleaseAll();
+  }
+}
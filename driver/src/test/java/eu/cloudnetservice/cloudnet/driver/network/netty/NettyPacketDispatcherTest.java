@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.netty;
+
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.BasePacket;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NettyPacketDispatcherTest {
+
+  @AfterEach
+  void clearLaneCapacity() {
+    System.clearProperty("cloudnet.network.dispatch.7.capacity");
+  }
+
+  @Test
+  void testLanesAreFairAndApplyBackpressure() {
+    System.setProperty("cloudnet.network.dispatch.7.capacity", "4");
+
+    var channel = new EmbeddedChannel();
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    List<Integer> handled = new ArrayList<>();
+    var dispatcher = new NettyPacketDispatcher(channel, tasks::add, packet -> handled.add(packet.channel()));
+
+    // flood one packet channel, then send a single packet on another one
+    for (var i = 0; i < 20; i++) {
+      dispatcher.dispatch(new BasePacket(7, DataBuf.empty()));
+    }
+    dispatcher.dispatch(new BasePacket(8, DataBuf.empty()));
+
+    // each lane has only one worker, the flooded lane should suspend reading
+    Assertions.assertEquals(2, tasks.size());
+    Assertions.assertEquals(20, dispatcher.lane(7).queueDepth());
+    Assertions.assertTrue(dispatcher.readSuspended());
+    Assertions.assertFalse(channel.config().isAutoRead());
+
+    while (!tasks.isEmpty()) {
+      tasks.poll().run();
+    }
+
+    // the packet of the second lane was handled between two batches of the flooded lane
+    Assertions.assertEquals(21, handled.size());
+    Assertions.assertEquals(8, handled.get(16));
+    Assertions.assertEquals(20, dispatcher.lane(7).dispatchedPackets());
+    Assertions.assertEquals(0, dispatcher.lane(7).queueDepth());
+    Assertions.assertEquals(20, dispatcher.lane(7).maxQueueDepth());
+
+    // reading should be resumed as all lanes were drained
+    Assertions.assertFalse(dispatcher.readSuspended());
+    Assertions.assertTrue(channel.config().isAutoRead());
+
+    channel.finishAndReleaseAll();
+  }
+}
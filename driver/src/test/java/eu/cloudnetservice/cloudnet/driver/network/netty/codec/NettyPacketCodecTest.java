@@ -18,12 +18,17 @@
 
 import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.cloudnet.driver.network.netty.buffer.NettyImmutableDataBuf;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.BasePacket;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -40,20 +45,17 @@ void testNettyPacketCodec() {
       .writeInt(1234)
       .writeDouble(5D);
 
-    var output = Unpooled.buffer();
+    var ctx = this.mockContext();
+    List<Object> encoded = new ArrayList<>();
 
     var encoder = new NettyPacketEncoder();
-    encoder.encode(Mockito.mock(ChannelHandlerContext.class), new BasePacket(packetChannel, dataBuf), output);
+    encoder.encode(ctx, new BasePacket(packetChannel, dataBuf), encoded);
 
+    Assertions.assertEquals(1, encoded.size());
+    var output = (ByteBuf) encoded.get(0);
     Assertions.assertTrue(output.readableBytes() > 0);
 
     // test read
-    var channel = Mockito.mock(Channel.class);
-    Mockito.when(channel.isActive()).thenReturn(true);
-
-    var ctx = Mockito.mock(ChannelHandlerContext.class);
-    Mockito.when(ctx.channel()).thenReturn(channel);
-
     List<Object> results = new ArrayList<>();
     var decoder = new NettyPacketDecoder();
     decoder.decode(ctx, output, results);
@@ -66,4 +68,106 @@ void testNettyPacketCodec() {
 
     output.release();
   }
+
+  @Test
+  void testPacketBodyIsNotCopied() {
+    var ctx = this.mockContext();
+    var body = new byte[4096];
+    ThreadLocalRandom.current().nextBytes(body);
+
+    // encode the packet, the body should be appended to the header instead of being copied
+    var dataBuf = DataBufFactory.defaultFactory().createEmpty().writeByteArray(body);
+    var content = ((NettyImmutableDataBuf) dataBuf).byteBuf();
+    List<Object> encoded = new ArrayList<>();
+    new NettyPacketEncoder().encode(ctx, new BasePacket(1, dataBuf), encoded);
+
+    var output = Assertions.assertInstanceOf(CompositeByteBuf.class, encoded.get(0));
+    Assertions.assertEquals(2, output.numComponents());
+    // the packet dropped its reference, the only remaining one is held by the outbound buffer
+    Assertions.assertEquals(1, content.refCnt());
+
+    // copy the frame into a single buffer, as it would be received from the network
+    var frame = Unpooled.copiedBuffer(output);
+    output.release();
+    Assertions.assertEquals(0, content.refCnt());
+
+    // decode the packet, the body should be a slice of the received frame
+    List<Object> results = new ArrayList<>();
+    new NettyPacketDecoder().decode(ctx, frame, results);
+
+    Assertions.assertEquals(1, results.size());
+    var packetContent = ((BasePacket) results.get(0)).content();
+    Assertions.assertSame(frame, ((NettyImmutableDataBuf) packetContent).byteBuf().unwrap());
+    Assertions.assertArrayEquals(body, packetContent.readByteArray());
+
+    // reading the full body releases the slice and with it the reference to the frame
+    Assertions.assertEquals(1, frame.refCnt());
+    frame.release();
+  }
+
+  @Test
+  void testPartialFrameIsNotDecoded() {
+    var ctx = this.mockContext();
+    var dataBuf = DataBufFactory.defaultFactory().createEmpty().writeInt(1234);
+
+    List<Object> encoded = new ArrayList<>();
+    new NettyPacketEncoder().encode(ctx, new BasePacket(1, dataBuf), encoded);
+    var output = (ByteBuf) encoded.get(0);
+
+    // only provide the frame without the last byte
+    var partial = output.readRetainedSlice(output.readableBytes() - 1);
+    List<Object> results = new ArrayList<>();
+    new NettyPacketDecoder().decode(ctx, partial, results);
+
+    Assertions.assertTrue(results.isEmpty());
+    Assertions.assertEquals(0, partial.readerIndex());
+
+    partial.release();
+    output.release();
+  }
+
+  @Test
+  void testQueryUniqueIdEncoding() {
+    var ctx = this.mockContext();
+    var compactId = new UUID(0, 1337);
+    var fullId = UUID.randomUUID();
+
+    // the compact id only needs 2 bytes instead of 16
+    var compact = this.encodeQuery(ctx, compactId);
+    var full = this.encodeQuery(ctx, fullId);
+    Assertions.assertEquals(14, full.readableBytes() - compact.readableBytes());
+
+    // both ids should be decoded correctly
+    List<Object> results = new ArrayList<>();
+    var decoder = new NettyPacketDecoder();
+    decoder.decode(ctx, compact, results);
+    decoder.decode(ctx, full, results);
+
+    Assertions.assertEquals(2, results.size());
+    Assertions.assertEquals(compactId, ((BasePacket) results.get(0)).uniqueId());
+    Assertions.assertEquals(fullId, ((BasePacket) results.get(1)).uniqueId());
+
+    compact.release();
+    full.release();
+  }
+
+  private ByteBuf encodeQuery(ChannelHandlerContext ctx, UUID queryUniqueId) {
+    var packet = new BasePacket(1, DataBufFactory.defaultFactory().createEmpty().writeInt(1234));
+    packet.uniqueId(queryUniqueId);
+
+    List<Object> encoded = new ArrayList<>();
+    new NettyPacketEncoder().encode(ctx, packet, encoded);
+    return (ByteBuf) encoded.get(0);
+  }
+
+  private ChannelHandlerContext mockContext() {
+    var channel = Mockito.mock(Channel.class);
+    Mockito.when(channel.isActive()).thenReturn(true);
+
+    var ctx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(ctx.channel()).thenReturn(channel);
+    Mockito.when(ctx.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+
+    return ctx;
+  }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.protocol;
+
+import eu.cloudnetservice.cloudnet.common.collection.Pair;
+import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
+import eu.cloudnetservice.cloudnet.driver.network.protocol.defaults.TimerWheelQueryPacketManager;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+
+public class TimerWheelQueryPacketManagerTest {
+
+  @Test
+  void testQueryIdsDependOnChannelSide() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+
+    var clientChannel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(clientChannel.clientProvidedChannel()).thenReturn(true);
+    QueryPacketManager clientManager = new TimerWheelQueryPacketManager(clientChannel);
+    QueryPacketManager serverManager = new TimerWheelQueryPacketManager(Mockito.mock(NetworkChannel.class));
+
+    // the client side uses odd ids, the server side even ids
+    clientManager.sendQueryPacket(mockedPacket.first());
+    Assertions.assertEquals(new UUID(0, 1), mockedPacket.second().get());
+    clientManager.sendQueryPacket(mockedPacket.first());
+    Assertions.assertEquals(new UUID(0, 3), mockedPacket.second().get());
+
+    serverManager.sendQueryPacket(mockedPacket.first());
+    Assertions.assertEquals(new UUID(0, 2), mockedPacket.second().get());
+  }
+
+  @Test
+  void testSendQueryPacket() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    QueryPacketManager manager = new TimerWheelQueryPacketManager(Mockito.mock(NetworkChannel.class));
+
+    var task = manager.sendQueryPacket(mockedPacket.first());
+
+    Assertions.assertTrue(manager.hasWaitingHandler(mockedPacket.second().get()));
+    Assertions.assertEquals(task, manager.waitingHandlers().get(mockedPacket.second().get()));
+
+    Assertions.assertEquals(task, manager.waitingHandler(mockedPacket.second().get()));
+    Assertions.assertFalse(manager.hasWaitingHandler(mockedPacket.second().get()));
+    Assertions.assertFalse(manager.unregisterWaitingHandler(mockedPacket.second().get()));
+  }
+
+  @Test
+  void testSendQueryPacketWithFixedId() {
+    var uniqueId = UUID.randomUUID();
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    QueryPacketManager manager = new TimerWheelQueryPacketManager(Mockito.mock(NetworkChannel.class));
+
+    manager.sendQueryPacket(mockedPacket.first(), uniqueId);
+
+    Assertions.assertEquals(uniqueId, mockedPacket.second().get());
+    Assertions.assertTrue(manager.hasWaitingHandler(uniqueId));
+    Assertions.assertNotNull(manager.waitingHandlers().get(uniqueId));
+
+    Assertions.assertTrue(manager.unregisterWaitingHandler(uniqueId));
+    Assertions.assertFalse(manager.hasWaitingHandler(uniqueId));
+  }
+
+  @Test
+  void testSlotCollision() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    QueryPacketManager manager = new TimerWheelQueryPacketManager(Mockito.mock(NetworkChannel.class));
+
+    // send more queries than slots are available, the additional queries must be stored in the overflow
+    for (var i = 0; i < 1024; i++) {
+      manager.sendQueryPacket(mockedPacket.first());
+    }
+
+    Assertions.assertEquals(1024, manager.waitingHandlers().size());
+    for (var i = 1; i <= 1024; i++) {
+      Assertions.assertNotNull(manager.waitingHandler(new UUID(0, i * 2L)));
+    }
+    Assertions.assertTrue(manager.waitingHandlers().isEmpty());
+  }
+
+  @Test
+  @Timeout(10)
+  void testHandlerTimeout() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    QueryPacketManager manager = new TimerWheelQueryPacketManager(
+      Mockito.mock(NetworkChannel.class),
+      Duration.ofSeconds(1));
+
+    var task = manager.sendQueryPacket(mockedPacket.first());
+    Assertions.assertTrue(manager.hasWaitingHandler(mockedPacket.second().get()));
+
+    var exception = Assertions.assertThrows(Exception.class, task::get);
+    Assertions.assertInstanceOf(TimeoutException.class, exception.getCause());
+    Assertions.assertNull(manager.waitingHandler(mockedPacket.second().get()));
+  }
+
+  private Pair<Packet, AtomicReference<UUID>> mockUniqueIdAblePacket() {
+    var reference = new AtomicReference<UUID>();
+
+    var packet = Mockito.mock(Packet.class);
+    Mockito
+      .doAnswer(invocation -> {
+        reference.set(invocation.getArgument(0));
+        return null;
+      })
+      .when(packet)
+      .uniqueId(Mockito.any());
+
+    return new Pair<>(packet, reference);
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.network.rpc;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RPCIdentifierTableTest {
+
+  @Test
+  void testOutboundIdentifiersStopAtInboundLimit() {
+    var table = new RPCIdentifierTable(true);
+    for (var i = 0; i <= 0xFFFF; i++) {
+      var identifier = table.outboundIdentifier("Test", "method" + i, 0);
+      Assertions.assertNotNull(identifier);
+      Assertions.assertEquals(i, identifier.id());
+    }
+
+    // all ids are assigned, further methods must be sent using their names
+    Assertions.assertNull(table.outboundIdentifier("Test", "overflow", 0));
+    Assertions.assertNull(table.outboundIdentifier("Test", "overflow", 1));
+    // already assigned ids are still usable
+    Assertions.assertEquals(1234, table.outboundIdentifier("Test", "method1234", 0).id());
+    // the remote accepts every assigned id
+    Assertions.assertDoesNotThrow(() -> table.defineInbound(0xFFFF, "Test", "method65535", 0));
+  }
+
+  @Test
+  void testDisabledTableAssignsNoIdentifiers() {
+    var table = new RPCIdentifierTable(false);
+    Assertions.assertNull(table.outboundIdentifier("Test", "method", 0));
+    // the identifier is usable for the defining request, but not registered
+    Assertions.assertEquals("method", table.defineInbound(0, "Test", "method", 0).methodName());
+    Assertions.assertNull(table.inboundIdentifier(0));
+  }
+}
@@ -27,6 +27,7 @@
 import eu.cloudnetservice.cloudnet.driver.network.protocol.QueryPacketManager;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCHandlerRegistry;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCIdentifierTable;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.DefaultRPCFactory;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.handler.DefaultRPCHandlerRegistry;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.defaults.object.DefaultObjectMapper;
@@ -79,8 +80,13 @@ void testMethodInvocation() {
     // the channel to which the result should be sent
     var resultChannel = Mockito.mock(NetworkChannel.class);
     Mockito.when(resultChannel.queryPacketManager()).thenReturn(manager);
+    // the identifier tables of both sides of the connection
+    var receiverIdentifiers = new RPCIdentifierTable(true);
+    Mockito.when(resultChannel.rpcIdentifierTable()).thenReturn(receiverIdentifiers);
     // sender
     var channel = Mockito.mock(NetworkChannel.class);
+    var senderIdentifiers = new RPCIdentifierTable(true);
+    Mockito.when(channel.rpcIdentifierTable()).thenReturn(senderIdentifiers);
     Mockito
       .doAnswer(invocation -> {
         // the packet has no unique id yet, set one
@@ -115,6 +121,22 @@ void testMethodInvocation() {
     Assertions.assertTrue(Maps
       .difference(ImmutableMap.of("test1", "test2", "test3", "test4"), result.get(key))
       .areEqual());
+    // the identifier of the method should be known to both sides now
+    var identifier = senderIdentifiers.outboundIdentifier(
+      TestApiClass.class.getCanonicalName(),
+      "handleProcessSnapshot",
+      3);
+    Assertions.assertNotNull(identifier);
+    Assertions.assertTrue(identifier.acknowledged());
+    Assertions.assertNotNull(receiverIdentifiers.inboundIdentifier(identifier.id()));
+    // call the method again, now only using the interned identifier
+    resultListener.set(new Task<>());
+    result = sender
+      .invokeMethod("handleProcessSnapshot", snapshot, integers, 187)
+      .fireSync();
+    Assertions.assertEquals(key * 2, backingHandler.get());
+    Assertions.assertNotNull(result);
+    Assertions.assertNotNull(result.get(key * 2));
     // nested call test
     resultListener.set(new Task<>());
     // with correct argument
@@ -164,6 +186,20 @@ void testMethodInvocation() {
     Assertions.assertTrue(Maps
       .difference(ImmutableMap.of("test1", "test2", "test3", "test4"), result.get(key))
       .areEqual());
+    // batch test, the results and exceptions are reported per call
+    resultListener.set(new Task<>());
+    var batchResult = factory.newBatch()
+      .add(sender.invokeMethod("handleProcessSnapshot", snapshot, integers, 187))
+      .add(sender.invokeMethod("nestedClass", "Test1234"))
+      .add(sender.invokeMethod("handleProcessSnapshot", null, integers, 187))
+      .fireSync();
+    Assertions.assertEquals(3, batchResult.size());
+    Assertions.assertEquals(key * 3, backingHandler.get());
+    Assertions.assertNotNull(batchResult.<Map<Long, Map<String, String>>>result(0).get(key * 3));
+    Assertions.assertTrue(batchResult.successful(1));
+    Assertions.assertNull(batchResult.result(1));
+    Assertions.assertFalse(batchResult.successful(2));
+    Assertions.assertTrue(batchResult.exception(2) instanceof RPCExecutionException);
   }
 
   public interface TestApiClassVeryNested {
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.permission;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class DefaultPermissionManagementTest {
+
+  @Test
+  void testLocalModificationsAreVisibleToChecks() {
+    var management = Mockito.mock(
+      DefaultPermissionManagement.class,
+      Mockito.withSettings().useConstructor().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+    var admin = PermissionGroup.builder().name("Admin").addPermission(Permission.of("cloudnet.admin")).build();
+    Mockito.doReturn(admin).when(management).group("Admin");
+
+    var user = PermissionUser.builder().uniqueId(UUID.randomUUID()).name("Dirk").build();
+    Assertions.assertFalse(management.hasPermission(user, Permission.of("cloudnet.command")));
+    Assertions.assertFalse(management.hasPermission(user, Permission.of("cloudnet.admin")));
+
+    user.addPermission("cloudnet.command");
+    Assertions.assertTrue(management.hasPermission(user, Permission.of("cloudnet.command")));
+
+    user.removePermission("cloudnet.command");
+    Assertions.assertFalse(management.hasPermission(user, Permission.of("cloudnet.command")));
+
+    user.addGroup("Admin");
+    Assertions.assertTrue(management.hasPermission(user, Permission.of("cloudnet.admin")));
+
+    user.removeGroup("Admin");
+    Assertions.assertFalse(management.hasPermission(user, Permission.of("cloudnet.admin")));
+  }
+}
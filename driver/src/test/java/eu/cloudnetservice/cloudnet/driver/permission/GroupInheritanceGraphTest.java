@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.permission;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GroupInheritanceGraphTest {
+
+  private static PermissionGroup group(String name, String... parents) {
+    return PermissionGroup.builder().name(name).groups(List.of(parents)).build();
+  }
+
+  private static void assertClosure(List<PermissionGroup> closure, String group, String... inheritedGroups) {
+    // the parents of a group are unordered, only the group itself is always first
+    Assertions.assertEquals(group, closure.get(0).name());
+    Assertions.assertEquals(
+      Set.of(inheritedGroups),
+      closure.stream().skip(1).map(PermissionGroup::name).collect(Collectors.toSet()));
+  }
+
+  @Test
+  void testIncrementalInvalidation() {
+    Map<String, PermissionGroup> groups = new HashMap<>();
+    groups.put("Admin", group("Admin", "Mod", "VIP"));
+    groups.put("Mod", group("Mod", "Default"));
+    groups.put("VIP", group("VIP", "Default", "Admin"));
+    groups.put("Default", group("Default", "Unknown"));
+    groups.put("Builder", group("Builder"));
+
+    var resolves = new AtomicInteger();
+    var graph = new GroupInheritanceGraph(name -> {
+      resolves.incrementAndGet();
+      return groups.get(name);
+    });
+
+    assertClosure(graph.closure("Admin"), "Admin", "Mod", "Default", "VIP");
+    assertClosure(graph.closure("Builder"), "Builder");
+    Assertions.assertTrue(graph.closure("Unknown").isEmpty());
+
+    // all closures are cached now
+    var resolveCount = resolves.get();
+    assertClosure(graph.closure("Admin"), "Admin", "Mod", "Default", "VIP");
+    Assertions.assertEquals(resolveCount, resolves.get());
+
+    // adding the previously unknown group only invalidates the closures travelling it
+    groups.put("Unknown", group("Unknown"));
+    graph.invalidate("Unknown");
+    assertClosure(graph.closure("Admin"), "Admin", "Mod", "Default", "Unknown", "VIP");
+    resolveCount = resolves.get();
+    assertClosure(graph.closure("Builder"), "Builder");
+    Assertions.assertEquals(resolveCount, resolves.get());
+
+    // removing a group in the middle of the chain
+    groups.remove("Mod");
+    graph.invalidate("Mod");
+    assertClosure(graph.closure("Admin"), "Admin", "VIP", "Default", "Unknown");
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.driver.permission;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+
+public class PermissionTrieTest {
+
+  private static final int PERMISSIONS = 5_000;
+  private static final int CHECKS = 20_000;
+
+  private static String permissionName(Random random) {
+    // permissions with 1 to 5 segments of a small set of segment names to get a lot of overlapping wildcards
+    var segments = new ArrayList<String>();
+    for (var i = random.nextInt(5); i >= 0; i--) {
+      segments.add((random.nextBoolean() ? "Cmd" : "node") + random.nextInt(8));
+    }
+    return String.join(".", segments);
+  }
+
+  @Test
+  @Timeout(20)
+  void testTrieMatchesLinearScan() {
+    var random = new Random(187);
+    var management = Mockito.mock(DefaultPermissionManagement.class, Mockito.CALLS_REAL_METHODS);
+
+    // distinct absolute potencies, a tie between two matching permissions is resolved arbitrarily by the linear scan
+    var potencies = IntStream.rangeClosed(1, PERMISSIONS).boxed().toList();
+    var shuffledPotencies = new ArrayList<>(potencies);
+    Collections.shuffle(shuffledPotencies, random);
+
+    List<Permission> permissions = new ArrayList<>();
+    for (var i = 0; i < PERMISSIONS; i++) {
+      var name = permissionName(random);
+      var potency = shuffledPotencies.get(i) * (random.nextBoolean() ? 1 : -1);
+      name = switch (random.nextInt(10)) {
+        case 0 -> name + ".*";
+        case 1 -> name + "*";
+        case 2 -> name.toUpperCase();
+        default -> name;
+      };
+      permissions.add(Permission.builder().name(name).potency(potency).build());
+    }
+    permissions.add(Permission.builder().name("*").potency(0).build());
+
+    var trie = PermissionTrie.compile(permissions);
+    for (var i = 0; i < CHECKS; i++) {
+      var permission = Permission.builder()
+        .name(permissionName(random))
+        .potency(random.nextInt(PERMISSIONS * 2) - PERMISSIONS)
+        .build();
+      Assertions.assertEquals(
+        management.findHighestPermission(permissions, permission),
+        trie.findHighestPermission(permission),
+        permission.name());
+    }
+  }
+
+  @Test
+  void testWildcardAndExactMatches() {
+    var trie = PermissionTrie.compile(List.of(
+      Permission.builder().name("cloudnet.command.*").potency(1).build(),
+      Permission.builder().name("cloudnet.command.Service").potency(-2).build(),
+      Permission.builder().name("*").potency(0).build()));
+
+    Assertions.assertEquals(-2, trie.findHighestPermission(Permission.of("Cloudnet.command.service")).potency());
+    Assertions.assertEquals(1, trie.findHighestPermission(Permission.of("cloudnet.command.tasks")).potency());
+    // wildcards are matched case-sensitive
+    Assertions.assertEquals("*", trie.findHighestPermission(Permission.of("Cloudnet.command.tasks")).name());
+    Assertions.assertNull(PermissionTrie.compile(List.of()).findHighestPermission(Permission.of("test")));
+  }
+}
@@ -36,6 +36,7 @@
 import eu.cloudnetservice.modules.bridge.config.ProxyFallbackConfiguration;
 import eu.cloudnetservice.modules.bridge.node.command.CommandBridge;
 import eu.cloudnetservice.modules.bridge.node.http.V2HttpHandlerBridge;
+import eu.cloudnetservice.modules.bridge.node.player.NodePlayerManager;
 import eu.cloudnetservice.modules.bridge.rpc.ComponentObjectSerializer;
 import eu.cloudnetservice.modules.bridge.rpc.TitleObjectSerializer;
 import java.util.Collection;
@@ -104,9 +105,10 @@ public void convertOldDatabaseEntries() {
         LOGGER.warning("Converting the offline player database, this may take a few seconds...");
 
         var convertedPlayers = 0;
+        String lastConvertedKey = null;
         // invalid player data - convert the database
         Map<String, JsonDocument> chunkData;
-        while ((chunkData = playerDb.readChunk(convertedPlayers, 100)) != null) {
+        while ((chunkData = playerDb.readChunk(lastConvertedKey, 100)) != null) {
           for (var entry : chunkData.entrySet()) {
             // get all the required path
             var lastProxyInfo = entry.getValue().getDocument("lastNetworkConnectionInfo");
@@ -138,6 +140,7 @@ public void convertOldDatabaseEntries() {
 
             // update the entry
             playerDb.insert(entry.getKey(), entry.getValue());
+            lastConvertedKey = entry.getKey();
           }
           // count the converted players up
           convertedPlayers += chunkData.size();
@@ -186,6 +189,14 @@ public void registerCommand() {
     Node.instance().commandProvider().register(new CommandBridge(ServiceRegistry.first(BridgeManagement.class)));
   }
 
+  @ModuleTask(event = ModuleLifeCycle.STOPPED)
+  public void handleStop() {
+    var management = ServiceRegistry.first(BridgeManagement.class);
+    if (management != null && management.playerManager() instanceof NodePlayerManager playerManager) {
+      playerManager.close();
+    }
+  }
+
   @ModuleTask(event = ModuleLifeCycle.RELOADING)
   public void handleReload() {
     var management = ServiceRegistry.first(BridgeManagement.class);
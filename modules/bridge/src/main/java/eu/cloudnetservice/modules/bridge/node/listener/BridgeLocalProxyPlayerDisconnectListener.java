@@ -48,7 +48,7 @@ public void handleServiceUpdate(@NonNull CloudServiceUpdateEvent event) {
         return;
       }
       // test if any player has the login service but is not connected to it
-      for (var value : this.playerManager.players().values()) {
+      for (var value : this.playerManager.serviceOnlinePlayers(info.serviceId().uniqueId())) {
         if (value.loginService().serviceId().uniqueId().equals(info.serviceId().uniqueId())) {
           // the player is on the service
           var match = Iterables.tryFind(
@@ -75,7 +75,7 @@ public void handle(@NonNull CloudServicePostLifecycleEvent event) {
   private void handleCloudServiceRemove(@NonNull ServiceInfoSnapshot snapshot) {
     if (ServiceEnvironmentType.minecraftProxy(snapshot.serviceId().environment())) {
       // test if any player has the stopped service as the login service
-      for (var value : this.playerManager.players().values()) {
+      for (var value : this.playerManager.serviceOnlinePlayers(snapshot.serviceId().uniqueId())) {
         if (value.loginService().serviceId().uniqueId().equals(snapshot.serviceId().uniqueId())) {
           // the player was connected to that proxy, log him out now
           this.playerManager.logoutPlayer(value);
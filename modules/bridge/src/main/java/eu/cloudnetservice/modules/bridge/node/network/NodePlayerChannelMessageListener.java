@@ -121,7 +121,7 @@ public void handle(@NonNull ChannelMessageReceiveEvent event) {
           // read the player
           var player = event.content().readObject(CloudPlayer.class);
           // push the change
-          this.playerManager.players().remove(player.uniqueId());
+          this.playerManager.removeOnlinePlayer(player.uniqueId());
           this.playerManager.pushOfflinePlayerCache(player.uniqueId(), CloudOfflinePlayer.offlineCopy(player));
           // call the event locally
           this.eventManager.callEvent(new BridgeProxyPlayerDisconnectEvent(player));
@@ -149,6 +149,7 @@ public void handle(@NonNull ChannelMessageReceiveEvent event) {
             var prev = player.connectedService();
             // set the current connected service and fire the event
             player.connectedService(target);
+            this.playerManager.indexOnlinePlayer(player);
             this.eventManager.callEvent(new BridgeProxyPlayerServerSwitchEvent(player, prev));
             // redirect to the cluster
             ChannelMessage.builder()
@@ -46,6 +46,9 @@
 import eu.cloudnetservice.modules.bridge.player.PlayerManager;
 import eu.cloudnetservice.modules.bridge.player.PlayerProvider;
 import eu.cloudnetservice.modules.bridge.player.executor.PlayerExecutor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -59,20 +62,35 @@
 import lombok.NonNull;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
 
 public class NodePlayerManager implements PlayerManager {
 
+  protected static final int PLAYER_LOCK_STRIPES = Integer.getInteger("cloudnet.bridge.player-lock-stripes", 1024);
+
   protected final String databaseName;
   protected final EventManager eventManager;
 
   protected final Map<UUID, CloudPlayer> onlinePlayers = new ConcurrentHashMap<>();
+  protected final OnlinePlayerIndex onlinePlayerIndex = new OnlinePlayerIndex();
   protected final PlayerProvider allPlayersProvider = new NodePlayerProvider(
-    () -> this.onlinePlayers.values().stream());
-
-  protected final Striped<Lock> playerReadWriteLocks = Striped.lazyWeakLock(1);
+    this.onlinePlayers,
+    this.onlinePlayers::keySet);
+
+  // logins of different players are handled concurrently, only logins of the same player need to be serialized
+  protected final Striped<Lock> playerReadWriteLocks = Striped.lazyWeakLock(PLAYER_LOCK_STRIPES);
+  // write through once the node stops, the database is closed before the modules are stopped
+  protected final PlayerDatabaseWriter databaseWriter = new PlayerDatabaseWriter(
+    this::database,
+    () -> !Node.instance().running());
   protected final LoadingCache<UUID, Optional<CloudOfflinePlayer>> offlinePlayerCache = Caffeine.newBuilder()
     .expireAfterAccess(5, TimeUnit.MINUTES)
     .build(uniqueId -> {
+      // the player might not be written into the database yet
+      var pendingWrite = NodePlayerManager.this.databaseWriter.pendingWrite(uniqueId);
+      if (pendingWrite != null) {
+        return pendingWrite;
+      }
       // load the player from the database sync to block the current thread
       var document = NodePlayerManager.this.database().get(uniqueId.toString());
       if (document == null) {
@@ -108,7 +126,7 @@ public NodePlayerManager(
       .nameExtractor(CloudPlayer::name)
       .dataCollector(this.onlinePlayers::values)
       .currentGetter(player -> this.onlinePlayers.get(player.uniqueId()))
-      .writer(player -> this.onlinePlayers.put(player.uniqueId(), player))
+      .writer(this::putOnlinePlayer)
       .build());
   }
 
@@ -119,6 +137,7 @@ public int onlineCount() {
 
   @Override
   public long registeredCount() {
+    this.databaseWriter.flush();
     return this.database().documentCount();
   }
 
@@ -129,8 +148,9 @@ public long registeredCount() {
 
   @Override
   public @Nullable CloudPlayer firstOnlinePlayer(@NonNull String name) {
-    for (var player : this.onlinePlayers.values()) {
-      if (player.name().equalsIgnoreCase(name)) {
+    for (var uniqueId : this.onlinePlayerIndex.playersByName(name)) {
+      var player = this.onlinePlayers.get(uniqueId);
+      if (player != null) {
         return player;
       }
     }
@@ -139,20 +159,12 @@ public long registeredCount() {
 
   @Override
   public @NonNull List<? extends CloudPlayer> onlinePlayers(@NonNull String name) {
-    return this.onlinePlayers.values().stream()
-      .filter(cloudPlayer -> cloudPlayer.name().equalsIgnoreCase(name))
-      .collect(Collectors.toList());
+    return this.indexedOnlinePlayers(this.onlinePlayerIndex.playersByName(name));
   }
 
   @Override
   public @NonNull List<? extends CloudPlayer> environmentOnlinePlayers(@NonNull ServiceEnvironmentType environment) {
-    return this.onlinePlayers.values()
-      .stream()
-      .filter(cloudPlayer ->
-        (cloudPlayer.loginService() != null && cloudPlayer.loginService().environment() == environment)
-          || (cloudPlayer.connectedService() != null
-          && cloudPlayer.connectedService().environment() == environment))
-      .collect(Collectors.toList());
+    return this.indexedOnlinePlayers(this.onlinePlayerIndex.playersByEnvironment(environment.name()));
   }
 
   @Override
@@ -162,18 +174,12 @@ public long registeredCount() {
 
   @Override
   public @NonNull PlayerProvider taskOnlinePlayers(@NonNull String task) {
-    return new NodePlayerProvider(() -> this.onlinePlayers.values()
-      .stream()
-      .filter(cloudPlayer -> cloudPlayer.connectedService().taskName().equalsIgnoreCase(task)
-        || cloudPlayer.loginService().taskName().equalsIgnoreCase(task)));
+    return new NodePlayerProvider(this.onlinePlayers, () -> this.onlinePlayerIndex.playersByTask(task));
   }
 
   @Override
   public @NonNull PlayerProvider groupOnlinePlayers(@NonNull String group) {
-    return new NodePlayerProvider(() -> this.onlinePlayers.values()
-      .stream()
-      .filter(cloudPlayer -> cloudPlayer.connectedService().groups().contains(group)
-        || cloudPlayer.loginService().groups().contains(group)));
+    return new NodePlayerProvider(this.onlinePlayers, () -> this.onlinePlayerIndex.playersByGroup(group));
   }
 
   @Override
@@ -193,13 +199,18 @@ public CloudOfflinePlayer offlinePlayer(@NonNull UUID uniqueId) {
 
   @Override
   public @NonNull List<? extends CloudOfflinePlayer> offlinePlayers(@NonNull String name) {
-    return this.database().find(JsonDocument.newDocument("name", name)).stream()
+    this.databaseWriter.flush();
+    var database = this.database();
+    // players are looked up by their name frequently, index the name to prevent a scan of all players
+    database.createIndex("name");
+    return database.find(JsonDocument.newDocument("name", name)).stream()
       .map(document -> document.toInstanceOf(CloudOfflinePlayer.class))
       .collect(Collectors.toList());
   }
 
   @Override
   public @NonNull List<? extends CloudOfflinePlayer> registeredPlayers() {
+    this.databaseWriter.flush();
     return this.database().entries().values().stream()
       .map(doc -> doc.toInstanceOf(CloudOfflinePlayer.class))
       .filter(Objects::nonNull)
@@ -211,7 +222,7 @@ public void updateOfflinePlayer(@NonNull CloudOfflinePlayer player) {
     // push the change to the cache
     this.pushOfflinePlayerCache(player.uniqueId(), player);
     // update the database
-    this.database().insert(player.uniqueId().toString(), JsonDocument.newDocument(player));
+    this.databaseWriter.write(player);
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
@@ -245,7 +256,7 @@ public void deleteCloudOfflinePlayer(@NonNull CloudOfflinePlayer cloudOfflinePla
     // push the change to the cache
     this.pushOfflinePlayerCache(cloudOfflinePlayer.uniqueId(), null);
     // delete from the database
-    this.database().delete(cloudOfflinePlayer.uniqueId().toString());
+    this.databaseWriter.delete(cloudOfflinePlayer.uniqueId());
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
@@ -273,7 +284,7 @@ public void pushOfflinePlayerCache(@NonNull UUID uniqueId, @Nullable CloudOfflin
   }
 
   public void pushOnlinePlayerCache(@NonNull CloudPlayer cloudPlayer) {
-    this.onlinePlayers.replace(cloudPlayer.uniqueId(), cloudPlayer);
+    this.replaceOnlinePlayer(cloudPlayer);
     this.pushOfflinePlayerCache(cloudPlayer.uniqueId(), CloudOfflinePlayer.offlineCopy(cloudPlayer));
   }
 
@@ -281,8 +292,60 @@ public void pushOnlinePlayerCache(@NonNull CloudPlayer cloudPlayer) {
     return Node.instance().databaseProvider().database(this.databaseName);
   }
 
-  public @NonNull Map<UUID, CloudPlayer> players() {
-    return this.onlinePlayers;
+  public @NonNull @UnmodifiableView Map<UUID, CloudPlayer> players() {
+    return Collections.unmodifiableMap(this.onlinePlayers);
+  }
+
+  public @NonNull List<CloudPlayer> serviceOnlinePlayers(@NonNull UUID serviceUniqueId) {
+    return this.indexedOnlinePlayers(this.onlinePlayerIndex.playersByService(serviceUniqueId));
+  }
+
+  public void indexOnlinePlayer(@NonNull CloudPlayer cloudPlayer) {
+    // re-index the player after it was modified, but only if it is still the known online player
+    this.onlinePlayers.computeIfPresent(cloudPlayer.uniqueId(), ($, player) -> {
+      if (player == cloudPlayer) {
+        this.onlinePlayerIndex.index(cloudPlayer);
+      }
+      return player;
+    });
+  }
+
+  public void removeOnlinePlayer(@NonNull UUID uniqueId) {
+    this.onlinePlayers.computeIfPresent(uniqueId, ($, player) -> {
+      this.onlinePlayerIndex.remove(uniqueId);
+      return null;
+    });
+  }
+
+  protected void putOnlinePlayer(@NonNull CloudPlayer cloudPlayer) {
+    // the index is updated while computing, updates of the same player are serialized by the map
+    this.onlinePlayers.compute(cloudPlayer.uniqueId(), ($, player) -> {
+      this.onlinePlayerIndex.index(cloudPlayer);
+      return cloudPlayer;
+    });
+  }
+
+  protected void replaceOnlinePlayer(@NonNull CloudPlayer cloudPlayer) {
+    this.onlinePlayers.computeIfPresent(cloudPlayer.uniqueId(), ($, player) -> {
+      this.onlinePlayerIndex.index(cloudPlayer);
+      return cloudPlayer;
+    });
+  }
+
+  protected @NonNull List<CloudPlayer> indexedOnlinePlayers(@NonNull Collection<UUID> uniqueIds) {
+    List<CloudPlayer> players = new ArrayList<>();
+    for (var uniqueId : uniqueIds) {
+      var player = this.onlinePlayers.get(uniqueId);
+      if (player != null) {
+        players.add(player);
+      }
+    }
+    return players;
+  }
+
+  public void close() {
+    // write all pending changes into the database
+    this.databaseWriter.close();
   }
 
   public void loginPlayer(
@@ -320,7 +383,7 @@ protected void loginPlayer0(
     var cloudPlayer = this.onlinePlayer(connectionInfo.uniqueId());
     if (cloudPlayer == null) {
       // try to load the player using the name and the login service
-      for (var player : this.players().values()) {
+      for (var player : this.onlinePlayers(connectionInfo.name())) {
         if (player.name().equals(connectionInfo.name())
           && player.loginService() != null
           && player.loginService().uniqueId().equals(connectionInfo.networkService().uniqueId())) {
@@ -345,7 +408,7 @@ protected void loginPlayer0(
           cloudOfflinePlayer.lastNetworkPlayerProxyInfo(),
           cloudOfflinePlayer.properties());
         // cache the online player for later use
-        this.onlinePlayers.put(cloudPlayer.uniqueId(), cloudPlayer);
+        this.putOnlinePlayer(cloudPlayer);
       }
     }
     // cannot never be null at this point
@@ -355,10 +418,8 @@ protected void loginPlayer0(
   protected void processLogin(@NonNull CloudPlayer cloudPlayer) {
     // push the player into the cache
     this.pushOnlinePlayerCache(cloudPlayer);
-    // update the database
-    this.database().insert(
-      cloudPlayer.uniqueId().toString(),
-      JsonDocument.newDocument(CloudOfflinePlayer.offlineCopy(cloudPlayer)));
+    // update the database in the background, the login should not wait for the database
+    this.databaseWriter.write(CloudOfflinePlayer.offlineCopy(cloudPlayer));
     // notify the other nodes that we received the login
     ChannelMessage.builder()
       .targetAll()
@@ -379,7 +440,7 @@ public void processLoginMessage(@NonNull CloudPlayer cloudPlayer) {
       // check if the player is already loaded
       var registeredPlayer = this.onlinePlayers.get(cloudPlayer.uniqueId());
       if (registeredPlayer == null) {
-        this.onlinePlayers.put(cloudPlayer.uniqueId(), cloudPlayer);
+        this.putOnlinePlayer(cloudPlayer);
         this.offlinePlayerCache.put(cloudPlayer.uniqueId(), Optional.of(cloudPlayer));
       } else {
         var needsUpdate = false;
@@ -406,7 +467,7 @@ public void processLoginMessage(@NonNull CloudPlayer cloudPlayer) {
         }
         // check if we need to update the player
         if (needsUpdate) {
-          this.onlinePlayers.replace(cloudPlayer.uniqueId(), cloudPlayer);
+          this.replaceOnlinePlayer(cloudPlayer);
         }
       }
     } finally {
@@ -445,14 +506,14 @@ public void logoutPlayer(@NonNull CloudPlayer cloudPlayer) {
 
   private void logoutPlayer0(@NonNull CloudPlayer cloudPlayer) {
     // remove the player from the cache
-    this.onlinePlayers.remove(cloudPlayer.uniqueId());
+    this.removeOnlinePlayer(cloudPlayer.uniqueId());
     cloudPlayer.lastNetworkPlayerProxyInfo(cloudPlayer.networkPlayerProxyInfo());
     // copy to an offline version
     var offlinePlayer = CloudOfflinePlayer.offlineCopy(cloudPlayer);
     // update the offline version of the player into the cache
     this.pushOfflinePlayerCache(cloudPlayer.uniqueId(), offlinePlayer);
     // push the change to the database
-    this.database().insert(offlinePlayer.uniqueId().toString(), JsonDocument.newDocument(offlinePlayer));
+    this.databaseWriter.write(offlinePlayer);
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
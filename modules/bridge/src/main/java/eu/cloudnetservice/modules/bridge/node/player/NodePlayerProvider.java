@@ -19,37 +19,47 @@
 import eu.cloudnetservice.modules.bridge.player.CloudPlayer;
 import eu.cloudnetservice.modules.bridge.player.PlayerProvider;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.NonNull;
 
 final class NodePlayerProvider implements PlayerProvider {
 
-  private final Supplier<Stream<? extends CloudPlayer>> playerSupplier;
+  private final Map<UUID, CloudPlayer> onlinePlayers;
+  private final Supplier<Collection<UUID>> uniqueIdSupplier;
 
-  public NodePlayerProvider(@NonNull Supplier<Stream<? extends CloudPlayer>> playerSupplier) {
-    this.playerSupplier = playerSupplier;
+  public NodePlayerProvider(
+    @NonNull Map<UUID, CloudPlayer> onlinePlayers,
+    @NonNull Supplier<Collection<UUID>> uniqueIdSupplier
+  ) {
+    this.onlinePlayers = onlinePlayers;
+    this.uniqueIdSupplier = uniqueIdSupplier;
   }
 
   @Override
   public @NonNull Collection<? extends CloudPlayer> players() {
-    return this.playerSupplier.get().collect(Collectors.toList());
+    return this.uniqueIdSupplier.get().stream()
+      .map(this.onlinePlayers::get)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toList());
   }
 
   @Override
   public @NonNull Collection<UUID> uniqueIds() {
-    return this.playerSupplier.get().map(CloudPlayer::uniqueId).collect(Collectors.toSet());
+    return Set.copyOf(this.uniqueIdSupplier.get());
   }
 
   @Override
   public @NonNull Collection<String> names() {
-    return this.playerSupplier.get().map(CloudPlayer::name).collect(Collectors.toSet());
+    return this.players().stream().map(CloudPlayer::name).collect(Collectors.toSet());
   }
 
   @Override
   public int count() {
-    return (int) this.playerSupplier.get().count();
+    return this.uniqueIdSupplier.get().size();
   }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.modules.bridge.player.CloudPlayer;
+import eu.cloudnetservice.modules.bridge.player.NetworkServiceInfo;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Secondary indexes of the online players known to a player manager. All string keys are indexed case-insensitive.
+ * Reads are lock free and can be executed concurrently to an update, updates of the same player must be synchronized by
+ * the caller together with the update of the online player map.
+ */
+public final class OnlinePlayerIndex {
+
+  private final Map<UUID, IndexKeys> indexedKeys = new ConcurrentHashMap<>();
+
+  private final Map<String, Set<UUID>> playersByName = new ConcurrentHashMap<>();
+  private final Map<String, Set<UUID>> playersByTask = new ConcurrentHashMap<>();
+  private final Map<String, Set<UUID>> playersByGroup = new ConcurrentHashMap<>();
+  private final Map<String, Set<UUID>> playersByEnvironment = new ConcurrentHashMap<>();
+  private final Map<UUID, Set<UUID>> playersByService = new ConcurrentHashMap<>();
+
+  private static <K> void reindex(
+    @NonNull Map<K, Set<UUID>> index,
+    @NonNull Collection<K> oldKeys,
+    @NonNull Collection<K> newKeys,
+    @NonNull UUID uniqueId
+  ) {
+    // add the new keys first, the player is never missing from an index while it is moved
+    // the add must happen while computing, another player might remove the last entry of the set concurrently
+    for (var key : newKeys) {
+      index.compute(key, ($, players) -> {
+        var keyPlayers = players == null ? ConcurrentHashMap.<UUID>newKeySet() : players;
+        keyPlayers.add(uniqueId);
+        return keyPlayers;
+      });
+    }
+    // remove the player from all keys which are no longer associated with it, drop empty key sets
+    for (var key : oldKeys) {
+      if (!newKeys.contains(key)) {
+        index.computeIfPresent(key, ($, players) -> players.remove(uniqueId) && players.isEmpty() ? null : players);
+      }
+    }
+  }
+
+  private static <K> @NonNull @UnmodifiableView Set<UUID> lookup(@NonNull Map<K, Set<UUID>> index, @NonNull K key) {
+    var players = index.get(key);
+    return players == null ? Set.of() : Collections.unmodifiableSet(players);
+  }
+
+  private static @NonNull String normalize(@NonNull String key) {
+    return key.toLowerCase(Locale.ROOT);
+  }
+
+  public void index(@NonNull CloudPlayer player) {
+    var keys = IndexKeys.of(player);
+    var previous = this.indexedKeys.put(player.uniqueId(), keys);
+    this.reindex(previous == null ? IndexKeys.EMPTY : previous, keys, player.uniqueId());
+  }
+
+  public void remove(@NonNull UUID uniqueId) {
+    var previous = this.indexedKeys.remove(uniqueId);
+    if (previous != null) {
+      this.reindex(previous, IndexKeys.EMPTY, uniqueId);
+    }
+  }
+
+  public @NonNull @UnmodifiableView Set<UUID> playersByName(@NonNull String name) {
+    return lookup(this.playersByName, normalize(name));
+  }
+
+  public @NonNull @UnmodifiableView Set<UUID> playersByTask(@NonNull String task) {
+    return lookup(this.playersByTask, normalize(task));
+  }
+
+  public @NonNull @UnmodifiableView Set<UUID> playersByGroup(@NonNull String group) {
+    return lookup(this.playersByGroup, normalize(group));
+  }
+
+  public @NonNull @UnmodifiableView Set<UUID> playersByEnvironment(@NonNull String environment) {
+    return lookup(this.playersByEnvironment, normalize(environment));
+  }
+
+  public @NonNull @UnmodifiableView Set<UUID> playersByService(@NonNull UUID serviceUniqueId) {
+    return lookup(this.playersByService, serviceUniqueId);
+  }
+
+  @VisibleForTesting
+  int indexedKeyCount() {
+    return this.playersByName.size()
+      + this.playersByTask.size()
+      + this.playersByGroup.size()
+      + this.playersByEnvironment.size()
+      + this.playersByService.size();
+  }
+
+  private void reindex(@NonNull IndexKeys oldKeys, @NonNull IndexKeys newKeys, @NonNull UUID uniqueId) {
+    reindex(this.playersByName, oldKeys.names(), newKeys.names(), uniqueId);
+    reindex(this.playersByTask, oldKeys.tasks(), newKeys.tasks(), uniqueId);
+    reindex(this.playersByGroup, oldKeys.groups(), newKeys.groups(), uniqueId);
+    reindex(this.playersByEnvironment, oldKeys.environments(), newKeys.environments(), uniqueId);
+    reindex(this.playersByService, oldKeys.services(), newKeys.services(), uniqueId);
+  }
+
+  /**
+   * The keys a player was indexed with, taken from the login and the connected service of the player.
+   */
+  private record IndexKeys(
+    @NonNull Set<String> names,
+    @NonNull Set<String> tasks,
+    @NonNull Set<String> groups,
+    @NonNull Set<String> environments,
+    @NonNull Set<UUID> services
+  ) {
+
+    private static final IndexKeys EMPTY = new IndexKeys(Set.of(), Set.of(), Set.of(), Set.of(), Set.of());
+
+    private static @NonNull IndexKeys of(@NonNull CloudPlayer player) {
+      var loginService = player.loginService();
+      var connectedService = player.connectedService();
+      return new IndexKeys(
+        Set.of(normalize(player.name())),
+        keys(loginService, connectedService, service -> Set.of(normalize(service.taskName()))),
+        keys(loginService, connectedService, service -> service.groups().stream()
+          .map(OnlinePlayerIndex::normalize)
+          .toList()),
+        keys(loginService, connectedService, service -> Set.of(normalize(service.serviceId().environmentName()))),
+        keys(loginService, connectedService, service -> Set.of(service.uniqueId())));
+    }
+
+    private static <K> @NonNull Set<K> keys(
+      @Nullable NetworkServiceInfo loginService,
+      @Nullable NetworkServiceInfo connectedService,
+      @NonNull Function<NetworkServiceInfo, Collection<K>> keyExtractor
+    ) {
+      Set<K> keys = new HashSet<>();
+      if (loginService != null) {
+        keys.addAll(keyExtractor.apply(loginService));
+      }
+      if (connectedService != null) {
+        keys.addAll(keyExtractor.apply(connectedService));
+      }
+      return keys;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
+import eu.cloudnetservice.cloudnet.common.log.LogManager;
+import eu.cloudnetservice.cloudnet.common.log.Logger;
+import eu.cloudnetservice.cloudnet.node.database.LocalDatabase;
+import eu.cloudnetservice.modules.bridge.player.CloudOfflinePlayer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Writes the offline players into the database in the background. Writes are collected for a short delay and then
+ * written in one batch, only the latest write of each player is executed. Pending writes are visible through
+ * {@link #pendingWrite(UUID)} until they were written into the database, failed writes stay pending and are retried.
+ * While the write through condition is met (for example during the shutdown of the node) all writes are executed
+ * directly.
+ */
+public final class PlayerDatabaseWriter {
+
+  private static final Logger LOGGER = LogManager.logger(PlayerDatabaseWriter.class);
+  private static final long WRITE_DELAY_MILLIS = Long.getLong("cloudnet.bridge.player-write-delay", 50);
+  private static final long RETRY_DELAY_MILLIS = Long.getLong("cloudnet.bridge.player-write-retry-delay", 1000);
+
+  private final Supplier<LocalDatabase> databaseSupplier;
+  private final BooleanSupplier writeThrough;
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    var thread = new Thread(runnable, "CloudNet-Bridge-Player-Writer");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  // the pending document of each player, an empty optional represents the deletion of the player
+  private final Map<UUID, Optional<JsonDocument>> pendingWrites = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final Lock flushLock = new ReentrantLock();
+
+  public PlayerDatabaseWriter(
+    @NonNull Supplier<LocalDatabase> databaseSupplier,
+    @NonNull BooleanSupplier writeThrough
+  ) {
+    this.databaseSupplier = databaseSupplier;
+    this.writeThrough = writeThrough;
+  }
+
+  public void write(@NonNull CloudOfflinePlayer player) {
+    // serialize the player now, the player might get modified before the write is executed
+    this.pendingWrites.put(player.uniqueId(), Optional.of(JsonDocument.newDocument(player)));
+    this.writeLater();
+  }
+
+  public void delete(@NonNull UUID uniqueId) {
+    this.pendingWrites.put(uniqueId, Optional.empty());
+    this.writeLater();
+  }
+
+  public @Nullable Optional<CloudOfflinePlayer> pendingWrite(@NonNull UUID uniqueId) {
+    var pendingWrite = this.pendingWrites.get(uniqueId);
+    return pendingWrite == null ? null : pendingWrite.map(document -> document.toInstanceOf(CloudOfflinePlayer.class));
+  }
+
+  public void flush() {
+    this.flushLock.lock();
+    try {
+      var failedWrites = 0;
+      Exception firstFailure = null;
+
+      var database = this.databaseSupplier.get();
+      for (var entry : this.pendingWrites.entrySet()) {
+        var key = entry.getKey().toString();
+        var document = entry.getValue();
+        try {
+          if (document.isPresent()) {
+            database.insert(key, document.get());
+          } else {
+            database.delete(key);
+          }
+          // only remove the write if the player was not written again in the meantime
+          this.pendingWrites.remove(entry.getKey(), document);
+        } catch (Exception exception) {
+          // keep the write pending to retry it later
+          failedWrites++;
+          if (firstFailure == null) {
+            firstFailure = exception;
+          }
+        }
+      }
+
+      if (failedWrites > 0) {
+        LOGGER.severe("Unable to write %d players into the database, retrying later", firstFailure, failedWrites);
+        this.scheduleFlush(RETRY_DELAY_MILLIS);
+      }
+    } finally {
+      this.flushLock.unlock();
+    }
+  }
+
+  public void close() {
+    this.executor.shutdown();
+    this.flush();
+  }
+
+  private void writeLater() {
+    // write directly if requested or the writer was closed already
+    if (this.writeThrough.getAsBoolean() || !this.scheduleFlush(WRITE_DELAY_MILLIS)) {
+      this.flush();
+    }
+  }
+
+  private boolean scheduleFlush(long delayMillis) {
+    if (this.flushScheduled.compareAndSet(false, true)) {
+      try {
+        this.executor.schedule(() -> {
+          // reset before flushing, writes during the flush must schedule the next flush
+          this.flushScheduled.set(false);
+          this.flush();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException exception) {
+        this.flushScheduled.set(false);
+        return false;
+      }
+    }
+    return true;
+  }
+}
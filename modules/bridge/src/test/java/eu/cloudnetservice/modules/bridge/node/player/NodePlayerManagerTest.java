@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
+import eu.cloudnetservice.cloudnet.driver.DriverEnvironment;
+import eu.cloudnetservice.cloudnet.driver.NodeTestUtility;
+import eu.cloudnetservice.cloudnet.driver.event.EventManager;
+import eu.cloudnetservice.cloudnet.driver.network.HostAndPort;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCFactory;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceId;
+import eu.cloudnetservice.cloudnet.node.cluster.sync.DataSyncRegistry;
+import eu.cloudnetservice.cloudnet.node.command.CommandProvider;
+import eu.cloudnetservice.cloudnet.node.database.AbstractDatabaseProvider;
+import eu.cloudnetservice.cloudnet.node.database.LocalDatabase;
+import eu.cloudnetservice.cloudnet.node.provider.NodeMessenger;
+import eu.cloudnetservice.modules.bridge.BridgeManagement;
+import eu.cloudnetservice.modules.bridge.player.CloudOfflinePlayer;
+import eu.cloudnetservice.modules.bridge.player.NetworkPlayerProxyInfo;
+import eu.cloudnetservice.modules.bridge.player.NetworkServiceInfo;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+
+public class NodePlayerManagerTest {
+
+  private static final int PLAYERS = 300;
+  private static final int LOGIN_THREADS = 8;
+
+  private static final NetworkServiceInfo PROXY = new NetworkServiceInfo(
+    Set.of("Proxy"),
+    ServiceId.builder().taskName("Proxy").taskServiceId(1).environment(ServiceEnvironmentType.VELOCITY).build());
+
+  private static NetworkPlayerProxyInfo proxyInfo(int id) {
+    return new NetworkPlayerProxyInfo(
+      new UUID(187, id),
+      "Player" + id,
+      null,
+      758,
+      new HostAndPort("127.0.0.1", 25565),
+      new HostAndPort("127.0.0.1", 25577),
+      true,
+      PROXY);
+  }
+
+  @Test
+  @Timeout(60)
+  void testLoginStormDoesNotWaitForTheDatabase() throws Exception {
+    // a database which blocks all writes until the logins are done
+    var inserts = new AtomicInteger();
+    var releaseDatabase = new CountDownLatch(1);
+    Map<String, JsonDocument> storedPlayers = new ConcurrentHashMap<>();
+    var database = Mockito.mock(LocalDatabase.class);
+    Mockito.when(database.insert(Mockito.anyString(), Mockito.any())).then(invocation -> {
+      Assertions.assertTrue(releaseDatabase.await(30, TimeUnit.SECONDS));
+      inserts.incrementAndGet();
+      storedPlayers.put(invocation.getArgument(0), invocation.getArgument(1));
+      return true;
+    });
+
+    var databaseProvider = Mockito.mock(AbstractDatabaseProvider.class);
+    Mockito.when(databaseProvider.database(Mockito.anyString())).thenReturn(database);
+
+    var node = NodeTestUtility.mockAndSetDriverInstance();
+    Mockito.when(node.running()).thenReturn(true);
+    Mockito.when(node.componentName()).thenReturn("Node-1");
+    Mockito.when(node.environment()).thenReturn(DriverEnvironment.NODE);
+    Mockito.when(node.databaseProvider()).thenReturn(databaseProvider);
+    Mockito.when(node.messenger()).thenReturn(Mockito.mock(NodeMessenger.class));
+    Mockito.when(node.commandProvider()).thenReturn(Mockito.mock(CommandProvider.class));
+
+    var playerManager = new NodePlayerManager(
+      "cloudnet_cloud_players",
+      Mockito.mock(EventManager.class),
+      Mockito.mock(DataSyncRegistry.class),
+      Mockito.mock(RPCFactory.class, Mockito.RETURNS_MOCKS),
+      Mockito.mock(BridgeManagement.class));
+
+    // every player logs in twice (for example when a proxy restarts), the players are logged in concurrently
+    var executor = Executors.newFixedThreadPool(LOGIN_THREADS);
+    var latch = new CountDownLatch(PLAYERS);
+    for (var id = 0; id < PLAYERS; id++) {
+      var proxyInfo = proxyInfo(id);
+      executor.execute(() -> {
+        playerManager.loginPlayer(proxyInfo, null);
+        playerManager.loginPlayer(proxyInfo, null);
+        latch.countDown();
+      });
+    }
+
+    // the logins can only complete if they do not wait for the blocked database
+    Assertions.assertTrue(latch.await(30, TimeUnit.SECONDS));
+    executor.shutdown();
+    Assertions.assertEquals(PLAYERS, playerManager.onlineCount());
+    Assertions.assertNotNull(playerManager.offlinePlayer(new UUID(187, 0)));
+
+    releaseDatabase.countDown();
+    playerManager.close();
+
+    Assertions.assertEquals(PLAYERS, storedPlayers.size());
+    Assertions.assertTrue(inserts.get() <= PLAYERS * 2);
+    for (var entry : storedPlayers.entrySet()) {
+      var player = entry.getValue().toInstanceOf(CloudOfflinePlayer.class);
+      Assertions.assertEquals(entry.getKey(), player.uniqueId().toString());
+    }
+  }
+}
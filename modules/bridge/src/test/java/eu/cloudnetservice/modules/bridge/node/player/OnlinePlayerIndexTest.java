@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
+import eu.cloudnetservice.cloudnet.driver.network.HostAndPort;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceId;
+import eu.cloudnetservice.modules.bridge.player.CloudPlayer;
+import eu.cloudnetservice.modules.bridge.player.NetworkPlayerProxyInfo;
+import eu.cloudnetservice.modules.bridge.player.NetworkServiceInfo;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class OnlinePlayerIndexTest {
+
+  private static final NetworkServiceInfo PROXY = service("Proxy", ServiceEnvironmentType.VELOCITY, "Proxy");
+  private static final NetworkServiceInfo LOBBY = service("Lobby", ServiceEnvironmentType.MINECRAFT_SERVER, "Lobby");
+  private static final NetworkServiceInfo GAME = service("BedWars", ServiceEnvironmentType.MINECRAFT_SERVER, "Games");
+
+  private static NetworkServiceInfo service(String task, ServiceEnvironmentType environment, String group) {
+    return new NetworkServiceInfo(
+      Set.of(group),
+      ServiceId.builder().taskName(task).taskServiceId(1).environment(environment).build());
+  }
+
+  private static CloudPlayer player(int id, NetworkServiceInfo connectedService) {
+    var proxyInfo = new NetworkPlayerProxyInfo(
+      new UUID(187, id),
+      "Player" + id,
+      null,
+      758,
+      new HostAndPort("127.0.0.1", 25565),
+      new HostAndPort("127.0.0.1", 25577),
+      true,
+      PROXY);
+    return new CloudPlayer(
+      PROXY,
+      connectedService,
+      proxyInfo,
+      null,
+      JsonDocument.newDocument(),
+      proxyInfo.name(),
+      0,
+      0,
+      proxyInfo,
+      JsonDocument.newDocument());
+  }
+
+  @Test
+  void testIndexAndCaseInsensitiveLookup() {
+    var index = new OnlinePlayerIndex();
+    var player = player(1, LOBBY);
+    index.index(player);
+
+    Assertions.assertEquals(Set.of(player.uniqueId()), index.playersByName("player1"));
+    Assertions.assertEquals(Set.of(player.uniqueId()), index.playersByName("PLAYER1"));
+    // the player is indexed with both the login and the connected service
+    Assertions.assertEquals(Set.of(player.uniqueId()), index.playersByTask("lobby"));
+    Assertions.assertEquals(Set.of(player.uniqueId()), index.playersByTask("PROXY"));
+    Assertions.assertEquals(Set.of(player.uniqueId()), index.playersByGroup("LOBBY"));
+    Assertions.assertEquals(Set.of(player.uniqueId()), index.playersByEnvironment("velocity"));
+    Assertions.assertEquals(Set.of(player.uniqueId()), index.playersByEnvironment("MINECRAFT_SERVER"));
+    Assertions.assertEquals(Set.of(player.uniqueId()), index.playersByService(LOBBY.uniqueId()));
+    Assertions.assertTrue(index.playersByTask("BedWars").isEmpty());
+  }
+
+  @Test
+  void testReindexAndRemove() {
+    var index = new OnlinePlayerIndex();
+    var first = player(1, LOBBY);
+    var second = player(2, LOBBY);
+    index.index(first);
+    index.index(second);
+    Assertions.assertEquals(Set.of(first.uniqueId(), second.uniqueId()), index.playersByTask("Lobby"));
+
+    // the first player switches to another service
+    first.connectedService(GAME);
+    index.index(first);
+    Assertions.assertEquals(Set.of(second.uniqueId()), index.playersByTask("Lobby"));
+    Assertions.assertEquals(Set.of(first.uniqueId()), index.playersByTask("BedWars"));
+    Assertions.assertEquals(Set.of(first.uniqueId()), index.playersByGroup("Games"));
+    Assertions.assertEquals(Set.of(first.uniqueId()), index.playersByService(GAME.uniqueId()));
+
+    index.remove(second.uniqueId());
+    Assertions.assertTrue(index.playersByName("Player2").isEmpty());
+    Assertions.assertTrue(index.playersByTask("Lobby").isEmpty());
+    Assertions.assertEquals(Set.of(first.uniqueId()), index.playersByTask("Proxy"));
+    // removing an unknown player has no effect
+    index.remove(second.uniqueId());
+    Assertions.assertEquals(Set.of(first.uniqueId()), index.playersByName("Player1"));
+  }
+
+  @Test
+  void testEmptyKeysAreRemoved() {
+    var index = new OnlinePlayerIndex();
+    var player = player(1, LOBBY);
+    index.index(player);
+    // name, two tasks, two groups, two environments and two services
+    Assertions.assertEquals(9, index.indexedKeyCount());
+
+    player.connectedService(GAME);
+    index.index(player);
+    Assertions.assertEquals(9, index.indexedKeyCount());
+    Assertions.assertTrue(index.playersByService(LOBBY.uniqueId()).isEmpty());
+
+    index.remove(player.uniqueId());
+    Assertions.assertEquals(0, index.indexedKeyCount());
+  }
+
+  @Test
+  @Timeout(60)
+  void testConcurrentMovesOfDifferentPlayers() throws Exception {
+    var index = new OnlinePlayerIndex();
+    var players = 64;
+    var moves = 1_000;
+
+    // all players move between the same services concurrently, emptying and re-creating the same keys
+    var executor = Executors.newFixedThreadPool(8);
+    var latch = new CountDownLatch(players);
+    for (var id = 0; id < players; id++) {
+      var player = player(id, LOBBY);
+      executor.execute(() -> {
+        for (var move = 0; move < moves; move++) {
+          player.connectedService(move % 2 == 0 ? GAME : LOBBY);
+          index.index(player);
+        }
+        latch.countDown();
+      });
+    }
+
+    Assertions.assertTrue(latch.await(30, TimeUnit.SECONDS));
+    executor.shutdown();
+    // every player ended on the lobby, no player must be lost from the index
+    Assertions.assertEquals(players, index.playersByTask("Lobby").size());
+    Assertions.assertEquals(players, index.playersByService(LOBBY.uniqueId()).size());
+    Assertions.assertTrue(index.playersByTask("BedWars").isEmpty());
+  }
+}
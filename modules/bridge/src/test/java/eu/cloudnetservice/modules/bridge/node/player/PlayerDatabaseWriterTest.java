@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
+import eu.cloudnetservice.cloudnet.driver.network.HostAndPort;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceId;
+import eu.cloudnetservice.cloudnet.node.database.LocalDatabase;
+import eu.cloudnetservice.modules.bridge.player.CloudOfflinePlayer;
+import eu.cloudnetservice.modules.bridge.player.NetworkPlayerProxyInfo;
+import eu.cloudnetservice.modules.bridge.player.NetworkServiceInfo;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class PlayerDatabaseWriterTest {
+
+  private static final NetworkServiceInfo PROXY = new NetworkServiceInfo(
+    Set.of("Proxy"),
+    ServiceId.builder().taskName("Proxy").taskServiceId(1).environment(ServiceEnvironmentType.VELOCITY).build());
+
+  private static CloudOfflinePlayer player(int id) {
+    var proxyInfo = new NetworkPlayerProxyInfo(
+      new UUID(187, id),
+      "Player" + id,
+      null,
+      758,
+      new HostAndPort("127.0.0.1", 25565),
+      new HostAndPort("127.0.0.1", 25577),
+      true,
+      PROXY);
+    return new CloudOfflinePlayer(proxyInfo.name(), 0, 0, proxyInfo, JsonDocument.newDocument());
+  }
+
+  @Test
+  void testFailedWritesStayPending() {
+    var databaseAvailable = new AtomicBoolean();
+    var successfulInserts = new AtomicInteger();
+    var database = Mockito.mock(LocalDatabase.class);
+    Mockito.when(database.insert(Mockito.anyString(), Mockito.any())).then(invocation -> {
+      if (!databaseAvailable.get()) {
+        throw new IllegalStateException("Database is closed");
+      }
+      successfulInserts.incrementAndGet();
+      return true;
+    });
+
+    var writer = new PlayerDatabaseWriter(() -> database, () -> false);
+    var player = player(1);
+    writer.write(player);
+
+    // the failed write must still be visible and retried by the next flush
+    writer.flush();
+    Assertions.assertNotNull(writer.pendingWrite(player.uniqueId()));
+
+    databaseAvailable.set(true);
+    writer.flush();
+    Assertions.assertNull(writer.pendingWrite(player.uniqueId()));
+    Assertions.assertEquals(1, successfulInserts.get());
+
+    writer.close();
+  }
+
+  @Test
+  void testWritesThroughWhenRequested() {
+    var writeThrough = new AtomicBoolean();
+    var database = Mockito.mock(LocalDatabase.class);
+    Mockito.when(database.insert(Mockito.anyString(), Mockito.any())).thenReturn(true);
+
+    var writer = new PlayerDatabaseWriter(() -> database, writeThrough::get);
+    var first = player(1);
+    writer.write(first);
+
+    // once writing through, all pending writes are written directly, including the ones of other players
+    writeThrough.set(true);
+    var second = player(2);
+    writer.delete(second.uniqueId());
+
+    Assertions.assertNull(writer.pendingWrite(first.uniqueId()));
+    Assertions.assertNull(writer.pendingWrite(second.uniqueId()));
+    Mockito.verify(database).insert(Mockito.eq(first.uniqueId().toString()), Mockito.any());
+    Mockito.verify(database).delete(second.uniqueId().toString());
+
+    writer.close();
+  }
+}
@@ -40,6 +40,8 @@ subprojects {
   dependencies {
     "compileOnly"(rootProject.projects.node)
     "testImplementation"(rootProject.projects.node)
+    // the test utilities of the node, for example to mock the node instance
+    "testImplementation"(rootProject.projects.node.sourceSets()["test"].output)
   }
 
   tasks.named<Copy>("processResources") {
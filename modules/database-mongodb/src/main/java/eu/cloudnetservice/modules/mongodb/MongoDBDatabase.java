@@ -20,6 +20,7 @@
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
 import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
@@ -28,6 +29,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -209,10 +211,35 @@ public boolean synced() {
     return result.isEmpty() ? null : result;
   }
 
+  @Override
+  public @Nullable Map<String, JsonDocument> readChunk(@Nullable String afterKey, int chunkSize) {
+    var filter = afterKey == null ? new Document() : Filters.gt(KEY_NAME, afterKey);
+    // the unique index on the key is used to seek to the first document of the chunk
+    Map<String, JsonDocument> result = new LinkedHashMap<>();
+    try (var cursor = this.collection.find(filter).sort(Sorts.ascending(KEY_NAME)).limit(chunkSize).iterator()) {
+      while (cursor.hasNext()) {
+        var document = cursor.next();
+        var key = document.getString(KEY_NAME);
+        var value = JsonDocument.fromJsonString(document.get(VALUE_NAME, Document.class).toJson());
+
+        result.put(key, value);
+      }
+    }
+
+    return result.isEmpty() ? null : result;
+  }
+
   @Override
   public void close() {
   }
 
+  @Override
+  protected boolean buildIndex(@NonNull String fieldName) {
+    // mongodb maintains the index and uses it for the value filters of the find operations
+    this.collection.createIndex(Indexes.ascending(VALUE_NAME + '.' + fieldName));
+    return true;
+  }
+
   protected @NonNull <T> Bson valueEq(@NonNull String fieldName, @Nullable final T value) {
     return Filters.eq(VALUE_NAME + '.' + fieldName, value);
   }
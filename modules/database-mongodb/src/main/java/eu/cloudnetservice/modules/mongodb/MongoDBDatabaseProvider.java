@@ -25,7 +25,6 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -45,7 +44,7 @@ public MongoDBDatabaseProvider(@NonNull MongoDBConnectionConfig config) {
   public MongoDBDatabaseProvider(@NonNull MongoDBConnectionConfig config, @Nullable ExecutorService executorService) {
     this.config = config;
     this.autoShutdownExecutorService = executorService == null;
-    this.executorService = executorService == null ? Executors.newCachedThreadPool() : executorService;
+    this.executorService = executorService == null ? newDatabaseExecutor() : executorService;
   }
 
   @Override
@@ -72,6 +71,7 @@ public boolean containsDatabase(@NonNull String name) {
   @Override
   public boolean deleteDatabase(@NonNull String name) {
     this.databaseCache.invalidate(name);
+    this.indexedFields.remove(name);
     this.mongoDatabase.getCollection(name).drop();
 
     return true;
@@ -89,11 +89,12 @@ public boolean init() {
 
   @Override
   public boolean deleteDatabase(@NonNull String name) {
-    return this.executeUpdate(String.format("DROP TABLE IF EXISTS `%s`;", name)) != -1;
+    this.databaseCache.invalidate(name);
+    return this.executeUpdate(String.format("DROP TABLE IF EXISTS `%s`;", name)) != -1 && this.dropIndexTable(name);
   }
 
   @Override
-  public @NonNull Collection<String> databaseNames() {
+  protected @NonNull Collection<String> tableNames() {
     try (var connection = this.hikariDataSource.getConnection();
       var meta = connection.getMetaData().getTables(null, null, null, TABLE_TYPE)) {
       // now we just need to extract the name from of the tables from the result set
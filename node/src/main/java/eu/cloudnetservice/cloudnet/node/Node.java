@@ -65,6 +65,7 @@
 import eu.cloudnetservice.cloudnet.node.network.DefaultNetworkClientChannelHandler;
 import eu.cloudnetservice.cloudnet.node.network.DefaultNetworkServerChannelHandler;
 import eu.cloudnetservice.cloudnet.node.network.chunk.FileDeployCallbackListener;
+import eu.cloudnetservice.cloudnet.node.network.listener.message.DatabaseChannelMessageListener;
 import eu.cloudnetservice.cloudnet.node.permission.DefaultDatabasePermissionManagement;
 import eu.cloudnetservice.cloudnet.node.permission.DefaultPermissionManagementHandler;
 import eu.cloudnetservice.cloudnet.node.permission.NodePermissionManagement;
@@ -233,6 +234,8 @@ protected void start(@NonNull Instant startInstant) throws Exception {
     }
     // notify the user about the selected database
     LOGGER.info(I18n.trans("start-connect-database", this.databaseProvider.name()));
+    // push the changes of databases to the wrappers caching them
+    this.eventManager.registerListener(new DatabaseChannelMessageListener());
 
     // init the permission management
     this.permissionManagement.init();
@@ -181,6 +181,13 @@ private void startService() {
         if (task.minServiceCount() > runningServiceCount) {
           this.node.cloudServiceProvider().selectOrCreateService(task).start();
         }
+        // replace the services taken from the warm pool of the task
+        if (task.warmPoolSize() > 0) {
+          this.node.cloudServiceProvider().warmPool().refill(
+            task,
+            this.node.cloudServiceProvider().servicesByTask(task.name()),
+            this.node.cloudServiceFactory());
+        }
       }
     }
   }
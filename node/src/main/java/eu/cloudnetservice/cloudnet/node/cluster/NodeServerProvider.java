@@ -60,6 +60,8 @@ public interface NodeServerProvider extends PacketSender, Closeable {
     @NonNull InputStream stream,
     boolean overwrite);
 
+  @NonNull Task<TransferStatus> syncTemplateToCluster(@NonNull ServiceTemplate template);
+
   @NonNull Task<TransferStatus> deployStaticServiceToCluster(
     @NonNull String name,
     @NonNull InputStream stream,
@@ -27,11 +27,14 @@
 import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
 import eu.cloudnetservice.cloudnet.driver.service.ServiceTemplate;
+import eu.cloudnetservice.cloudnet.driver.template.TemplateManifest;
 import eu.cloudnetservice.cloudnet.node.Node;
 import eu.cloudnetservice.cloudnet.node.cluster.NodeServer;
 import eu.cloudnetservice.cloudnet.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.cloudnet.node.cluster.task.LocalNodeUpdateTask;
 import eu.cloudnetservice.cloudnet.node.cluster.task.NodeDisconnectTrackerTask;
+import eu.cloudnetservice.cloudnet.node.template.TemplateStorageUtil;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.Collections;
@@ -173,6 +176,27 @@ public void selectHeadNode() {
     return Task.completedTask(TransferStatus.SUCCESS);
   }
 
+  @Override
+  public @NonNull Task<TransferStatus> syncTemplateToCluster(@NonNull ServiceTemplate template) {
+    return Task.supply(() -> {
+      // get the manifest of the local template to compare with the other nodes
+      var storage = template.storage();
+      var manifest = storage.manifest(template);
+      if (manifest == null) {
+        return TransferStatus.FAILURE;
+      }
+      // sync the template to each node, each node might need different files
+      var status = TransferStatus.SUCCESS;
+      for (var server : this.nodeServers) {
+        var channel = server.channel();
+        if (channel != null && this.syncTemplateToNode(server, channel, template, manifest) == TransferStatus.FAILURE) {
+          status = TransferStatus.FAILURE;
+        }
+      }
+      return status;
+    });
+  }
+
   @Override
   public @NonNull Task<TransferStatus> deployStaticServiceToCluster(
     @NonNull String name,
@@ -195,6 +219,48 @@ public void selectHeadNode() {
     return Task.completedTask(TransferStatus.SUCCESS);
   }
 
+  protected @NonNull TransferStatus syncTemplateToNode(
+    @NonNull NodeServer server,
+    @NonNull NetworkChannel channel,
+    @NonNull ServiceTemplate template,
+    @NonNull TemplateManifest manifest
+  ) {
+    // request the manifest of the template on the node
+    var response = ChannelMessage.builder()
+      .targetNode(server.name())
+      .message("remote_templates_template_manifest")
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .buffer(DataBuf.empty().writeString(template.storageName()).writeObject(template))
+      .build()
+      .sendSingleQuery();
+    if (response == null) {
+      return TransferStatus.FAILURE;
+    }
+    // compare the manifests, skip the node if it is up-to-date
+    var remoteManifest = response.content().readObject(TemplateManifest.class);
+    var changedPaths = manifest.changedPaths(remoteManifest);
+    var removedPaths = manifest.removedPaths(remoteManifest);
+    if (changedPaths.isEmpty() && removedPaths.isEmpty()) {
+      return TransferStatus.SUCCESS;
+    }
+    // only send the changed files to the node
+    try (var stream = TemplateStorageUtil.zipTemplateFiles(template.storage(), template, changedPaths)) {
+      return ChunkedPacketSender.forFileTransfer()
+        .transferChannel("sync_service_template")
+        .withExtraData(DataBuf.empty()
+          .writeString(template.storageName())
+          .writeObject(template)
+          .writeObject(removedPaths))
+        .toChannels(channel)
+        .source(stream)
+        .build()
+        .transferChunkedData()
+        .get(5, TimeUnit.MINUTES, TransferStatus.FAILURE);
+    } catch (IOException exception) {
+      return TransferStatus.FAILURE;
+    }
+  }
+
   @Override
   public void sendPacket(@NonNull Packet packet) {
     for (var server : this.nodeServers) {
@@ -23,6 +23,7 @@
 import eu.cloudnetservice.cloudnet.driver.network.protocol.Packet;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.PacketListenerRegistry;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.QueryPacketManager;
+import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCIdentifierTable;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import lombok.NonNull;
@@ -32,6 +33,8 @@ public final class QueuedNetworkChannel implements NetworkChannel {
 
   private final NetworkChannel wrappedChannel;
   private final Queue<Packet> scheduledPackets;
+  // queued packets are drained into another channel which doesn't know the identifiers of the wrapped channel
+  private final RPCIdentifierTable rpcIdentifierTable = new RPCIdentifierTable(false);
 
   public QueuedNetworkChannel(@NonNull NetworkChannel wrappedChannel) {
     this.wrappedChannel = wrappedChannel;
@@ -68,6 +71,11 @@ public long channelId() {
     return this.wrappedChannel.queryPacketManager();
   }
 
+  @Override
+  public @NonNull RPCIdentifierTable rpcIdentifierTable() {
+    return this.rpcIdentifierTable;
+  }
+
   @Override
   public boolean clientProvidedChannel() {
     return this.wrappedChannel.clientProvidedChannel();
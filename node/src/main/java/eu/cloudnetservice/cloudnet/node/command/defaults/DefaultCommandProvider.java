@@ -37,6 +37,7 @@
 import eu.cloudnetservice.cloudnet.node.command.sub.CommandConfig;
 import eu.cloudnetservice.cloudnet.node.command.sub.CommandCreate;
 import eu.cloudnetservice.cloudnet.node.command.sub.CommandDebug;
+import eu.cloudnetservice.cloudnet.node.command.sub.CommandEvents;
 import eu.cloudnetservice.cloudnet.node.command.sub.CommandExit;
 import eu.cloudnetservice.cloudnet.node.command.sub.CommandGroups;
 import eu.cloudnetservice.cloudnet.node.command.sub.CommandHelp;
@@ -208,6 +209,7 @@ public void registerDefaultCommands() {
     this.register(new CommandPermissions());
     this.register(new CommandClear());
     this.register(new CommandDebug());
+    this.register(new CommandEvents());
     this.register(new CommandMigrate());
     this.register(new CommandCluster());
     this.register(new CommandConfig());
@@ -29,8 +29,6 @@
 import eu.cloudnetservice.cloudnet.common.column.RowBasedFormatter;
 import eu.cloudnetservice.cloudnet.common.io.ZipUtil;
 import eu.cloudnetservice.cloudnet.common.language.I18n;
-import eu.cloudnetservice.cloudnet.common.log.LogManager;
-import eu.cloudnetservice.cloudnet.common.log.Logger;
 import eu.cloudnetservice.cloudnet.common.unsafe.CPUUsageResolver;
 import eu.cloudnetservice.cloudnet.driver.network.HostAndPort;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.TransferStatus;
@@ -61,7 +59,6 @@
 @Description("Manages the cluster and provides information about it")
 public final class CommandCluster {
 
-  private static final Logger LOGGER = LogManager.logger(CommandCluster.class);
   private static final DateFormat DEFAULT_FORMAT = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss");
   private static final RowBasedFormatter<NodeServer> FORMATTER = RowBasedFormatter.<NodeServer>builder()
     .defaultFormatter(ColumnFormatter.builder().columnTitles("Name", "State", "Listeners", "Extra").build())
@@ -288,29 +285,22 @@ private void pushStaticService(
 
   private void pushTemplate(@NonNull CommandSource source, @NonNull ServiceTemplate template) {
     var templateName = template.toString();
-    try {
-      source.sendMessage(
-        I18n.trans("command-cluster-push-template-compress", templateName));
-      // compress the template and create an InputStream
-      var inputStream = template.storage().zipTemplate(template);
-      // check if the template really exists in the given storage
-      if (inputStream != null) {
-        // deploy the template into the cluster
-        Node.instance().nodeServerProvider().deployTemplateToCluster(template, inputStream, true)
-          .thenAccept(transferStatus -> {
-            if (transferStatus == TransferStatus.FAILURE) {
-              // the transfer failed
-              source.sendMessage(I18n.trans("command-cluster-push-template-failed", templateName));
-            } else {
-              // the transfer was successful
-              source.sendMessage(I18n.trans("command-cluster-push-template-success", templateName));
-            }
-          });
-      } else {
-        source.sendMessage(I18n.trans("command-template-not-found", templateName));
-      }
-    } catch (IOException exception) {
-      LOGGER.severe("An exception occurred while compressing template %s", exception, templateName);
+    // check if the template really exists in the given storage
+    if (template.storage().contains(template)) {
+      source.sendMessage(I18n.trans("command-cluster-push-template-compress", templateName));
+      // sync the changed files of the template into the cluster
+      Node.instance().nodeServerProvider().syncTemplateToCluster(template)
+        .thenAccept(transferStatus -> {
+          if (transferStatus == TransferStatus.FAILURE) {
+            // the transfer failed
+            source.sendMessage(I18n.trans("command-cluster-push-template-failed", templateName));
+          } else {
+            // the transfer was successful
+            source.sendMessage(I18n.trans("command-cluster-push-template-success", templateName));
+          }
+        });
+    } else {
+      source.sendMessage(I18n.trans("command-template-not-found", templateName));
     }
   }
 
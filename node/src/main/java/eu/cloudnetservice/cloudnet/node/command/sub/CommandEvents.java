@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.command.sub;
+
+import cloud.commandframework.annotations.CommandMethod;
+import cloud.commandframework.annotations.CommandPermission;
+import cloud.commandframework.annotations.Flag;
+import eu.cloudnetservice.cloudnet.common.column.ColumnFormatter;
+import eu.cloudnetservice.cloudnet.common.column.RowBasedFormatter;
+import eu.cloudnetservice.cloudnet.driver.event.RegisteredEventListener;
+import eu.cloudnetservice.cloudnet.node.Node;
+import eu.cloudnetservice.cloudnet.node.command.annotation.Description;
+import eu.cloudnetservice.cloudnet.node.command.source.CommandSource;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+
+@CommandPermission("cloudnet.command.events")
+@Description("Displays the invocation statistics of all registered event listeners")
+public final class CommandEvents {
+
+  private static final RowBasedFormatter<RegisteredEventListener> LISTENER_FORMATTER = RowBasedFormatter
+    .<RegisteredEventListener>builder()
+    .defaultFormatter(ColumnFormatter.builder()
+      .columnTitles("Listener", "Event", "Async", "Calls", "Avg (ms)", "Max (ms)", "Pending")
+      .build())
+    .column(listener -> listener.instance().getClass().getSimpleName() + "#" + listener.methodName())
+    .column(listener -> listener.eventClass().getSimpleName())
+    .column(RegisteredEventListener::async)
+    .column(RegisteredEventListener::invocationCount)
+    .column(listener -> formatMillis(listener.invocationCount() == 0
+      ? 0
+      : listener.totalInvocationNanos() / listener.invocationCount()))
+    .column(listener -> formatMillis(listener.maxInvocationNanos()))
+    .column(RegisteredEventListener::pendingEvents)
+    .build();
+
+  private static @NonNull String formatMillis(long nanos) {
+    return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  @CommandMethod("events")
+  public void displayListeners(@NonNull CommandSource source, @Flag("slow") boolean onlySlow) {
+    var listeners = Node.instance().eventManager().registeredListeners().stream()
+      .filter(listener -> !onlySlow || listener.maxInvocationNanos() >= TimeUnit.MILLISECONDS.toNanos(50))
+      .sorted(Comparator.comparingLong(RegisteredEventListener::totalInvocationNanos).reversed())
+      .toList();
+    source.sendMessage(LISTENER_FORMATTER.format(listeners));
+  }
+}
@@ -284,6 +284,16 @@ public void displayTask(
         "Nodes:" + (serviceTask.associatedNodes().isEmpty() ? "All"
           : Arrays.toString(serviceTask.associatedNodes().toArray())));
       messages.add("Minimal Services: " + serviceTask.minServiceCount());
+      messages.add("Warm pool size: " + serviceTask.warmPoolSize());
+      if (serviceTask.warmPoolSize() > 0) {
+        var statistics = Node.instance().cloudServiceProvider().warmPool().statistics(serviceTask.name());
+        messages.add(String.format(
+          "Warm pool: %d hits, %d misses, %d prepared services, %dms average prepare time",
+          statistics.hits(),
+          statistics.misses(),
+          statistics.preparedServices(),
+          statistics.averagePrepareMillis()));
+      }
       messages.add("Java Command: " + serviceTask.javaCommand());
       messages.add("Start Port: " + serviceTask.startPort());
       messages.add("Static services: " + serviceTask.staticServices());
@@ -326,6 +336,21 @@ public void setMinServiceCount(
     }
   }
 
+  @CommandMethod("tasks task <name> set warmPoolSize <amount>")
+  public void setWarmPoolSize(
+    @NonNull CommandSource source,
+    @NonNull @Argument("name") Collection<ServiceTask> serviceTasks,
+    @Argument("amount") @Range(min = "0") int amount
+  ) {
+    for (var task : serviceTasks) {
+      this.updateTask(task, builder -> builder.warmPoolSize(amount));
+      source.sendMessage(I18n.trans("command-tasks-set-property-success",
+        "warmPoolSize",
+        task.name(),
+        amount));
+    }
+  }
+
   @CommandMethod("tasks task <name> set maintenance <enabled>")
   public void setMaintenance(
     @NonNull CommandSource source,
@@ -16,11 +16,21 @@
 
 package eu.cloudnetservice.cloudnet.node.database;
 
+import com.google.gson.JsonElement;
+import eu.cloudnetservice.cloudnet.common.concurrent.Task;
 import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
+import eu.cloudnetservice.cloudnet.common.function.ThrowableSupplier;
 import eu.cloudnetservice.cloudnet.driver.database.Database;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
 
 public abstract class AbstractDatabase implements LocalDatabase, Database {
 
@@ -44,20 +54,152 @@ protected AbstractDatabase(
   }
 
   @Override
-  public void iterate(@NonNull BiConsumer<String, JsonDocument> consumer, int chunkSize) {
-    var documentCount = this.documentCount();
-    if (documentCount != 0) {
-      long currentIndex = 0;
-      while (currentIndex < documentCount) {
-        var result = this.readChunk(currentIndex, chunkSize);
-        if (result != null) {
-          result.forEach(consumer);
-          currentIndex += chunkSize;
-          continue;
+  public boolean createIndex(@NonNull String fieldName) {
+    var fields = this.databaseProvider.indexedFields(this.name);
+    if (fields.putIfAbsent(fieldName, Boolean.FALSE) != null) {
+      // the index is already declared, either usable or currently built
+      return true;
+    }
+
+    // all writes are maintaining the index from now on, build it from the existing documents
+    if (this.buildIndex(fieldName)) {
+      fields.put(fieldName, Boolean.TRUE);
+      return true;
+    } else {
+      fields.remove(fieldName);
+      return false;
+    }
+  }
+
+  @Override
+  public @NonNull @UnmodifiableView Collection<String> indexedFields() {
+    return Collections.unmodifiableCollection(this.databaseProvider.indexedFields(this.name).keySet());
+  }
+
+  protected boolean indexReady(@NonNull String fieldName) {
+    return this.databaseProvider.indexedFields(this.name).getOrDefault(fieldName, Boolean.FALSE);
+  }
+
+  protected void restoreIndex(@NonNull String fieldName) {
+    this.databaseProvider.indexedFields(this.name).putIfAbsent(fieldName, Boolean.TRUE);
+  }
+
+  protected abstract boolean buildIndex(@NonNull String fieldName);
+
+  protected static @Nullable String indexValue(@Nullable Object value) {
+    // missing fields and null values are not indexed
+    if (!(value instanceof JsonElement element) || element.isJsonNull()) {
+      return null;
+    }
+
+    // json numbers are equal based on their value, not on their representation (for example 1 and 1.0)
+    if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber()) {
+      try {
+        return new BigDecimal(element.getAsString()).stripTrailingZeros().toPlainString();
+      } catch (NumberFormatException exception) {
+        return element.toString();
+      }
+    }
+
+    return element.toString();
+  }
+
+  protected static @Nullable String indexValue(@Nullable JsonDocument document, @NonNull String fieldName) {
+    return document == null ? null : indexValue(document.get(fieldName));
+  }
+
+  @Override
+  public @NonNull Task<Boolean> insertAsync(@NonNull String key, @NonNull JsonDocument document) {
+    return this.executeAsync(() -> this.insert(key, document));
+  }
+
+  @Override
+  public @NonNull Task<Boolean> containsAsync(@NonNull String key) {
+    return this.executeAsync(() -> this.contains(key));
+  }
+
+  @Override
+  public @NonNull Task<Boolean> deleteAsync(@NonNull String key) {
+    return this.executeAsync(() -> this.delete(key));
+  }
+
+  @Override
+  public @NonNull Task<JsonDocument> getAsync(@NonNull String key) {
+    return this.executeAsync(() -> this.get(key));
+  }
+
+  @Override
+  public @NonNull Task<Collection<JsonDocument>> findAsync(@NonNull String fieldName, @Nullable Object fieldValue) {
+    return this.executeAsync(() -> this.find(fieldName, fieldValue));
+  }
+
+  @Override
+  public @NonNull Task<Collection<JsonDocument>> findAsync(@NonNull JsonDocument filters) {
+    return this.executeAsync(() -> this.find(filters));
+  }
+
+  @Override
+  public @NonNull Task<Collection<String>> keysAsync() {
+    return this.executeAsync(this::keys);
+  }
+
+  @Override
+  public @NonNull Task<Collection<JsonDocument>> documentsAsync() {
+    return this.executeAsync(this::documents);
+  }
+
+  @Override
+  public @NonNull Task<Map<String, JsonDocument>> entriesAsync() {
+    return this.executeAsync(this::entries);
+  }
+
+  @Override
+  public @NonNull Task<Void> clearAsync() {
+    return this.executeAsync(() -> {
+      this.clear();
+      return null;
+    });
+  }
+
+  @Override
+  public @NonNull Task<Long> documentCountAsync() {
+    return this.executeAsync(this::documentCount);
+  }
+
+  protected @NonNull <V> Task<V> executeAsync(@NonNull ThrowableSupplier<V, Throwable> supplier) {
+    var task = new Task<V>();
+    try {
+      // run on the bounded executor of the provider rather than the unbounded common pool of tasks
+      this.executorService.execute(() -> {
+        try {
+          task.complete(supplier.get());
+        } catch (Throwable throwable) {
+          task.completeExceptionally(throwable);
         }
+      });
+    } catch (RejectedExecutionException exception) {
+      // the provider is closed already
+      task.completeExceptionally(exception);
+    }
+    return task;
+  }
 
+  @Override
+  public void iterate(@NonNull BiConsumer<String, JsonDocument> consumer, int chunkSize) {
+    String lastKey = null;
+    Map<String, JsonDocument> chunk;
+    // continue after the last read key rather than skipping the already read entries again
+    while ((chunk = this.readChunk(lastKey, chunkSize)) != null) {
+      for (var entry : chunk.entrySet()) {
+        consumer.accept(entry.getKey(), entry.getValue());
+        lastKey = entry.getKey();
+      }
+
+      // a chunk which is not full is the last one
+      if (chunk.size() < chunkSize) {
         break;
       }
     }
   }
+
 }
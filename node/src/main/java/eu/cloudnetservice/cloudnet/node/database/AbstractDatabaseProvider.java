@@ -22,16 +22,47 @@
 import eu.cloudnetservice.cloudnet.common.Nameable;
 import eu.cloudnetservice.cloudnet.driver.database.DatabaseProvider;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.NonNull;
 
 public abstract class AbstractDatabaseProvider implements DatabaseProvider, Nameable, AutoCloseable {
 
+  protected static final int DATABASE_THREADS = Integer.getInteger(
+    "cloudnet.database.threads",
+    Math.max(4, Runtime.getRuntime().availableProcessors()));
+
   protected final Cache<String, LocalDatabase> databaseCache = Caffeine.newBuilder()
     .scheduler(Scheduler.systemScheduler())
     .expireAfterAccess(Duration.ofMinutes(5))
     .build();
+  // the declared indexes of each database, mapped to whether the index was fully built and is usable for lookups
+  protected final Map<String, Map<String, Boolean>> indexedFields = new ConcurrentHashMap<>();
   protected DatabaseHandler databaseHandler = new DefaultDatabaseHandler();
 
+  protected static @NonNull ExecutorService newDatabaseExecutor() {
+    var threadCounter = new AtomicInteger();
+    // a fixed amount of threads, async operations are queued instead of blocking a new thread each
+    var executor = new ThreadPoolExecutor(
+      DATABASE_THREADS,
+      DATABASE_THREADS,
+      30L,
+      TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(),
+      runnable -> {
+        var thread = new Thread(runnable, "CloudNet-Database-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   public abstract boolean init() throws Exception;
 
   public @NonNull DatabaseHandler databaseHandler() {
@@ -46,6 +77,15 @@ public void databaseHandler(@NonNull DatabaseHandler databaseHandler) {
     return this.databaseCache;
   }
 
+  @Override
+  public boolean createIndex(@NonNull String name, @NonNull String fieldName) {
+    return this.database(name).createIndex(fieldName);
+  }
+
+  protected @NonNull Map<String, Boolean> indexedFields(@NonNull String name) {
+    return this.indexedFields.computeIfAbsent(name, $ -> new ConcurrentHashMap<>());
+  }
+
   @Override
   public void close() throws Exception {
     this.databaseCache.invalidateAll();
@@ -18,11 +18,13 @@
 
 import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
 import eu.cloudnetservice.cloudnet.driver.database.Database;
+import java.util.Collection;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
 
 public interface LocalDatabase extends Database {
 
@@ -51,4 +53,34 @@ public interface LocalDatabase extends Database {
   void iterate(@NonNull BiConsumer<String, JsonDocument> consumer, int chunkSize);
 
   @Nullable Map<String, JsonDocument> readChunk(long beginIndex, int chunkSize);
+
+  /**
+   * Reads the chunk of entries which follows the given key in the key order of this database. Unlike reading a chunk
+   * from an index, the read position is looked up directly instead of skipping all entries in front of it. The
+   * returned map iterates in key order, its last key is the one to pass to the call reading the next chunk.
+   *
+   * @param afterKey  the key after which the chunk starts, null to start at the first entry.
+   * @param chunkSize the maximum amount of entries in the chunk.
+   * @return the entries in the chunk ordered by their key, null if there are no entries after the given key.
+   */
+  @Nullable Map<String, JsonDocument> readChunk(@Nullable String afterKey, int chunkSize);
+
+  /**
+   * Declares a secondary index on the given top-level field of the documents in this database. The index is built
+   * from the existing documents, maintained by all following write operations and used automatically by the find
+   * operations filtering on the field. Declaring an index which already exists has no effect.
+   *
+   * @param fieldName the name of the field to index.
+   * @return true if the index exists after the call, false if it could not be built.
+   * @throws NullPointerException if the given field name is null.
+   */
+  boolean createIndex(@NonNull String fieldName);
+
+  /**
+   * Get the names of all fields which are indexed in this database.
+   *
+   * @return the names of all fields which are indexed in this database.
+   */
+  @UnmodifiableView
+  @NonNull Collection<String> indexedFields();
 }
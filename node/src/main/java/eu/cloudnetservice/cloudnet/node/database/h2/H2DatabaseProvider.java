@@ -70,11 +70,12 @@ public boolean init() throws Exception {
 
   @Override
   public boolean deleteDatabase(@NonNull String name) {
-    return this.executeUpdate("DROP TABLE IF EXISTS `" + name + "`") != -1;
+    this.databaseCache.invalidate(name);
+    return this.executeUpdate("DROP TABLE IF EXISTS `" + name + "`") != -1 && this.dropIndexTable(name);
   }
 
   @Override
-  public @NonNull Collection<String> databaseNames() {
+  protected @NonNull Collection<String> tableNames() {
     try (var meta = this.connection.getMetaData().getTables(null, null, null, TABLE_TYPE)) {
       // now we just need to extract the name from of the tables from the result set
       Collection<String> names = new ArrayList<>();
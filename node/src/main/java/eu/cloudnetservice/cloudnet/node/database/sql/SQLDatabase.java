@@ -16,14 +16,18 @@
 
 package eu.cloudnetservice.cloudnet.node.database.sql;
 
+import com.google.common.hash.Hashing;
 import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
 import eu.cloudnetservice.cloudnet.node.database.AbstractDatabase;
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ExecutorService;
@@ -36,6 +40,10 @@ public abstract class SQLDatabase extends AbstractDatabase {
 
   protected static final String TABLE_COLUMN_KEY = "Name";
   protected static final String TABLE_COLUMN_VAL = "Document";
+  protected static final String INDEX_COLUMN_FIELD = "Field";
+  protected static final String INDEX_COLUMN_HASH = "Hash";
+
+  protected final String indexTableName;
 
   protected final String name;
   protected final ExecutorService executorService;
@@ -47,12 +55,26 @@ public SQLDatabase(@NonNull SQLDatabaseProvider provider, @NonNull String name,
     this.name = name;
     this.executorService = executor;
     this.databaseProvider = provider;
+    this.indexTableName = name + SQLDatabaseProvider.INDEX_TABLE_SUFFIX;
 
     // create the table
     provider.executeUpdate(String.format(
       "CREATE TABLE IF NOT EXISTS `%s` (%s VARCHAR(64) PRIMARY KEY, %s TEXT);",
       name, TABLE_COLUMN_KEY, TABLE_COLUMN_VAL
     ));
+    // the index table was maintained by all writes since the creation of the indexes in it
+    if (provider.containsDatabase(this.indexTableName)) {
+      provider.executeQuery(
+        String.format("SELECT DISTINCT %s FROM `%s`;", INDEX_COLUMN_FIELD, this.indexTableName),
+        resultSet -> {
+          while (resultSet.next()) {
+            this.restoreIndex(resultSet.getString(INDEX_COLUMN_FIELD));
+          }
+
+          return null;
+        },
+        null);
+    }
   }
 
   @Override
@@ -81,7 +103,24 @@ public boolean update0(String key, JsonDocument document) {
   }
 
   public boolean insertOrUpdate(String key, JsonDocument document) {
-    return this.contains(key) ? this.update0(key, document) : this.insert0(key, document);
+    if (this.indexedFields().isEmpty()) {
+      return this.contains(key) ? this.update0(key, document) : this.insert0(key, document);
+    }
+
+    var writeLock = this.databaseProvider.documentWriteLock(this.name, key);
+    writeLock.lock();
+    try {
+      // we need the current document to remove the outdated index entries
+      var current = this.get(key);
+      var success = current != null ? this.update0(key, document) : this.insert0(key, document);
+      if (success) {
+        this.updateIndexes(key, current, document);
+      }
+
+      return success;
+    } finally {
+      writeLock.unlock();
+    }
   }
 
   @Override
@@ -100,10 +139,23 @@ public boolean delete(@NonNull String key) {
   }
 
   public boolean delete0(String key) {
-    return this.databaseProvider.executeUpdate(
-      String.format("DELETE FROM `%s` WHERE %s = ?", this.name, TABLE_COLUMN_KEY),
-      key
-    ) > 0;
+    var writeLock = this.databaseProvider.documentWriteLock(this.name, key);
+    writeLock.lock();
+    try {
+      var current = this.indexedFields().isEmpty() ? null : this.get(key);
+      var deleted = this.databaseProvider.executeUpdate(
+        String.format("DELETE FROM `%s` WHERE %s = ?", this.name, TABLE_COLUMN_KEY),
+        key
+      ) > 0;
+
+      if (deleted && current != null) {
+        this.updateIndexes(key, current, null);
+      }
+
+      return deleted;
+    } finally {
+      writeLock.unlock();
+    }
   }
 
   @Override
@@ -118,6 +170,11 @@ public boolean delete0(String key) {
 
   @Override
   public @NonNull List<JsonDocument> find(@NonNull String fieldName, Object fieldValue) {
+    var indexValue = indexValue(JsonDocument.GSON.toJsonTree(fieldValue));
+    if (indexValue != null && this.indexReady(fieldName)) {
+      return this.find(JsonDocument.newDocument(fieldName, fieldValue));
+    }
+
     return this.databaseProvider.executeQuery(
       String.format("SELECT %s FROM `%s` WHERE %s LIKE ? ESCAPE '$'", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_VAL),
       resultSet -> {
@@ -135,22 +192,40 @@ public boolean delete0(String key) {
 
   @Override
   public @NonNull List<JsonDocument> find(@NonNull JsonDocument filters) {
-    var stringBuilder = new StringBuilder("SELECT ")
+    var stringBuilder = new StringBuilder("SELECT d.")
       .append(TABLE_COLUMN_VAL).append(" FROM `")
-      .append(this.name).append('`');
+      .append(this.name).append("` d");
 
     Collection<String> collection = new ArrayList<>();
+    Collection<String> likeFilters = new ArrayList<>();
+
+    // indexed fields are looked up by joining the index table, all other fields are matched in the document
+    var joinCount = 0;
+    for (var item : filters) {
+      var indexValue = indexValue(filters.get(item));
+      if (indexValue != null && this.indexReady(item)) {
+        var alias = "i" + joinCount++;
+        stringBuilder.append(" INNER JOIN `").append(this.indexTableName).append("` ").append(alias)
+          .append(" ON ").append(alias).append('.').append(TABLE_COLUMN_KEY).append(" = d.").append(TABLE_COLUMN_KEY)
+          .append(" AND ").append(alias).append('.').append(INDEX_COLUMN_FIELD).append(" = ?")
+          .append(" AND ").append(alias).append('.').append(INDEX_COLUMN_HASH).append(" = ?");
+        collection.add(item);
+        collection.add(indexHash(indexValue));
+      } else {
+        likeFilters.add(item);
+      }
+    }
 
-    if (filters.size() > 0) {
+    if (!likeFilters.isEmpty()) {
       stringBuilder.append(" WHERE ");
 
-      var iterator = filters.iterator();
+      var iterator = likeFilters.iterator();
       String item;
 
       while (iterator.hasNext()) {
         item = iterator.next();
 
-        stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
+        stringBuilder.append("d.").append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
         collection.add("%\"" + item + "\":" + filters.get(item).toString().replaceAll("([_%])", "\\$$1") + "%");
 
         if (iterator.hasNext()) {
@@ -255,6 +330,9 @@ public void iterate(@NonNull BiConsumer<String, JsonDocument> consumer) {
   public void clear() {
     this.databaseProvider.databaseHandler().handleClear(this);
     this.databaseProvider.executeUpdate(String.format("TRUNCATE TABLE `%s`", this.name));
+    if (!this.indexedFields().isEmpty()) {
+      this.databaseProvider.executeUpdate(String.format("TRUNCATE TABLE `%s`", this.indexTableName));
+    }
   }
 
   @Override
@@ -266,4 +344,96 @@ public long documentCount() {
       return -1L;
     }, -1L);
   }
+
+  @Override
+  public @Nullable Map<String, JsonDocument> readChunk(@Nullable String afterKey, int chunkSize) {
+    // seek using the primary key index rather than skipping over all previous rows using an offset
+    var query = afterKey == null
+      ? String.format("SELECT * FROM `%s` ORDER BY %s LIMIT ?;", this.name, TABLE_COLUMN_KEY)
+      : String.format("SELECT * FROM `%s` WHERE %s > ? ORDER BY %s LIMIT ?;", this.name, TABLE_COLUMN_KEY,
+        TABLE_COLUMN_KEY);
+    var arguments = afterKey == null ? new Object[]{chunkSize} : new Object[]{afterKey, chunkSize};
+
+    return this.databaseProvider.executeQuery(
+      query,
+      resultSet -> {
+        Map<String, JsonDocument> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          var key = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = JsonDocument.fromJsonString(resultSet.getString(TABLE_COLUMN_VAL));
+          result.put(key, document);
+        }
+
+        return result.isEmpty() ? null : result;
+      },
+      null,
+      arguments);
+  }
+
+  @Override
+  protected boolean buildIndex(@NonNull String fieldName) {
+    var created = this.databaseProvider.executeUpdate(String.format(
+      "CREATE TABLE IF NOT EXISTS `%s` (%s VARCHAR(64), %s CHAR(64), %s VARCHAR(64), PRIMARY KEY (%s, %s, %s));",
+      this.indexTableName,
+      INDEX_COLUMN_FIELD, INDEX_COLUMN_HASH, TABLE_COLUMN_KEY,
+      INDEX_COLUMN_FIELD, INDEX_COLUMN_HASH, TABLE_COLUMN_KEY
+    )) != -1;
+    if (!created) {
+      return false;
+    }
+
+    // drop stale entries of an earlier index on the same field
+    this.databaseProvider.executeUpdate(
+      String.format("DELETE FROM `%s` WHERE %s = ?", this.indexTableName, INDEX_COLUMN_FIELD),
+      fieldName);
+    this.iterate((key, document) -> {
+      var indexValue = indexValue(document, fieldName);
+      if (indexValue != null) {
+        this.insertIndexEntry(fieldName, indexValue, key);
+      }
+    }, 100);
+    return true;
+  }
+
+  protected void updateIndexes(
+    @NonNull String key,
+    @Nullable JsonDocument current,
+    @Nullable JsonDocument document
+  ) {
+    for (var field : this.indexedFields()) {
+      var oldValue = indexValue(current, field);
+      var newValue = indexValue(document, field);
+      if (!Objects.equals(oldValue, newValue)) {
+        if (oldValue != null) {
+          this.deleteIndexEntry(field, oldValue, key);
+        }
+
+        if (newValue != null) {
+          this.insertIndexEntry(field, newValue, key);
+        }
+      }
+    }
+  }
+
+  protected void insertIndexEntry(@NonNull String fieldName, @NonNull String indexValue, @NonNull String key) {
+    // remove a possibly existing entry first, there is no portable way to ignore a duplicate primary key
+    this.deleteIndexEntry(fieldName, indexValue, key);
+    this.databaseProvider.executeUpdate(
+      String.format(
+        "INSERT INTO `%s` (%s, %s, %s) VALUES (?, ?, ?);",
+        this.indexTableName, INDEX_COLUMN_FIELD, INDEX_COLUMN_HASH, TABLE_COLUMN_KEY),
+      fieldName, indexHash(indexValue), key);
+  }
+
+  protected void deleteIndexEntry(@NonNull String fieldName, @NonNull String indexValue, @NonNull String key) {
+    this.databaseProvider.executeUpdate(
+      String.format(
+        "DELETE FROM `%s` WHERE %s = ? AND %s = ? AND %s = ?",
+        this.indexTableName, INDEX_COLUMN_FIELD, INDEX_COLUMN_HASH, TABLE_COLUMN_KEY),
+      fieldName, indexHash(indexValue), key);
+  }
+
+  protected static @NonNull String indexHash(@NonNull String indexValue) {
+    return Hashing.sha256().hashString(indexValue, StandardCharsets.UTF_8).toString();
+  }
 }
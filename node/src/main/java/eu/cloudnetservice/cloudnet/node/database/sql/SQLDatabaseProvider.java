@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.cloudnet.node.database.sql;
 
+import com.google.common.util.concurrent.Striped;
 import eu.cloudnetservice.cloudnet.common.function.ThrowableFunction;
 import eu.cloudnetservice.cloudnet.common.log.LogManager;
 import eu.cloudnetservice.cloudnet.common.log.Logger;
@@ -23,28 +24,39 @@
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Locale;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
 public abstract class SQLDatabaseProvider extends AbstractDatabaseProvider {
 
+  protected static final String INDEX_TABLE_SUFFIX = "$index";
   protected static final String[] TABLE_TYPE = new String[]{"TABLE"};
   protected static final Logger LOGGER = LogManager.logger(SQLDatabaseProvider.class);
+  protected static final int WRITE_LOCK_STRIPES = Integer.getInteger("cloudnet.database.sql.write-lock-stripes", 256);
 
   protected final ExecutorService executorService;
   protected final boolean autoShutdownExecutorService;
+  // the writes of a document and its index entries are no single statement, writes of the same key are serialized
+  protected final Striped<Lock> documentWriteLocks = Striped.lazyWeakLock(WRITE_LOCK_STRIPES);
 
   public SQLDatabaseProvider(@Nullable ExecutorService executorService) {
     this.autoShutdownExecutorService = executorService == null;
-    this.executorService = executorService == null ? Executors.newCachedThreadPool() : executorService;
+    this.executorService = executorService == null ? newDatabaseExecutor() : executorService;
+  }
+
+  @Override
+  public @NonNull Collection<String> databaseNames() {
+    return this.tableNames().stream().filter(name -> !indexTable(name)).toList();
   }
 
   @Override
   public boolean containsDatabase(@NonNull String name) {
-    for (var database : this.databaseNames()) {
+    for (var database : this.tableNames()) {
       if (database.equalsIgnoreCase(name)) {
         return true;
       }
@@ -53,6 +65,21 @@ public boolean containsDatabase(@NonNull String name) {
     return false;
   }
 
+  protected boolean dropIndexTable(@NonNull String name) {
+    this.indexedFields.remove(name);
+    return this.executeUpdate(String.format("DROP TABLE IF EXISTS `%s`;", name + INDEX_TABLE_SUFFIX)) != -1;
+  }
+
+  public @NonNull Lock documentWriteLock(@NonNull String databaseName, @NonNull String key) {
+    return this.documentWriteLocks.get(databaseName.toLowerCase(Locale.ROOT) + '/' + key);
+  }
+
+  protected static boolean indexTable(@NonNull String tableName) {
+    return tableName.endsWith(INDEX_TABLE_SUFFIX);
+  }
+
+  protected abstract @NonNull Collection<String> tableNames();
+
   @Override
   public void close() throws Exception {
     super.close();
@@ -22,17 +22,24 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.ByteIterable;
 import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.Store;
+import jetbrains.exodus.env.StoreConfig;
+import jetbrains.exodus.env.Transaction;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -61,11 +68,15 @@ public boolean insert(@NonNull String key, @NonNull JsonDocument document) {
   }
 
   protected boolean insert0(String key, JsonDocument document) {
-    return this.environment.computeInExclusiveTransaction(
-      txn -> this.store().put(
+    return this.environment.computeInExclusiveTransaction(txn -> {
+      var keyEntry = StringBinding.stringToEntry(key);
+      this.updateIndexes(txn, keyEntry, document);
+
+      return this.store().put(
         txn,
-        StringBinding.stringToEntry(key),
-        new ArrayByteIterable(document.toString().getBytes(StandardCharsets.UTF_8))));
+        keyEntry,
+        new ArrayByteIterable(document.toString().getBytes(StandardCharsets.UTF_8)));
+    });
   }
 
   @Override
@@ -82,7 +93,12 @@ public boolean delete(@NonNull String key) {
   }
 
   protected boolean delete0(String key) {
-    return this.environment.computeInTransaction(txn -> this.store().delete(txn, StringBinding.stringToEntry(key)));
+    return this.environment.computeInExclusiveTransaction(txn -> {
+      var keyEntry = StringBinding.stringToEntry(key);
+      this.updateIndexes(txn, keyEntry, null);
+
+      return this.store().delete(txn, keyEntry);
+    });
   }
 
   @Override
@@ -96,6 +112,14 @@ public JsonDocument get(@NonNull String key) {
   @Override
   public @NonNull List<JsonDocument> find(@NonNull String fieldName, Object fieldValue) {
     var like = JsonDocument.GSON.toJsonTree(fieldValue);
+    var indexValue = indexValue(like);
+    if (indexValue != null && this.indexReady(fieldName)) {
+      var result = this.findIndexed(Map.of(fieldName, indexValue));
+      if (result != null) {
+        return result;
+      }
+    }
+
     return this.handleWithCursor(($, document) -> {
       if (document.contains(fieldName) && document.get(fieldName).equals(like)) {
         return document;
@@ -113,6 +137,22 @@ public JsonDocument get(@NonNull String key) {
       }
     }
 
+    // documents matching any of the filters are returned, use the indexes if all filtered fields are indexed
+    Map<String, String> indexValues = new HashMap<>();
+    for (var entry : filterObjects.entrySet()) {
+      var indexValue = indexValue(entry.getValue());
+      if (indexValue != null && this.indexReady(entry.getKey())) {
+        indexValues.put(entry.getKey(), indexValue);
+      }
+    }
+
+    if (!indexValues.isEmpty() && indexValues.size() == filterObjects.size()) {
+      var result = this.findIndexed(indexValues);
+      if (result != null) {
+        return result;
+      }
+    }
+
     var entries = filterObjects.entrySet();
     return this.handleWithCursor(($, document) -> {
       for (var entry : entries) {
@@ -163,6 +203,14 @@ public void clear() {
     this.environment.executeInExclusiveTransaction(txn -> {
       this.environment.truncateStore(this.name, txn);
       this.store.set(this.environment.openStore(this.name, this.store().getConfig(), txn));
+
+      // the indexes only contain entries of the documents which were just removed
+      for (var field : this.indexedFields()) {
+        var indexName = XodusDatabaseProvider.indexStoreName(this.name, field);
+        if (this.environment.storeExists(indexName, txn)) {
+          this.environment.truncateStore(indexName, txn);
+        }
+      }
     });
   }
 
@@ -229,6 +277,130 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, JsonDocument> handle
     });
   }
 
+  @Override
+  public @Nullable Map<String, JsonDocument> readChunk(@Nullable String afterKey, int chunkSize) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      try (var cursor = this.store().openCursor(txn)) {
+        boolean positioned;
+        if (afterKey == null) {
+          positioned = cursor.getNext();
+        } else {
+          // jump to the given key or the first key after it if the key was removed in the meantime
+          positioned = cursor.getSearchKeyRange(StringBinding.stringToEntry(afterKey)) != null;
+          if (positioned && afterKey.equals(StringBinding.entryToString(cursor.getKey()))) {
+            positioned = cursor.getNext();
+          }
+        }
+
+        Map<String, JsonDocument> result = new LinkedHashMap<>();
+        while (positioned && chunkSize > result.size()) {
+          result.put(
+            StringBinding.entryToString(cursor.getKey()),
+            JsonDocument.fromJsonBytes(cursor.getValue().getBytesUnsafe()));
+          positioned = cursor.getNext();
+        }
+
+        return result.isEmpty() ? null : result;
+      }
+    });
+  }
+
+  @Override
+  protected boolean buildIndex(@NonNull String fieldName) {
+    var indexName = XodusDatabaseProvider.indexStoreName(this.name, fieldName);
+    this.environment.executeInExclusiveTransaction(txn -> {
+      // drop stale entries of an earlier index on the same field
+      if (this.environment.storeExists(indexName, txn)) {
+        this.environment.truncateStore(indexName, txn);
+      }
+
+      var indexStore = this.indexStore(txn, fieldName);
+      try (var cursor = this.store().openCursor(txn)) {
+        while (cursor.getNext()) {
+          var document = JsonDocument.fromJsonBytes(cursor.getValue().getBytesUnsafe());
+          var indexValue = indexValue(document, fieldName);
+          if (indexValue != null) {
+            indexStore.put(txn, StringBinding.stringToEntry(indexValue), new ArrayByteIterable(cursor.getKey()));
+          }
+        }
+      }
+    });
+    return true;
+  }
+
+  protected void updateIndexes(@NonNull Transaction txn, @NonNull ByteIterable key, @Nullable JsonDocument document) {
+    var fields = this.indexedFields();
+    if (fields.isEmpty()) {
+      return;
+    }
+
+    // we need the current document to remove the outdated index entries
+    var currentEntry = this.store().get(txn, key);
+    var current = currentEntry == null ? null : JsonDocument.fromJsonBytes(currentEntry.getBytesUnsafe());
+
+    for (var field : fields) {
+      var oldValue = indexValue(current, field);
+      var newValue = indexValue(document, field);
+      if (!Objects.equals(oldValue, newValue)) {
+        var indexStore = this.indexStore(txn, field);
+        // remove the old mapping of the value to the key
+        if (oldValue != null) {
+          try (var cursor = indexStore.openCursor(txn)) {
+            if (cursor.getSearchBoth(StringBinding.stringToEntry(oldValue), key)) {
+              cursor.deleteCurrent();
+            }
+          }
+        }
+        // add the new mapping of the value to the key
+        if (newValue != null) {
+          indexStore.put(txn, StringBinding.stringToEntry(newValue), key);
+        }
+      }
+    }
+  }
+
+  protected @Nullable List<JsonDocument> findIndexed(@NonNull Map<String, String> indexValues) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      Set<ByteIterable> keys = new LinkedHashSet<>();
+      for (var entry : indexValues.entrySet()) {
+        var indexStore = this.environment.openStore(
+          XodusDatabaseProvider.indexStoreName(this.name, entry.getKey()),
+          StoreConfig.WITH_DUPLICATES_WITH_PREFIXING,
+          txn,
+          false);
+        // the index is not yet visible to this transaction, fall back to a full scan
+        if (indexStore == null) {
+          return null;
+        }
+
+        try (var cursor = indexStore.openCursor(txn)) {
+          var value = cursor.getSearchKey(StringBinding.stringToEntry(entry.getValue()));
+          if (value != null) {
+            do {
+              keys.add(new ArrayByteIterable(cursor.getValue()));
+            } while (cursor.getNextDup());
+          }
+        }
+      }
+
+      List<JsonDocument> result = new ArrayList<>(keys.size());
+      for (var key : keys) {
+        var entry = this.store().get(txn, key);
+        if (entry != null) {
+          result.add(JsonDocument.fromJsonBytes(entry.getBytesUnsafe()));
+        }
+      }
+      return result;
+    });
+  }
+
+  protected @NonNull Store indexStore(@NonNull Transaction txn, @NonNull String fieldName) {
+    return this.environment.openStore(
+      XodusDatabaseProvider.indexStoreName(this.name, fieldName),
+      StoreConfig.WITH_DUPLICATES_WITH_PREFIXING,
+      txn);
+  }
+
   protected @NonNull Store store() {
     return this.store.get();
   }
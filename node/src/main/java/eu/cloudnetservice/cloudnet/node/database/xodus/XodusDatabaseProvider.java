@@ -23,7 +23,6 @@
 import java.io.File;
 import java.util.Collection;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.EnvironmentConfig;
 import jetbrains.exodus.env.Environments;
@@ -33,6 +32,8 @@
 
 public class XodusDatabaseProvider extends AbstractDatabaseProvider {
 
+  protected static final String INDEX_STORE_SEPARATOR = "$index$";
+
   protected final boolean runsInCluster;
 
   protected final File databaseDirectory;
@@ -55,7 +56,7 @@ public XodusDatabaseProvider(
     this.runsInCluster = runsInCluster;
     this.databaseDirectory = databaseDirectory;
     this.autoShutdownExecutorService = executorService == null;
-    this.executorService = executorService == null ? Executors.newCachedThreadPool() : executorService;
+    this.executorService = executorService == null ? newDatabaseExecutor() : executorService;
 
     this.environmentConfig = new EnvironmentConfig()
       .setLogCacheShared(true)
@@ -78,6 +79,14 @@ public boolean init() {
   public @NonNull LocalDatabase database(@NonNull String name) {
     return this.databaseCache.get(name, $ -> this.environment.computeInTransaction(txn -> {
       var store = this.environment.openStore(name, StoreConfig.WITHOUT_DUPLICATES_WITH_PREFIXING, txn);
+      // the indexes are persisted in their own stores and were maintained by all writes since their creation
+      var indexPrefix = name + INDEX_STORE_SEPARATOR;
+      for (var storeName : this.environment.getAllStoreNames(txn)) {
+        if (storeName.startsWith(indexPrefix)) {
+          this.indexedFields(name).putIfAbsent(storeName.substring(indexPrefix.length()), Boolean.TRUE);
+        }
+      }
+
       return new XodusDatabase(name, this.executorService, store, this);
     }));
   }
@@ -90,14 +99,26 @@ public boolean containsDatabase(@NonNull String name) {
   @Override
   public boolean deleteDatabase(@NonNull String name) {
     this.databaseCache.invalidate(name);
-    this.environment.executeInTransaction(txn -> this.environment.removeStore(name, txn));
+    this.indexedFields.remove(name);
+    this.environment.executeInTransaction(txn -> {
+      this.environment.removeStore(name, txn);
+      // remove all index stores of the database as well
+      var indexPrefix = name + INDEX_STORE_SEPARATOR;
+      for (var storeName : this.environment.getAllStoreNames(txn)) {
+        if (storeName.startsWith(indexPrefix)) {
+          this.environment.removeStore(storeName, txn);
+        }
+      }
+    });
 
     return true;
   }
 
   @Override
   public @NonNull Collection<String> databaseNames() {
-    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn));
+    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn)).stream()
+      .filter(name -> !name.contains(INDEX_STORE_SEPARATOR))
+      .toList();
   }
 
   @Override
@@ -114,4 +135,8 @@ public void close() throws Exception {
   public @NonNull String name() {
     return "xodus";
   }
+
+  static @NonNull String indexStoreName(@NonNull String name, @NonNull String fieldName) {
+    return name + INDEX_STORE_SEPARATOR + fieldName;
+  }
 }
@@ -16,6 +16,8 @@
 
 package eu.cloudnetservice.cloudnet.node.http;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import eu.cloudnetservice.cloudnet.common.collection.Pair;
 import eu.cloudnetservice.cloudnet.common.log.LogManager;
 import eu.cloudnetservice.cloudnet.common.log.Logger;
@@ -39,6 +41,7 @@
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.regex.Pattern;
 import lombok.NonNull;
@@ -53,6 +56,10 @@ public class V2HttpAuthentication {
   protected static final Key SIGN_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256);
   protected static final JwtParser PARSER = Jwts.parserBuilder().setSigningKey(SIGN_KEY).requireIssuer(ISSUER).build();
 
+  protected static final long VERIFIED_CREDENTIALS_CACHE_SECONDS = Long.getLong(
+    "cloudnet.http.basic-auth.cache-seconds",
+    30);
+
   protected static final Pattern BASIC_LOGIN_PATTERN = Pattern.compile("Basic ([a-zA-Z0-9=]+)$");
   protected static final Pattern BEARER_LOGIN_PATTERN = Pattern.compile("Bearer ([a-zA-Z0-9-_.]+)$");
 
@@ -65,6 +72,11 @@ public class V2HttpAuthentication {
 
   protected final WebSocketTicketManager webSocketTicketManager;
   protected final Map<String, HttpSession> sessions = new ConcurrentHashMap<>();
+  // the users of recently verified basic login credentials, the stored password hash detects password changes
+  protected final Cache<String, VerifiedCredentials> verifiedCredentials = Caffeine.newBuilder()
+    .expireAfterWrite(VERIFIED_CREDENTIALS_CACHE_SECONDS, TimeUnit.SECONDS)
+    .maximumSize(1_000)
+    .build();
 
   public V2HttpAuthentication() {
     this(WebSocketTicketManager.memoryCached());
@@ -89,11 +101,24 @@ public V2HttpAuthentication(@NonNull WebSocketTicketManager webSocketTicketManag
 
     var matcher = BASIC_LOGIN_PATTERN.matcher(authenticationHeader);
     if (matcher.matches()) {
-      var auth = new String(Base64.getDecoder().decode(matcher.group(1)), StandardCharsets.UTF_8).split(":");
+      // check if the credentials were verified recently, skipping the user lookup by name and the password hashing
+      var credentials = matcher.group(1);
+      var verified = this.verifiedCredentials.getIfPresent(credentials);
+      if (verified != null) {
+        var user = CloudNetDriver.instance().permissionManagement().user(verified.uniqueId());
+        if (user != null && verified.matches(user)) {
+          return LoginResult.success(user);
+        }
+        // the user was deleted, renamed or the password changed
+        this.verifiedCredentials.invalidate(credentials);
+      }
+
+      var auth = new String(Base64.getDecoder().decode(credentials), StandardCharsets.UTF_8).split(":");
       if (auth.length == 2) {
         var users = CloudNetDriver.instance().permissionManagement().usersByName(auth[0]);
         for (var user : users) {
           if (user.checkPassword(auth[1])) {
+            this.verifiedCredentials.put(credentials, VerifiedCredentials.of(user));
             return LoginResult.success(user);
           }
         }
@@ -207,6 +232,17 @@ protected void cleanup() {
     return this.webSocketTicketManager;
   }
 
+  protected record VerifiedCredentials(@NonNull UUID uniqueId, @NonNull String name, @NonNull String hashedPassword) {
+
+    public static @NonNull VerifiedCredentials of(@NonNull PermissionUser user) {
+      return new VerifiedCredentials(user.uniqueId(), user.name(), user.hashedPassword());
+    }
+
+    public boolean matches(@NonNull PermissionUser user) {
+      return this.name.equals(user.name()) && this.hashedPassword.equals(user.hashedPassword());
+    }
+  }
+
   public record LoginResult<T>(@UnknownNullability T result, @UnknownNullability String errorMessage) {
 
     private static final LoginResult<?> UNDEFINED_RESULT = LoginResult.failure(null);
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.cloudnet.driver.event.events.network.NetworkChannelInitEvent;
 import eu.cloudnetservice.cloudnet.driver.network.NetworkChannel;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.factory.EventChunkHandlerFactory;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacketCreditListener;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacketListener;
 import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.cloudnet.driver.network.protocol.PacketListenerRegistry;
@@ -46,8 +47,12 @@ public static void addDefaultPacketListeners(@NonNull PacketListenerRegistry reg
     registry.addListener(
       NetworkConstants.INTERNAL_RPC_COM_CHANNEL,
       new RPCPacketListener(node.rpcHandlerRegistry()));
+    // the chunked packet listener answers the resume queries of the sessions it handles as well
+    var chunkedPacketListener = new ChunkedPacketListener(EventChunkHandlerFactory.withDefaultEventManager());
+    registry.addListener(NetworkConstants.CHUNKED_PACKET_COM_CHANNEL, chunkedPacketListener);
+    registry.addListener(NetworkConstants.CHUNKED_PACKET_RESUME_CHANNEL, chunkedPacketListener);
     registry.addListener(
-      NetworkConstants.CHUNKED_PACKET_COM_CHANNEL,
-      new ChunkedPacketListener(EventChunkHandlerFactory.withDefaultEventManager()));
+      NetworkConstants.CHUNKED_PACKET_CREDIT_CHANNEL,
+      new ChunkedPacketCreditListener());
   }
 }
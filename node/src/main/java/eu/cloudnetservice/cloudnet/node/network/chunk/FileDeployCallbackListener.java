@@ -24,6 +24,7 @@
 import eu.cloudnetservice.cloudnet.driver.network.chunk.ChunkedPacketSender;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.DefaultFileChunkedPacketHandler;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.DefaultStreamingChunkedPacketHandler;
 import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.cloudnet.driver.service.ServiceTemplate;
 import eu.cloudnetservice.cloudnet.driver.template.TemplateStorage;
@@ -40,8 +41,10 @@ public void handle(@NonNull ChunkedPacketSessionOpenEvent event) {
     switch (event.session().transferChannel()) {
       case "deploy_service_template" -> event.handler(
         new DefaultFileChunkedPacketHandler(event.session(), TemplateDeployCallback.INSTANCE));
+      case "sync_service_template" -> event.handler(
+        new DefaultFileChunkedPacketHandler(event.session(), TemplateSyncCallback.INSTANCE));
       case "deploy_single_file" -> event.handler(
-        new DefaultFileChunkedPacketHandler(event.session(), TemplateFileDeployCallback.INSTANCE));
+        new DefaultStreamingChunkedPacketHandler(event.session(), TemplateFileDeployCallback.INSTANCE));
       case "deploy_static_service" -> event.handler(
         new DefaultFileChunkedPacketHandler(event.session(), StaticServiceDeployCallback.INSTANCE));
       default -> {
@@ -59,6 +62,13 @@ public void handle(@NonNull ChannelMessageReceiveEvent event) {
           var path = event.content().readString();
           this.handleInputRequest(event, (storage, template) -> storage.newInputStream(template, path));
         }
+        case "remote_templates_template_manifest" -> {
+          // read the information
+          var storage = Node.instance().templateStorageProvider().templateStorage(event.content().readString());
+          var template = event.content().readObject(ServiceTemplate.class);
+          // respond with the manifest of the template, if the storage is present
+          event.binaryResponse(DataBuf.empty().writeObject(storage == null ? null : storage.manifest(template)));
+        }
         default -> {
         }
       }
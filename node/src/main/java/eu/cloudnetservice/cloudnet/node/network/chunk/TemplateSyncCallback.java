@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.network.chunk;
+
+import com.google.gson.reflect.TypeToken;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.ChunkedPacketHandler.Callback;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceTemplate;
+import eu.cloudnetservice.cloudnet.node.Node;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import lombok.NonNull;
+
+final class TemplateSyncCallback implements Callback {
+
+  public static final TemplateSyncCallback INSTANCE = new TemplateSyncCallback();
+
+  private static final Type STRING_COLLECTION = TypeToken.getParameterized(Collection.class, String.class).getType();
+
+  private TemplateSyncCallback() {
+  }
+
+  @Override
+  public void handleSessionComplete(
+    @NonNull ChunkSessionInformation information,
+    @NonNull InputStream dataInput
+  ) {
+    // get the information for the sync
+    var storageName = information.transferInformation().readString();
+    var template = information.transferInformation().readObject(ServiceTemplate.class);
+    Collection<String> removedPaths = information.transferInformation().readObject(STRING_COLLECTION);
+    // get the storage of the template if present
+    var storage = Node.instance().templateStorageProvider().templateStorage(storageName);
+    if (storage != null) {
+      // pause the ticking of CloudNet before writing the changes into the template
+      Node.instance().mainThread().pause();
+      try {
+        // remove the files which were removed from the source template
+        for (var removedPath : removedPaths) {
+          storage.deleteFile(template, removedPath);
+        }
+        // deploy the changed files into the template
+        storage.deploy(template, dataInput);
+      } finally {
+        // resume the main thread execution
+        Node.instance().mainThread().resume();
+      }
+    }
+  }
+}
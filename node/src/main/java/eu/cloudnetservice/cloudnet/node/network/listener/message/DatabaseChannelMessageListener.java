@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.network.listener.message;
+
+import eu.cloudnetservice.cloudnet.driver.channel.ChannelMessage;
+import eu.cloudnetservice.cloudnet.driver.event.EventListener;
+import eu.cloudnetservice.cloudnet.driver.event.events.channel.ChannelMessageReceiveEvent;
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.cloudnet.node.event.database.DatabaseClearEntriesEvent;
+import eu.cloudnetservice.cloudnet.node.event.database.DatabaseDeleteEntryEvent;
+import eu.cloudnetservice.cloudnet.node.event.database.DatabaseInsertEntryEvent;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+public final class DatabaseChannelMessageListener {
+
+  // the databases which are cached by at least one wrapper in the cluster
+  private final Set<String> nearCachedDatabases = ConcurrentHashMap.newKeySet();
+
+  @EventListener
+  public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
+    if (event.channel().equals(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      && event.message().equals("subscribe_database_invalidations")) {
+      this.nearCachedDatabases.add(event.content().readString());
+    }
+  }
+
+  @EventListener
+  public void handleInsert(@NonNull DatabaseInsertEntryEvent event) {
+    this.publishInvalidation(event.database().name(), event.key());
+  }
+
+  @EventListener
+  public void handleDelete(@NonNull DatabaseDeleteEntryEvent event) {
+    this.publishInvalidation(event.database().name(), event.key());
+  }
+
+  @EventListener
+  public void handleClear(@NonNull DatabaseClearEntriesEvent event) {
+    this.publishInvalidation(event.database().name(), null);
+  }
+
+  private void publishInvalidation(@NonNull String database, @Nullable String key) {
+    // no need to notify the services if no wrapper is caching the database
+    if (this.nearCachedDatabases.contains(database)) {
+      ChannelMessage.builder()
+        .targetServices()
+        .message("invalidate_database_entry")
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .buffer(DataBuf.empty().writeString(database).writeNullable(key, DataBuf.Mutable::writeString))
+        .build()
+        .send();
+    }
+  }
+}
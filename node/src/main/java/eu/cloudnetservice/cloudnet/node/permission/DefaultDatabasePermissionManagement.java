@@ -18,6 +18,7 @@
 
 import com.google.common.collect.Iterables;
 import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
+import eu.cloudnetservice.cloudnet.driver.permission.CompiledPermissionListener;
 import eu.cloudnetservice.cloudnet.driver.permission.DefaultPermissionManagement;
 import eu.cloudnetservice.cloudnet.driver.permission.PermissionGroup;
 import eu.cloudnetservice.cloudnet.driver.permission.PermissionManagement;
@@ -53,6 +54,10 @@ public class DefaultDatabasePermissionManagement extends DefaultPermissionManage
   protected final Node nodeInstance;
   protected final Map<String, PermissionGroup> groups;
   protected final PermissionChannelMessageListener networkListener;
+  protected final CompiledPermissionListener compiledPermissionListener;
+
+  protected final PermissionUserNameIndex userNameIndex;
+  protected final PermissionUserIndexListener userIndexListener;
 
   protected volatile PermissionManagementHandler handler = PermissionManagementHandlerAdapter.NO_OP;
 
@@ -60,6 +65,9 @@ public DefaultDatabasePermissionManagement(@NonNull Node nodeInstance) {
     this.nodeInstance = nodeInstance;
     this.groups = new ConcurrentHashMap<>();
     this.networkListener = new PermissionChannelMessageListener(nodeInstance.eventManager(), this);
+    this.compiledPermissionListener = new CompiledPermissionListener(this);
+    this.userNameIndex = new PermissionUserNameIndex();
+    this.userIndexListener = new PermissionUserIndexListener(this.userNameIndex);
     // sync permission groups into the cluster
     Node.instance().dataSyncRegistry().registerHandler(DataSyncHandler.<PermissionGroup>builder()
       .alwaysForce()
@@ -86,19 +94,27 @@ public void init() {
       this.loadGroups();
     }
 
-    this.nodeInstance.eventManager().registerListener(this.networkListener);
+    this.nodeInstance.eventManager().registerListeners(
+      this.networkListener,
+      this.compiledPermissionListener,
+      this.userIndexListener);
     this.nodeInstance.rpcFactory().newHandler(PermissionManagement.class, this).registerToDefaultRegistry();
   }
 
   @Override
   public void close() {
-    this.nodeInstance.eventManager().unregisterListener(this.networkListener);
+    this.nodeInstance.eventManager().unregisterListener(
+      this.networkListener,
+      this.compiledPermissionListener,
+      this.userIndexListener);
   }
 
   @Override
   public boolean reload() {
     // clear the cache & update
     this.groups.clear();
+    this.userNameIndex.clear();
+    this.invalidateCompiledPermissions();
     this.loadGroups();
     // push to the handler
     this.handler.handleReloaded(this);
@@ -130,6 +146,7 @@ public PermissionGroup defaultPermissionGroup() {
   public @NonNull PermissionUser addPermissionUser(@NonNull PermissionUser user) {
     // insert the user into the database
     this.userDatabaseTable().insert(user.uniqueId().toString(), JsonDocument.newDocument(user));
+    this.userNameIndex.update(user.uniqueId(), user.name());
     // notify the listener
     this.handler.handleAddUser(this, user);
     return user;
@@ -139,6 +156,8 @@ public PermissionGroup defaultPermissionGroup() {
   public void updateUser(@NonNull PermissionUser user) {
     // update in the database
     this.userDatabaseTable().insert(user.uniqueId().toString(), JsonDocument.newDocument(user));
+    this.userNameIndex.update(user.uniqueId(), user.name());
+    this.invalidateCompiledPermissions(user);
     // notify the listener
     this.handler.handleUpdateUser(this, user);
   }
@@ -163,6 +182,8 @@ public boolean deleteUser(@NonNull String name) {
   @Override
   public boolean deletePermissionUser(@NonNull PermissionUser permissionUser) {
     if (this.userDatabaseTable().delete(permissionUser.uniqueId().toString())) {
+      this.userNameIndex.remove(permissionUser.uniqueId());
+      this.invalidateCompiledPermissions(permissionUser);
       // notify the listener
       this.handler.handleDeleteUser(this, permissionUser);
       return true;
@@ -214,17 +235,22 @@ public boolean containsOneUser(@NonNull String name) {
 
   @Override
   public @NonNull List<PermissionUser> usersByName(@NonNull String name) {
-    return this.userDatabaseTable().find("name", name).stream()
-      .map(userData -> {
-        // deserialize the permission user
-        var user = userData.toInstanceOf(PermissionUser.class);
-        // check if we need to update the user
-        if (this.testPermissible(user)) {
-          this.updateUserAsync(user);
-        }
-        // use the user instance
-        return user;
-      }).collect(Collectors.toList());
+    List<PermissionUser> users = new ArrayList<>();
+    // resolve the users by their unique id, the database is only searched if the name is not indexed yet
+    for (var uniqueId : this.userNameIndex.users(name, () -> this.findUserIdsByName(name))) {
+      var user = this.user(uniqueId);
+      // some databases match the name case-insensitive
+      if (user != null && user.name().equalsIgnoreCase(name)) {
+        users.add(user);
+      } else if (user == null) {
+        // the user was deleted without us noticing
+        this.userNameIndex.remove(uniqueId);
+      } else {
+        // the user was renamed without us noticing
+        this.userNameIndex.update(uniqueId, user.name());
+      }
+    }
+    return users;
   }
 
   @Override
@@ -331,6 +357,7 @@ public void groups(@Nullable Collection<? extends PermissionGroup> groups) {
   @Override
   public void addGroupSilently(@NonNull PermissionGroup permissionGroup) {
     this.groups.put(permissionGroup.name(), permissionGroup);
+    this.invalidateCompiledPermissions();
     // save the groups
     this.saveGroups();
   }
@@ -338,6 +365,7 @@ public void addGroupSilently(@NonNull PermissionGroup permissionGroup) {
   @Override
   public void updateGroupSilently(@NonNull PermissionGroup permissionGroup) {
     this.groups.put(permissionGroup.name(), permissionGroup);
+    this.invalidateCompiledPermissions();
     // save the groups
     this.saveGroups();
   }
@@ -345,6 +373,7 @@ public void updateGroupSilently(@NonNull PermissionGroup permissionGroup) {
   @Override
   public void deleteGroupSilently(@NonNull PermissionGroup permissionGroup) {
     this.groups.remove(permissionGroup.name());
+    this.invalidateCompiledPermissions();
     // save the groups
     this.saveGroups();
   }
@@ -352,6 +381,7 @@ public void deleteGroupSilently(@NonNull PermissionGroup permissionGroup) {
   @Override
   public void setGroupsSilently(@Nullable Collection<? extends PermissionGroup> groups) {
     this.groups.clear();
+    this.invalidateCompiledPermissions();
     // set the provided groups
     if (groups != null) {
       for (PermissionGroup group : groups) {
@@ -372,6 +402,15 @@ public void permissionManagementHandler(@NonNull PermissionManagementHandler han
     this.handler = handler;
   }
 
+  protected @NonNull Collection<UUID> findUserIdsByName(@NonNull String name) {
+    var database = this.userDatabaseTable();
+    // users are looked up by their name frequently, index the name to prevent a scan of all users
+    database.createIndex("name");
+    return database.find("name", name).stream()
+      .map(userData -> userData.toInstanceOf(PermissionUser.class).uniqueId())
+      .collect(Collectors.toList());
+  }
+
   protected @NonNull LocalDatabase userDatabaseTable() {
     return this.nodeInstance.databaseProvider().database(USER_DB_NAME);
   }
@@ -393,6 +432,7 @@ protected void loadGroups() {
       for (var group : groups) {
         this.groups.put(group.name(), group);
       }
+      this.invalidateCompiledPermissions();
       // save the file again to update the fields in the permission group
       this.saveGroups();
     }
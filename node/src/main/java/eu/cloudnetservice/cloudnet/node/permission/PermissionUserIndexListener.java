@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.permission;
+
+import eu.cloudnetservice.cloudnet.driver.event.EventListener;
+import eu.cloudnetservice.cloudnet.driver.event.events.permission.PermissionAddUserEvent;
+import eu.cloudnetservice.cloudnet.driver.event.events.permission.PermissionDeleteUserEvent;
+import eu.cloudnetservice.cloudnet.driver.event.events.permission.PermissionUpdateUserEvent;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+@Internal
+public final class PermissionUserIndexListener {
+
+  private final PermissionUserNameIndex userNameIndex;
+
+  public PermissionUserIndexListener(@NonNull PermissionUserNameIndex userNameIndex) {
+    this.userNameIndex = userNameIndex;
+  }
+
+  @EventListener
+  public void handle(@NonNull PermissionAddUserEvent event) {
+    this.userNameIndex.update(event.permissionUser().uniqueId(), event.permissionUser().name());
+  }
+
+  @EventListener
+  public void handle(@NonNull PermissionUpdateUserEvent event) {
+    this.userNameIndex.update(event.permissionUser().uniqueId(), event.permissionUser().name());
+  }
+
+  @EventListener
+  public void handle(@NonNull PermissionDeleteUserEvent event) {
+    this.userNameIndex.remove(event.permissionUser().uniqueId());
+  }
+}
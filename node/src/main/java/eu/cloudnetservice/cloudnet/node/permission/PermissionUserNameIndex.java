@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.permission;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * An index of the unique ids of the permission users with a specific name. A name is only indexed after all users with
+ * the name were loaded from the database, from then on the index is kept in sync by the updates of the users. Names
+ * without any user are not indexed. Lookups are lock free, updates and the loading of a name are synchronized.
+ */
+public final class PermissionUserNameIndex {
+
+  private final Map<String, Set<UUID>> usersByName = new ConcurrentHashMap<>();
+  private final Map<UUID, String> indexedNames = new HashMap<>();
+
+  // increased on every update, prevents that names loaded from an outdated database state are indexed
+  private long modificationCount;
+
+  /**
+   * Get the unique ids of all users with the given name, loading them using the given loader if the name is not yet
+   * indexed. The loader must return the unique ids of all users with the given name in the database.
+   *
+   * @param name   the name of the users to get.
+   * @param loader the loader of the unique ids of the users with the name if the name is not indexed yet.
+   * @return the unique ids of all users with the given name.
+   * @throws NullPointerException if the given name or loader is null.
+   */
+  public @NonNull Collection<UUID> users(@NonNull String name, @NonNull Supplier<Collection<UUID>> loader) {
+    var users = this.usersByName.get(name);
+    if (users != null) {
+      return Set.copyOf(users);
+    }
+
+    long modificationCount;
+    synchronized (this) {
+      modificationCount = this.modificationCount;
+    }
+
+    // load the users outside the lock, this is a database query
+    var loadedUsers = loader.get();
+    synchronized (this) {
+      // unknown names are not indexed, the index would grow with every name requested otherwise
+      var indexable = !loadedUsers.isEmpty() && !this.usersByName.containsKey(name);
+      if (indexable && this.modificationCount == modificationCount) {
+        Set<UUID> indexedUsers = ConcurrentHashMap.newKeySet();
+        for (var uniqueId : loadedUsers) {
+          // a user can only have one name, remove the user from the name it was indexed with before
+          this.unindex(uniqueId);
+          this.indexedNames.put(uniqueId, name);
+          indexedUsers.add(uniqueId);
+        }
+        this.usersByName.put(name, indexedUsers);
+      }
+    }
+
+    return loadedUsers;
+  }
+
+  /**
+   * Updates the name of the user with the given unique id in this index. The user is only added to the index if its
+   * name is already indexed.
+   *
+   * @param uniqueId the unique id of the updated user.
+   * @param name     the new name of the user.
+   * @throws NullPointerException if the given unique id or name is null.
+   */
+  public synchronized void update(@NonNull UUID uniqueId, @NonNull String name) {
+    this.modificationCount++;
+
+    if (!name.equals(this.indexedNames.get(uniqueId))) {
+      this.unindex(uniqueId);
+      var users = this.usersByName.get(name);
+      if (users != null) {
+        users.add(uniqueId);
+        this.indexedNames.put(uniqueId, name);
+      }
+    }
+  }
+
+  /**
+   * Removes the user with the given unique id from this index.
+   *
+   * @param uniqueId the unique id of the removed user.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  public synchronized void remove(@NonNull UUID uniqueId) {
+    this.modificationCount++;
+    this.unindex(uniqueId);
+  }
+
+  /**
+   * Removes all names from this index.
+   */
+  public synchronized void clear() {
+    this.modificationCount++;
+
+    this.usersByName.clear();
+    this.indexedNames.clear();
+  }
+
+  private void unindex(@NonNull UUID uniqueId) {
+    var name = this.indexedNames.remove(uniqueId);
+    if (name != null) {
+      var users = this.usersByName.get(name);
+      if (users != null && users.remove(uniqueId) && users.isEmpty()) {
+        this.usersByName.remove(name);
+      }
+    }
+  }
+}
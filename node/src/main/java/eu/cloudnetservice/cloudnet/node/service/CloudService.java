@@ -69,6 +69,10 @@ public interface CloudService extends SpecificCloudServiceProvider {
 
   boolean alive();
 
+  boolean prepared();
+
+  void prepare();
+
   void publishServiceInfoSnapshot();
 
   @Internal
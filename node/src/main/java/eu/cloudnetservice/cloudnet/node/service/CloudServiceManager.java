@@ -51,6 +51,8 @@ public interface CloudServiceManager extends CloudServiceProvider {
 
   void removeServicePreparer(@NonNull ServiceEnvironmentType type);
 
+  @NonNull ServiceWarmPool warmPool();
+
   @NonNull Path tempDirectory();
 
   @NonNull Path persistentServicesDirectory();
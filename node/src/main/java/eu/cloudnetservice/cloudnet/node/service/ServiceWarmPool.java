@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service;
+
+import eu.cloudnetservice.cloudnet.common.log.LogManager;
+import eu.cloudnetservice.cloudnet.common.log.Logger;
+import eu.cloudnetservice.cloudnet.driver.provider.CloudServiceFactory;
+import eu.cloudnetservice.cloudnet.driver.provider.ServiceTaskProvider;
+import eu.cloudnetservice.cloudnet.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceTask;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps the amount of services configured as the warm pool size of a task prepared, so that a service taken from the
+ * pool only needs to start its process. The preparation (copying templates, loading inclusions and running the
+ * configuration preparer) is done on a small executor in the background. The head node refills the pool of each task
+ * after services were taken from it.
+ */
+public class ServiceWarmPool {
+
+  private static final Logger LOGGER = LogManager.logger(ServiceWarmPool.class);
+  private static final int PREPARE_THREADS = Integer.getInteger("cloudnet.service.warm-pool.threads", 2);
+
+  private final Executor prepareExecutor;
+  private final Set<UUID> preparingServices = ConcurrentHashMap.newKeySet();
+  private final Map<String, PoolStatistics> statistics = new ConcurrentHashMap<>();
+
+  public ServiceWarmPool() {
+    this(newPrepareExecutor());
+  }
+
+  protected ServiceWarmPool(@NonNull Executor prepareExecutor) {
+    this.prepareExecutor = prepareExecutor;
+  }
+
+  protected static @NonNull Executor newPrepareExecutor() {
+    var threadCounter = new AtomicInteger();
+    var executor = new ThreadPoolExecutor(
+      PREPARE_THREADS,
+      PREPARE_THREADS,
+      30L,
+      TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(),
+      runnable -> {
+        var thread = new Thread(runnable, "CloudNet-Service-Prepare-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    // no need to keep threads alive if no task has a warm pool
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  public void prepareLocalServices(
+    @NonNull Collection<CloudService> services,
+    @NonNull ServiceTaskProvider taskProvider
+  ) {
+    for (var service : services) {
+      if (service.lifeCycle() != ServiceLifeCycle.PREPARED || service.prepared()) {
+        continue;
+      }
+
+      // only prepare services of tasks which have a warm pool
+      var task = taskProvider.serviceTask(service.serviceId().taskName());
+      if (task != null && task.warmPoolSize() > 0 && this.preparingServices.add(service.serviceId().uniqueId())) {
+        this.prepareExecutor.execute(() -> {
+          try {
+            var startTime = System.nanoTime();
+            service.prepare();
+            this.statistics(task.name()).recordPrepare(System.nanoTime() - startTime);
+            LOGGER.fine("Prepared service %s of the warm pool", null, service.serviceId());
+          } catch (Exception exception) {
+            LOGGER.severe("Exception preparing service %s of the warm pool", exception, service.serviceId());
+          } finally {
+            this.preparingServices.remove(service.serviceId().uniqueId());
+          }
+        });
+      }
+    }
+  }
+
+  public void refill(
+    @NonNull ServiceTask task,
+    @NonNull Collection<ServiceInfoSnapshot> taskServices,
+    @NonNull CloudServiceFactory serviceFactory
+  ) {
+    var preparedServices = taskServices.stream()
+      .filter(service -> service.lifeCycle() == ServiceLifeCycle.PREPARED)
+      .count();
+    // create one service at a time to not flood the nodes when enabling the pool
+    if (preparedServices < task.warmPoolSize()) {
+      serviceFactory.createCloudService(ServiceConfiguration.builder(task).build());
+    }
+  }
+
+  public void recordSelection(@NonNull String taskName, @Nullable SpecificCloudServiceProvider selectedService) {
+    // only services which were prepared by the pool are hits, not every service which is in the prepared state
+    var statistics = this.statistics(taskName);
+    if (selectedService instanceof CloudService service && service.prepared()) {
+      statistics.hits.increment();
+    } else {
+      statistics.misses.increment();
+    }
+  }
+
+  public @NonNull PoolStatistics statistics(@NonNull String taskName) {
+    return this.statistics.computeIfAbsent(taskName, $ -> new PoolStatistics());
+  }
+
+  public static final class PoolStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder preparedServices = new LongAdder();
+    private final LongAdder totalPrepareNanos = new LongAdder();
+
+    private void recordPrepare(long prepareNanos) {
+      this.preparedServices.increment();
+      this.totalPrepareNanos.add(prepareNanos);
+    }
+
+    public long hits() {
+      return this.hits.sum();
+    }
+
+    public long misses() {
+      return this.misses.sum();
+    }
+
+    public long preparedServices() {
+      return this.preparedServices.sum();
+    }
+
+    public long averagePrepareMillis() {
+      var prepared = this.preparedServices.sum();
+      return prepared == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(this.totalPrepareNanos.sum() / prepared);
+    }
+  }
+}
@@ -19,6 +19,7 @@
 import com.google.common.base.Preconditions;
 import com.google.common.net.InetAddresses;
 import eu.cloudnetservice.cloudnet.common.StringUtil;
+import eu.cloudnetservice.cloudnet.common.collection.Pair;
 import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
 import eu.cloudnetservice.cloudnet.common.io.FileUtil;
 import eu.cloudnetservice.cloudnet.common.language.I18n;
@@ -56,23 +57,24 @@
 import eu.cloudnetservice.cloudnet.node.service.CloudServiceManager;
 import eu.cloudnetservice.cloudnet.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.cloudnet.node.service.ServiceConsoleLogCache;
+import eu.cloudnetservice.cloudnet.node.service.defaults.RemoteInclusionCache.CacheEntry;
 import java.net.Inet6Address;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import kong.unirest.Unirest;
-import kong.unirest.UnirestException;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -81,6 +83,10 @@ public abstract class AbstractService implements CloudService {
   protected static final Logger LOGGER = LogManager.logger(AbstractService.class);
 
   protected static final Path INCLUSION_TEMP_DIR = FileUtil.TEMP_DIR.resolve("inclusions");
+  protected static final RemoteInclusionCache INCLUSION_CACHE = new RemoteInclusionCache(
+    INCLUSION_TEMP_DIR,
+    Long.getLong("cloudnet.inclusion.cache.max-size", 1024) * 1024 * 1024,
+    TimeUnit.SECONDS.toMillis(Long.getLong("cloudnet.inclusion.cache.revalidate-seconds", 300)));
   protected static final Path WRAPPER_CONFIG_PATH = Path.of(".wrapper", "wrapper.json");
   protected static final Collection<String> DEFAULT_DEPLOYMENT_EXCLUSIONS = Arrays.asList("wrapper.jar", ".wrapper/");
 
@@ -105,6 +111,8 @@ public abstract class AbstractService implements CloudService {
 
   protected volatile NetworkChannel networkChannel;
   protected volatile long connectionTimestamp = -1;
+  // if the files of the service were already prepared for the next start
+  protected volatile boolean prepared;
 
   protected volatile ServiceInfoSnapshot lastServiceInfo;
   protected volatile ServiceInfoSnapshot currentServiceInfo;
@@ -242,7 +250,11 @@ protected void updateLifecycle(@NonNull ServiceLifeCycle lifeCycle, boolean swit
           if (this.preLifecycleChange(ServiceLifeCycle.RUNNING)) {
             // check if we can start the process now
             if (this.lifeCycle() == ServiceLifeCycle.PREPARED && this.canStartNow()) {
-              this.prepareService();
+              // services of a warm pool were prepared in the background already
+              if (!this.prepared) {
+                this.prepareService();
+              }
+              this.prepared = false;
               this.startProcess();
               // update the current service info
               this.pushServiceInfoSnapshotUpdate(ServiceLifeCycle.RUNNING);
@@ -276,6 +288,25 @@ protected void updateLifecycle(@NonNull ServiceLifeCycle lifeCycle, boolean swit
     }
   }
 
+  @Override
+  public boolean prepared() {
+    return this.prepared;
+  }
+
+  @Override
+  public void prepare() {
+    try {
+      this.lifecycleLock.lock();
+      // only prepare the service once before it gets started
+      if (this.lifeCycle() == ServiceLifeCycle.PREPARED && !this.prepared) {
+        this.prepareService();
+        this.prepared = true;
+      }
+    } finally {
+      this.lifecycleLock.unlock();
+    }
+  }
+
   @Override
   public void restart() {
     this.updateLifecycle(ServiceLifeCycle.STOPPED, false);
@@ -289,6 +320,8 @@ public void includeWaitingServiceTemplates() {
 
   @Override
   public void includeWaitingServiceInclusions() {
+    List<Pair<ServiceRemoteInclusion, CompletableFuture<CacheEntry>>> downloads = new ArrayList<>();
+    // start the downloads of all inclusions, they are running in parallel
     ServiceRemoteInclusion inclusion;
     while ((inclusion = this.waitingRemoteInclusions.poll()) != null) {
       // prepare the connection from which we load the inclusion
@@ -300,26 +333,33 @@ public void includeWaitingServiceInclusions() {
       }
       // check if we should load the inclusion
       if (!this.eventManager.callEvent(new CloudServicePreLoadInclusionEvent(this, inclusion, req)).cancelled()) {
-        // get a target path based on the download url
-        var destination = INCLUSION_TEMP_DIR.resolve(
-          Base64.getEncoder().encodeToString(inclusion.url().getBytes(StandardCharsets.UTF_8)).replace('/', '_'));
-        // download the file from the given url to the temp path if it does not exist
-        if (Files.notExists(destination)) {
-          try {
-            // we only support success codes for downloading the file
-            req.asFile(destination.toString());
-          } catch (UnirestException exception) {
-            LOGGER.severe("Unable to download inclusion from %s to %s", exception.getCause(), inclusion.url(),
-              destination);
-            continue;
-          }
-        }
-        // resolve the desired output path
-        var target = this.serviceDirectory.resolve(inclusion.destination());
-        FileUtil.ensureChild(this.serviceDirectory, target);
-        // copy the file to the desired output path
-        FileUtil.copy(destination, target);
+        var pinnedHash = inclusion.property(ServiceRemoteInclusion.SHA256);
+        downloads.add(new Pair<>(inclusion, INCLUSION_CACHE.resolve(inclusion.url(), pinnedHash, req)));
+      }
+    }
+
+    for (var download : downloads) {
+      // the download failed, the reason was logged by the cache
+      var entry = download.second().join();
+      if (entry == null) {
+        continue;
+      }
+      // ensure that the downloaded file is the expected one
+      var pinnedHash = download.first().property(ServiceRemoteInclusion.SHA256);
+      if (pinnedHash != null && !entry.matches(pinnedHash)) {
+        LOGGER.severe(
+          "The sha-256 hash %s of inclusion %s does not match the pinned hash %s",
+          null,
+          entry.sha256(),
+          download.first().url(),
+          pinnedHash);
+        continue;
       }
+      // resolve the desired output path
+      var target = this.serviceDirectory.resolve(download.first().destination());
+      FileUtil.ensureChild(this.serviceDirectory, target);
+      // link or copy the file to the desired output path
+      INCLUSION_CACHE.copyToService(entry, target);
     }
   }
 
@@ -536,9 +576,11 @@ protected void pushServiceInfoSnapshotUpdate(@NonNull ServiceLifeCycle lifeCycle
       this.connectionTimestamp,
       lifeCycle,
       this.lastServiceInfo.properties());
-    // remove the service in the local manager if the service was deleted
+    // remove the service in the local manager if the service was deleted, re-index the new snapshot otherwise
     if (lifeCycle == ServiceLifeCycle.DELETED) {
       this.cloudServiceManager.unregisterLocalService(this);
+    } else if (this.cloudServiceManager.localCloudService(this.serviceId().uniqueId()) == this) {
+      this.cloudServiceManager.registerLocalService(this);
     }
 
     if (sendUpdate) {
@@ -39,6 +39,7 @@
 import eu.cloudnetservice.cloudnet.node.service.CloudServiceFactory;
 import eu.cloudnetservice.cloudnet.node.service.CloudServiceManager;
 import eu.cloudnetservice.cloudnet.node.service.ServiceConfigurationPreparer;
+import eu.cloudnetservice.cloudnet.node.service.ServiceWarmPool;
 import eu.cloudnetservice.cloudnet.node.service.defaults.config.BungeeConfigurationPreparer;
 import eu.cloudnetservice.cloudnet.node.service.defaults.config.GlowstoneConfigurationPreparer;
 import eu.cloudnetservice.cloudnet.node.service.defaults.config.NukkitConfigurationPreparer;
@@ -54,8 +55,11 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
@@ -72,6 +76,10 @@ public class DefaultCloudServiceManager implements CloudServiceManager {
 
   protected final RPCSender sender;
   protected final NodeServerProvider clusterNodeServerProvider;
+  protected final ServiceWarmPool warmPool = new ServiceWarmPool();
+  // updates of the known services must be applied to the indexes atomically, reads are lock free
+  protected final Lock serviceRegistryLock = new ReentrantLock();
+  protected final ServiceRegistryIndex serviceIndex = new ServiceRegistryIndex();
 
   protected final Map<UUID, SpecificCloudServiceProvider> knownServices = new ConcurrentHashMap<>();
   protected final Map<String, CloudServiceFactory> cloudServiceFactories = new ConcurrentHashMap<>();
@@ -114,22 +122,21 @@ public DefaultCloudServiceManager(@NonNull Node nodeInstance) {
         })
         .currentGetter(group -> this.serviceProviderByName(group.name()).serviceInfo())
         .build());
-    // schedule the updating of the local service log cache
+    // schedule the detection of dead local services, the log caches are updated by the log pump
     nodeInstance.mainThread().scheduleTask(() -> {
       for (var service : this.localCloudServices()) {
         // we only need to look at running services
         if (service.lifeCycle() == ServiceLifeCycle.RUNNING) {
           // detect dead services and stop them
-          if (service.alive()) {
-            service.serviceConsoleLogCache().update();
-            LOGGER.fine("Updated service log cache of %s", null, service.serviceId().name());
-          } else {
+          if (!service.alive()) {
             nodeInstance.eventManager().callEvent(new CloudServicePreForceStopEvent(service));
             service.stop();
             LOGGER.fine("Stopped dead service %s", null, service.serviceId().name());
           }
         }
       }
+      // prepare the services of the task warm pools in the background
+      this.warmPool.prepareLocalServices(this.localCloudServices(), nodeInstance.serviceTaskProvider());
       return null;
     }, TickLoop.TPS);
   }
@@ -141,11 +148,8 @@ public DefaultCloudServiceManager(@NonNull Node nodeInstance) {
 
   @Override
   public @NonNull SpecificCloudServiceProvider serviceProviderByName(@NonNull String serviceName) {
-    return this.knownServices.values().stream()
-      .filter(provider -> provider.serviceInfo() != null)
-      .filter(provider -> provider.serviceInfo().serviceId().name().equals(serviceName))
-      .findFirst()
-      .orElse(EmptySpecificCloudServiceProvider.INSTANCE);
+    var uniqueId = this.serviceIndex.serviceByName(serviceName);
+    return uniqueId == null ? EmptySpecificCloudServiceProvider.INSTANCE : this.serviceProvider(uniqueId);
   }
 
   @Override
@@ -158,38 +162,22 @@ public DefaultCloudServiceManager(@NonNull Node nodeInstance) {
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> runningServices() {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.lifeCycle() == ServiceLifeCycle.RUNNING)
-      .toList();
+    return this.indexedServices(this.serviceIndex.servicesByLifeCycle(ServiceLifeCycle.RUNNING));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByTask(@NonNull String taskName) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().taskName().equals(taskName))
-      .toList();
+    return this.indexedServices(this.serviceIndex.servicesByTask(taskName));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByEnvironment(@NonNull String environment) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().environmentName().equals(environment))
-      .toList();
+    return this.indexedServices(this.serviceIndex.servicesByEnvironment(environment));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByGroup(@NonNull String group) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.configuration().groups().contains(group))
-      .toList();
+    return this.indexedServices(this.serviceIndex.servicesByGroup(group));
   }
 
   @Override
@@ -199,12 +187,12 @@ public int serviceCount() {
 
   @Override
   public int serviceCountByGroup(@NonNull String group) {
-    return this.servicesByGroup(group).size();
+    return this.serviceIndex.servicesByGroup(group).size();
   }
 
   @Override
   public int serviceCountByTask(@NonNull String taskName) {
-    return this.servicesByTask(taskName).size();
+    return this.serviceIndex.servicesByTask(taskName).size();
   }
 
   @Override
@@ -260,6 +248,11 @@ public void removeServicePreparer(@NonNull ServiceEnvironmentType type) {
     this.preparers.remove(type);
   }
 
+  @Override
+  public @NonNull ServiceWarmPool warmPool() {
+    return this.warmPool;
+  }
+
   @Override
   public @NonNull Path tempDirectory() {
     return TEMP_SERVICE_DIR;
@@ -329,40 +322,72 @@ public int currentReservedMemory() {
 
   @Override
   public void registerLocalService(@NonNull CloudService service) {
-    this.knownServices.putIfAbsent(service.serviceId().uniqueId(), service);
+    this.serviceRegistryLock.lock();
+    try {
+      // register the service if needed, re-index the current snapshot of the service if it is already registered
+      var registered = this.knownServices.putIfAbsent(service.serviceId().uniqueId(), service);
+      if (registered == null || registered == service) {
+        this.serviceIndex.index(service.serviceInfo());
+      }
+    } finally {
+      this.serviceRegistryLock.unlock();
+    }
   }
 
   @Override
   public void unregisterLocalService(@NonNull CloudService service) {
-    this.knownServices.remove(service.serviceId().uniqueId());
+    this.serviceRegistryLock.lock();
+    try {
+      this.knownServices.remove(service.serviceId().uniqueId());
+      this.serviceIndex.remove(service.serviceId().uniqueId());
+    } finally {
+      this.serviceRegistryLock.unlock();
+    }
   }
 
   @Override
   public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @UnknownNullability NetworkChannel source) {
-    // deleted services were removed on the other node - remove it here too
-    if (snapshot.lifeCycle() == ServiceLifeCycle.DELETED) {
-      this.knownServices.remove(snapshot.serviceId().uniqueId());
-      LOGGER.fine("Deleted cloud service %s after lifecycle change to deleted", null, snapshot.serviceId());
-    } else {
-      // register the service if the provider is available
-      var provider = this.knownServices.get(snapshot.serviceId().uniqueId());
-      if (provider == null) {
-        this.knownServices.putIfAbsent(
-          snapshot.serviceId().uniqueId(),
-          new RemoteNodeCloudServiceProvider(this, this.sender, () -> source, snapshot));
-        LOGGER.fine("Registered remote service %s", null, snapshot.serviceId());
-      } else if (provider instanceof RemoteNodeCloudServiceProvider) {
-        // update the provider if possible - we need only to handle remote node providers as local providers will update
-        // the snapshot directly "in" them
-        ((RemoteNodeCloudServiceProvider) provider).snapshot(snapshot);
-        LOGGER.fine("Updated service snapshot of %s to %s", null, snapshot.serviceId(), snapshot);
-      } else if (provider instanceof CloudService) {
-        // just set the service information locally - no further processing
-        ((CloudService) provider).updateServiceInfoSnapshot(snapshot);
+    this.serviceRegistryLock.lock();
+    try {
+      // deleted services were removed on the other node - remove it here too
+      if (snapshot.lifeCycle() == ServiceLifeCycle.DELETED) {
+        this.knownServices.remove(snapshot.serviceId().uniqueId());
+        this.serviceIndex.remove(snapshot.serviceId().uniqueId());
+        LOGGER.fine("Deleted cloud service %s after lifecycle change to deleted", null, snapshot.serviceId());
+      } else {
+        // register the service if the provider is available
+        var provider = this.knownServices.get(snapshot.serviceId().uniqueId());
+        if (provider == null) {
+          this.knownServices.putIfAbsent(
+            snapshot.serviceId().uniqueId(),
+            new RemoteNodeCloudServiceProvider(this, this.sender, () -> source, snapshot));
+          LOGGER.fine("Registered remote service %s", null, snapshot.serviceId());
+        } else if (provider instanceof RemoteNodeCloudServiceProvider) {
+          // update the provider if possible - we need only to handle remote node providers as local providers will
+          // update the snapshot directly "in" them
+          ((RemoteNodeCloudServiceProvider) provider).snapshot(snapshot);
+          LOGGER.fine("Updated service snapshot of %s to %s", null, snapshot.serviceId(), snapshot);
+        } else if (provider instanceof CloudService) {
+          // just set the service information locally - no further processing
+          ((CloudService) provider).updateServiceInfoSnapshot(snapshot);
+        }
+        // index the new snapshot of the service
+        this.serviceIndex.index(snapshot);
       }
+    } finally {
+      this.serviceRegistryLock.unlock();
     }
   }
 
+  protected @NonNull @UnmodifiableView Collection<ServiceInfoSnapshot> indexedServices(@NonNull Set<UUID> services) {
+    return services.stream()
+      .map(this.knownServices::get)
+      .filter(Objects::nonNull)
+      .map(SpecificCloudServiceProvider::serviceInfo)
+      .filter(Objects::nonNull)
+      .toList();
+  }
+
   @Override
   public @NonNull CloudService createLocalCloudService(@NonNull ServiceConfiguration configuration) {
     // get the cloud service factory for the configuration
@@ -397,10 +422,14 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @UnknownN
         return nodeInfoSnapshot.usedMemory() + maxHeapMemory <= nodeInfoSnapshot.maxMemory();
       })
       .min((left, right) -> {
-        // begin by comparing the heap memory usage
-        var chain = ComparisonChain.start().compare(
-          left.second().nodeInfoSnapshot().memoryUsagePercentage(),
-          right.second().nodeInfoSnapshot().memoryUsagePercentage());
+        // prefer services which were already prepared by the warm pool, then compare the heap memory usage
+        var chain = ComparisonChain.start()
+          .compareTrueFirst(
+            left.first().provider() instanceof CloudService leftService && leftService.prepared(),
+            right.first().provider() instanceof CloudService rightService && rightService.prepared())
+          .compare(
+            left.second().nodeInfoSnapshot().memoryUsagePercentage(),
+            right.second().nodeInfoSnapshot().memoryUsagePercentage());
         // only include the cpu usage if both nodes can provide a value
         if (left.second().nodeInfoSnapshot().processSnapshot().systemCpuUsage() >= 0
           && right.second().nodeInfoSnapshot().processSnapshot().systemCpuUsage() >= 0) {
@@ -413,6 +442,7 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @UnknownN
         return chain.result();
       }).orElse(null);
     // check if we found a prepared service
+    this.warmPool.recordSelection(task.name(), prepared == null ? null : prepared.first().provider());
     if (prepared != null) {
       return prepared.first().provider();
     } else {
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service.defaults;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import eu.cloudnetservice.cloudnet.common.io.FileUtil;
+import eu.cloudnetservice.cloudnet.common.log.LogManager;
+import eu.cloudnetservice.cloudnet.common.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kong.unirest.HttpRequest;
+import kong.unirest.HttpStatus;
+import kong.unirest.UnirestException;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A cache for the files of remote inclusions shared by all services of the node. Concurrent requests for the same url
+ * share one download, cached files are revalidated using their etag and last modification date after the revalidation
+ * interval passed. The least recently used files are evicted when the cache exceeds its maximum size.
+ */
+public class RemoteInclusionCache {
+
+  private static final Logger LOGGER = LogManager.logger(RemoteInclusionCache.class);
+
+  private static final int DOWNLOAD_THREADS = Integer.getInteger("cloudnet.inclusion.cache.download-threads", 4);
+  private static final String LINKED_FILES_GLOB = System.getProperty(
+    "cloudnet.inclusion.cache.link-glob",
+    "*.{jar,zip}");
+
+  private final Path cacheDirectory;
+  private final long maxCacheSize;
+  private final long revalidateMillis;
+  private final PathMatcher linkMatcher;
+  private final Executor downloadExecutor = newDownloadExecutor();
+
+  private final Map<String, CompletableFuture<CacheEntry>> runningDownloads = new ConcurrentHashMap<>();
+  // all cached entries in access order, the first entry is the least recently used one
+  private final Map<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75F, true);
+  // the cached files which are currently copied to services mapped to the amount of running copies, evicted files are
+  // only deleted once no copy is running anymore
+  private final Map<Path, Integer> filesInUse = new HashMap<>();
+  private final Set<Path> pendingDeletions = new HashSet<>();
+  private long cacheSize;
+
+  public RemoteInclusionCache(@NonNull Path cacheDirectory, long maxCacheSize, long revalidateMillis) {
+    this.cacheDirectory = cacheDirectory;
+    this.maxCacheSize = maxCacheSize;
+    this.revalidateMillis = revalidateMillis;
+    this.linkMatcher = cacheDirectory.getFileSystem().getPathMatcher("glob:" + LINKED_FILES_GLOB);
+  }
+
+  protected static @NonNull Executor newDownloadExecutor() {
+    var threadCounter = new AtomicInteger();
+    var executor = new ThreadPoolExecutor(
+      DOWNLOAD_THREADS,
+      DOWNLOAD_THREADS,
+      30L,
+      TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(),
+      runnable -> {
+        var thread = new Thread(runnable, "CloudNet-Inclusion-Download-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    // no need to keep threads alive if no inclusions are downloaded
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  public @NonNull CompletableFuture<CacheEntry> resolve(
+    @NonNull String url,
+    @Nullable String pinnedHash,
+    @NonNull HttpRequest<?> request
+  ) {
+    // the content of a pinned file can not change, no need to revalidate it
+    var cached = this.cachedEntry(url);
+    if (cached != null && (cached.matches(pinnedHash) || !this.revalidationRequired(cached))) {
+      return CompletableFuture.completedFuture(cached);
+    }
+
+    // concurrent requests of the same url share one download
+    var future = new CompletableFuture<CacheEntry>();
+    var running = this.runningDownloads.putIfAbsent(url, future);
+    if (running != null) {
+      return running;
+    }
+
+    this.downloadExecutor.execute(() -> {
+      CacheEntry entry = null;
+      try {
+        entry = this.load(url, request);
+      } catch (Exception exception) {
+        LOGGER.severe("Unable to download inclusion from %s", exception, url);
+      } finally {
+        // unregister the download first, later requests must not receive the already finished download
+        this.runningDownloads.remove(url, future);
+        future.complete(entry);
+      }
+    });
+    return future;
+  }
+
+  public boolean copyToService(@NonNull CacheEntry entry, @NonNull Path target) {
+    // prevent the eviction of the file while copying it
+    if (!this.acquire(entry)) {
+      LOGGER.severe("Unable to copy inclusion %s to %s as it was evicted from the cache", null, entry.file(), target);
+      return false;
+    }
+
+    try {
+      FileUtil.createDirectory(target.getParent());
+      Files.deleteIfExists(target);
+      // only link the files which are usually not written by a service
+      if (this.linkMatcher.matches(target.getFileName())) {
+        try {
+          Files.createLink(target, entry.file());
+          return true;
+        } catch (IOException | UnsupportedOperationException exception) {
+          LOGGER.fine("Unable to link inclusion %s to %s, copying it instead", exception, entry.file(), target);
+        }
+      }
+
+      // the copy keeps the permissions of the read-only cached file
+      Files.copy(entry.file(), target);
+      target.toFile().setWritable(true);
+      return true;
+    } catch (IOException exception) {
+      LOGGER.severe("Unable to copy inclusion %s to %s", exception, entry.file(), target);
+      return false;
+    } finally {
+      this.release(entry);
+    }
+  }
+
+  protected @Nullable CacheEntry load(@NonNull String url, @NonNull HttpRequest<?> request) throws IOException {
+    var cached = this.cachedEntry(url);
+    if (cached != null) {
+      // revalidate the cached file instead of downloading it again
+      if (cached.etag() != null) {
+        request.header("If-None-Match", cached.etag());
+      }
+      if (cached.lastModified() != null) {
+        request.header("If-Modified-Since", cached.lastModified());
+      }
+    }
+
+    FileUtil.createDirectory(this.cacheDirectory);
+    var tempFile = this.cacheDirectory.resolve(UUID.randomUUID() + ".download");
+    try {
+      var response = request.asObject(raw -> {
+        // we only support success codes for downloading the file
+        if (raw.getStatus() < 200 || raw.getStatus() >= 300) {
+          return null;
+        }
+
+        try (var in = new HashingInputStream(Hashing.sha256(), raw.getContent());
+          var out = Files.newOutputStream(tempFile)) {
+          var size = in.transferTo(out);
+          return new CacheEntry(
+            tempFile,
+            raw.getHeaders().getFirst("ETag"),
+            raw.getHeaders().getFirst("Last-Modified"),
+            in.hash().toString(),
+            size,
+            System.currentTimeMillis());
+        } catch (IOException exception) {
+          LOGGER.severe("Unable to download inclusion from %s", exception, url);
+          return null;
+        }
+      });
+
+      // the cached file is still up-to-date
+      if (response.getStatus() == HttpStatus.NOT_MODIFIED && cached != null) {
+        var revalidated = cached.revalidated(System.currentTimeMillis());
+        this.put(url, revalidated);
+        return revalidated;
+      }
+
+      var download = response.getBody();
+      if (download == null) {
+        LOGGER.severe("Unable to download inclusion from %s, got status %d", null, url, response.getStatus());
+        return null;
+      }
+
+      // move the file into the cache, services which are using the previous file are keeping it. The file is linked
+      // into the service directories, make sure that no service is able to change the cached content
+      var file = this.cacheDirectory.resolve(Hashing.sha256().hashString(url, StandardCharsets.UTF_8).toString());
+      tempFile.toFile().setReadOnly();
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+
+      var entry = download.withFile(file);
+      this.put(url, entry);
+      return entry;
+    } catch (UnirestException exception) {
+      LOGGER.severe("Unable to download inclusion from %s", exception.getCause(), url);
+      return null;
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  protected boolean revalidationRequired(@NonNull CacheEntry entry) {
+    return System.currentTimeMillis() - entry.validatedAt() >= this.revalidateMillis;
+  }
+
+  protected synchronized @Nullable CacheEntry cachedEntry(@NonNull String url) {
+    var entry = this.entries.get(url);
+    // the file might have been deleted, for example when the temp directory was cleared
+    if (entry != null && Files.notExists(entry.file())) {
+      this.entries.remove(url);
+      this.cacheSize -= entry.size();
+      return null;
+    }
+    return entry;
+  }
+
+  protected synchronized void put(@NonNull String url, @NonNull CacheEntry entry) {
+    var previous = this.entries.put(url, entry);
+    this.cacheSize += entry.size() - (previous == null ? 0 : previous.size());
+    // the file was downloaded again after it was evicted, but is not yet deleted as it is still in use
+    this.pendingDeletions.remove(entry.file());
+
+    // evict the least recently used entries, but keep the entry which was just added
+    var iterator = this.entries.entrySet().iterator();
+    while (this.cacheSize > this.maxCacheSize && iterator.hasNext()) {
+      var eldest = iterator.next();
+      if (!eldest.getKey().equals(url)) {
+        iterator.remove();
+        this.cacheSize -= eldest.getValue().size();
+        // services which are linked to the file are keeping it
+        var file = eldest.getValue().file();
+        if (this.filesInUse.containsKey(file)) {
+          this.pendingDeletions.add(file);
+        } else {
+          FileUtil.delete(file);
+        }
+      }
+    }
+  }
+
+  protected synchronized boolean acquire(@NonNull CacheEntry entry) {
+    // the file might have been evicted and deleted before the copy started
+    if (Files.notExists(entry.file())) {
+      return false;
+    }
+
+    this.filesInUse.merge(entry.file(), 1, Integer::sum);
+    return true;
+  }
+
+  protected synchronized void release(@NonNull CacheEntry entry) {
+    var copies = this.filesInUse.merge(entry.file(), -1, Integer::sum);
+    if (copies != null && copies <= 0) {
+      this.filesInUse.remove(entry.file());
+      // delete the file if it was evicted while it was copied
+      if (this.pendingDeletions.remove(entry.file())) {
+        FileUtil.delete(entry.file());
+      }
+    }
+  }
+
+  public record CacheEntry(
+    @NonNull Path file,
+    @Nullable String etag,
+    @Nullable String lastModified,
+    @NonNull String sha256,
+    long size,
+    long validatedAt
+  ) {
+
+    public boolean matches(@Nullable String pinnedHash) {
+      return pinnedHash != null && pinnedHash.equalsIgnoreCase(this.sha256);
+    }
+
+    private @NonNull CacheEntry withFile(@NonNull Path file) {
+      return new CacheEntry(file, this.etag, this.lastModified, this.sha256, this.size, this.validatedAt);
+    }
+
+    private @NonNull CacheEntry revalidated(long validatedAt) {
+      return new CacheEntry(this.file, this.etag, this.lastModified, this.sha256, this.size, validatedAt);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service.defaults;
+
+import eu.cloudnetservice.cloudnet.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceLifeCycle;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * Secondary indexes of the services known to a service manager. Reads are lock free and can be executed concurrently
+ * to an update, updates must be synchronized by the caller together with the update of the primary registry.
+ */
+public final class ServiceRegistryIndex {
+
+  private final Map<UUID, ServiceInfoSnapshot> indexedSnapshots = new ConcurrentHashMap<>();
+
+  private final Map<String, UUID> servicesByName = new ConcurrentHashMap<>();
+  private final Map<String, Set<UUID>> servicesByTask = new ConcurrentHashMap<>();
+  private final Map<String, Set<UUID>> servicesByGroup = new ConcurrentHashMap<>();
+  private final Map<String, Set<UUID>> servicesByEnvironment = new ConcurrentHashMap<>();
+  private final Map<ServiceLifeCycle, Set<UUID>> servicesByLifeCycle = new ConcurrentHashMap<>();
+
+  private static <K> void reindex(
+    @NonNull Map<K, Set<UUID>> index,
+    @NonNull Collection<K> oldKeys,
+    @NonNull Collection<K> newKeys,
+    @NonNull UUID uniqueId
+  ) {
+    // add the new keys first, the service is never missing from an index while it is moved
+    for (var key : newKeys) {
+      index.computeIfAbsent(key, $ -> ConcurrentHashMap.newKeySet()).add(uniqueId);
+    }
+    // remove the service from all keys which are no longer associated with it, drop empty key sets
+    for (var key : oldKeys) {
+      if (!newKeys.contains(key)) {
+        index.computeIfPresent(key, ($, services) -> services.remove(uniqueId) && services.isEmpty() ? null : services);
+      }
+    }
+  }
+
+  private static <K> @NonNull @UnmodifiableView Set<UUID> lookup(@NonNull Map<K, Set<UUID>> index, @NonNull K key) {
+    var services = index.get(key);
+    return services == null ? Set.of() : Collections.unmodifiableSet(services);
+  }
+
+  public void index(@NonNull ServiceInfoSnapshot snapshot) {
+    var serviceId = snapshot.serviceId();
+    var previous = this.indexedSnapshots.put(serviceId.uniqueId(), snapshot);
+
+    // the keys of the snapshot the service was indexed with before, none if the service is new
+    var oldName = previous == null ? null : previous.name();
+    var oldTask = previous == null ? List.<String>of() : List.of(previous.serviceId().taskName());
+    var oldGroups = previous == null ? Set.<String>of() : previous.configuration().groups();
+    var oldEnvironment = previous == null ? List.<String>of() : List.of(previous.serviceId().environmentName());
+    var oldLifeCycle = previous == null ? List.<ServiceLifeCycle>of() : List.of(previous.lifeCycle());
+
+    // update the name index
+    this.servicesByName.put(serviceId.name(), serviceId.uniqueId());
+    if (oldName != null && !oldName.equals(serviceId.name())) {
+      this.servicesByName.remove(oldName, serviceId.uniqueId());
+    }
+
+    // update the remaining indexes
+    reindex(this.servicesByTask, oldTask, List.of(serviceId.taskName()), serviceId.uniqueId());
+    reindex(this.servicesByGroup, oldGroups, snapshot.configuration().groups(), serviceId.uniqueId());
+    reindex(this.servicesByEnvironment, oldEnvironment, List.of(serviceId.environmentName()), serviceId.uniqueId());
+    reindex(this.servicesByLifeCycle, oldLifeCycle, List.of(snapshot.lifeCycle()), serviceId.uniqueId());
+  }
+
+  public void remove(@NonNull UUID uniqueId) {
+    var previous = this.indexedSnapshots.remove(uniqueId);
+    if (previous != null) {
+      this.servicesByName.remove(previous.name(), uniqueId);
+      reindex(this.servicesByTask, List.of(previous.serviceId().taskName()), List.of(), uniqueId);
+      reindex(this.servicesByGroup, previous.configuration().groups(), List.of(), uniqueId);
+      reindex(this.servicesByEnvironment, List.of(previous.serviceId().environmentName()), List.of(), uniqueId);
+      reindex(this.servicesByLifeCycle, List.of(previous.lifeCycle()), List.of(), uniqueId);
+    }
+  }
+
+  public @Nullable UUID serviceByName(@NonNull String name) {
+    return this.servicesByName.get(name);
+  }
+
+  public @NonNull @UnmodifiableView Set<UUID> servicesByTask(@NonNull String task) {
+    return lookup(this.servicesByTask, task);
+  }
+
+  public @NonNull @UnmodifiableView Set<UUID> servicesByGroup(@NonNull String group) {
+    return lookup(this.servicesByGroup, group);
+  }
+
+  public @NonNull @UnmodifiableView Set<UUID> servicesByEnvironment(@NonNull String environment) {
+    return lookup(this.servicesByEnvironment, environment);
+  }
+
+  public @NonNull @UnmodifiableView Set<UUID> servicesByLifeCycle(@NonNull ServiceLifeCycle lifeCycle) {
+    return lookup(this.servicesByLifeCycle, lifeCycle);
+  }
+
+  public int size() {
+    return this.indexedSnapshots.size();
+  }
+}
@@ -28,7 +28,6 @@
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import lombok.NonNull;
 import org.jetbrains.annotations.UnmodifiableView;
 
@@ -38,15 +37,14 @@ public abstract class AbstractServiceLogCache implements ServiceConsoleLogCache
 
   protected final CloudService service;
 
-  protected final Queue<String> cachedLogMessages = new ConcurrentLinkedQueue<>();
+  protected final LogRingBuffer cachedLogMessages;
   protected final Set<ServiceConsoleLineHandler> handlers = ConcurrentHashMap.newKeySet();
 
-  protected volatile int logCacheSize;
   protected volatile boolean alwaysPrintErrorStreamToConsole;
 
   public AbstractServiceLogCache(@NonNull Node node, @NonNull CloudService service) {
     this.service = service;
-    this.logCacheSize = node.config().maxServiceConsoleLogCacheSize();
+    this.cachedLogMessages = new LogRingBuffer(node.config().maxServiceConsoleLogCacheSize());
     this.alwaysPrintErrorStreamToConsole = node.config().printErrorStreamLinesFromServices();
   }
 
@@ -62,13 +60,13 @@ public AbstractServiceLogCache(@NonNull Node node, @NonNull CloudService service
 
   @Override
   public int logCacheSize() {
-    return this.logCacheSize;
+    return this.cachedLogMessages.capacity();
   }
 
   @Override
   public void logCacheSize(int cacheSize) {
     Preconditions.checkArgument(cacheSize >= 0, "Cache size must be higher or equal to 0");
-    this.logCacheSize = cacheSize;
+    this.cachedLogMessages.capacity(cacheSize);
   }
 
   @Override
@@ -97,16 +95,12 @@ public void removeHandler(@NonNull ServiceConsoleLineHandler handler) {
   }
 
   protected void handleItem(@NonNull String entry, boolean comesFromErrorStream) {
-    // drain the cache
-    while (this.cachedLogMessages.size() > this.logCacheSize) {
-      this.cachedLogMessages.poll();
-    }
     // print the line to the console if enabled
     if (this.alwaysPrintErrorStreamToConsole && comesFromErrorStream) {
       LOGGER.warning(String.format("[%s/SERR]: %s", this.service.serviceId().name(), entry));
     }
-    // add the line
-    this.cachedLogMessages.add(entry);
+    // add the line, the ring buffer drops the oldest line if the cache is full
+    this.cachedLogMessages.offer(entry);
     // call all handlers
     if (!this.handlers.isEmpty()) {
       for (var handler : this.handlers) {
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service.defaults.log;
+
+import com.google.common.base.Preconditions;
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A thread safe queue with a fixed capacity. Offering an element to a full buffer overwrites the oldest element of the
+ * buffer, iterating over the buffer iterates over a snapshot of the elements from the oldest to the newest one.
+ */
+public final class LogRingBuffer extends AbstractQueue<String> {
+
+  private String[] elements;
+  private int head;
+  private int size;
+
+  public LogRingBuffer(int capacity) {
+    Preconditions.checkArgument(capacity >= 0, "Capacity must be higher or equal to 0");
+    this.elements = new String[capacity];
+  }
+
+  public synchronized int capacity() {
+    return this.elements.length;
+  }
+
+  public synchronized void capacity(int capacity) {
+    Preconditions.checkArgument(capacity >= 0, "Capacity must be higher or equal to 0");
+    // keep the newest elements which fit into the new buffer
+    var retained = Math.min(this.size, capacity);
+    var elements = new String[capacity];
+    for (var i = 0; i < retained; i++) {
+      elements[i] = this.elements[(this.head + this.size - retained + i) % this.elements.length];
+    }
+
+    this.elements = elements;
+    this.head = 0;
+    this.size = retained;
+  }
+
+  @Override
+  public synchronized boolean offer(@NonNull String element) {
+    if (this.elements.length == 0) {
+      return true;
+    }
+
+    if (this.size == this.elements.length) {
+      // overwrite the oldest element
+      this.elements[this.head] = element;
+      this.head = (this.head + 1) % this.elements.length;
+    } else {
+      this.elements[(this.head + this.size) % this.elements.length] = element;
+      this.size++;
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized @Nullable String poll() {
+    if (this.size == 0) {
+      return null;
+    }
+
+    var element = this.elements[this.head];
+    this.elements[this.head] = null;
+    this.head = (this.head + 1) % this.elements.length;
+    this.size--;
+    return element;
+  }
+
+  @Override
+  public synchronized @Nullable String peek() {
+    return this.size == 0 ? null : this.elements[this.head];
+  }
+
+  @Override
+  public synchronized int size() {
+    return this.size;
+  }
+
+  @Override
+  public synchronized void clear() {
+    Arrays.fill(this.elements, null);
+    this.head = 0;
+    this.size = 0;
+  }
+
+  @Override
+  public synchronized Object[] toArray() {
+    var snapshot = new String[this.size];
+    for (var i = 0; i < this.size; i++) {
+      snapshot[i] = this.elements[(this.head + i) % this.elements.length];
+    }
+    return snapshot;
+  }
+
+  @Override
+  public @NonNull Iterator<String> iterator() {
+    var snapshot = (String[]) this.toArray();
+    return Collections.unmodifiableList(Arrays.asList(snapshot)).iterator();
+  }
+}
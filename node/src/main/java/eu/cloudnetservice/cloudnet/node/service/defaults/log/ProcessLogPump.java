@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service.defaults.log;
+
+import eu.cloudnetservice.cloudnet.common.log.LogManager;
+import eu.cloudnetservice.cloudnet.common.log.Logger;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceLifeCycle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.NonNull;
+
+/**
+ * Pumps the output of all service processes of the node on a few threads. Process streams can not be selected in java,
+ * therefore each pump thread reads the available output of all its processes and parks with an increasing delay (up to
+ * the configured maximum) while none of the processes wrote any output.
+ */
+public final class ProcessLogPump {
+
+  private static final Logger LOGGER = LogManager.logger(ProcessLogPump.class);
+
+  private static final int PUMP_THREADS = Integer.getInteger("cloudnet.service.log-pump.threads", 2);
+  private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(
+    Long.getLong("cloudnet.service.log-pump.max-idle-millis", 20));
+  private static final long MIN_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final ProcessLogPump INSTANCE = new ProcessLogPump(Math.max(1, PUMP_THREADS));
+
+  private final PumpThread[] pumpThreads;
+
+  private ProcessLogPump(int threads) {
+    this.pumpThreads = new PumpThread[threads];
+    for (var i = 0; i < threads; i++) {
+      this.pumpThreads[i] = new PumpThread(i + 1);
+      this.pumpThreads[i].start();
+    }
+  }
+
+  public static @NonNull ProcessLogPump instance() {
+    return INSTANCE;
+  }
+
+  public void register(@NonNull ProcessServiceLogCache logCache) {
+    // assign the cache to the thread with the fewest caches
+    var thread = this.pumpThreads[0];
+    for (var pumpThread : this.pumpThreads) {
+      if (pumpThread.logCaches.size() < thread.logCaches.size()) {
+        thread = pumpThread;
+      }
+    }
+    thread.logCaches.add(logCache);
+  }
+
+  public void unregister(@NonNull ProcessServiceLogCache logCache) {
+    for (var pumpThread : this.pumpThreads) {
+      pumpThread.logCaches.remove(logCache);
+    }
+  }
+
+  private static final class PumpThread extends Thread {
+
+    private final Set<ProcessServiceLogCache> logCaches = ConcurrentHashMap.newKeySet();
+
+    public PumpThread(int id) {
+      super("CloudNet-Log-Pump-" + id);
+      this.setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      var idleNanos = MIN_IDLE_NANOS;
+      while (!this.isInterrupted()) {
+        var read = false;
+        for (var logCache : this.logCaches) {
+          // the service will never run a process again
+          if (logCache.service().lifeCycle() == ServiceLifeCycle.DELETED) {
+            this.logCaches.remove(logCache);
+            continue;
+          }
+
+          try {
+            read |= logCache.pump();
+          } catch (Exception exception) {
+            LOGGER.severe("Exception pumping the log of service %s", exception, logCache.service().serviceId());
+          }
+        }
+
+        if (read) {
+          idleNanos = MIN_IDLE_NANOS;
+        } else {
+          // back off while the processes are not writing any output
+          LockSupport.parkNanos(idleNanos);
+          idleNanos = Math.min(idleNanos * 2, MAX_IDLE_NANOS);
+        }
+      }
+    }
+  }
+}
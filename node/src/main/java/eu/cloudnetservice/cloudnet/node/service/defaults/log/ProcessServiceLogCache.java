@@ -20,8 +20,6 @@
 import eu.cloudnetservice.cloudnet.node.service.CloudService;
 import eu.cloudnetservice.cloudnet.node.service.ServiceConsoleLogCache;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.function.Supplier;
 import lombok.NonNull;
 
@@ -29,8 +27,10 @@ public class ProcessServiceLogCache extends AbstractServiceLogCache {
 
   protected final Supplier<Process> processSupplier;
 
-  protected final byte[] buffer = new byte[2048];
-  protected final StringBuffer stringBuffer = new StringBuffer();
+  protected final StreamLineDecoder outputDecoder = new StreamLineDecoder(line -> this.handleItem(line, false));
+  protected final StreamLineDecoder errorDecoder = new StreamLineDecoder(line -> this.handleItem(line, true));
+
+  protected Process pumpedProcess;
 
   public ProcessServiceLogCache(
     @NonNull Supplier<Process> processSupplier,
@@ -39,47 +39,54 @@ public ProcessServiceLogCache(
   ) {
     super(node, service);
     this.processSupplier = processSupplier;
+    // the output of the process is read by the log pump as soon as the process is started
+    ProcessLogPump.instance().register(this);
   }
 
   @Override
   public @NonNull ServiceConsoleLogCache update() {
-    // check if we can currently update
+    // read the output which was not yet read by the log pump
+    this.pump();
+    // for chaining
+    return this;
+  }
+
+  protected synchronized boolean pump() {
     var process = this.processSupplier.get();
+    if (process != this.pumpedProcess) {
+      // the process was stopped or restarted, handle the last lines of the previous process
+      if (this.pumpedProcess != null) {
+        this.readRemaining(this.pumpedProcess);
+      }
+      this.outputDecoder.flush();
+      this.errorDecoder.flush();
+      this.pumpedProcess = process;
+    }
+
+    // check if we can currently read
     if (process != null) {
       try {
-        this.readStream(process.getInputStream(), false);
-        this.readStream(process.getErrorStream(), true);
+        var readOutput = this.outputDecoder.read(process.getInputStream());
+        var readError = this.errorDecoder.read(process.getErrorStream());
+        return readOutput || readError;
       } catch (IOException exception) {
         LOGGER.severe("Exception updating content of console for service %s",
           exception,
           this.service.serviceId().name());
-        // reset the string buffer
-        this.stringBuffer.setLength(0);
+        // reset the decoders
+        this.outputDecoder.flush();
+        this.errorDecoder.flush();
       }
     }
-    // for chaining
-    return this;
+    return false;
   }
 
-  protected void readStream(@NonNull InputStream stream, boolean isErrorStream) throws IOException {
-    int len;
-    while (stream.available() > 0 && (len = stream.read(this.buffer, 0, this.buffer.length)) != -1) {
-      this.stringBuffer.append(new String(this.buffer, 0, len, StandardCharsets.UTF_8));
+  protected void readRemaining(@NonNull Process process) {
+    try {
+      this.outputDecoder.read(process.getInputStream());
+      this.errorDecoder.read(process.getErrorStream());
+    } catch (IOException ignored) {
+      // the streams of the process were closed already
     }
-
-    // check if we got a result we can work with
-    var content = this.stringBuffer.toString();
-    if (content.contains("\n") || content.contains("\r")) {
-      for (var input : content.split("\r")) {
-        for (var text : input.split("\n")) {
-          if (!text.trim().isEmpty()) {
-            this.handleItem(text, isErrorStream);
-          }
-        }
-      }
-    }
-
-    // reset the string buffer
-    this.stringBuffer.setLength(0);
   }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service.defaults.log;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * Decodes the lines of a stream without blocking, using the same buffers for each read. Incomplete lines and incomplete
+ * multibyte characters are kept until the rest of them was read from the stream. Blank lines are skipped.
+ */
+final class StreamLineDecoder {
+
+  private static final int BUFFER_SIZE = 2048;
+  private static final int MAX_LINE_LENGTH = 16384;
+
+  private final Consumer<String> lineHandler;
+
+  private final ByteBuffer byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private final CharBuffer charBuffer = CharBuffer.allocate(BUFFER_SIZE);
+  private final StringBuilder currentLine = new StringBuilder();
+  private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+    .onMalformedInput(CodingErrorAction.REPLACE)
+    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+  public StreamLineDecoder(@NonNull Consumer<String> lineHandler) {
+    this.lineHandler = lineHandler;
+  }
+
+  public boolean read(@NonNull InputStream stream) throws IOException {
+    var read = false;
+    // only read the bytes which are available to never block
+    int available;
+    while ((available = stream.available()) > 0) {
+      var length = Math.min(available, this.byteBuffer.remaining());
+      var bytesRead = stream.read(this.byteBuffer.array(), this.byteBuffer.position(), length);
+      if (bytesRead == -1) {
+        break;
+      }
+
+      read = true;
+      this.byteBuffer.position(this.byteBuffer.position() + bytesRead);
+      this.decode();
+    }
+    return read;
+  }
+
+  public void flush() {
+    // handle the last line, even if it was not terminated
+    this.emitLine();
+    this.decoder.reset();
+    this.byteBuffer.clear();
+    this.charBuffer.clear();
+  }
+
+  private void decode() {
+    this.byteBuffer.flip();
+    // the char buffer can hold all chars of the byte buffer, but better be safe
+    boolean overflow;
+    do {
+      overflow = this.decoder.decode(this.byteBuffer, this.charBuffer, false).isOverflow();
+      this.charBuffer.flip();
+      while (this.charBuffer.hasRemaining()) {
+        var c = this.charBuffer.get();
+        if (c == '\n' || c == '\r') {
+          this.emitLine();
+        } else {
+          this.currentLine.append(c);
+          // prevent unbounded growth if a process never terminates a line
+          if (this.currentLine.length() >= MAX_LINE_LENGTH) {
+            this.emitLine();
+          }
+        }
+      }
+      this.charBuffer.clear();
+    } while (overflow);
+    // keep the bytes of incomplete characters for the next read
+    this.byteBuffer.compact();
+  }
+
+  private void emitLine() {
+    if (!this.currentLine.isEmpty()) {
+      var line = this.currentLine.toString();
+      this.currentLine.setLength(0);
+      if (!line.isBlank()) {
+        this.lineHandler.accept(line);
+      }
+    }
+  }
+}
@@ -16,10 +16,13 @@
 
 package eu.cloudnetservice.cloudnet.node.template;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import eu.cloudnetservice.cloudnet.common.io.FileUtil;
 import eu.cloudnetservice.cloudnet.common.io.ZipUtil;
 import eu.cloudnetservice.cloudnet.driver.service.ServiceTemplate;
 import eu.cloudnetservice.cloudnet.driver.template.FileInfo;
+import eu.cloudnetservice.cloudnet.driver.template.TemplateManifest;
 import eu.cloudnetservice.cloudnet.driver.template.TemplateStorage;
 import java.io.IOException;
 import java.io.InputStream;
@@ -33,6 +36,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
@@ -43,11 +47,33 @@ public class LocalTemplateStorage implements TemplateStorage {
 
   public static final String LOCAL_TEMPLATE_STORAGE = "local";
 
+  // copy (the default) or link, link materializes the template files as hard links to immutable snapshots
+  private static final boolean LINK_TEMPLATE_FILES = "link".equalsIgnoreCase(
+    System.getProperty("cloudnet.storage.local.materialization", "copy"));
+  private static final String LINKED_FILES_GLOB = System.getProperty("cloudnet.storage.local.link-glob", "*.{jar,zip}");
+
   private final Path storageDirectory;
+  private final TemplateSnapshotStore snapshotStore;
+  // the last manifest of each template, to reuse the file hashes of unchanged files
+  private final Cache<Path, TemplateManifest> manifestCache = Caffeine.newBuilder()
+    .maximumSize(256)
+    .expireAfterAccess(30, TimeUnit.MINUTES)
+    .build();
 
   public LocalTemplateStorage(@NonNull Path storageDirectory) {
+    this(storageDirectory, LINK_TEMPLATE_FILES
+      ? new TemplateSnapshotStore(storageDirectory.resolveSibling(".template-snapshots"), LINKED_FILES_GLOB)
+      : null);
+  }
+
+  public LocalTemplateStorage(@NonNull Path storageDirectory, @Nullable TemplateSnapshotStore snapshotStore) {
     this.storageDirectory = storageDirectory;
+    this.snapshotStore = snapshotStore;
     FileUtil.createDirectory(storageDirectory);
+    // remove the snapshots which are no longer used by any service since the last start
+    if (snapshotStore != null) {
+      snapshotStore.removeUnusedSnapshots();
+    }
   }
 
   @Override
@@ -79,7 +105,17 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    FileUtil.copyDirectory(this.getTemplatePath(template), directory);
+    var templateDir = this.getTemplatePath(template);
+    if (this.snapshotStore != null) {
+      // the manifest provides the content hashes of all files to link
+      var manifest = this.manifest(template);
+      if (manifest != null) {
+        this.snapshotStore.materialize(templateDir, manifest, directory);
+        return true;
+      }
+    }
+
+    FileUtil.copyDirectory(templateDir, directory);
     return true;
   }
 
@@ -104,6 +140,7 @@ public boolean delete(@NonNull ServiceTemplate template) {
       return false;
     } else {
       FileUtil.delete(templateDir);
+      this.manifestCache.invalidate(templateDir);
       return true;
     }
   }
@@ -231,6 +268,23 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
     return out;
   }
 
+  @Override
+  public @Nullable TemplateManifest manifest(@NonNull ServiceTemplate template) {
+    var templateDir = this.getTemplatePath(template);
+    if (Files.notExists(templateDir)) {
+      return null;
+    }
+
+    try {
+      // only hash the files which changed since the last manifest was created
+      var manifest = TemplateManifest.fromDirectory(templateDir, null, this.manifestCache.getIfPresent(templateDir));
+      this.manifestCache.put(templateDir, manifest);
+      return manifest;
+    } catch (IOException exception) {
+      return null;
+    }
+  }
+
   @Override
   public @NonNull Collection<ServiceTemplate> templates() {
     try {
@@ -260,6 +314,9 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
 
   @Override
   public void close() {
+    if (this.snapshotStore != null) {
+      this.snapshotStore.removeUnusedSnapshots();
+    }
   }
 
   protected @NonNull Path getTemplatePath(@NonNull ServiceTemplate template) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.template;
+
+import eu.cloudnetservice.cloudnet.common.io.FileUtil;
+import eu.cloudnetservice.cloudnet.common.log.LogManager;
+import eu.cloudnetservice.cloudnet.common.log.Logger;
+import eu.cloudnetservice.cloudnet.driver.template.TemplateManifest;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Materializes templates into service directories by hard linking the files to immutable, content addressed snapshots
+ * of the template files instead of copying them. Each snapshot object is named after the sha-256 hash of its content,
+ * therefore identical files of all templates share one object and changes to a template file never reach the already
+ * materialized services.
+ * <p>
+ * Only files matching the link pattern (by default jar and zip files) are linked, as all links share the same content
+ * and a service writing into a linked file would change the snapshot. All other files are copied as usual.
+ */
+public class TemplateSnapshotStore {
+
+  private static final Logger LOGGER = LogManager.logger(TemplateSnapshotStore.class);
+
+  private final Path objectDirectory;
+  private final PathMatcher linkMatcher;
+
+  public TemplateSnapshotStore(@NonNull Path objectDirectory, @NonNull String linkGlob) {
+    this.objectDirectory = objectDirectory;
+    this.linkMatcher = objectDirectory.getFileSystem().getPathMatcher("glob:" + linkGlob);
+
+    FileUtil.createDirectory(objectDirectory);
+  }
+
+  public void materialize(@NonNull Path templateDirectory, @NonNull TemplateManifest manifest, @NonNull Path target) {
+    // the manifest only contains files, create the directories of the template first to keep the empty ones
+    FileUtil.walkFileTree(templateDirectory, ($, path) -> {
+      if (Files.isDirectory(path)) {
+        FileUtil.createDirectory(target.resolve(templateDirectory.relativize(path)));
+      }
+    }, true);
+    for (var entry : manifest.entries().entrySet()) {
+      var source = templateDirectory.resolve(entry.getKey());
+      var destination = target.resolve(entry.getKey());
+      // copy the file if it should not or can not be linked
+      if (!this.linkMatcher.matches(source.getFileName()) || !this.link(source, entry.getValue().hash(), destination)) {
+        FileUtil.copy(source, destination);
+      }
+    }
+  }
+
+  public void removeUnusedSnapshots() {
+    FileUtil.walkFileTree(this.objectDirectory, ($, object) -> {
+      try {
+        // the object is only referenced by the store itself, no service is using it anymore
+        if (Files.isRegularFile(object) && (int) Files.getAttribute(object, "unix:nlink") <= 1) {
+          Files.delete(object);
+        }
+      } catch (IOException | UnsupportedOperationException | IllegalArgumentException ignored) {
+        // the link count is not available, keep the object
+      }
+    }, true);
+  }
+
+  protected boolean link(@NonNull Path source, @NonNull String hash, @NonNull Path destination) {
+    try {
+      var object = this.snapshot(source, hash);
+      // replace the file of a previous template
+      FileUtil.createDirectory(destination.getParent());
+      Files.deleteIfExists(destination);
+      Files.createLink(destination, object);
+      return true;
+    } catch (IOException | UnsupportedOperationException exception) {
+      // for example if the service directory is located on another file system
+      LOGGER.fine("Unable to link template file %s to %s, copying it instead", exception, source, destination);
+      return false;
+    }
+  }
+
+  protected @NonNull Path snapshot(@NonNull Path source, @NonNull String hash) throws IOException {
+    var object = this.objectDirectory.resolve(hash.substring(0, 2)).resolve(hash);
+    if (Files.notExists(object)) {
+      Files.createDirectories(object.getParent());
+      // copy to a temp file first to never expose an incomplete object to other services
+      var tempFile = object.resolveSibling(hash + '.' + UUID.randomUUID());
+      try {
+        Files.copy(source, tempFile);
+        tempFile.toFile().setReadOnly();
+        Files.move(tempFile, object, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    }
+
+    return object;
+  }
+}
@@ -16,12 +16,20 @@
 
 package eu.cloudnetservice.cloudnet.node.template;
 
+import eu.cloudnetservice.cloudnet.common.io.FileUtil;
 import eu.cloudnetservice.cloudnet.driver.service.ServiceEnvironmentType;
 import eu.cloudnetservice.cloudnet.driver.service.ServiceTemplate;
 import eu.cloudnetservice.cloudnet.driver.template.TemplateStorage;
 import eu.cloudnetservice.cloudnet.node.Node;
 import eu.cloudnetservice.cloudnet.node.event.template.ServiceTemplateInstallEvent;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import lombok.NonNull;
 
 /**
@@ -61,4 +69,25 @@ public static boolean createAndPrepareTemplate(
       return false;
     }
   }
+
+  public static @NonNull InputStream zipTemplateFiles(
+    @NonNull TemplateStorage storage,
+    @NonNull ServiceTemplate template,
+    @NonNull Collection<String> paths
+  ) throws IOException {
+    var target = FileUtil.createTempFile();
+    try (var out = new ZipOutputStream(Files.newOutputStream(target), StandardCharsets.UTF_8)) {
+      for (var path : paths) {
+        try (var in = storage.newInputStream(template, path)) {
+          // the file might have been deleted in the meantime
+          if (in != null) {
+            out.putNextEntry(new ZipEntry(path));
+            FileUtil.copy(in, out);
+            out.closeEntry();
+          }
+        }
+      }
+    }
+    return Files.newInputStream(target, StandardOpenOption.DELETE_ON_CLOSE);
+  }
 }
@@ -24,6 +24,9 @@
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -133,6 +136,56 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testIndexedFind() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.insert("1", JsonDocument.newDocument("name", "derklaro")));
+    Assertions.assertTrue(database.insert("2", JsonDocument.newDocument("name", "0utplay")));
+
+    // the index is built from the existing documents
+    Assertions.assertTrue(this.databaseProvider.createIndex("test", "name"));
+    Assertions.assertTrue(database.indexedFields().contains("name"));
+    Assertions.assertTrue(this.databaseProvider.databaseNames().stream().allMatch("test"::equals));
+
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find(JsonDocument.newDocument("name", "0utplay")).size());
+
+    // the index is maintained by all writes
+    Assertions.assertTrue(database.insert("1", JsonDocument.newDocument("name", "juliarn")));
+    Assertions.assertTrue(database.find("name", "derklaro").isEmpty());
+    Assertions.assertEquals(1, database.find("name", "juliarn").size());
+
+    Assertions.assertTrue(database.delete("2"));
+    Assertions.assertTrue(database.find("name", "0utplay").isEmpty());
+
+    database.clear();
+    Assertions.assertTrue(database.find("name", "juliarn").isEmpty());
+  }
+
+  @Test
+  void testConcurrentIndexedWritesOfTheSameKey() throws Exception {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(this.databaseProvider.createIndex("test", "name"));
+
+    // concurrent writers of the same key must not leave stale index entries behind
+    var executor = Executors.newFixedThreadPool(8);
+    List<Future<?>> writes = new ArrayList<>();
+    for (var i = 0; i < 200; i++) {
+      var name = "name" + (i % 10);
+      writes.add(executor.submit(() -> database.insert("1", JsonDocument.newDocument("name", name))));
+    }
+    for (var write : writes) {
+      write.get(30, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    var currentName = database.get("1").getString("name");
+    for (var i = 0; i < 10; i++) {
+      var name = "name" + i;
+      Assertions.assertEquals(name.equals(currentName) ? 1 : 0, database.find("name", name).size());
+    }
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
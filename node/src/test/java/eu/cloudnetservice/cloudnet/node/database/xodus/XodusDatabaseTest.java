@@ -132,6 +132,32 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testIndexedFind() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.insert("1", JsonDocument.newDocument("name", "derklaro")));
+    Assertions.assertTrue(database.insert("2", JsonDocument.newDocument("name", "0utplay")));
+
+    // the index is built from the existing documents
+    Assertions.assertTrue(this.databaseProvider.createIndex("test", "name"));
+    Assertions.assertTrue(database.indexedFields().contains("name"));
+    Assertions.assertTrue(this.databaseProvider.databaseNames().stream().allMatch("test"::equals));
+
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find(JsonDocument.newDocument("name", "0utplay")).size());
+
+    // the index is maintained by all writes
+    Assertions.assertTrue(database.insert("1", JsonDocument.newDocument("name", "juliarn")));
+    Assertions.assertTrue(database.find("name", "derklaro").isEmpty());
+    Assertions.assertEquals(1, database.find("name", "juliarn").size());
+
+    Assertions.assertTrue(database.delete("2"));
+    Assertions.assertTrue(database.find("name", "0utplay").isEmpty());
+
+    database.clear();
+    Assertions.assertTrue(database.find("name", "juliarn").isEmpty());
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
@@ -166,4 +192,38 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testKeyedChunkedDataRead() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // fill in some data
+    var entries = 1235;
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < entries; i++) {
+      var key = UUID.randomUUID().toString();
+
+      keys.add(key);
+      database.insert(key, JsonDocument.newDocument("this_is", "a_world_test"));
+    }
+
+    String lastKey = null;
+    var readsCalled = 0;
+
+    Map<String, JsonDocument> currentChunk;
+    while ((currentChunk = database.readChunk(lastKey, 50)) != null) {
+      readsCalled++;
+
+      Assertions.assertFalse(currentChunk.size() > 50);
+      Assertions.assertTrue(keys.removeAll(currentChunk.keySet()));
+      // the last key of the chunk is the position to continue from
+      for (var key : currentChunk.keySet()) {
+        lastKey = key;
+      }
+    }
+
+    Assertions.assertEquals((int) Math.ceil(entries / 50D), readsCalled);
+    Assertions.assertTrue(keys.isEmpty());
+  }
 }
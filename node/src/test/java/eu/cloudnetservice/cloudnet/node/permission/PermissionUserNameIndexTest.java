@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.permission;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PermissionUserNameIndexTest {
+
+  @Test
+  void testNameIndex() {
+    var index = new PermissionUserNameIndex();
+    var loads = new AtomicInteger();
+
+    var first = UUID.randomUUID();
+    var second = UUID.randomUUID();
+    // the first lookup loads the users from the database
+    Assertions.assertEquals(Set.of(first), Set.copyOf(index.users("derklaro", () -> {
+      loads.incrementAndGet();
+      return List.of(first);
+    })));
+    Assertions.assertEquals(Set.of(first), Set.copyOf(index.users("derklaro", List::of)));
+    Assertions.assertEquals(1, loads.get());
+
+    // added users are indexed if the name is indexed
+    index.update(second, "derklaro");
+    Assertions.assertEquals(Set.of(first, second), Set.copyOf(index.users("derklaro", List::of)));
+
+    // renamed and removed users are removed from the name
+    index.update(first, "0utplay");
+    index.remove(second);
+    Assertions.assertTrue(index.users("derklaro", List::of).isEmpty());
+    Assertions.assertTrue(index.users("0utplay", List::of).isEmpty());
+  }
+}
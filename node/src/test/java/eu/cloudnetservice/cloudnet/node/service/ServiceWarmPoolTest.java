@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service;
+
+import eu.cloudnetservice.cloudnet.driver.provider.CloudServiceFactory;
+import eu.cloudnetservice.cloudnet.driver.provider.ServiceTaskProvider;
+import eu.cloudnetservice.cloudnet.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceId;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceTask;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ServiceWarmPoolTest {
+
+  private static final ServiceTask TASK = ServiceTask.builder()
+    .name("Lobby")
+    .startPort(44955)
+    .serviceEnvironmentType(ServiceEnvironmentType.MINECRAFT_SERVER)
+    .warmPoolSize(2)
+    .build();
+
+  private static ServiceInfoSnapshot snapshot(ServiceLifeCycle lifeCycle) {
+    var snapshot = Mockito.mock(ServiceInfoSnapshot.class);
+    Mockito.when(snapshot.lifeCycle()).thenReturn(lifeCycle);
+    return snapshot;
+  }
+
+  private static CloudService service(ServiceLifeCycle lifeCycle, boolean prepared) {
+    var serviceId = Mockito.mock(ServiceId.class);
+    Mockito.when(serviceId.uniqueId()).thenReturn(UUID.randomUUID());
+    Mockito.when(serviceId.taskName()).thenReturn(TASK.name());
+
+    var service = Mockito.mock(CloudService.class);
+    Mockito.when(service.serviceId()).thenReturn(serviceId);
+    Mockito.when(service.lifeCycle()).thenReturn(lifeCycle);
+    Mockito.when(service.prepared()).thenReturn(prepared);
+    return service;
+  }
+
+  @Test
+  void testRefillCreatesOneMissingService() {
+    var pool = new ServiceWarmPool(Runnable::run);
+    var factory = Mockito.mock(CloudServiceFactory.class);
+
+    // one prepared service is missing, only prepared services count
+    pool.refill(TASK, List.of(snapshot(ServiceLifeCycle.PREPARED), snapshot(ServiceLifeCycle.RUNNING)), factory);
+    Mockito.verify(factory, Mockito.times(1)).createCloudService(Mockito.any());
+
+    // the pool is full
+    Mockito.clearInvocations(factory);
+    pool.refill(TASK, List.of(snapshot(ServiceLifeCycle.PREPARED), snapshot(ServiceLifeCycle.PREPARED)), factory);
+    Mockito.verify(factory, Mockito.never()).createCloudService(Mockito.any());
+  }
+
+  @Test
+  void testOnlyUnpreparedServicesOfPooledTasksArePrepared() {
+    var pool = new ServiceWarmPool(Runnable::run);
+    var taskProvider = Mockito.mock(ServiceTaskProvider.class);
+    Mockito.when(taskProvider.serviceTask(TASK.name())).thenReturn(TASK);
+
+    var unprepared = service(ServiceLifeCycle.PREPARED, false);
+    var prepared = service(ServiceLifeCycle.PREPARED, true);
+    var running = service(ServiceLifeCycle.RUNNING, false);
+    pool.prepareLocalServices(List.of(unprepared, prepared, running), taskProvider);
+
+    Mockito.verify(unprepared, Mockito.times(1)).prepare();
+    Mockito.verify(prepared, Mockito.never()).prepare();
+    Mockito.verify(running, Mockito.never()).prepare();
+    Assertions.assertEquals(1, pool.statistics(TASK.name()).preparedServices());
+
+    // services of tasks without a warm pool are not prepared
+    var noPoolTask = ServiceTask.builder(TASK).warmPoolSize(0).build();
+    Mockito.when(taskProvider.serviceTask(TASK.name())).thenReturn(noPoolTask);
+    var other = service(ServiceLifeCycle.PREPARED, false);
+    pool.prepareLocalServices(List.of(other), taskProvider);
+    Mockito.verify(other, Mockito.never()).prepare();
+  }
+
+  @Test
+  void testOnlyServicesPreparedByThePoolAreHits() {
+    var pool = new ServiceWarmPool(Runnable::run);
+
+    pool.recordSelection(TASK.name(), service(ServiceLifeCycle.PREPARED, true));
+    // a prepared service which was not prepared by the pool, a remote service and no service at all
+    pool.recordSelection(TASK.name(), service(ServiceLifeCycle.PREPARED, false));
+    pool.recordSelection(TASK.name(), Mockito.mock(SpecificCloudServiceProvider.class));
+    pool.recordSelection(TASK.name(), null);
+
+    var statistics = pool.statistics(TASK.name());
+    Assertions.assertEquals(1, statistics.hits());
+    Assertions.assertEquals(3, statistics.misses());
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service.defaults;
+
+import com.google.common.hash.Hashing;
+import com.sun.net.httpserver.HttpServer;
+import eu.cloudnetservice.cloudnet.common.io.FileUtil;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kong.unirest.Unirest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
+
+@TestMethodOrder(OrderAnnotation.class)
+class RemoteInclusionCacheTest {
+
+  private static final Path HOME_PATH = Path.of("build", "tmp", "inclusion_cache");
+  private static final byte[] CONTENT = "inclusion content".getBytes(StandardCharsets.UTF_8);
+
+  private static final AtomicInteger REQUESTS = new AtomicInteger();
+  private static final AtomicInteger DOWNLOADS = new AtomicInteger();
+  private static final CountDownLatch RELEASE_DOWNLOAD = new CountDownLatch(1);
+
+  private static HttpServer server;
+
+  @BeforeAll
+  static void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      REQUESTS.incrementAndGet();
+      try {
+        // hold back the first download to let the concurrent requests pile up
+        RELEASE_DOWNLOAD.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+
+      exchange.getResponseHeaders().add("ETag", "\"v1\"");
+      if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        exchange.sendResponseHeaders(304, -1);
+      } else {
+        DOWNLOADS.incrementAndGet();
+        exchange.sendResponseHeaders(200, CONTENT.length);
+        exchange.getResponseBody().write(CONTENT);
+      }
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterAll
+  static void stopServer() {
+    server.stop(0);
+    FileUtil.delete(HOME_PATH);
+  }
+
+  private static String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+
+  @Test
+  @Order(0)
+  @Timeout(20)
+  void testDeduplicatedDownloadAndRevalidation() throws IOException {
+    var cache = new RemoteInclusionCache(HOME_PATH.resolve("dedupe"), Long.MAX_VALUE, 0);
+    var url = url("/plugin.jar");
+
+    // all concurrent requests must share the download
+    var futures = new CompletableFuture[4];
+    for (var i = 0; i < futures.length; i++) {
+      futures[i] = cache.resolve(url, null, Unirest.get(url));
+    }
+    RELEASE_DOWNLOAD.countDown();
+
+    var entry = (RemoteInclusionCache.CacheEntry) futures[0].join();
+    Assertions.assertNotNull(entry);
+    for (var future : futures) {
+      Assertions.assertSame(entry, future.join());
+    }
+
+    Assertions.assertEquals(1, REQUESTS.get());
+    Assertions.assertEquals(1, DOWNLOADS.get());
+    Assertions.assertArrayEquals(CONTENT, Files.readAllBytes(entry.file()));
+    Assertions.assertEquals(Hashing.sha256().hashBytes(CONTENT).toString(), entry.sha256());
+
+    // the cached file gets revalidated using the etag without downloading it again
+    var revalidated = cache.resolve(url, null, Unirest.get(url)).join();
+    Assertions.assertNotNull(revalidated);
+    Assertions.assertEquals(entry.file(), revalidated.file());
+    Assertions.assertEquals(2, REQUESTS.get());
+    Assertions.assertEquals(1, DOWNLOADS.get());
+
+    // a pinned file with a matching hash needs no revalidation
+    Assertions.assertNotNull(cache.resolve(url, entry.sha256(), Unirest.get(url)).join());
+    Assertions.assertEquals(2, REQUESTS.get());
+
+    // jar files are linked into the service directory
+    var target = HOME_PATH.resolve("service").resolve("plugins").resolve("plugin.jar");
+    Assertions.assertTrue(cache.copyToService(entry, target));
+    Assertions.assertArrayEquals(CONTENT, Files.readAllBytes(target));
+  }
+
+  @Test
+  @Order(10)
+  @Timeout(20)
+  void testLeastRecentlyUsedEviction() {
+    // the cache can only hold one of the files
+    var cache = new RemoteInclusionCache(HOME_PATH.resolve("eviction"), CONTENT.length, Long.MAX_VALUE);
+
+    var first = cache.resolve(url("/first.jar"), null, Unirest.get(url("/first.jar"))).join();
+    Assertions.assertNotNull(first);
+    Assertions.assertTrue(Files.exists(first.file()));
+
+    var second = cache.resolve(url("/second.jar"), null, Unirest.get(url("/second.jar"))).join();
+    Assertions.assertNotNull(second);
+    Assertions.assertTrue(Files.exists(second.file()));
+    Assertions.assertFalse(Files.exists(first.file()));
+
+    // a file which is copied to a service while it gets evicted is deleted once the copy completed
+    Assertions.assertTrue(cache.acquire(second));
+    var third = cache.resolve(url("/third.jar"), null, Unirest.get(url("/third.jar"))).join();
+    Assertions.assertNotNull(third);
+    Assertions.assertTrue(Files.exists(second.file()));
+
+    cache.release(second);
+    Assertions.assertFalse(Files.exists(second.file()));
+    Assertions.assertFalse(cache.acquire(second));
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service.defaults;
+
+import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
+import eu.cloudnetservice.cloudnet.driver.network.HostAndPort;
+import eu.cloudnetservice.cloudnet.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceLifeCycle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class ServiceRegistryIndexTest {
+
+  private static final int NODES = 20;
+  private static final int TASKS = 50;
+  private static final int SERVICES = 5_000;
+
+  private static ServiceInfoSnapshot snapshot(int id, ServiceConfiguration configuration, ServiceLifeCycle lifeCycle) {
+    return new ServiceInfoSnapshot(
+      id,
+      new HostAndPort("127.0.0.1", configuration.port()),
+      new HostAndPort("127.0.0.1", configuration.port()),
+      ProcessSnapshot.empty(),
+      configuration,
+      -1,
+      lifeCycle,
+      JsonDocument.newDocument());
+  }
+
+  @Test
+  @Timeout(10)
+  void testServiceIndexes() {
+    var index = new ServiceRegistryIndex();
+    var configurations = new ArrayList<ServiceConfiguration>();
+    // 5000 services of 50 tasks spread across 20 nodes
+    for (var i = 0; i < SERVICES; i++) {
+      var configuration = ServiceConfiguration.builder()
+        .taskName("Task" + (i % TASKS))
+        .taskId(i / TASKS + 1)
+        .node("Node-" + (i % NODES))
+        .uniqueId(UUID.randomUUID())
+        .environment(i % 2 == 0 ? ServiceEnvironmentType.MINECRAFT_SERVER : ServiceEnvironmentType.VELOCITY)
+        .groups(i % 5 == 0 ? Set.of("Global", "Even") : Set.of("Global"))
+        .build();
+      configurations.add(configuration);
+      index.index(snapshot(i, configuration, ServiceLifeCycle.PREPARED));
+    }
+
+    Assertions.assertEquals(SERVICES, index.size());
+    Assertions.assertEquals(SERVICES / TASKS, index.servicesByTask("Task7").size());
+    Assertions.assertEquals(SERVICES, index.servicesByGroup("Global").size());
+    Assertions.assertEquals(SERVICES / 5, index.servicesByGroup("Even").size());
+    Assertions.assertEquals(SERVICES / 2, index.servicesByEnvironment("VELOCITY").size());
+    Assertions.assertEquals(SERVICES, index.servicesByLifeCycle(ServiceLifeCycle.PREPARED).size());
+    Assertions.assertTrue(index.servicesByTask("Unknown").isEmpty());
+
+    var service = configurations.get(57);
+    Assertions.assertEquals(service.serviceId().uniqueId(), index.serviceByName(service.serviceId().name()));
+
+    // lifecycle updates only move the service between the lifecycle indexes
+    for (var i = 0; i < SERVICES; i += 2) {
+      index.index(snapshot(i, configurations.get(i), ServiceLifeCycle.RUNNING));
+    }
+    Assertions.assertEquals(SERVICES / 2, index.servicesByLifeCycle(ServiceLifeCycle.RUNNING).size());
+    Assertions.assertEquals(SERVICES / 2, index.servicesByLifeCycle(ServiceLifeCycle.PREPARED).size());
+    Assertions.assertEquals(SERVICES / TASKS, index.servicesByTask("Task8").size());
+
+    // removed services are removed from all indexes
+    for (var configuration : List.copyOf(configurations.subList(0, TASKS))) {
+      index.remove(configuration.serviceId().uniqueId());
+    }
+    Assertions.assertEquals(SERVICES - TASKS, index.size());
+    Assertions.assertEquals(SERVICES / TASKS - 1, index.servicesByTask("Task7").size());
+    Assertions.assertEquals(SERVICES - TASKS, index.servicesByGroup("Global").size());
+    Assertions.assertNull(index.serviceByName(configurations.get(0).serviceId().name()));
+    Assertions.assertNotNull(index.serviceByName(configurations.get(TASKS).serviceId().name()));
+  }
+}
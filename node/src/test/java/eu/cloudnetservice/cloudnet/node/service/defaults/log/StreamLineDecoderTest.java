@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.service.defaults.log;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class StreamLineDecoderTest {
+
+  // contains a character which is encoded using two bytes in utf-8
+  private static final String MULTIBYTE_LINE = "W" + Character.toString(0xF6) + "rld";
+
+  @Test
+  void testLineDecoding() throws IOException {
+    List<String> lines = new ArrayList<>();
+    var decoder = new StreamLineDecoder(lines::add);
+
+    var bytes = ("Hello\r\n" + MULTIBYTE_LINE + "\n\n  \npartial").getBytes(StandardCharsets.UTF_8);
+    // split the input in the middle of the multibyte character
+    var split = "Hello\r\nW".getBytes(StandardCharsets.UTF_8).length + 1;
+
+    Assertions.assertTrue(decoder.read(new ByteArrayInputStream(Arrays.copyOfRange(bytes, 0, split))));
+    Assertions.assertEquals(List.of("Hello"), lines);
+
+    Assertions.assertTrue(decoder.read(new ByteArrayInputStream(Arrays.copyOfRange(bytes, split, bytes.length))));
+    Assertions.assertEquals(List.of("Hello", MULTIBYTE_LINE), lines);
+
+    // the unterminated line is only handled when flushing
+    Assertions.assertFalse(decoder.read(new ByteArrayInputStream(new byte[0])));
+    decoder.flush();
+    Assertions.assertEquals(List.of("Hello", MULTIBYTE_LINE, "partial"), lines);
+  }
+
+  @Test
+  void testRingBuffer() {
+    var buffer = new LogRingBuffer(3);
+    for (var i = 0; i < 5; i++) {
+      buffer.offer("line " + i);
+    }
+
+    Assertions.assertEquals(List.of("line 2", "line 3", "line 4"), new ArrayList<>(buffer));
+    Assertions.assertEquals("line 2", buffer.peek());
+
+    buffer.capacity(2);
+    Assertions.assertEquals(List.of("line 3", "line 4"), new ArrayList<>(buffer));
+    Assertions.assertEquals("line 3", buffer.poll());
+    Assertions.assertEquals(1, buffer.size());
+  }
+}
@@ -19,9 +19,11 @@
 import eu.cloudnetservice.cloudnet.common.io.FileUtil;
 import eu.cloudnetservice.cloudnet.driver.service.ServiceTemplate;
 import eu.cloudnetservice.cloudnet.driver.template.FileInfo;
+import eu.cloudnetservice.cloudnet.driver.template.TemplateManifest;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Set;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -162,6 +164,28 @@ void testFileListingDeep() {
     Assertions.assertEquals("hello", dir.name());
   }
 
+  @Test
+  @Order(95)
+  void testTemplateManifest() throws IOException {
+    var manifest = storage.manifest(TEMPLATE);
+    Assertions.assertNotNull(manifest);
+    Assertions.assertEquals(Set.of("test.txt", "hello/test.txt"), manifest.entries().keySet());
+    // the manifest must match the one created by reading the files through the storage
+    Assertions.assertEquals(
+      TemplateManifest.fromStorage(storage, TEMPLATE).changedPaths(manifest),
+      Set.of());
+
+    try (var stream = storage.appendOutputStream(TEMPLATE, "test.txt")) {
+      Assertions.assertNotNull(stream);
+      stream.write("!".getBytes(StandardCharsets.UTF_8));
+    }
+
+    var updatedManifest = storage.manifest(TEMPLATE);
+    Assertions.assertNotNull(updatedManifest);
+    Assertions.assertEquals(Set.of("test.txt"), updatedManifest.changedPaths(manifest));
+    Assertions.assertEquals(Set.of(), updatedManifest.removedPaths(manifest));
+  }
+
   @Test
   @Order(100)
   void testTemplateListing() {
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.node.template;
+
+import eu.cloudnetservice.cloudnet.common.io.FileUtil;
+import eu.cloudnetservice.cloudnet.driver.service.ServiceTemplate;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TemplateSnapshotStoreTest {
+
+  private static final Path HOME_PATH = Path.of("build", "tmp", "snapshot_ts");
+  private static final ServiceTemplate TEMPLATE = ServiceTemplate.builder()
+    .prefix("global")
+    .name("server")
+    .storage("local")
+    .build();
+
+  private static LocalTemplateStorage storage;
+
+  @BeforeAll
+  static void setupStorage() throws IOException {
+    storage = new LocalTemplateStorage(
+      HOME_PATH.resolve("templates"),
+      new TemplateSnapshotStore(HOME_PATH.resolve("snapshots"), "*.jar"));
+    Assertions.assertTrue(storage.create(TEMPLATE));
+    Assertions.assertTrue(storage.createDirectory(TEMPLATE, "world/region"));
+
+    try (var stream = storage.newOutputStream(TEMPLATE, "plugins/test.jar")) {
+      Assertions.assertNotNull(stream);
+      stream.write("jar".getBytes(StandardCharsets.UTF_8));
+    }
+
+    try (var stream = storage.newOutputStream(TEMPLATE, "server.properties")) {
+      Assertions.assertNotNull(stream);
+      stream.write("motd=test".getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @AfterAll
+  static void closeStorage() {
+    storage.close();
+    FileUtil.delete(HOME_PATH);
+  }
+
+  @Test
+  void testLinkedMaterialization() throws IOException {
+    var first = HOME_PATH.resolve("services").resolve("first");
+    var second = HOME_PATH.resolve("services").resolve("second");
+
+    Assertions.assertTrue(storage.pull(TEMPLATE, first));
+    Assertions.assertTrue(storage.pull(TEMPLATE, second));
+
+    // empty directories of the template are created as well
+    Assertions.assertTrue(Files.isDirectory(first.resolve("world/region")));
+
+    // matching files are linked to the same snapshot, all other files are copied
+    Assertions.assertTrue(Files.isSameFile(first.resolve("plugins/test.jar"), second.resolve("plugins/test.jar")));
+    Assertions.assertEquals("motd=test", Files.readString(first.resolve("server.properties")));
+    Assertions.assertEquals("motd=test", Files.readString(second.resolve("server.properties")));
+
+    // services writing into copied files must not affect each other
+    Files.writeString(first.resolve("server.properties"), "motd=changed");
+    Assertions.assertEquals("motd=test", Files.readString(second.resolve("server.properties")));
+
+    // changes to the template must not reach the already materialized services
+    try (var stream = storage.newOutputStream(TEMPLATE, "plugins/test.jar")) {
+      Assertions.assertNotNull(stream);
+      stream.write("updated jar".getBytes(StandardCharsets.UTF_8));
+    }
+
+    var third = HOME_PATH.resolve("services").resolve("third");
+    Assertions.assertTrue(storage.pull(TEMPLATE, third));
+    Assertions.assertEquals("jar", Files.readString(first.resolve("plugins/test.jar")));
+    Assertions.assertEquals("updated jar", Files.readString(third.resolve("plugins/test.jar")));
+  }
+}
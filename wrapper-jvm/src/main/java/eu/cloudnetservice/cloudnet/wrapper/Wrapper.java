@@ -27,6 +27,7 @@
 import eu.cloudnetservice.cloudnet.driver.module.DefaultModuleProviderHandler;
 import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.defaults.factory.EventChunkHandlerFactory;
+import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacketCreditListener;
 import eu.cloudnetservice.cloudnet.driver.network.chunk.network.ChunkedPacketListener;
 import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.cloudnet.driver.network.netty.client.NettyNetworkClient;
@@ -53,6 +54,7 @@
 import eu.cloudnetservice.cloudnet.wrapper.network.chunk.TemplateStorageCallbackListener;
 import eu.cloudnetservice.cloudnet.wrapper.network.listener.PacketAuthorizationResponseListener;
 import eu.cloudnetservice.cloudnet.wrapper.network.listener.PacketServerChannelMessageListener;
+import eu.cloudnetservice.cloudnet.wrapper.network.listener.message.DatabaseChannelMessageListener;
 import eu.cloudnetservice.cloudnet.wrapper.network.listener.message.GroupChannelMessageListener;
 import eu.cloudnetservice.cloudnet.wrapper.network.listener.message.ServiceChannelMessageListener;
 import eu.cloudnetservice.cloudnet.wrapper.network.listener.message.TaskChannelMessageListener;
@@ -142,6 +144,8 @@ protected Wrapper(@NonNull String[] args) {
     this.eventManager.registerListener(new TaskChannelMessageListener(this.eventManager));
     this.eventManager.registerListener(new GroupChannelMessageListener(this.eventManager));
     this.eventManager.registerListener(new ServiceChannelMessageListener(this.eventManager));
+    this.eventManager.registerListener(new DatabaseChannelMessageListener(
+      (DefaultWrapperDatabaseProvider) super.databaseProvider));
 
     super.cloudServiceFactory = new RemoteCloudServiceFactory(this.networkClient::firstChannel, this.rpcFactory);
 
@@ -345,9 +349,16 @@ private void connectToNode() throws InterruptedException {
       this.networkClient.packetRegistry().removeListeners(NetworkConstants.INTERNAL_AUTHORIZATION_CHANNEL);
 
       // add the runtime packet listeners
+      var chunkedPacketListener = new ChunkedPacketListener(EventChunkHandlerFactory.withDefaultEventManager());
       this.networkClient.packetRegistry().addListener(
         NetworkConstants.CHUNKED_PACKET_COM_CHANNEL,
-        new ChunkedPacketListener(EventChunkHandlerFactory.withDefaultEventManager()));
+        chunkedPacketListener);
+      this.networkClient.packetRegistry().addListener(
+        NetworkConstants.CHUNKED_PACKET_RESUME_CHANNEL,
+        chunkedPacketListener);
+      this.networkClient.packetRegistry().addListener(
+        NetworkConstants.CHUNKED_PACKET_CREDIT_CHANNEL,
+        new ChunkedPacketCreditListener());
       this.networkClient.packetRegistry().addListener(
         NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
         new PacketServerChannelMessageListener());
@@ -16,14 +16,40 @@
 
 package eu.cloudnetservice.cloudnet.wrapper.database;
 
+import eu.cloudnetservice.cloudnet.driver.channel.ChannelMessage;
 import eu.cloudnetservice.cloudnet.driver.database.Database;
 import eu.cloudnetservice.cloudnet.driver.database.DatabaseProvider;
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCSender;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
 
 public abstract class DefaultWrapperDatabaseProvider implements DatabaseProvider {
 
+  // the databases to cache reads of, either comma separated names or * for all databases
+  private static final Set<String> NEAR_CACHED_DATABASES = Arrays
+    .stream(System.getProperty("cloudnet.wrapper.database.near-cache", "").split(","))
+    .map(String::trim)
+    .filter(name -> !name.isEmpty())
+    .collect(Collectors.toUnmodifiableSet());
+  private static final long NEAR_CACHE_MAX_SIZE = Long.getLong("cloudnet.wrapper.database.near-cache.max-size", 10_000);
+  private static final Duration NEAR_CACHE_EXPIRATION = Duration.ofSeconds(
+    Long.getLong("cloudnet.wrapper.database.near-cache.expire-seconds", 60));
+  private static final boolean NEAR_CACHE_READ_YOUR_WRITES = Boolean.parseBoolean(
+    System.getProperty("cloudnet.wrapper.database.near-cache.read-your-writes", "true"));
+
   private final RPCSender rpcSender;
+  private final Map<String, NearCachedDatabase> nearCachedDatabases = new ConcurrentHashMap<>();
 
   public DefaultWrapperDatabaseProvider(@NonNull RPCSender sender) {
     this.rpcSender = sender;
@@ -31,6 +57,32 @@ public DefaultWrapperDatabaseProvider(@NonNull RPCSender sender) {
 
   @Override
   public @NonNull Database database(@NonNull String name) {
+    if (NEAR_CACHED_DATABASES.contains("*") || NEAR_CACHED_DATABASES.contains(name)) {
+      return this.nearCachedDatabases.computeIfAbsent(name, $ -> {
+        // request the invalidations of the database from all nodes before the first read
+        ChannelMessage.builder()
+          .targetNodes()
+          .message("subscribe_database_invalidations")
+          .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+          .buffer(DataBuf.empty().writeString(name))
+          .build()
+          .send();
+        return new NearCachedDatabase(
+          new WrapperDatabase(name, this.rpcSender.invokeMethod("database", name)),
+          NEAR_CACHE_MAX_SIZE,
+          NEAR_CACHE_EXPIRATION,
+          NEAR_CACHE_READ_YOUR_WRITES,
+          database -> this.nearCachedDatabases.remove(name, database));
+      });
+    }
     return new WrapperDatabase(name, this.rpcSender.invokeMethod("database", name));
   }
+
+  public @Nullable NearCachedDatabase nearCachedDatabase(@NonNull String name) {
+    return this.nearCachedDatabases.get(name);
+  }
+
+  public @UnmodifiableView @NonNull Collection<NearCachedDatabase> nearCachedDatabases() {
+    return Collections.unmodifiableCollection(this.nearCachedDatabases.values());
+  }
 }
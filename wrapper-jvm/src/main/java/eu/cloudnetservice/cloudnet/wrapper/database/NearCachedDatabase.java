@@ -0,0 +1,323 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.wrapper.database;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import eu.cloudnetservice.cloudnet.common.concurrent.Task;
+import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
+import eu.cloudnetservice.cloudnet.driver.database.Database;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A database which keeps the results of reads in a bounded cache on the wrapper side. The cache is kept up-to-date by
+ * the invalidations the nodes push when an entry of the database changes, entries expire after a configurable time
+ * in case an invalidation was missed. With read-your-writes enabled writes of this wrapper are applied to the cache
+ * directly, otherwise the cache is only updated once the node pushed the invalidation for the write.
+ */
+public class NearCachedDatabase implements Database {
+
+  private final Database database;
+  private final boolean readYourWrites;
+  private final Consumer<NearCachedDatabase> closeHandler;
+
+  // documents are mapped to an empty optional when there is no document stored for a key
+  private final Cache<String, Optional<JsonDocument>> documents;
+  // the results of queries, any change in the database invalidates all of them
+  private final Cache<String, List<JsonDocument>> queries;
+  // counts the invalidations to detect results of async loads which might be outdated when they complete
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public NearCachedDatabase(
+    @NonNull Database database,
+    long maximumSize,
+    @NonNull Duration expireAfterWrite,
+    boolean readYourWrites
+  ) {
+    this(database, maximumSize, expireAfterWrite, readYourWrites, $ -> {
+    });
+  }
+
+  public NearCachedDatabase(
+    @NonNull Database database,
+    long maximumSize,
+    @NonNull Duration expireAfterWrite,
+    boolean readYourWrites,
+    @NonNull Consumer<NearCachedDatabase> closeHandler
+  ) {
+    this.database = database;
+    this.readYourWrites = readYourWrites;
+    this.closeHandler = closeHandler;
+    this.documents = Caffeine.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterWrite(expireAfterWrite)
+      .recordStats()
+      .build();
+    this.queries = Caffeine.newBuilder()
+      .maximumSize(Math.max(1, maximumSize / 10))
+      .expireAfterWrite(expireAfterWrite)
+      .recordStats()
+      .build();
+  }
+
+  private static @NonNull List<JsonDocument> copy(@NonNull Collection<JsonDocument> documents) {
+    return documents.stream().map(JsonDocument::clone).toList();
+  }
+
+  public void invalidate(@Nullable String key) {
+    this.invalidations.incrementAndGet();
+    // a changed entry may be part of any cached query result
+    this.queries.invalidateAll();
+    if (key == null) {
+      this.documents.invalidateAll();
+    } else {
+      this.documents.invalidate(key);
+    }
+  }
+
+  private <K, V> void cacheLoaded(@NonNull Cache<K, V> cache, @NonNull K key, @NonNull V value, long invalidations) {
+    cache.put(key, value);
+    // the invalidation counter is increased before the cache is invalidated, if it did not change after the value was
+    // put into the cache the value was loaded after the last invalidation or will be removed by a running one
+    if (this.invalidations.get() != invalidations) {
+      cache.invalidate(key);
+    }
+  }
+
+  private @NonNull List<JsonDocument> find(
+    @NonNull String query,
+    @NonNull Supplier<Collection<JsonDocument>> loader
+  ) {
+    var cached = this.queries.getIfPresent(query);
+    if (cached == null) {
+      // the query results are invalidated all at once, which does not wait for running loads like the invalidation of
+      // a single document does, therefore the result must be checked against the invalidations like an async load
+      var invalidations = this.invalidations.get();
+      cached = copy(loader.get());
+      this.cacheLoaded(this.queries, query, cached, invalidations);
+    }
+    return copy(cached);
+  }
+
+  private boolean applyInsert(@NonNull String key, @NonNull JsonDocument document, boolean result) {
+    // make the write visible to the next read before the invalidation pushed by the node arrives
+    if (this.readYourWrites) {
+      this.invalidate(key);
+      if (result) {
+        this.documents.put(key, Optional.of(document.clone()));
+      }
+    }
+    return result;
+  }
+
+  private boolean applyDelete(@NonNull String key, boolean result) {
+    if (this.readYourWrites) {
+      this.invalidate(key);
+      if (result) {
+        this.documents.put(key, Optional.empty());
+      }
+    }
+    return result;
+  }
+
+  public @NonNull CacheStats statistics() {
+    return this.documents.stats().plus(this.queries.stats());
+  }
+
+  public boolean readYourWrites() {
+    return this.readYourWrites;
+  }
+
+  @Override
+  public @NonNull String name() {
+    return this.database.name();
+  }
+
+  @Override
+  public boolean insert(@NonNull String key, @NonNull JsonDocument document) {
+    return this.applyInsert(key, document, this.database.insert(key, document));
+  }
+
+  @Override
+  public boolean contains(@NonNull String key) {
+    var cached = this.documents.getIfPresent(key);
+    return cached == null ? this.database.contains(key) : cached.isPresent();
+  }
+
+  @Override
+  public boolean delete(@NonNull String key) {
+    return this.applyDelete(key, this.database.delete(key));
+  }
+
+  @Override
+  public @Nullable JsonDocument get(@NonNull String key) {
+    // an invalidation of the key waits for a running load and removes its possibly outdated result
+    var document = this.documents.get(key, $ -> Optional.ofNullable(this.database.get(key)));
+    return document.map(JsonDocument::clone).orElse(null);
+  }
+
+  @Override
+  public @NonNull List<JsonDocument> find(@NonNull String fieldName, @Nullable Object fieldValue) {
+    var query = JsonDocument.newDocument(fieldName, fieldValue).toString();
+    return this.find(query, () -> this.database.find(fieldName, fieldValue));
+  }
+
+  @Override
+  public @NonNull List<JsonDocument> find(@NonNull JsonDocument filters) {
+    return this.find(filters.toString(), () -> this.database.find(filters));
+  }
+
+  @Override
+  public @NonNull Collection<String> keys() {
+    return this.database.keys();
+  }
+
+  @Override
+  public @NonNull Collection<JsonDocument> documents() {
+    return this.database.documents();
+  }
+
+  @Override
+  public @NonNull Map<String, JsonDocument> entries() {
+    return this.database.entries();
+  }
+
+  @Override
+  public void clear() {
+    this.database.clear();
+    if (this.readYourWrites) {
+      this.invalidate(null);
+    }
+  }
+
+  @Override
+  public long documentCount() {
+    return this.database.documentCount();
+  }
+
+  @Override
+  public boolean synced() {
+    return this.database.synced();
+  }
+
+  @Override
+  public void close() throws Exception {
+    // remove this database from its provider first, a new instance is created for the next request of the database
+    this.closeHandler.accept(this);
+    this.invalidate(null);
+    this.database.close();
+  }
+
+  @Override
+  public @NonNull Task<Boolean> insertAsync(@NonNull String key, @NonNull JsonDocument document) {
+    return Task.wrapFuture(this.database.insertAsync(key, document)
+      .thenApply(result -> this.applyInsert(key, document, result)));
+  }
+
+  @Override
+  public @NonNull Task<Boolean> containsAsync(@NonNull String key) {
+    var cached = this.documents.getIfPresent(key);
+    return cached == null ? this.database.containsAsync(key) : Task.completedTask(cached.isPresent());
+  }
+
+  @Override
+  public @NonNull Task<Boolean> deleteAsync(@NonNull String key) {
+    return Task.wrapFuture(this.database.deleteAsync(key).thenApply(result -> this.applyDelete(key, result)));
+  }
+
+  @Override
+  public @NonNull Task<JsonDocument> getAsync(@NonNull String key) {
+    var cached = this.documents.getIfPresent(key);
+    if (cached != null) {
+      return Task.completedTask(cached.map(JsonDocument::clone).orElse(null));
+    }
+
+    var invalidations = this.invalidations.get();
+    return Task.wrapFuture(this.database.getAsync(key).thenApply(document -> {
+      var loaded = Optional.ofNullable(document).map(JsonDocument::clone);
+      this.cacheLoaded(this.documents, key, loaded, invalidations);
+      return document;
+    }));
+  }
+
+  @Override
+  public @NonNull Task<Collection<JsonDocument>> findAsync(@NonNull String fieldName, @Nullable Object fieldValue) {
+    var query = JsonDocument.newDocument(fieldName, fieldValue).toString();
+    return this.findAsync(query, () -> this.database.findAsync(fieldName, fieldValue));
+  }
+
+  @Override
+  public @NonNull Task<Collection<JsonDocument>> findAsync(@NonNull JsonDocument filters) {
+    return this.findAsync(filters.toString(), () -> this.database.findAsync(filters));
+  }
+
+  private @NonNull Task<Collection<JsonDocument>> findAsync(
+    @NonNull String query,
+    @NonNull Supplier<Task<Collection<JsonDocument>>> loader
+  ) {
+    var cached = this.queries.getIfPresent(query);
+    if (cached != null) {
+      return Task.completedTask(copy(cached));
+    }
+
+    var invalidations = this.invalidations.get();
+    return Task.wrapFuture(loader.get().thenApply(documents -> {
+      this.cacheLoaded(this.queries, query, copy(documents), invalidations);
+      return documents;
+    }));
+  }
+
+  @Override
+  public @NonNull Task<Collection<String>> keysAsync() {
+    return this.database.keysAsync();
+  }
+
+  @Override
+  public @NonNull Task<Collection<JsonDocument>> documentsAsync() {
+    return this.database.documentsAsync();
+  }
+
+  @Override
+  public @NonNull Task<Map<String, JsonDocument>> entriesAsync() {
+    return this.database.entriesAsync();
+  }
+
+  @Override
+  public @NonNull Task<Void> clearAsync() {
+    return Task.wrapFuture(this.database.clearAsync().thenApply(result -> {
+      if (this.readYourWrites) {
+        this.invalidate(null);
+      }
+      return result;
+    }));
+  }
+
+  @Override
+  public @NonNull Task<Long> documentCountAsync() {
+    return this.database.documentCountAsync();
+  }
+}
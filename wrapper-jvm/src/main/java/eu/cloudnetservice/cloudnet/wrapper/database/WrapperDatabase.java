@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.cloudnet.wrapper.database;
 
+import eu.cloudnetservice.cloudnet.common.concurrent.Task;
 import eu.cloudnetservice.cloudnet.common.document.gson.JsonDocument;
 import eu.cloudnetservice.cloudnet.driver.database.Database;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPC;
@@ -107,4 +108,59 @@ public boolean synced() {
   public void close() {
     this.baseRPC.join(this.sender.invokeMethod("close")).fireSync();
   }
+
+  @Override
+  public @NonNull Task<Boolean> insertAsync(@NonNull String key, @NonNull JsonDocument document) {
+    return this.baseRPC.join(this.sender.invokeMethod("insert", key, document)).fire();
+  }
+
+  @Override
+  public @NonNull Task<Boolean> containsAsync(@NonNull String key) {
+    return this.baseRPC.join(this.sender.invokeMethod("contains", key)).fire();
+  }
+
+  @Override
+  public @NonNull Task<Boolean> deleteAsync(@NonNull String key) {
+    return this.baseRPC.join(this.sender.invokeMethod("delete", key)).fire();
+  }
+
+  @Override
+  public @NonNull Task<JsonDocument> getAsync(@NonNull String key) {
+    return this.baseRPC.join(this.sender.invokeMethod("get", key)).fire();
+  }
+
+  @Override
+  public @NonNull Task<Collection<JsonDocument>> findAsync(@NonNull String fieldName, @Nullable Object fieldValue) {
+    return this.baseRPC.join(this.sender.invokeMethod("find", fieldName, fieldValue)).fire();
+  }
+
+  @Override
+  public @NonNull Task<Collection<JsonDocument>> findAsync(@NonNull JsonDocument filters) {
+    return this.baseRPC.join(this.sender.invokeMethod("find", filters)).fire();
+  }
+
+  @Override
+  public @NonNull Task<Collection<String>> keysAsync() {
+    return this.baseRPC.join(this.sender.invokeMethod("keys")).fire();
+  }
+
+  @Override
+  public @NonNull Task<Collection<JsonDocument>> documentsAsync() {
+    return this.baseRPC.join(this.sender.invokeMethod("documents")).fire();
+  }
+
+  @Override
+  public @NonNull Task<Map<String, JsonDocument>> entriesAsync() {
+    return this.baseRPC.join(this.sender.invokeMethod("entries")).fire();
+  }
+
+  @Override
+  public @NonNull Task<Void> clearAsync() {
+    return this.baseRPC.join(this.sender.invokeMethod("clear")).fire();
+  }
+
+  @Override
+  public @NonNull Task<Long> documentCountAsync() {
+    return this.baseRPC.join(this.sender.invokeMethod("documentCount")).fire();
+  }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019-2022 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.cloudnet.wrapper.network.listener.message;
+
+import eu.cloudnetservice.cloudnet.driver.event.EventListener;
+import eu.cloudnetservice.cloudnet.driver.event.events.channel.ChannelMessageReceiveEvent;
+import eu.cloudnetservice.cloudnet.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.cloudnet.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.cloudnet.wrapper.database.DefaultWrapperDatabaseProvider;
+import lombok.NonNull;
+
+public final class DatabaseChannelMessageListener {
+
+  private final DefaultWrapperDatabaseProvider databaseProvider;
+
+  public DatabaseChannelMessageListener(@NonNull DefaultWrapperDatabaseProvider databaseProvider) {
+    this.databaseProvider = databaseProvider;
+  }
+
+  @EventListener
+  public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
+    if (event.channel().equals(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      && event.message().equals("invalidate_database_entry")) {
+      // only databases which are near cached are of interest
+      var database = this.databaseProvider.nearCachedDatabase(event.content().readString());
+      if (database != null) {
+        // a null key means that the whole database was cleared
+        database.invalidate(event.content().readNullable(DataBuf::readString));
+      }
+    }
+  }
+}
@@ -53,6 +53,7 @@ public void handle(@NonNull PermissionAddGroupEvent event) {
     this.permissionManagement.cachedPermissionGroups().put(
       event.permissionGroup().name(),
       event.permissionGroup());
+    this.permissionManagement.invalidateInheritedGroups(event.permissionGroup().name());
   }
 
   @EventListener
@@ -60,11 +61,13 @@ public void handle(@NonNull PermissionUpdateGroupEvent event) {
     this.permissionManagement.cachedPermissionGroups().put(
       event.permissionGroup().name(),
       event.permissionGroup());
+    this.permissionManagement.invalidateInheritedGroups(event.permissionGroup().name());
   }
 
   @EventListener
   public void handle(@NonNull PermissionDeleteGroupEvent event) {
     this.permissionManagement.cachedPermissionGroups().remove(event.permissionGroup().name());
+    this.permissionManagement.invalidateInheritedGroups(event.permissionGroup().name());
   }
 
   @EventListener
@@ -74,5 +77,7 @@ public void handle(@NonNull PermissionSetGroupsEvent event) {
     for (var permissionGroup : event.groups()) {
       this.permissionManagement.cachedPermissionGroups().put(permissionGroup.name(), permissionGroup);
     }
+
+    this.permissionManagement.invalidateInheritedGroups();
   }
 }
@@ -19,6 +19,7 @@
 import eu.cloudnetservice.cloudnet.driver.CloudNetDriver;
 import eu.cloudnetservice.cloudnet.driver.event.EventManager;
 import eu.cloudnetservice.cloudnet.driver.network.rpc.RPCSender;
+import eu.cloudnetservice.cloudnet.driver.permission.CompiledPermissionListener;
 import eu.cloudnetservice.cloudnet.driver.permission.DefaultCachedPermissionManagement;
 import eu.cloudnetservice.cloudnet.driver.permission.Permissible;
 import eu.cloudnetservice.cloudnet.driver.permission.Permission;
@@ -39,6 +40,7 @@ public abstract class WrapperPermissionManagement extends DefaultCachedPermissio
   private final EventManager eventManager;
 
   private final PermissionCacheListener cacheListener;
+  private final CompiledPermissionListener compiledPermissionListener;
   private final PermissionChannelMessageListener channelMessageListener;
 
   public WrapperPermissionManagement(@NonNull RPCSender sender) {
@@ -46,6 +48,7 @@ public WrapperPermissionManagement(@NonNull RPCSender sender) {
     this.eventManager = CloudNetDriver.instance().eventManager();
 
     this.cacheListener = new PermissionCacheListener(this);
+    this.compiledPermissionListener = new CompiledPermissionListener(this);
     this.channelMessageListener = new PermissionChannelMessageListener(this.eventManager, this);
   }
 
@@ -56,22 +59,34 @@ public void init() {
       for (var group : groups) {
         this.permissionGroupCache.put(group.name(), group);
       }
+      this.invalidateInheritedGroups();
     }
 
-    this.eventManager.registerListeners(this.cacheListener, this.channelMessageListener);
+    this.eventManager.registerListeners(
+      this.cacheListener,
+      this.compiledPermissionListener,
+      this.channelMessageListener);
   }
 
   @Override
   public void close() {
-    this.eventManager.unregisterListener(this.cacheListener, this.channelMessageListener);
+    this.eventManager.unregisterListener(
+      this.cacheListener,
+      this.compiledPermissionListener,
+      this.channelMessageListener);
   }
 
   @Override
   public boolean reload() {
-    boolean success = this.rpcSender.invokeMethod("reload").fireSync();
+    // reload and fetch the reloaded groups in one round trip, the calls are executed in order
+    var result = this.rpcSender.factory().newBatch()
+      .add(this.rpcSender.invokeMethod("reload"))
+      .add(this.rpcSender.invokeMethod("groups"))
+      .fireSync();
+    boolean success = result.result(0);
 
     if (success) {
-      var permissionGroups = this.loadGroups();
+      Collection<PermissionGroup> permissionGroups = result.result(1);
 
       this.permissionGroupLocks.clear();
       this.permissionGroupCache.invalidateAll();
@@ -79,6 +94,7 @@ public boolean reload() {
       for (var group : permissionGroups) {
         this.permissionGroupCache.put(group.name(), group);
       }
+      this.invalidateInheritedGroups();
     }
 
     return success;